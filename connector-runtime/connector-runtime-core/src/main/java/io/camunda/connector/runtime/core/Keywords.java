@@ -76,6 +76,23 @@ public class Keywords {
   public static final String DEPRECATED_ACTIVATION_CONDITION_KEYWORD =
       "inbound.activationCondition";
 
+  /**
+   * The keyword that identifies the source of `deduplication key` property of a webhook Connector.
+   * The deduplication key is either a FEEL expression or the name of a request header that yields a
+   * unique delivery ID, e.g. <code>X-GitHub-Delivery</code>. Requests with a delivery ID that was
+   * already processed recently are answered without correlating them again.
+   *
+   * <p>This value only exists for inbound Connectors and comes from the extension properties of a
+   * BPMN element.
+   */
+  public static final String DEDUPLICATION_KEY_KEYWORD = "deduplicationKey";
+
+  /**
+   * The keyword that identifies the source of `deduplication response status` property of a webhook
+   * Connector. It is the HTTP status returned for duplicate requests and defaults to 200.
+   */
+  public static final String DEDUPLICATION_RESPONSE_STATUS_KEYWORD = "deduplicationResponseStatus";
+
   /**
    * The keyword that identifies the source of `type` property of an inbound Connector. Type
    * identifies the specific inbound Connector implementation.
@@ -98,5 +115,7 @@ public class Keywords {
           CORRELATION_KEY_EXPRESSION_KEYWORD,
           DEPRECATED_ACTIVATION_CONDITION_KEYWORD,
           ACTIVATION_CONDITION_KEYWORD,
+          DEDUPLICATION_KEY_KEYWORD,
+          DEDUPLICATION_RESPONSE_STATUS_KEYWORD,
           INBOUND_TYPE_KEYWORD);
 }
@@ -21,11 +21,14 @@ import com.google.common.collect.EvictingQueue;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorExecutable;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.core.inbound.executor.InboundExecutorPool;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 public class DefaultInboundConnectorContextFactory implements InboundConnectorContextFactory {
@@ -34,6 +37,9 @@ public class DefaultInboundConnectorContextFactory implements InboundConnectorCo
   private final SecretProviderAggregator secretProviderAggregator;
   private final ValidationProvider validationProvider;
   private final OperateClientAdapter operateClientAdapter;
+  private final InboundExecutorPool executorPool;
+  private final InboundConnectorMetricsFactory metricsFactory;
+  private final Duration maxPacingTime;
 
   public DefaultInboundConnectorContextFactory(
       final ObjectMapper mapper,
@@ -41,11 +47,52 @@ public class DefaultInboundConnectorContextFactory implements InboundConnectorCo
       final SecretProviderAggregator secretProviderAggregator,
       final ValidationProvider validationProvider,
       final OperateClientAdapter operateClientAdapter) {
+    this(
+        mapper,
+        correlationHandler,
+        secretProviderAggregator,
+        validationProvider,
+        operateClientAdapter,
+        null,
+        null);
+  }
+
+  public DefaultInboundConnectorContextFactory(
+      final ObjectMapper mapper,
+      final InboundCorrelationHandler correlationHandler,
+      final SecretProviderAggregator secretProviderAggregator,
+      final ValidationProvider validationProvider,
+      final OperateClientAdapter operateClientAdapter,
+      final InboundExecutorPool executorPool,
+      final InboundConnectorMetricsFactory metricsFactory) {
+    this(
+        mapper,
+        correlationHandler,
+        secretProviderAggregator,
+        validationProvider,
+        operateClientAdapter,
+        executorPool,
+        metricsFactory,
+        InboundConnectorContextImpl.DEFAULT_MAX_PACING_TIME);
+  }
+
+  public DefaultInboundConnectorContextFactory(
+      final ObjectMapper mapper,
+      final InboundCorrelationHandler correlationHandler,
+      final SecretProviderAggregator secretProviderAggregator,
+      final ValidationProvider validationProvider,
+      final OperateClientAdapter operateClientAdapter,
+      final InboundExecutorPool executorPool,
+      final InboundConnectorMetricsFactory metricsFactory,
+      final Duration maxPacingTime) {
     this.objectMapper = mapper;
     this.correlationHandler = correlationHandler;
     this.secretProviderAggregator = secretProviderAggregator;
     this.validationProvider = validationProvider;
     this.operateClientAdapter = operateClientAdapter;
+    this.executorPool = executorPool;
+    this.metricsFactory = metricsFactory;
+    this.maxPacingTime = maxPacingTime;
   }
 
   @Override
@@ -63,7 +110,13 @@ public class DefaultInboundConnectorContextFactory implements InboundConnectorCo
             correlationHandler,
             cancellationCallback,
             objectMapper,
-            queue);
+            queue,
+            executorPool == null ? null : executorPool.newConnectorExecutor(),
+            metricsFactory == null ? null : metricsFactory.create(newConnector),
+            // webhooks reject throttled requests, other connectors are slowed down
+            WebhookConnectorExecutable.class.isAssignableFrom(executableClass)
+                ? Duration.ZERO
+                : maxPacingTime);
 
     if (isIntermediateContext(executableClass)) {
       inboundContext =
@@ -18,6 +18,7 @@ package io.camunda.connector.runtime.core.inbound;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.api.validation.ValidationProvider;
@@ -80,8 +81,13 @@ public final class DefaultProcessInstanceContext implements ProcessInstanceConte
 
   @Override
   public void correlate(final Object variables) {
+    correlateWithResult(variables);
+  }
+
+  @Override
+  public CorrelationResult correlateWithResult(final Object variables) {
     String messageId = flowNodeInstance.getFlowNodeId() + flowNodeInstance.getKey();
-    correlationHandler.correlate(
+    return correlationHandler.correlate(
         (InboundConnectorDefinitionImpl) context.getDefinition(), variables, messageId);
   }
 
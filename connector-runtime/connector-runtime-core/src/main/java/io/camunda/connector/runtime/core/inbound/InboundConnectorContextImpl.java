@@ -26,17 +26,22 @@ import io.camunda.connector.api.inbound.Activity;
 import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.ActivationConditionNotMet;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.Other;
+import io.camunda.connector.api.inbound.CorrelationResult.Failure.Throttled;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorDefinition;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.AbstractConnectorContext;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +50,7 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
     implements InboundConnectorContext, InboundConnectorReportingContext {
 
   private final Logger LOG = LoggerFactory.getLogger(InboundConnectorContextImpl.class);
-  private final InboundConnectorDefinitionImpl definition;
+  private volatile InboundConnectorDefinitionImpl definition;
   private final Map<String, Object> properties;
 
   private final InboundCorrelationHandler correlationHandler;
@@ -57,6 +62,18 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
 
   private EvictingQueue<Activity> logs;
 
+  private final ScheduledExecutorService executor;
+  private final InboundConnectorMetrics metrics;
+
+  /**
+   * Default of the time a throttled event is retried before the {@link Throttled} result is
+   * returned to the Connector. It is well below the poll interval limits of consumers like Kafka.
+   */
+  public static final Duration DEFAULT_MAX_PACING_TIME = Duration.ofSeconds(10);
+
+  // throttled events are retried for up to this time instead of being returned to the connector
+  private final Duration maxPacingTime;
+
   public InboundConnectorContextImpl(
       SecretProvider secretProvider,
       ValidationProvider validationProvider,
@@ -65,6 +82,30 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
       Consumer<Throwable> cancellationCallback,
       ObjectMapper objectMapper,
       EvictingQueue logs) {
+    this(
+        secretProvider,
+        validationProvider,
+        definition,
+        correlationHandler,
+        cancellationCallback,
+        objectMapper,
+        logs,
+        null,
+        null,
+        DEFAULT_MAX_PACING_TIME);
+  }
+
+  public InboundConnectorContextImpl(
+      SecretProvider secretProvider,
+      ValidationProvider validationProvider,
+      InboundConnectorDefinitionImpl definition,
+      InboundCorrelationHandler correlationHandler,
+      Consumer<Throwable> cancellationCallback,
+      ObjectMapper objectMapper,
+      EvictingQueue logs,
+      ScheduledExecutorService executor,
+      InboundConnectorMetrics metrics,
+      Duration maxPacingTime) {
     super(secretProvider, validationProvider);
     this.correlationHandler = correlationHandler;
     this.definition = definition;
@@ -72,11 +113,14 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
     this.objectMapper = objectMapper;
     this.cancellationCallback = cancellationCallback;
     this.logs = logs;
+    this.executor = executor;
+    this.metrics = metrics;
+    this.maxPacingTime = maxPacingTime == null ? Duration.ZERO : maxPacingTime;
   }
 
   @Override
   public void correlate(Object variables) {
-    var result = correlationHandler.correlate(definition, variables);
+    var result = correlateWithPacing(variables);
     if (result == null) {
       throw new ConnectorException("Failed to correlate inbound event, result is null");
     }
@@ -95,13 +139,35 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
   @Override
   public CorrelationResult correlateWithResult(Object variables) {
     try {
-      return correlationHandler.correlate(definition, variables);
+      return correlateWithPacing(variables);
     } catch (Exception e) {
       LOG.error("Failed to correlate inbound event", e);
       return new CorrelationResult.Failure.Other(e);
     }
   }
 
+  private CorrelationResult correlateWithPacing(Object variables) {
+    long deadline = System.nanoTime() + maxPacingTime.toNanos();
+    var result = correlationHandler.correlate(definition, variables);
+    while (result instanceof Throttled throttled) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        LOG.debug("Correlation quota still exceeded, returning throttled result");
+        return result;
+      }
+      var pause = Duration.ofNanos(Math.min(throttled.retryAfter().toNanos(), remaining));
+      LOG.debug("Correlation quota exceeded, pausing for {}", pause);
+      try {
+        Thread.sleep(pause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return result;
+      }
+      result = correlationHandler.retryThrottled(definition, variables);
+    }
+    return result;
+  }
+
   @Override
   public void cancel(Throwable exception) {
     try {
@@ -111,6 +177,16 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
     }
   }
 
+  @Override
+  public Optional<ScheduledExecutorService> getExecutor() {
+    return Optional.ofNullable(executor);
+  }
+
+  @Override
+  public Optional<InboundConnectorMetrics> getMetrics() {
+    return Optional.ofNullable(metrics);
+  }
+
   @Override
   public Map<String, Object> getProperties() {
     return getPropertiesWithSecrets();
@@ -128,6 +204,16 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
     return definition;
   }
 
+  @Override
+  public boolean rebind(InboundConnectorDefinitionImpl definition) {
+    if (!this.definition.fingerprint().equals(definition.fingerprint())) {
+      throw new IllegalArgumentException(
+          "Cannot rebind inbound connector context to a definition with different properties");
+    }
+    this.definition = definition;
+    return true;
+  }
+
   @Override
   public void reportHealth(Health health) {
     this.health = health;
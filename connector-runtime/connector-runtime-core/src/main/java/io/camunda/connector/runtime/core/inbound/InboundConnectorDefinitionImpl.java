@@ -19,7 +19,9 @@ package io.camunda.connector.runtime.core.inbound;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.connector.api.inbound.InboundConnectorDefinition;
 import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.correlation.MessageStartEventCorrelationPoint;
 import io.camunda.connector.runtime.core.inbound.correlation.ProcessCorrelationPoint;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
 import java.util.Map;
 import java.util.Optional;
 
@@ -34,6 +36,14 @@ public record InboundConnectorDefinitionImpl(
     String tenantId)
     implements InboundConnectorDefinition {
 
+  public InboundConnectorDefinitionImpl {
+    rawProperties = InboundPropertyInterner.intern(rawProperties);
+    correlationPoint = InboundPropertyInterner.intern(correlationPoint);
+    bpmnProcessId = InboundPropertyInterner.intern(bpmnProcessId);
+    elementId = InboundPropertyInterner.intern(elementId);
+    tenantId = InboundPropertyInterner.intern(tenantId);
+  }
+
   @Override
   public String type() {
     return Optional.ofNullable(rawProperties.get(Keywords.INBOUND_TYPE_KEYWORD))
@@ -56,6 +66,46 @@ public record InboundConnectorDefinitionImpl(
         .orElseGet(() -> rawProperties.get(Keywords.DEPRECATED_ACTIVATION_CONDITION_KEYWORD));
   }
 
+  public String deduplicationKey() {
+    return rawProperties.get(Keywords.DEDUPLICATION_KEY_KEYWORD);
+  }
+
+  public String deduplicationResponseStatus() {
+    return rawProperties.get(Keywords.DEDUPLICATION_RESPONSE_STATUS_KEYWORD);
+  }
+
+  /**
+   * Returns the version-independent part of this definition. Two definitions with an equal
+   * fingerprint describe the same connector configuration and can be served by the same active
+   * connector, even if they belong to different versions of the process definition.
+   */
+  public Fingerprint fingerprint() {
+    return new Fingerprint(
+        rawProperties, versionIndependent(correlationPoint), bpmnProcessId, tenantId);
+  }
+
+  private static ProcessCorrelationPoint versionIndependent(ProcessCorrelationPoint point) {
+    if (point instanceof StartEventCorrelationPoint startEvent) {
+      return new StartEventCorrelationPoint(startEvent.bpmnProcessId(), 0, 0);
+    }
+    if (point instanceof MessageStartEventCorrelationPoint messageStartEvent) {
+      return new MessageStartEventCorrelationPoint(
+          messageStartEvent.messageName(),
+          messageStartEvent.messageIdExpression(),
+          messageStartEvent.correlationKeyExpression(),
+          messageStartEvent.bpmnProcessId(),
+          0,
+          0);
+    }
+    return point;
+  }
+
+  public record Fingerprint(
+      Map<String, String> rawProperties,
+      ProcessCorrelationPoint correlationPoint,
+      String bpmnProcessId,
+      String tenantId) {}
+
   // override to exclude rawProperties
   @Override
   public String toString() {
@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound;
+
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
+
+/** Creates the metrics facility exposed to an inbound Connector through its context. */
+@FunctionalInterface
+public interface InboundConnectorMetricsFactory {
+
+  /**
+   * Creates the metrics of a single inbound Connector. If the returned object implements {@link
+   * AutoCloseable}, it is closed when the Connector is deactivated.
+   */
+  InboundConnectorMetrics create(InboundConnectorDefinitionImpl definition);
+}
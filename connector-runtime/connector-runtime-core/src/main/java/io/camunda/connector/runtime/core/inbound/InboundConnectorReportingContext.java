@@ -42,4 +42,15 @@ public interface InboundConnectorReportingContext extends InboundConnectorContex
    * @return Queue containing the activities
    */
   Queue<Activity> getLogs();
+
+  /**
+   * Binds this context to a definition from another version of the same process. The definition
+   * must have the same {@link InboundConnectorDefinitionImpl#fingerprint()}, so the connector can
+   * keep running without reading its properties again.
+   *
+   * @return false if this context cannot be rebound and the connector has to be restarted instead
+   */
+  default boolean rebind(InboundConnectorDefinitionImpl definition) {
+    return false;
+  }
 }
@@ -22,6 +22,7 @@ import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorDefinition;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.api.validation.ValidationProvider;
@@ -30,7 +31,9 @@ import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationH
 import io.camunda.operate.model.FlowNodeInstance;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -115,6 +118,21 @@ public class InboundIntermediateConnectorContextImpl
     return inboundContext.getDefinition();
   }
 
+  @Override
+  public Optional<ScheduledExecutorService> getExecutor() {
+    return inboundContext.getExecutor();
+  }
+
+  @Override
+  public Optional<InboundConnectorMetrics> getMetrics() {
+    return inboundContext.getMetrics();
+  }
+
+  @Override
+  public boolean rebind(final InboundConnectorDefinitionImpl definition) {
+    return inboundContext.rebind(definition);
+  }
+
   @Override
   public void reportHealth(final Health health) {
     inboundContext.reportHealth(health);
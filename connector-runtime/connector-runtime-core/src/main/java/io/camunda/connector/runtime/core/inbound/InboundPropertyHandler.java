@@ -56,7 +56,11 @@ public class InboundPropertyHandler {
             .filter(entry -> !Keywords.ALL_KEYWORDS.contains(entry.getKey()))
             .collect(
                 Collectors.toMap(
-                    entry -> Arrays.asList(entry.getKey().split("\\.")), Map.Entry::getValue));
+                    entry ->
+                        Arrays.stream(entry.getKey().split("\\."))
+                            .map(InboundPropertyInterner::intern)
+                            .toList(),
+                    Map.Entry::getValue));
 
     // traverse map of paths and assemble the nested map
     var wrapped = new HashMap<String, Object>();
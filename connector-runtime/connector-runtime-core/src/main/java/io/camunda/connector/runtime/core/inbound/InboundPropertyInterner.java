@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import io.camunda.connector.runtime.core.inbound.correlation.ProcessCorrelationPoint;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deduplicates the properties of inbound connector definitions.
+ *
+ * <p>The same process definition is usually deployed in many versions and for many tenants, and
+ * each deployment produces the same property keys (e.g. {@code inbound.type}), FEEL expressions and
+ * context paths. Interning them makes all definitions with identical properties share a single
+ * immutable property map instead of keeping one copy per version.
+ *
+ * <p>Weak interners are used, so entries are reclaimed once no definition references them anymore.
+ */
+public final class InboundPropertyInterner {
+
+  private static final Interner<String> STRINGS = Interners.newWeakInterner();
+  private static final Interner<Map<String, String>> PROPERTY_MAPS = Interners.newWeakInterner();
+  private static final Interner<ProcessCorrelationPoint> CORRELATION_POINTS =
+      Interners.newWeakInterner();
+
+  private InboundPropertyInterner() {}
+
+  public static String intern(String value) {
+    return value == null ? null : STRINGS.intern(value);
+  }
+
+  /**
+   * Returns a canonical immutable copy of the provided properties. Maps containing null keys or
+   * values cannot be stored in an immutable map and are returned unchanged.
+   */
+  public static Map<String, String> intern(Map<String, String> properties) {
+    if (properties == null) {
+      return null;
+    }
+    var interned = new HashMap<String, String>(properties.size() * 2);
+    for (var entry : properties.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        return properties;
+      }
+      interned.put(intern(entry.getKey()), intern(entry.getValue()));
+    }
+    return PROPERTY_MAPS.intern(Map.copyOf(interned));
+  }
+
+  public static ProcessCorrelationPoint intern(ProcessCorrelationPoint correlationPoint) {
+    return correlationPoint == null ? null : CORRELATION_POINTS.intern(correlationPoint);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.correlation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event covering the correlation of a single inbound event with a process. */
+@Name(InboundCorrelationEvent.NAME)
+@Label("Inbound Connector Correlation")
+@Description("Correlation of an inbound connector event with a process")
+@Category({"Camunda", "Connectors"})
+@StackTrace(false)
+final class InboundCorrelationEvent extends Event {
+
+  static final String NAME = "io.camunda.connector.InboundCorrelation";
+
+  @Label("Connector Type")
+  String connectorType;
+
+  @Label("BPMN Process ID")
+  String bpmnProcessId;
+
+  @Label("Element ID")
+  String elementId;
+
+  @Label("Tenant ID")
+  String tenantId;
+
+  @Label("Outcome")
+  @Description("Simple name of the correlation result, or the exception type if one was thrown")
+  String outcome;
+
+  @Label("Success")
+  boolean success;
+}
@@ -27,11 +27,14 @@ import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.feel.FeelEngineWrapperException;
 import io.camunda.connector.runtime.core.ConnectorHelper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.quota.InboundQuotaManager;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.command.ClientStatusException;
 import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
 import io.camunda.zeebe.client.api.response.PublishMessageResponse;
 import io.grpc.Status;
+import io.opentelemetry.api.trace.StatusCode;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -42,25 +45,98 @@ public class InboundCorrelationHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(InboundCorrelationHandler.class);
 
+  static final String SPAN_CORRELATE = "connector.correlate";
+  static final String SPAN_ACTIVATION_CONDITION = "connector.activation-condition";
+  static final String SPAN_CREATE_PROCESS_INSTANCE = "zeebe.create-process-instance";
+  static final String SPAN_PUBLISH_MESSAGE = "zeebe.publish-message";
+
   private final ZeebeClient zeebeClient;
   private final FeelEngineWrapper feelEngine;
+  private final InboundQuotaManager quotaManager;
+  private final ConnectorTracer tracer;
 
   public InboundCorrelationHandler(ZeebeClient zeebeClient, FeelEngineWrapper feelEngine) {
+    this(zeebeClient, feelEngine, InboundQuotaManager.unlimited());
+  }
+
+  public InboundCorrelationHandler(
+      ZeebeClient zeebeClient, FeelEngineWrapper feelEngine, InboundQuotaManager quotaManager) {
+    this(zeebeClient, feelEngine, quotaManager, ConnectorTracer.noop());
+  }
+
+  public InboundCorrelationHandler(
+      ZeebeClient zeebeClient,
+      FeelEngineWrapper feelEngine,
+      InboundQuotaManager quotaManager,
+      ConnectorTracer tracer) {
     this.zeebeClient = zeebeClient;
     this.feelEngine = feelEngine;
+    this.quotaManager = quotaManager;
+    this.tracer = tracer;
   }
 
   public CorrelationResult correlate(InboundConnectorDefinitionImpl definition, Object variables) {
     return correlate(definition, variables, null);
   }
 
+  /**
+   * Correlates an event again that was {@link CorrelationResult.Failure.Throttled throttled}
+   * before. Subclasses can override this to tell retries apart from new events.
+   */
+  public CorrelationResult retryThrottled(
+      InboundConnectorDefinitionImpl definition, Object variables) {
+    return correlate(definition, variables);
+  }
+
   public CorrelationResult correlate(
       InboundConnectorDefinitionImpl definition, Object variables, String messageId) {
+    var event = new InboundCorrelationEvent();
+    event.begin();
+    var span =
+        tracer
+            .spanBuilder(SPAN_CORRELATE)
+            .setAttribute(ConnectorTracer.CONNECTOR_TYPE, definition.type())
+            .setAttribute(ConnectorTracer.TENANT_ID, definition.tenantId())
+            .setAttribute(ConnectorTracer.BPMN_PROCESS_ID, definition.bpmnProcessId())
+            .setAttribute(ConnectorTracer.ELEMENT_ID, definition.elementId())
+            .startSpan();
+    CorrelationResult result = null;
+    Throwable error = null;
+    try (var ignored = span.makeCurrent()) {
+      result = doCorrelate(definition, variables, messageId);
+      span.setAttribute(ConnectorTracer.OUTCOME, result.getClass().getSimpleName());
+      if (result instanceof Failure failure && !isExpectedFailure(failure)) {
+        span.setStatus(StatusCode.ERROR);
+      }
+      return result;
+    } catch (RuntimeException | Error e) {
+      error = e;
+      ConnectorTracer.recordFailure(span, e);
+      throw e;
+    } finally {
+      span.end();
+      event.end();
+      if (event.shouldCommit()) {
+        event.connectorType = definition.type();
+        event.bpmnProcessId = definition.bpmnProcessId();
+        event.elementId = definition.elementId();
+        event.tenantId = definition.tenantId();
+        event.outcome =
+            error != null ? error.getClass().getSimpleName() : result.getClass().getSimpleName();
+        event.success = result instanceof CorrelationResult.Success;
+        event.commit();
+      }
+    }
+  }
+
+  private CorrelationResult doCorrelate(
+      InboundConnectorDefinitionImpl definition, Object variables, String messageId) {
 
     var correlationPoint = definition.correlationPoint();
 
     try {
-      if (!isActivationConditionMet(definition, variables)) {
+      if (!tracer.inSpan(
+          SPAN_ACTIVATION_CONDITION, () -> isActivationConditionMet(definition, variables))) {
         LOG.info("Activation condition didn't match: {}", correlationPoint);
         return ActivationConditionNotMet.INSTANCE;
       }
@@ -70,6 +146,13 @@ public class InboundCorrelationHandler {
           "Failed to evaluate activation condition against the provided input", e);
     }
 
+    var retryAfter = quotaManager.tryAcquire(definition.tenantId(), definition.type());
+    if (retryAfter.isPresent()) {
+      LOG.debug(
+          "Correlation quota exceeded, retry after {}: {}", retryAfter.get(), correlationPoint);
+      return new CorrelationResult.Failure.Throttled(retryAfter.get());
+    }
+
     if (correlationPoint instanceof StartEventCorrelationPoint startCorPoint) {
       return triggerStartEvent(definition, startCorPoint, variables);
     } else if (correlationPoint instanceof MessageCorrelationPoint msgCorPoint) {
@@ -108,14 +191,17 @@ public class InboundCorrelationHandler {
 
     try {
       ProcessInstanceEvent result =
-          zeebeClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
+          tracer.inSpan(
+              SPAN_CREATE_PROCESS_INSTANCE,
+              () ->
+                  zeebeClient
+                      .newCreateInstanceCommand()
+                      .bpmnProcessId(correlationPoint.bpmnProcessId())
+                      .version(correlationPoint.version())
+                      .tenantId(definition.tenantId())
+                      .variables(extractedVariables)
+                      .send()
+                      .join());
 
       LOG.info("Created a process instance with key" + result.getProcessInstanceKey());
       return new CorrelationResult.Success.ProcessInstanceCreated(
@@ -154,17 +240,20 @@ public class InboundCorrelationHandler {
       var correlationKey =
           extractCorrelationKey(correlationPoint.correlationKeyExpression(), variables);
       PublishMessageResponse response =
-          zeebeClient
-              .newPublishMessageCommand()
-              .messageName(correlationPoint.messageName())
-              // correlation key must be empty to start a new process, see:
-              // https://docs.camunda.io/docs/components/modeler/bpmn/message-events/#message-start-events
-              .correlationKey(correlationKey.orElse(""))
-              .messageId(messageId)
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
+          tracer.inSpan(
+              SPAN_PUBLISH_MESSAGE,
+              () ->
+                  zeebeClient
+                      .newPublishMessageCommand()
+                      .messageName(correlationPoint.messageName())
+                      // correlation key must be empty to start a new process, see:
+                      // https://docs.camunda.io/docs/components/modeler/bpmn/message-events/#message-start-events
+                      .correlationKey(correlationKey.orElse(""))
+                      .messageId(messageId)
+                      .tenantId(definition.tenantId())
+                      .variables(extractedVariables)
+                      .send()
+                      .join());
       LOG.info("Published message with key: " + response.getMessageKey());
       result =
           new CorrelationResult.Success.MessagePublished(
@@ -199,15 +288,18 @@ public class InboundCorrelationHandler {
     CorrelationResult result;
     try {
       PublishMessageResponse response =
-          zeebeClient
-              .newPublishMessageCommand()
-              .messageName(messageName)
-              .correlationKey(correlationKey.get())
-              .messageId(messageId)
-              .tenantId(definition.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
+          tracer.inSpan(
+              SPAN_PUBLISH_MESSAGE,
+              () ->
+                  zeebeClient
+                      .newPublishMessageCommand()
+                      .messageName(messageName)
+                      .correlationKey(correlationKey.get())
+                      .messageId(messageId)
+                      .tenantId(definition.tenantId())
+                      .variables(extractedVariables)
+                      .send()
+                      .join());
 
       LOG.info("Published message with key: " + response.getMessageKey());
       result =
@@ -278,6 +370,11 @@ public class InboundCorrelationHandler {
         rawVariables, definition.resultVariable(), definition.resultExpression());
   }
 
+  private static boolean isExpectedFailure(Failure failure) {
+    return failure instanceof ActivationConditionNotMet
+        || failure instanceof CorrelationResult.Failure.Throttled;
+  }
+
   private String resolveMessageId(String messageIdExpression, String messageId, Object context) {
     if (messageId == null) {
       if (messageIdExpression != null) {
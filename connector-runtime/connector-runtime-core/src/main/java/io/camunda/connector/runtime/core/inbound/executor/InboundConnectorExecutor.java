@@ -0,0 +1,330 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.executor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * View of the {@link InboundExecutorPool} that is scoped to a single inbound Connector. It behaves
+ * like a dedicated {@link ScheduledExecutorService}, but runs all tasks on the shared pool: tasks
+ * submitted for immediate execution are treated as long-running consumer loops, delayed and
+ * periodic tasks share the bounded workers.
+ *
+ * <p>Shutting down this executor only affects the tasks submitted through it: {@link #shutdown()}
+ * cancels pending delayed and periodic tasks and lets running tasks complete, {@link
+ * #shutdownNow()} additionally interrupts running tasks. Cancelled tasks are not returned by {@link
+ * #shutdownNow()}.
+ */
+public class InboundConnectorExecutor extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InboundConnectorExecutor.class);
+
+  private final InboundExecutorPool pool;
+  private final Set<Future<?>> tasks = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger runningTasks = new AtomicInteger();
+  private final Object terminationLock = new Object();
+  private volatile boolean shutdown;
+
+  InboundConnectorExecutor(final InboundExecutorPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    Objects.requireNonNull(command);
+    ensureRunning();
+    RunnableFuture<?> task =
+        command instanceof RunnableFuture<?> future ? future : new LoggingTask(command);
+    tasks.add(task);
+    try {
+      pool.startLoop(() -> runTask(task));
+    } catch (RejectedExecutionException e) {
+      task.cancel(false);
+      tasks.remove(task);
+      throw e;
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(
+      final Runnable command, final long delay, final TimeUnit unit) {
+    return schedule(new ScheduledTask<>(callable(command), triggerTime(delay, unit), 0));
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(
+      final Callable<V> callable, final long delay, final TimeUnit unit) {
+    Objects.requireNonNull(callable);
+    return schedule(new ScheduledTask<>(callable, triggerTime(delay, unit), 0));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      final Runnable command, final long initialDelay, final long period, final TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive: " + period);
+    }
+    return schedule(
+        new ScheduledTask<>(
+            callable(command), triggerTime(initialDelay, unit), unit.toNanos(period)));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      final Runnable command, final long initialDelay, final long delay, final TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("Delay must be positive: " + delay);
+    }
+    return schedule(
+        new ScheduledTask<>(
+            callable(command), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    tasks.forEach(
+        task -> {
+          if (task instanceof ScheduledTask<?>) {
+            task.cancel(false);
+          }
+        });
+    signalIfTerminated();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    tasks.forEach(
+        task -> {
+          task.cancel(true);
+          tasks.remove(task);
+        });
+    signalIfTerminated();
+    return List.of();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && tasks.isEmpty() && runningTasks.get() == 0;
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (terminationLock) {
+      while (!isTerminated()) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(terminationLock, remaining);
+      }
+      return true;
+    }
+  }
+
+  /** Number of tasks submitted through this executor that are not completed yet. */
+  public int getPendingTasks() {
+    return tasks.size();
+  }
+
+  private <V> ScheduledFuture<V> schedule(final ScheduledTask<V> task) {
+    ensureRunning();
+    tasks.add(task);
+    try {
+      task.arm();
+    } catch (RejectedExecutionException e) {
+      tasks.remove(task);
+      throw e;
+    }
+    return task;
+  }
+
+  private void dispatch(final RunnableFuture<?> task) {
+    try {
+      pool.dispatch(() -> runTask(task));
+    } catch (RejectedExecutionException e) {
+      task.cancel(false);
+      tasks.remove(task);
+      throw e;
+    }
+  }
+
+  private void runTask(final RunnableFuture<?> task) {
+    runningTasks.incrementAndGet();
+    try {
+      task.run();
+    } finally {
+      if (task.isDone()) {
+        tasks.remove(task);
+      }
+      runningTasks.decrementAndGet();
+      signalIfTerminated();
+    }
+  }
+
+  private void signalIfTerminated() {
+    if (isTerminated()) {
+      synchronized (terminationLock) {
+        terminationLock.notifyAll();
+      }
+    }
+  }
+
+  private void ensureRunning() {
+    if (shutdown) {
+      throw new RejectedExecutionException("Inbound connector executor has been shut down");
+    }
+  }
+
+  private static Callable<Object> callable(final Runnable command) {
+    return Executors.callable(Objects.requireNonNull(command));
+  }
+
+  private static long triggerTime(final long delay, final TimeUnit unit) {
+    // cap the delay to avoid overflows when comparing trigger times
+    long nanos = Math.min(unit.toNanos(Math.max(delay, 0)), Long.MAX_VALUE >> 1);
+    return System.nanoTime() + nanos;
+  }
+
+  private static final class LoggingTask extends FutureTask<Void> {
+
+    LoggingTask(final Runnable runnable) {
+      super(runnable, null);
+    }
+
+    @Override
+    protected void setException(final Throwable t) {
+      LOG.error("Inbound connector task failed", t);
+      super.setException(t);
+    }
+  }
+
+  private final class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    /** Zero for one-shot tasks, positive for fixed-rate and negative for fixed-delay tasks. */
+    private final long period;
+
+    private volatile long triggerTime;
+    private volatile Future<?> timerFuture;
+
+    ScheduledTask(final Callable<V> callable, final long triggerTime, final long period) {
+      super(callable);
+      this.triggerTime = triggerTime;
+      this.period = period;
+    }
+
+    void arm() {
+      timerFuture =
+          pool.timer().schedule(this::fire, triggerTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void fire() {
+      try {
+        dispatch(this);
+      } catch (RejectedExecutionException e) {
+        LOG.debug("Inbound executor pool is shut down, dropping scheduled task");
+      }
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+        return;
+      }
+      if (runAndReset()) {
+        if (shutdown) {
+          cancel(false);
+          return;
+        }
+        triggerTime = period > 0 ? triggerTime + period : System.nanoTime() - period;
+        try {
+          arm();
+        } catch (RejectedExecutionException e) {
+          cancel(false);
+        }
+      }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        var scheduled = timerFuture;
+        if (scheduled != null) {
+          scheduled.cancel(false);
+        }
+        tasks.remove(this);
+        signalIfTerminated();
+      }
+      return cancelled;
+    }
+
+    @Override
+    protected void setException(final Throwable t) {
+      if (isPeriodic()) {
+        LOG.error("Periodic inbound connector task failed and will not be rescheduled", t);
+      }
+      super.setException(t);
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(triggerTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+      if (other == this) {
+        return 0;
+      }
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.executor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor shared by all inbound Connectors of the runtime. Delayed and periodic tasks, such as
+ * polling, are timed by a single scheduler thread and run on a bounded set of worker threads
+ * (virtual threads, unless disabled).
+ *
+ * <p>Tasks submitted for immediate execution are consumer loops (Kafka, SQS) in practice. They run
+ * until the Connector is deactivated, so they get a thread of their own outside of the concurrency
+ * limit; otherwise a few loops could block all polling tasks.
+ *
+ * <p>Connectors don't use this class directly, they obtain a {@link InboundConnectorExecutor} that
+ * is scoped to their lifecycle via {@link #newConnectorExecutor()}.
+ */
+public class InboundExecutorPool implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InboundExecutorPool.class);
+
+  public static final int DEFAULT_MAX_CONCURRENCY = 1000;
+
+  private final int maxConcurrency;
+  private final boolean virtualThreads;
+  private final ScheduledExecutorService timer;
+  private final ExecutorService workers;
+  private final ExecutorService loops;
+  private final Semaphore permits;
+
+  private final AtomicInteger activeTasks = new AtomicInteger();
+  private final AtomicInteger queuedTasks = new AtomicInteger();
+  private final AtomicInteger runningLoops = new AtomicInteger();
+  private volatile Consumer<Duration> queueTimeListener = ignored -> {};
+
+  public InboundExecutorPool() {
+    this(DEFAULT_MAX_CONCURRENCY, true);
+  }
+
+  public InboundExecutorPool(final int maxConcurrency, final boolean virtualThreads) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+    }
+    this.maxConcurrency = maxConcurrency;
+    this.virtualThreads = virtualThreads;
+    this.timer =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("inbound-scheduler").daemon().factory());
+    if (virtualThreads) {
+      // virtual threads are cheap to create, the bound is enforced by the permits instead
+      this.workers =
+          Executors.newThreadPerTaskExecutor(
+              Thread.ofVirtual().name("inbound-worker-", 0).factory());
+      this.loops =
+          Executors.newThreadPerTaskExecutor(
+              Thread.ofVirtual().name("inbound-consumer-", 0).factory());
+      this.permits = new Semaphore(maxConcurrency);
+    } else {
+      ThreadFactory factory = Thread.ofPlatform().name("inbound-worker-", 0).daemon().factory();
+      this.workers = Executors.newFixedThreadPool(maxConcurrency, factory);
+      this.loops =
+          Executors.newCachedThreadPool(
+              Thread.ofPlatform().name("inbound-consumer-", 0).daemon().factory());
+      this.permits = null;
+    }
+    LOG.info(
+        "Created inbound executor pool (max concurrency: {}, virtual threads: {})",
+        maxConcurrency,
+        virtualThreads);
+  }
+
+  /**
+   * Creates a new executor view for a single inbound Connector. Shutting down the view only affects
+   * the tasks submitted through it.
+   */
+  public InboundConnectorExecutor newConnectorExecutor() {
+    return new InboundConnectorExecutor(this);
+  }
+
+  /** Sets a listener that is notified about the time each task spent waiting for a worker. */
+  public void setQueueTimeListener(final Consumer<Duration> queueTimeListener) {
+    this.queueTimeListener = queueTimeListener == null ? ignored -> {} : queueTimeListener;
+  }
+
+  /** Number of tasks that are currently running on a worker thread. */
+  public int getActiveTasks() {
+    return activeTasks.get();
+  }
+
+  /** Number of tasks that are ready to run but wait for a free worker thread. */
+  public int getQueuedTasks() {
+    return queuedTasks.get();
+  }
+
+  /** Number of consumer loops that are currently running, they are not limited by the pool. */
+  public int getRunningLoops() {
+    return runningLoops.get();
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  ScheduledExecutorService timer() {
+    return timer;
+  }
+
+  void dispatch(final Runnable task) {
+    long submittedAt = System.nanoTime();
+    queuedTasks.incrementAndGet();
+    try {
+      workers.execute(() -> runWorker(task, submittedAt));
+    } catch (RuntimeException e) {
+      queuedTasks.decrementAndGet();
+      throw e;
+    }
+  }
+
+  void startLoop(final Runnable loop) {
+    loops.execute(
+        () -> {
+          runningLoops.incrementAndGet();
+          try {
+            loop.run();
+          } finally {
+            runningLoops.decrementAndGet();
+          }
+        });
+  }
+
+  private void runWorker(final Runnable task, final long submittedAt) {
+    if (permits != null) {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        queuedTasks.decrementAndGet();
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    queuedTasks.decrementAndGet();
+    activeTasks.incrementAndGet();
+    try {
+      queueTimeListener.accept(Duration.ofNanos(System.nanoTime() - submittedAt));
+      task.run();
+    } finally {
+      activeTasks.decrementAndGet();
+      if (permits != null) {
+        permits.release();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+    workers.shutdownNow();
+    loops.shutdownNow();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces correlation quotas for inbound Connectors, so that a single tenant or Connector type
+ * can't saturate the gateway connection shared by all tenants of the runtime.
+ *
+ * <p>Each tenant has its own token bucket, and each Connector type has an additional bucket per
+ * tenant. An event is only correlated if both buckets have a permit available.
+ */
+public class InboundQuotaManager {
+
+  public static final String DEFAULT_TENANT = "<default>";
+
+  private static final InboundQuotaManager UNLIMITED =
+      new InboundQuotaManager(0, Map.of(), Map.of(), 1);
+
+  private final RateLimits tenantLimits;
+  private final RateLimits typeLimits;
+
+  private final Map<String, Optional<TokenBucket>> tenantBuckets = new ConcurrentHashMap<>();
+  private final Map<String, Optional<TokenBucket>> typeBuckets = new ConcurrentHashMap<>();
+
+  /**
+   * @param defaultTenantRate events per second allowed for tenants without a specific rate, zero or
+   *     less for no limit
+   * @param tenantRates events per second allowed for specific tenants
+   * @param typeRates events per second allowed for specific Connector types, per tenant
+   * @param burstSeconds the number of seconds worth of events that can be correlated at once
+   */
+  public InboundQuotaManager(
+      final double defaultTenantRate,
+      final Map<String, Double> tenantRates,
+      final Map<String, Double> typeRates,
+      final double burstSeconds) {
+    this.tenantLimits = new RateLimits(defaultTenantRate, tenantRates, burstSeconds);
+    // connector types without a specific rate are only limited by their tenant
+    this.typeLimits = new RateLimits(0, typeRates, burstSeconds);
+  }
+
+  public static InboundQuotaManager unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Tries to acquire a permit to correlate an event.
+   *
+   * @return an empty optional if the event can be correlated, otherwise the duration after which
+   *     the caller should retry
+   */
+  public Optional<Duration> tryAcquire(final String tenantId, final String type) {
+    var tenant = tenantId == null ? DEFAULT_TENANT : tenantId;
+    var typeBucket =
+        type == null
+            ? Optional.<TokenBucket>empty()
+            : typeBuckets.computeIfAbsent(
+                tenant + '/' + type, ignored -> typeLimits.createBucket(type));
+    var tenantBucket =
+        tenantBuckets.computeIfAbsent(tenant, ignored -> tenantLimits.createBucket(tenant));
+
+    if (typeBucket.isPresent()) {
+      long waitNanos = typeBucket.get().tryAcquire();
+      if (waitNanos > 0) {
+        return Optional.of(Duration.ofNanos(waitNanos));
+      }
+    }
+    if (tenantBucket.isPresent()) {
+      long waitNanos = tenantBucket.get().tryAcquire();
+      if (waitNanos > 0) {
+        // the event is not correlated, don't charge the connector type for it
+        typeBucket.ifPresent(TokenBucket::release);
+        return Optional.of(Duration.ofNanos(waitNanos));
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rate limits keyed by e.g. tenant or context path, with a default for keys without a specific
+ * limit. Creates the {@link TokenBucket} of a key, which holds up to the configured number of
+ * seconds worth of permits.
+ */
+public final class RateLimits {
+
+  private final double defaultRate;
+  private final Map<String, Double> rates;
+  private final double burstSeconds;
+
+  /**
+   * @param defaultRate permits per second for keys without a specific rate, zero or less for no
+   *     limit
+   * @param rates permits per second for specific keys, zero or less for no limit
+   * @param burstSeconds the number of seconds worth of permits that can be acquired at once
+   */
+  public RateLimits(
+      final double defaultRate, final Map<String, Double> rates, final double burstSeconds) {
+    if (burstSeconds <= 0) {
+      throw new IllegalArgumentException("Burst seconds must be positive: " + burstSeconds);
+    }
+    this.defaultRate = defaultRate;
+    this.rates = Map.copyOf(rates);
+    this.burstSeconds = burstSeconds;
+  }
+
+  /** Creates the bucket of the given key, or returns an empty optional if it is not limited. */
+  public Optional<TokenBucket> createBucket(final String key) {
+    return createBucket(key == null ? defaultRate : rates.getOrDefault(key, defaultRate));
+  }
+
+  /** Creates a bucket for the given rate, or returns an empty optional if it is zero or less. */
+  public Optional<TokenBucket> createBucket(final double rate) {
+    if (rate <= 0) {
+      return Optional.empty();
+    }
+    int burst = (int) Math.max(1, Math.round(rate * burstSeconds));
+    return Optional.of(new TokenBucket(rate, burst));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket. Instead of counting tokens, the bucket tracks the time at which it will
+ * be full again (generic cell rate algorithm), so acquiring a permit is a single compare-and-set.
+ */
+public final class TokenBucket {
+
+  private final long refillIntervalNanos;
+  private final long capacityNanos;
+  private final LongSupplier clock;
+  private final AtomicLong fullAt;
+
+  /**
+   * @param permitsPerSecond the rate at which permits are replenished
+   * @param burst the number of permits that can be acquired at once after a quiet period
+   */
+  public TokenBucket(final double permitsPerSecond, final int burst) {
+    this(permitsPerSecond, burst, System::nanoTime);
+  }
+
+  TokenBucket(final double permitsPerSecond, final int burst, final LongSupplier clock) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "Permits per second must be positive: " + permitsPerSecond);
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+    }
+    this.refillIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    this.capacityNanos = refillIntervalNanos * burst;
+    this.clock = clock;
+    this.fullAt = new AtomicLong(clock.getAsLong());
+  }
+
+  /**
+   * Tries to acquire a single permit.
+   *
+   * @return zero if the permit was acquired, otherwise the time in nanoseconds until a permit
+   *     becomes available
+   */
+  public long tryAcquire() {
+    while (true) {
+      long now = clock.getAsLong();
+      long current = fullAt.get();
+      long next = Math.max(current, now) + refillIntervalNanos;
+      long waitNanos = next - now - capacityNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /** Returns a permit that was acquired but not used. */
+  public void release() {
+    fullAt.addAndGet(-refillIntervalNanos);
+  }
+}
@@ -31,12 +31,14 @@ import io.camunda.connector.runtime.core.outbound.ConnectorResult.SuccessResult;
 import io.camunda.connector.runtime.core.outbound.ErrorExpressionJobContext.ErrorExpressionJob;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.response.CompleteJobResponse;
 import io.camunda.zeebe.client.api.response.FailJobResponse;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.opentelemetry.api.trace.StatusCode;
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
@@ -50,6 +52,12 @@ public class ConnectorJobHandler implements JobHandler {
   // Protects Zeebe from enormously large messages it cannot handle
   public static final int MAX_ERROR_MESSAGE_LENGTH = 6000;
   private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorJobHandler.class);
+
+  static final String SPAN_JOB = "connector.job";
+  static final String SPAN_EXECUTE = "connector.execute";
+  static final String SPAN_COMPLETE_JOB = "zeebe.complete-job";
+  static final String SPAN_FAIL_JOB = "zeebe.fail-job";
+  static final String SPAN_THROW_ERROR = "zeebe.throw-error";
   protected final OutboundConnectorFunction call;
   protected SecretProvider secretProvider;
 
@@ -57,6 +65,8 @@ public class ConnectorJobHandler implements JobHandler {
 
   protected ObjectMapper objectMapper;
 
+  protected ConnectorTracer tracer = ConnectorTracer.noop();
+
   /**
    * Create a handler wrapper for the specified connector function.
    *
@@ -84,6 +94,22 @@ public class ConnectorJobHandler implements JobHandler {
     this.objectMapper = objectMapper;
   }
 
+  /**
+   * Create a handler wrapper for the specified connector function, reporting job executions to the
+   * given tracer.
+   *
+   * @param call - the connector function to call
+   */
+  public ConnectorJobHandler(
+      final OutboundConnectorFunction call,
+      final SecretProvider secretProvider,
+      final ValidationProvider validationProvider,
+      final ObjectMapper objectMapper,
+      final ConnectorTracer tracer) {
+    this(call, secretProvider, validationProvider, objectMapper);
+    this.tracer = tracer;
+  }
+
   protected static Map<String, Object> exceptionToMap(Exception exception) {
     Map<String, Object> result = new HashMap<>();
     result.put("type", exception.getClass().getName());
@@ -155,6 +181,45 @@ public class ConnectorJobHandler implements JobHandler {
 
   @Override
   public void handle(final JobClient client, final ActivatedJob job) {
+    var event = new OutboundJobExecutionEvent();
+    event.begin();
+    var span =
+        tracer
+            .spanBuilder(SPAN_JOB)
+            .setAttribute(ConnectorTracer.CONNECTOR_TYPE, job.getType())
+            .setAttribute(ConnectorTracer.JOB_KEY, job.getKey())
+            .setAttribute(ConnectorTracer.TENANT_ID, job.getTenantId())
+            .setAttribute(ConnectorTracer.PROCESS_INSTANCE_KEY, job.getProcessInstanceKey())
+            .setAttribute(ConnectorTracer.BPMN_PROCESS_ID, job.getBpmnProcessId())
+            .setAttribute(ConnectorTracer.ELEMENT_ID, job.getElementId())
+            .startSpan();
+    try (var ignored = span.makeCurrent()) {
+      handle(client, job, event);
+    } catch (RuntimeException | Error e) {
+      ConnectorTracer.recordFailure(span, e);
+      throw e;
+    } finally {
+      if (event.outcome != null) {
+        span.setAttribute(ConnectorTracer.OUTCOME, event.outcome);
+        if (OutboundJobExecutionEvent.OUTCOME_FAILED.equals(event.outcome)) {
+          span.setStatus(StatusCode.ERROR);
+        }
+      }
+      span.end();
+      event.end();
+      if (event.shouldCommit()) {
+        event.connectorType = job.getType();
+        event.jobKey = job.getKey();
+        event.tenantId = job.getTenantId();
+        var variables = job.getVariables();
+        event.variablesSize = variables == null ? 0 : variables.length();
+        event.commit();
+      }
+    }
+  }
+
+  private void handle(
+      final JobClient client, final ActivatedJob job, final OutboundJobExecutionEvent event) {
     LOGGER.info("Received job: {} for tenant: {}", job.getKey(), job.getTenantId());
 
     Duration retryBackoff;
@@ -163,7 +228,8 @@ public class ConnectorJobHandler implements JobHandler {
     } catch (Exception e) {
       ConnectorResult.ErrorResult result =
           new ConnectorResult.ErrorResult(Map.of("error", exceptionToMap(e)), e, 0);
-      failJob(client, job, result);
+      event.outcome = OutboundJobExecutionEvent.OUTCOME_FAILED;
+      tracer.runInSpan(SPAN_FAIL_JOB, () -> failJob(client, job, result));
       return;
     }
 
@@ -172,7 +238,7 @@ public class ConnectorJobHandler implements JobHandler {
     try {
       var context =
           new JobHandlerContext(job, getSecretProvider(), validationProvider, objectMapper);
-      var response = call.execute(context);
+      var response = tracer.inSpan(SPAN_EXECUTE, () -> call.execute(context));
       var responseVariables =
           ConnectorHelper.createOutputVariables(
               response,
@@ -200,34 +266,47 @@ public class ConnectorJobHandler implements JobHandler {
                       "Throwing BPMN error for job {} with code {}",
                       job.getKey(),
                       bpmnError.code());
-                  throwBpmnError(client, job, bpmnError);
+                  event.outcome = OutboundJobExecutionEvent.OUTCOME_BPMN_ERROR;
+                  tracer.runInSpan(SPAN_THROW_ERROR, () -> throwBpmnError(client, job, bpmnError));
                 } else if (error instanceof JobError jobError) {
                   LOGGER.debug("Throwing incident for job {}", job.getKey());
-                  failJob(
-                      client,
-                      job,
-                      new ErrorResult(
-                          Map.of("error", jobError.message()),
-                          new RuntimeException(jobError.message()),
-                          jobError.retries(),
-                          jobError.retryBackoff()));
+                  event.outcome = OutboundJobExecutionEvent.OUTCOME_FAILED;
+                  tracer.runInSpan(
+                      SPAN_FAIL_JOB,
+                      () ->
+                          failJob(
+                              client,
+                              job,
+                              new ErrorResult(
+                                  Map.of("error", jobError.message()),
+                                  new RuntimeException(jobError.message()),
+                                  jobError.retries(),
+                                  jobError.retryBackoff())));
                 }
               },
               () -> {
                 if (finalResult instanceof SuccessResult successResult) {
                   LOGGER.debug(
                       "Completing job: {} for tenant: {}", job.getKey(), job.getTenantId());
-                  completeJob(client, job, successResult);
+                  event.outcome = OutboundJobExecutionEvent.OUTCOME_COMPLETED;
+                  var resultVariables = successResult.variables();
+                  event.resultVariableCount = resultVariables == null ? 0 : resultVariables.size();
+                  tracer.runInSpan(
+                      SPAN_COMPLETE_JOB, () -> completeJob(client, job, successResult));
                 } else {
                   var errorResult = (ErrorResult) finalResult;
                   logError(job, errorResult.exception());
-                  failJob(client, job, errorResult);
+                  event.outcome = OutboundJobExecutionEvent.OUTCOME_FAILED;
+                  tracer.runInSpan(SPAN_FAIL_JOB, () -> failJob(client, job, errorResult));
                 }
               });
     } catch (Exception ex) {
       logError(job, ex);
       // failure while parsing the error expression
-      failJob(client, job, new ErrorResult(Map.of("error", exceptionToMap(ex)), ex, 0));
+      event.outcome = OutboundJobExecutionEvent.OUTCOME_FAILED;
+      tracer.runInSpan(
+          SPAN_FAIL_JOB,
+          () -> failJob(client, job, new ErrorResult(Map.of("error", exceptionToMap(ex)), ex, 0)));
     }
   }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the execution of a single outbound connector job, from activation to the final
+ * Zeebe command. Field values are only computed when the event is going to be committed.
+ */
+@Name(OutboundJobExecutionEvent.NAME)
+@Label("Outbound Connector Job")
+@Description("Execution of an outbound connector job")
+@Category({"Camunda", "Connectors"})
+@StackTrace(false)
+final class OutboundJobExecutionEvent extends Event {
+
+  static final String NAME = "io.camunda.connector.OutboundJobExecution";
+
+  static final String OUTCOME_COMPLETED = "completed";
+  static final String OUTCOME_FAILED = "failed";
+  static final String OUTCOME_BPMN_ERROR = "bpmnError";
+
+  @Label("Connector Type")
+  String connectorType;
+
+  @Label("Job Key")
+  long jobKey;
+
+  @Label("Tenant ID")
+  String tenantId;
+
+  @Label("Variables Size")
+  @Description("Length of the job variables document")
+  @DataAmount
+  long variablesSize;
+
+  @Label("Result Variables")
+  @Description("Number of variables returned to the process")
+  int resultVariableCount;
+
+  @Label("Outcome")
+  String outcome;
+}
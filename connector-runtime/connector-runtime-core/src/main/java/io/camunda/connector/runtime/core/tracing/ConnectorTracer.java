@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.util.Map;
+
+/**
+ * Thin wrapper around the OpenTelemetry {@link Tracer} used by the runtime. Backed by a no-op
+ * implementation unless the runtime is configured with an OpenTelemetry SDK, in which case spans
+ * are created for outbound jobs, inbound correlations and their individual phases.
+ */
+public class ConnectorTracer {
+
+  public static final String INSTRUMENTATION_SCOPE = "io.camunda.connector.runtime";
+
+  public static final AttributeKey<String> CONNECTOR_TYPE =
+      AttributeKey.stringKey("camunda.connector.type");
+  public static final AttributeKey<String> TENANT_ID = AttributeKey.stringKey("camunda.tenant.id");
+  public static final AttributeKey<Long> JOB_KEY = AttributeKey.longKey("camunda.job.key");
+  public static final AttributeKey<Long> PROCESS_INSTANCE_KEY =
+      AttributeKey.longKey("camunda.process_instance.key");
+  public static final AttributeKey<String> BPMN_PROCESS_ID =
+      AttributeKey.stringKey("camunda.bpmn_process.id");
+  public static final AttributeKey<String> ELEMENT_ID =
+      AttributeKey.stringKey("camunda.element.id");
+  public static final AttributeKey<String> OUTCOME =
+      AttributeKey.stringKey("camunda.connector.outcome");
+
+  private static final ConnectorTracer NOOP = new ConnectorTracer(OpenTelemetry.noop());
+
+  private final OpenTelemetry openTelemetry;
+  private final Tracer tracer;
+
+  public ConnectorTracer(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+    this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+  }
+
+  public static ConnectorTracer noop() {
+    return NOOP;
+  }
+
+  /** Creates a span builder, parented to the current context unless specified otherwise. */
+  public SpanBuilder spanBuilder(String name) {
+    return tracer.spanBuilder(name);
+  }
+
+  /**
+   * Runs the given action in a child span of the current context. Exceptions thrown by the action
+   * are recorded on the span and rethrown.
+   */
+  public <T, E extends Exception> T inSpan(String name, SpanCallable<T, E> action) throws E {
+    var span = tracer.spanBuilder(name).startSpan();
+    try (var ignored = span.makeCurrent()) {
+      return action.call();
+    } catch (Exception | Error e) {
+      recordFailure(span, e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  /** Variant of {@link #inSpan(String, SpanCallable)} for actions without a result. */
+  public <E extends Exception> void runInSpan(String name, SpanRunnable<E> action) throws E {
+    inSpan(
+        name,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * Extracts a remote parent context from transport headers, e.g. the W3C {@code traceparent}
+   * header of an incoming webhook request. Header names are matched case-insensitively.
+   */
+  public Context extract(Map<String, String> headers) {
+    if (headers == null || headers.isEmpty()) {
+      return Context.current();
+    }
+    return openTelemetry
+        .getPropagators()
+        .getTextMapPropagator()
+        .extract(Context.current(), headers, HeadersGetter.INSTANCE);
+  }
+
+  public static void recordFailure(Span span, Throwable t) {
+    span.recordException(t);
+    span.setStatus(StatusCode.ERROR);
+  }
+
+  @FunctionalInterface
+  public interface SpanCallable<T, E extends Exception> {
+    T call() throws E;
+  }
+
+  @FunctionalInterface
+  public interface SpanRunnable<E extends Exception> {
+    void run() throws E;
+  }
+
+  private enum HeadersGetter implements TextMapGetter<Map<String, String>> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(Map<String, String> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      if (carrier == null) {
+        return null;
+      }
+      var value = carrier.get(key);
+      if (value != null) {
+        return value;
+      }
+      for (var entry : carrier.entrySet()) {
+        if (key.equalsIgnoreCase(entry.getKey())) {
+          return entry.getValue();
+        }
+      }
+      return null;
+    }
+  }
+}
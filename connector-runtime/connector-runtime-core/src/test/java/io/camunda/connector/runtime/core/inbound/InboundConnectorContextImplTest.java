@@ -18,15 +18,22 @@ package io.camunda.connector.runtime.core.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.EvictingQueue;
+import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.feel.annotation.FEEL;
 import io.camunda.connector.runtime.core.FooBarSecretProvider;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorContextImplTest.TestPropertiesClass.InnerObject;
+import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import io.camunda.connector.runtime.core.inbound.correlation.MessageCorrelationPoint;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +43,99 @@ class InboundConnectorContextImplTest {
   private final SecretProvider secretProvider = new FooBarSecretProvider();
   private final ObjectMapper mapper = ConnectorsObjectMapperSupplier.DEFAULT_MAPPER;
 
+  @Test
+  void correlateWithResult_shouldPaceThrottledEvents() {
+    // given
+    var definition =
+        new InboundConnectorDefinitionImpl(
+            Map.of(), new MessageCorrelationPoint("", "", null), "bool", 0, 0L, "id", "");
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var success = new CorrelationResult.Success.MessagePublished(1L, "");
+    when(correlationHandler.correlate(definition, Map.of()))
+        .thenReturn(new CorrelationResult.Failure.Throttled(Duration.ofMillis(10)));
+    when(correlationHandler.retryThrottled(definition, Map.of())).thenReturn(success);
+    var context =
+        new InboundConnectorContextImpl(
+            secretProvider,
+            (e) -> {},
+            definition,
+            correlationHandler,
+            (e) -> {},
+            mapper,
+            EvictingQueue.create(10));
+
+    // when
+    var result = context.correlateWithResult(Map.of());
+
+    // then
+    assertThat(result).isEqualTo(success);
+    verify(correlationHandler, times(1)).correlate(definition, Map.of());
+    verify(correlationHandler, times(1)).retryThrottled(definition, Map.of());
+  }
+
+  @Test
+  void correlateWithResult_shouldReturnThrottledEvents_AfterMaxPacingTime() {
+    // given
+    var definition =
+        new InboundConnectorDefinitionImpl(
+            Map.of(), new MessageCorrelationPoint("", "", null), "bool", 0, 0L, "id", "");
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var throttled = new CorrelationResult.Failure.Throttled(Duration.ofMinutes(1));
+    when(correlationHandler.correlate(definition, Map.of())).thenReturn(throttled);
+    when(correlationHandler.retryThrottled(definition, Map.of())).thenReturn(throttled);
+    var context =
+        new InboundConnectorContextImpl(
+            secretProvider,
+            (e) -> {},
+            definition,
+            correlationHandler,
+            (e) -> {},
+            mapper,
+            EvictingQueue.create(10),
+            null,
+            null,
+            Duration.ofMillis(50));
+
+    // when
+    long start = System.nanoTime();
+    var result = context.correlateWithResult(Map.of());
+
+    // then the pause is cut to the remaining pacing time instead of the retry-after of a minute
+    assertThat(result).isEqualTo(throttled);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    verify(correlationHandler, times(1)).retryThrottled(definition, Map.of());
+  }
+
+  @Test
+  void correlateWithResult_shouldReturnThrottledEvents_WhenNotPaced() {
+    // given
+    var definition =
+        new InboundConnectorDefinitionImpl(
+            Map.of(), new MessageCorrelationPoint("", "", null), "bool", 0, 0L, "id", "");
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var throttled = new CorrelationResult.Failure.Throttled(Duration.ofSeconds(1));
+    when(correlationHandler.correlate(definition, Map.of())).thenReturn(throttled);
+    var context =
+        new InboundConnectorContextImpl(
+            secretProvider,
+            (e) -> {},
+            definition,
+            correlationHandler,
+            (e) -> {},
+            mapper,
+            EvictingQueue.create(10),
+            null,
+            null,
+            Duration.ZERO);
+
+    // when
+    var result = context.correlateWithResult(Map.of());
+
+    // then
+    assertThat(result).isEqualTo(throttled);
+    verify(correlationHandler, times(1)).correlate(definition, Map.of());
+  }
+
   @Test
   void bindProperties_shouldThrowExceptionWhenWrongFormat() {
     // given
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.correlation.MessageCorrelationPoint;
+import io.camunda.connector.runtime.core.inbound.correlation.ProcessCorrelationPoint;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class InboundPropertyInternerTest {
+
+  private static final int PROCESSES = 50;
+  private static final int VERSIONS = 20;
+  private static final int TENANTS = 10;
+
+  @Test
+  void identicalProperties_shareSingleMap() {
+    // given
+    var first = syntheticProperties(1);
+    var second = syntheticProperties(1);
+
+    // when
+    var internedFirst = InboundPropertyInterner.intern(first);
+    var internedSecond = InboundPropertyInterner.intern(second);
+
+    // then
+    assertThat(internedFirst).isEqualTo(first);
+    assertThat(internedSecond).isSameAs(internedFirst);
+  }
+
+  @Test
+  void propertiesWithNullValues_returnedUnchanged() {
+    // given
+    var properties = new HashMap<String, String>();
+    properties.put(Keywords.INBOUND_TYPE_KEYWORD, "io.camunda:webhook:1");
+    properties.put("inbound.context", null);
+
+    // when
+    var result = InboundPropertyInterner.intern(properties);
+
+    // then
+    assertThat(result).isSameAs(properties);
+  }
+
+  @Test
+  void manySyntheticDefinitions_heapFootprintDoesNotGrowWithVersionsAndTenants() {
+    // given
+    List<InboundConnectorDefinitionImpl> definitions = new ArrayList<>();
+
+    // when
+    for (int process = 0; process < PROCESSES; process++) {
+      for (int version = 1; version <= VERSIONS; version++) {
+        for (int tenant = 0; tenant < TENANTS; tenant++) {
+          definitions.add(syntheticDefinition(process, version, tenant));
+        }
+      }
+    }
+
+    // then
+    Set<Map<String, String>> propertyMaps = identitySet();
+    Set<String> strings = identitySet();
+    Set<ProcessCorrelationPoint> correlationPoints = identitySet();
+    for (var definition : definitions) {
+      propertyMaps.add(definition.rawProperties());
+      strings.addAll(definition.rawProperties().keySet());
+      strings.addAll(definition.rawProperties().values());
+      strings.add(definition.bpmnProcessId());
+      strings.add(definition.elementId());
+      strings.add(definition.tenantId());
+      correlationPoints.add(definition.correlationPoint());
+    }
+
+    assertThat(definitions).hasSize(PROCESSES * VERSIONS * TENANTS);
+    // one map per distinct configuration, regardless of versions and tenants
+    assertThat(propertyMaps).hasSize(PROCESSES);
+    assertThat(correlationPoints).hasSize(PROCESSES);
+    // shared keys and values, one context path, process and element ID per process, one tenant ID
+    // per tenant
+    assertThat(strings).hasSize(3 + 2 + PROCESSES * 3 + TENANTS);
+  }
+
+  @Test
+  void wrappedProperties_shareKeySegments() {
+    // given
+    var first = InboundPropertyHandler.readWrappedProperties(syntheticProperties(1));
+    var second = InboundPropertyHandler.readWrappedProperties(syntheticProperties(2));
+
+    // when
+    var firstKey = ((Map<?, ?>) first.get("inbound")).keySet().iterator().next();
+    var secondKey = ((Map<?, ?>) second.get("inbound")).keySet().iterator().next();
+
+    // then
+    assertThat(secondKey).isSameAs(firstKey);
+  }
+
+  @Test
+  void startEventCorrelationPoints_ofDifferentVersions_notMerged() {
+    // given
+    var v1 = new StartEventCorrelationPoint(copy("process"), 1, 1L);
+    var v2 = new StartEventCorrelationPoint(copy("process"), 2, 2L);
+
+    // when
+    var internedV1 = InboundPropertyInterner.intern(v1);
+    var internedV2 = InboundPropertyInterner.intern(v2);
+
+    // then
+    assertThat(internedV1).isNotSameAs(internedV2);
+    assertThat(internedV2).isEqualTo(v2);
+  }
+
+  private static InboundConnectorDefinitionImpl syntheticDefinition(
+      int process, int version, int tenant) {
+    return new InboundConnectorDefinitionImpl(
+        syntheticProperties(process),
+        new MessageCorrelationPoint(
+            copy("message-" + process), copy("=correlationKey"), copy("=messageId")),
+        copy("process-" + process),
+        version,
+        (long) process * VERSIONS + version,
+        copy("element-" + process),
+        copy("tenant-" + tenant));
+  }
+
+  // freshly allocated strings, as produced when parsing the BPMN XML of each version
+  private static Map<String, String> syntheticProperties(int process) {
+    var properties = new HashMap<String, String>();
+    properties.put(copy(Keywords.INBOUND_TYPE_KEYWORD), copy("io.camunda:webhook:1"));
+    properties.put(copy("inbound.context"), copy("context-" + process));
+    properties.put(copy(Keywords.RESULT_EXPRESSION_KEYWORD), copy("={body: request.body}"));
+    return properties;
+  }
+
+  private static String copy(String value) {
+    return new String(value.toCharArray());
+  }
+
+  private static <T> Set<T> identitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+}
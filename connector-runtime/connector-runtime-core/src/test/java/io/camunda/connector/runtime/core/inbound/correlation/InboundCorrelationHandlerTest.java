@@ -28,14 +28,27 @@ import io.camunda.connector.api.inbound.CorrelationResult.Failure;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.quota.InboundQuotaManager;
 import io.camunda.connector.runtime.core.testutil.command.CreateCommandDummy;
 import io.camunda.connector.runtime.core.testutil.command.PublishMessageCommandDummy;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.command.ClientStatusException;
 import io.grpc.Status;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -552,4 +565,180 @@ public class InboundCorrelationHandlerTest {
       verify(dummyCommand).messageId("providedIdValue");
     }
   }
+
+  @Nested
+  class Quotas {
+
+    @Test
+    void quotaExceeded_shouldReturnThrottledWithoutCallingZeebe() {
+      // given
+      var quotaManager = new InboundQuotaManager(1, Map.of(), Map.of(), 1);
+      handler = new InboundCorrelationHandler(zeebeClient, new FeelEngineWrapper(), quotaManager);
+      var point = new StartEventCorrelationPoint("process1", 0, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      when(definition.tenantId()).thenReturn("tenant-a");
+      when(definition.type()).thenReturn("io.camunda:test:1");
+      var dummyCommand = Mockito.spy(new CreateCommandDummy());
+      when(zeebeClient.newCreateInstanceCommand()).thenReturn(dummyCommand);
+
+      // when
+      var first = handler.correlate(definition, Collections.emptyMap());
+      var second = handler.correlate(definition, Collections.emptyMap());
+
+      // then
+      assertThat(first).isInstanceOf(Success.ProcessInstanceCreated.class);
+      assertThat(second).isInstanceOf(Failure.Throttled.class);
+      assertThat(((Failure.Throttled) second).retryAfter()).isPositive();
+      verify(zeebeClient).newCreateInstanceCommand();
+      verifyNoMoreInteractions(zeebeClient);
+    }
+  }
+
+  @Nested
+  class Tracing {
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final ConnectorTracer tracer =
+        new ConnectorTracer(
+            OpenTelemetrySdk.builder()
+                .setTracerProvider(
+                    SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build());
+
+    @Test
+    void correlation_shouldContinuePropagatedTrace() {
+      // given
+      handler =
+          new InboundCorrelationHandler(
+              zeebeClient, new FeelEngineWrapper(), InboundQuotaManager.unlimited(), tracer);
+      var dummyCommand = spy(new PublishMessageCommandDummy());
+      when(zeebeClient.newPublishMessageCommand()).thenReturn(dummyCommand);
+      var point = new MessageCorrelationPoint("msg1", "=correlationKey", null);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      when(definition.type()).thenReturn("io.camunda:test:1");
+      when(definition.elementId()).thenReturn("catch");
+      when(definition.activationCondition()).thenReturn("=correlationKey != null");
+      var traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+      var remoteContext =
+          tracer.extract(Map.of("Traceparent", "00-" + traceId + "-00f067aa0ba902b7-01"));
+
+      // when
+      try (var ignored = remoteContext.makeCurrent()) {
+        handler.correlate(definition, Map.of("correlationKey", "key"));
+      }
+
+      // then
+      var spans = spanExporter.getFinishedSpanItems();
+      assertThat(spans)
+          .extracting(SpanData::getName)
+          .containsExactly(
+              InboundCorrelationHandler.SPAN_ACTIVATION_CONDITION,
+              InboundCorrelationHandler.SPAN_PUBLISH_MESSAGE,
+              InboundCorrelationHandler.SPAN_CORRELATE);
+      assertThat(spans).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(traceId));
+      var correlationSpan = spans.get(2);
+      assertThat(correlationSpan.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+      assertThat(correlationSpan.getAttributes().get(ConnectorTracer.ELEMENT_ID))
+          .isEqualTo("catch");
+      assertThat(correlationSpan.getAttributes().get(ConnectorTracer.OUTCOME))
+          .isEqualTo("MessagePublished");
+      assertThat(spans.subList(0, 2))
+          .allSatisfy(
+              span -> assertThat(span.getParentSpanId()).isEqualTo(correlationSpan.getSpanId()));
+    }
+
+    @Test
+    void zeebeFailure_shouldMarkCorrelationSpanAsError() {
+      // given
+      handler =
+          new InboundCorrelationHandler(
+              zeebeClient, new FeelEngineWrapper(), InboundQuotaManager.unlimited(), tracer);
+      var dummyCommand = spy(new CreateCommandDummy());
+      when(zeebeClient.newCreateInstanceCommand()).thenReturn(dummyCommand);
+      when(dummyCommand.send()).thenThrow(new ClientStatusException(Status.UNAVAILABLE, null));
+      var point = new StartEventCorrelationPoint("process1", 0, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+
+      // when
+      var result = handler.correlate(definition, Collections.emptyMap());
+
+      // then
+      assertThat(result).isInstanceOf(Failure.ZeebeClientStatus.class);
+      var spans = spanExporter.getFinishedSpanItems();
+      assertThat(spans)
+          .extracting(SpanData::getName)
+          .containsExactly(
+              InboundCorrelationHandler.SPAN_ACTIVATION_CONDITION,
+              InboundCorrelationHandler.SPAN_CREATE_PROCESS_INSTANCE,
+              InboundCorrelationHandler.SPAN_CORRELATE);
+      assertThat(spans.get(1).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+      assertThat(spans.get(2).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+  }
+
+  @Nested
+  class FlightRecorderEvents {
+
+    @Test
+    void correlation_shouldRecordEvent() {
+      // given
+      var dummyCommand = spy(new CreateCommandDummy());
+      when(zeebeClient.newCreateInstanceCommand()).thenReturn(dummyCommand);
+      var point = new StartEventCorrelationPoint("process1", 0, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      when(definition.type()).thenReturn("io.camunda:test:1");
+      when(definition.bpmnProcessId()).thenReturn("process1");
+      when(definition.elementId()).thenReturn("start");
+      var events = new CopyOnWriteArrayList<RecordedEvent>();
+
+      // when
+      try (var recording = new RecordingStream()) {
+        recording.enable(InboundCorrelationEvent.NAME);
+        recording.onEvent(InboundCorrelationEvent.NAME, events::add);
+        recording.startAsync();
+        handler.correlate(definition, Collections.emptyMap());
+        recording.stop();
+      }
+
+      // then
+      assertThat(events).hasSize(1);
+      var event = events.get(0);
+      assertThat(event.getString("connectorType")).isEqualTo("io.camunda:test:1");
+      assertThat(event.getString("bpmnProcessId")).isEqualTo("process1");
+      assertThat(event.getString("elementId")).isEqualTo("start");
+      assertThat(event.getString("outcome")).isEqualTo("ProcessInstanceCreated");
+      assertThat(event.getBoolean("success")).isTrue();
+    }
+
+    @Test
+    void activationConditionNotMet_shouldRecordFailedEvent() {
+      // given
+      var point = new StartEventCorrelationPoint("process1", 0, 0);
+      var definition = mock(InboundConnectorDefinitionImpl.class);
+      when(definition.correlationPoint()).thenReturn(point);
+      when(definition.activationCondition()).thenReturn("=false");
+      var events = new CopyOnWriteArrayList<RecordedEvent>();
+
+      // when
+      try (var recording = new RecordingStream()) {
+        recording.enable(InboundCorrelationEvent.NAME);
+        recording.onEvent(InboundCorrelationEvent.NAME, events::add);
+        recording.startAsync();
+        handler.correlate(definition, Collections.emptyMap());
+        recording.stop();
+      }
+
+      // then
+      assertThat(events).hasSize(1);
+      assertThat(events.get(0).getString("outcome")).isEqualTo("ActivationConditionNotMet");
+      assertThat(events.get(0).getBoolean("success")).isFalse();
+    }
+  }
 }
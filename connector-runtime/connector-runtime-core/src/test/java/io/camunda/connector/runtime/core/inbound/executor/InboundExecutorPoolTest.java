@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class InboundExecutorPoolTest {
+
+  private InboundExecutorPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldRunSubmittedTasks(boolean virtualThreads) throws Exception {
+    // given
+    pool = new InboundExecutorPool(2, virtualThreads);
+    var executor = pool.newConnectorExecutor();
+
+    // when
+    var result = executor.submit(() -> Thread.currentThread().isVirtual());
+
+    // then
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(virtualThreads);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldBoundConcurrentTasks(boolean virtualThreads) throws Exception {
+    // given
+    pool = new InboundExecutorPool(1, virtualThreads);
+    var queueTimes = new CopyOnWriteArrayList<Duration>();
+    pool.setQueueTimeListener(queueTimes::add);
+    var executor = pool.newConnectorExecutor();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    // when
+    executor.schedule(
+        () -> {
+          started.countDown();
+          awaitQuietly(release);
+        },
+        0,
+        TimeUnit.MILLISECONDS);
+    started.await(5, TimeUnit.SECONDS);
+    Future<?> second = executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(pool.getActiveTasks()).isEqualTo(1);
+    awaitCondition(() -> pool.getQueuedTasks() == 1);
+    assertThat(second).isNotDone();
+
+    release.countDown();
+    second.get(5, TimeUnit.SECONDS);
+    awaitCondition(() -> pool.getActiveTasks() == 0);
+    assertThat(pool.getQueuedTasks()).isZero();
+    assertThat(queueTimes).hasSize(2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldNotLimitConsumerLoops(boolean virtualThreads) throws Exception {
+    // given
+    pool = new InboundExecutorPool(1, virtualThreads);
+    var executor = pool.newConnectorExecutor();
+    var started = new CountDownLatch(2);
+    var release = new CountDownLatch(1);
+    Runnable loop =
+        () -> {
+          started.countDown();
+          awaitQuietly(release);
+        };
+
+    // when
+    executor.execute(loop);
+    executor.execute(loop);
+
+    // then both loops run and scheduled tasks still get a worker
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(pool.getRunningLoops()).isEqualTo(2);
+    assertThat(executor.schedule(() -> "polled", 0, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS))
+        .isEqualTo("polled");
+
+    release.countDown();
+    awaitCondition(() -> pool.getRunningLoops() == 0);
+  }
+
+  @Test
+  void shouldRunPeriodicTasks_UntilShutdown() throws Exception {
+    // given
+    pool = new InboundExecutorPool();
+    var executor = pool.newConnectorExecutor();
+    var invocations = new CountDownLatch(3);
+
+    // when
+    var future =
+        executor.scheduleWithFixedDelay(invocations::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(invocations.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(future.isDone()).isFalse();
+
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(executor.getPendingTasks()).isZero();
+  }
+
+  @Test
+  void shouldRunDelayedTasks() throws Exception {
+    // given
+    pool = new InboundExecutorPool();
+    var executor = pool.newConnectorExecutor();
+
+    // when
+    var future = executor.schedule(() -> "done", 20, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+  }
+
+  @Test
+  void shouldInterruptRunningTasks_OnShutdownNow() throws Exception {
+    // given
+    pool = new InboundExecutorPool();
+    var executor = pool.newConnectorExecutor();
+    var started = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(Duration.ofMinutes(1));
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+          }
+        });
+    started.await(5, TimeUnit.SECONDS);
+
+    // when
+    executor.shutdownNow();
+
+    // then
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void shouldNotAffectOtherConnectors_OnShutdown() throws Exception {
+    // given
+    pool = new InboundExecutorPool();
+    var first = pool.newConnectorExecutor();
+    var second = pool.newConnectorExecutor();
+    var invocations = new AtomicInteger();
+    second.scheduleAtFixedRate(invocations::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+
+    // when
+    first.shutdownNow();
+    int before = invocations.get();
+
+    // then
+    assertThat(first.isTerminated()).isTrue();
+    assertThat(second.isShutdown()).isFalse();
+    awaitCondition(() -> invocations.get() > before + 1);
+    second.shutdownNow();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class InboundQuotaManagerTest {
+
+  private static final String WEBHOOK = "io.camunda:webhook:1";
+  private static final String KAFKA = "io.camunda:connector-kafka-inbound:1";
+
+  @Test
+  void unlimited_shouldNeverThrottle() {
+    var quotas = InboundQuotaManager.unlimited();
+    for (int i = 0; i < 1000; i++) {
+      assertThat(quotas.tryAcquire("tenant-a", WEBHOOK)).isEmpty();
+    }
+  }
+
+  @Test
+  void tenantOverQuota_shouldNotAffectOtherTenants() {
+    // given
+    var quotas = new InboundQuotaManager(1, Map.of(), Map.of(), 1);
+
+    // when
+    var first = quotas.tryAcquire("tenant-a", WEBHOOK);
+    var second = quotas.tryAcquire("tenant-a", KAFKA);
+    var otherTenant = quotas.tryAcquire("tenant-b", WEBHOOK);
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).hasValueSatisfying(retryAfter -> assertThat(retryAfter).isPositive());
+    assertThat(otherTenant).isEmpty();
+  }
+
+  @Test
+  void tenantRates_shouldOverrideDefault() {
+    // given
+    var quotas = new InboundQuotaManager(1, Map.of("tenant-a", 0d), Map.of(), 1);
+
+    // then tenant-a is unlimited
+    for (int i = 0; i < 100; i++) {
+      assertThat(quotas.tryAcquire("tenant-a", WEBHOOK)).isEmpty();
+    }
+    assertThat(quotas.tryAcquire(null, WEBHOOK)).isEmpty();
+    assertThat(quotas.tryAcquire(null, WEBHOOK)).isPresent();
+  }
+
+  @Test
+  void typeOverQuota_shouldNotAffectOtherTypes() {
+    // given
+    var quotas = new InboundQuotaManager(0, Map.of(), Map.of(WEBHOOK, 1d), 1);
+
+    // when
+    var first = quotas.tryAcquire("tenant-a", WEBHOOK);
+    var second = quotas.tryAcquire("tenant-a", WEBHOOK);
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).isPresent();
+    assertThat(quotas.tryAcquire("tenant-a", KAFKA)).isEmpty();
+    assertThat(quotas.tryAcquire("tenant-b", WEBHOOK)).isEmpty();
+  }
+
+  @Test
+  void tenantThrottled_shouldNotConsumeTypeQuota() throws InterruptedException {
+    // given a tenant bucket refilling every 100ms and a webhook bucket refilling every second
+    var quotas = new InboundQuotaManager(10, Map.of(), Map.of(WEBHOOK, 1d), 0.1);
+    assertThat(quotas.tryAcquire("tenant-a", KAFKA)).isEmpty();
+
+    // when the tenant quota is exhausted
+    assertThat(quotas.tryAcquire("tenant-a", WEBHOOK)).isPresent();
+    Thread.sleep(150);
+
+    // then the webhook permit was returned and is available once the tenant bucket refilled
+    assertThat(quotas.tryAcquire("tenant-a", WEBHOOK)).isEmpty();
+  }
+}
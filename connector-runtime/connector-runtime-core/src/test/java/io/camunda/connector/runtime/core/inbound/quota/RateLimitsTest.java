@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitsTest {
+
+  @Test
+  void shouldUseSpecificRateOrDefault() {
+    // given
+    var limits = new RateLimits(0.001, Map.of("limited", 0.002, "unlimited", 0.0), 1000);
+
+    // when
+    var limited = limits.createBucket("limited");
+    var other = limits.createBucket("other");
+    var unlimited = limits.createBucket("unlimited");
+
+    // then two seconds worth of permits at 0.002 per second, one at the default rate
+    assertThat(limited).isPresent();
+    assertThat(limited.get().tryAcquire()).isZero();
+    assertThat(limited.get().tryAcquire()).isZero();
+    assertThat(limited.get().tryAcquire()).isPositive();
+    assertThat(other).isPresent();
+    assertThat(other.get().tryAcquire()).isZero();
+    assertThat(other.get().tryAcquire()).isPositive();
+    assertThat(unlimited).isEmpty();
+  }
+
+  @Test
+  void shouldAllowAtLeastOnePermit() {
+    // given
+    var limits = new RateLimits(0, Map.of(), 0.001);
+
+    // when
+    var bucket = limits.createBucket(0.01);
+
+    // then
+    assertThat(bucket).isPresent();
+    assertThat(bucket.get().tryAcquire()).isZero();
+    assertThat(bucket.get().tryAcquire()).isPositive();
+    assertThat(limits.createBucket("any")).isEmpty();
+  }
+
+  @Test
+  void shouldRejectNonPositiveBurst() {
+    assertThatThrownBy(() -> new RateLimits(1, Map.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldAllowBurst_ThenThrottle() {
+    // given
+    var bucket = new TokenBucket(10, 3, clock::get);
+
+    // when
+    var acquired = new long[] {bucket.tryAcquire(), bucket.tryAcquire(), bucket.tryAcquire()};
+    var throttled = bucket.tryAcquire();
+
+    // then
+    assertThat(acquired).containsOnly(0L);
+    assertThat(throttled).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void shouldRefillOverTime() {
+    // given
+    var bucket = new TokenBucket(10, 1, clock::get);
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+
+    // when
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+    // then
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void shouldNotAccumulateMoreThanBurst() {
+    // given
+    var bucket = new TokenBucket(10, 2, clock::get);
+
+    // when
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+    // then
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isZero();
+    assertThat(bucket.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void shouldReturnReleasedPermit() {
+    // given
+    var bucket = new TokenBucket(10, 1, clock::get);
+    assertThat(bucket.tryAcquire()).isZero();
+
+    // when
+    bucket.release();
+
+    // then
+    assertThat(bucket.tryAcquire()).isZero();
+  }
+}
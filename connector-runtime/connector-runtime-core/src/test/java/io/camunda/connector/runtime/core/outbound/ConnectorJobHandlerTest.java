@@ -33,13 +33,24 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1.FailJobCommandStep2;
 import io.camunda.zeebe.client.api.worker.JobClient;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -946,6 +957,139 @@ class ConnectorJobHandlerTest {
     }
   }
 
+  @Nested
+  class FlightRecorderEvents {
+
+    @Test
+    void shouldRecordEvent_WhenJobCompleted() {
+      // given
+      var jobHandler = newConnectorJobHandler(context -> Map.of("hello", "world"));
+      var events = new CopyOnWriteArrayList<RecordedEvent>();
+
+      // when
+      try (var recording = new RecordingStream()) {
+        recording.enable(OutboundJobExecutionEvent.NAME);
+        recording.onEvent(OutboundJobExecutionEvent.NAME, events::add);
+        recording.startAsync();
+        JobBuilder.create()
+            .withType("io.camunda:test:1")
+            .withVariables("{\"foo\":\"bar\"}")
+            .withResultVariableHeader("result")
+            .executeAndCaptureResult(jobHandler);
+        recording.stop();
+      }
+
+      // then
+      assertThat(events).hasSize(1);
+      var event = events.get(0);
+      assertThat(event.getString("connectorType")).isEqualTo("io.camunda:test:1");
+      assertThat(event.getLong("jobKey")).isEqualTo(-1L);
+      assertThat(event.getLong("variablesSize")).isEqualTo(13L);
+      assertThat(event.getInt("resultVariableCount")).isEqualTo(1);
+      assertThat(event.getString("outcome")).isEqualTo(OutboundJobExecutionEvent.OUTCOME_COMPLETED);
+    }
+
+    @Test
+    void shouldRecordEvent_WhenJobFailed() {
+      // given
+      var jobHandler =
+          newConnectorJobHandler(
+              context -> {
+                throw new ConnectorException("123", "expected");
+              });
+      var events = new CopyOnWriteArrayList<RecordedEvent>();
+
+      // when
+      try (var recording = new RecordingStream()) {
+        recording.enable(OutboundJobExecutionEvent.NAME);
+        recording.onEvent(OutboundJobExecutionEvent.NAME, events::add);
+        recording.startAsync();
+        JobBuilder.create().withRetries(3).executeAndCaptureResult(jobHandler, false);
+        recording.stop();
+      }
+
+      // then
+      assertThat(events).hasSize(1);
+      assertThat(events.get(0).getString("outcome"))
+          .isEqualTo(OutboundJobExecutionEvent.OUTCOME_FAILED);
+    }
+  }
+
+  @Nested
+  class Tracing {
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final ConnectorTracer tracer =
+        new ConnectorTracer(
+            OpenTelemetrySdk.builder()
+                .setTracerProvider(
+                    SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .build());
+
+    @Test
+    void shouldRecordJobSpanWithPhases_WhenJobCompleted() {
+      // given
+      var jobHandler =
+          new ConnectorJobHandler(context -> Map.of("hello", "world"), null, e -> {}, null, tracer);
+
+      // when
+      JobBuilder.create().withType("io.camunda:test:1").executeAndCaptureResult(jobHandler);
+
+      // then
+      var spans = spanExporter.getFinishedSpanItems();
+      assertThat(spans)
+          .extracting(SpanData::getName)
+          .containsExactly(
+              ConnectorJobHandler.SPAN_EXECUTE,
+              ConnectorJobHandler.SPAN_COMPLETE_JOB,
+              ConnectorJobHandler.SPAN_JOB);
+      var jobSpan = spans.get(2);
+      assertThat(jobSpan.getAttributes().get(ConnectorTracer.CONNECTOR_TYPE))
+          .isEqualTo("io.camunda:test:1");
+      assertThat(jobSpan.getAttributes().get(ConnectorTracer.JOB_KEY)).isEqualTo(-1L);
+      assertThat(jobSpan.getAttributes().get(ConnectorTracer.OUTCOME))
+          .isEqualTo(OutboundJobExecutionEvent.OUTCOME_COMPLETED);
+      assertThat(jobSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+      assertThat(spans.subList(0, 2))
+          .allSatisfy(
+              span -> {
+                assertThat(span.getTraceId()).isEqualTo(jobSpan.getTraceId());
+                assertThat(span.getParentSpanId()).isEqualTo(jobSpan.getSpanId());
+              });
+    }
+
+    @Test
+    void shouldMarkSpansAsError_WhenJobFailed() {
+      // given
+      var jobHandler =
+          new ConnectorJobHandler(
+              context -> {
+                throw new ConnectorException("123", "expected");
+              },
+              null,
+              e -> {},
+              null,
+              tracer);
+
+      // when
+      JobBuilder.create().withRetries(3).executeAndCaptureResult(jobHandler, false);
+
+      // then
+      var spans = spanExporter.getFinishedSpanItems();
+      assertThat(spans)
+          .extracting(SpanData::getName)
+          .containsExactly(
+              ConnectorJobHandler.SPAN_EXECUTE,
+              ConnectorJobHandler.SPAN_FAIL_JOB,
+              ConnectorJobHandler.SPAN_JOB);
+      assertThat(spans.get(0).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+      assertThat(spans.get(0).getEvents()).extracting(EventData::getName).contains("exception");
+      assertThat(spans.get(2).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+  }
+
   private record TestConnectorResponsePojo(String value) {}
 
   private static class NonSerializable {
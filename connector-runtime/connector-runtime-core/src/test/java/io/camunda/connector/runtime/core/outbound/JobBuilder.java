@@ -83,6 +83,16 @@ class JobBuilder {
       return this;
     }
 
+    public JobBuilderStep withType(String type) {
+      when(job.getType()).thenReturn(type);
+      return this;
+    }
+
+    public JobBuilderStep withVariables(String variables) {
+      when(job.getVariables()).thenReturn(variables);
+      return this;
+    }
+
     public JobBuilderStep withRetries(int retries) {
       when(job.getRetries()).thenReturn(retries);
       return this;
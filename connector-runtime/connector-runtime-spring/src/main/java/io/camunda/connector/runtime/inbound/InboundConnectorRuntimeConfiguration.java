@@ -22,17 +22,28 @@ import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.inbound.DefaultInboundConnectorContextFactory;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorContextFactory;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorFactory;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorMetricsFactory;
 import io.camunda.connector.runtime.core.inbound.OperateClientAdapter;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.core.inbound.executor.InboundExecutorPool;
+import io.camunda.connector.runtime.core.inbound.quota.InboundQuotaManager;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.inbound.importer.ProcessDefinitionImportConfiguration;
 import io.camunda.connector.runtime.inbound.lifecycle.InboundConnectorAnnotationProcessor;
 import io.camunda.connector.runtime.inbound.lifecycle.InboundConnectorLifecycleConfiguration;
 import io.camunda.connector.runtime.inbound.lifecycle.MeteredInboundCorrelationHandler;
 import io.camunda.connector.runtime.inbound.operate.OperateClientConfiguration;
+import io.camunda.connector.runtime.metrics.InboundExecutorPoolMetrics;
+import io.camunda.connector.runtime.metrics.MicrometerInboundConnectorMetricsFactory;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,8 +61,27 @@ public class InboundConnectorRuntimeConfiguration {
   public InboundCorrelationHandler inboundCorrelationHandler(
       final ZeebeClient zeebeClient,
       final FeelEngineWrapper feelEngine,
-      final MetricsRecorder metricsRecorder) {
-    return new MeteredInboundCorrelationHandler(zeebeClient, feelEngine, metricsRecorder);
+      final MetricsRecorder metricsRecorder,
+      final InboundQuotaManager inboundQuotaManager,
+      final ObjectProvider<ConnectorTracer> connectorTracer,
+      final ObjectProvider<MeterRegistry> meterRegistry) {
+    return new MeteredInboundCorrelationHandler(
+        zeebeClient,
+        feelEngine,
+        metricsRecorder,
+        inboundQuotaManager,
+        connectorTracer.getIfAvailable(ConnectorTracer::noop),
+        meterRegistry.getIfAvailable());
+  }
+
+  @Bean
+  public InboundQuotaManager inboundQuotaManager(
+      @Value("${camunda.connector.inbound.quota.tenant-rate:0}") double defaultTenantRate,
+      @Value("#{${camunda.connector.inbound.quota.tenant-rates:{:}}}")
+          Map<String, Double> tenantRates,
+      @Value("#{${camunda.connector.inbound.quota.type-rates:{:}}}") Map<String, Double> typeRates,
+      @Value("${camunda.connector.inbound.quota.burst-seconds:1}") double burstSeconds) {
+    return new InboundQuotaManager(defaultTenantRate, tenantRates, typeRates, burstSeconds);
   }
 
   @Bean
@@ -68,12 +98,31 @@ public class InboundConnectorRuntimeConfiguration {
       InboundCorrelationHandler correlationHandler,
       SecretProviderAggregator secretProviderAggregator,
       @Autowired(required = false) ValidationProvider validationProvider,
-      OperateClientAdapter operateClientAdapter) {
+      OperateClientAdapter operateClientAdapter,
+      InboundExecutorPool inboundExecutorPool,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${camunda.connector.inbound.quota.max-pacing-time:PT10S}") Duration maxPacingTime) {
+    var registry = meterRegistry.getIfAvailable();
+    InboundConnectorMetricsFactory metricsFactory =
+        registry == null ? null : new MicrometerInboundConnectorMetricsFactory(registry);
     return new DefaultInboundConnectorContextFactory(
         mapper,
         correlationHandler,
         secretProviderAggregator,
         validationProvider,
-        operateClientAdapter);
+        operateClientAdapter,
+        inboundExecutorPool,
+        metricsFactory,
+        maxPacingTime);
+  }
+
+  @Bean(destroyMethod = "close")
+  public InboundExecutorPool inboundExecutorPool(
+      @Value("${camunda.connector.inbound.executor.max-concurrency:1000}") int maxConcurrency,
+      @Value("${camunda.connector.inbound.executor.virtual-threads:true}") boolean virtualThreads,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var pool = new InboundExecutorPool(maxConcurrency, virtualThreads);
+    meterRegistry.ifAvailable(registry -> new InboundExecutorPoolMetrics(pool).bindTo(registry));
+    return pool;
   }
 }
@@ -16,11 +16,26 @@
  */
 package io.camunda.connector.runtime.inbound;
 
+import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.inbound.webhook.InboundWebhookRestController;
 import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
+import io.camunda.connector.runtime.inbound.webhook.WebhookDeduplicator;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRateLimiter;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestBodyReader;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestExecutor;
+import io.camunda.connector.runtime.metrics.WebhookDeduplicatorMetrics;
+import io.camunda.connector.runtime.metrics.WebhookRateLimiterMetrics;
+import io.camunda.connector.runtime.metrics.WebhookRequestExecutorMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 @Import(InboundWebhookRestController.class)
@@ -30,4 +45,61 @@ public class WebhookConnectorConfiguration {
   public WebhookConnectorRegistry webhookConnectorRegistry() {
     return new WebhookConnectorRegistry();
   }
+
+  @Bean(destroyMethod = "close")
+  public WebhookRequestExecutor webhookRequestExecutor(
+      @Value("${camunda.connector.webhook.async.enabled:false}") boolean async,
+      @Value("${camunda.connector.webhook.max-in-flight-requests:1000}") int maxInFlightRequests,
+      @Value("${camunda.connector.webhook.request-timeout:PT30S}") Duration requestTimeout,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var executor = new WebhookRequestExecutor(async, maxInFlightRequests, requestTimeout);
+    meterRegistry.ifAvailable(
+        registry -> new WebhookRequestExecutorMetrics(executor).bindTo(registry));
+    return executor;
+  }
+
+  @Bean
+  public WebhookRateLimiter webhookRateLimiter(
+      @Value("${camunda.connector.webhook.rate-limit.global:0}") double globalRate,
+      @Value("${camunda.connector.webhook.rate-limit.per-path:0}") double defaultPathRate,
+      @Value("#{${camunda.connector.webhook.rate-limit.paths:{:}}}") Map<String, Double> pathRates,
+      @Value("${camunda.connector.webhook.rate-limit.burst-seconds:1}") double burstSeconds,
+      WebhookConnectorRegistry webhookConnectorRegistry,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var rateLimiter = new WebhookRateLimiter(globalRate, defaultPathRate, pathRates, burstSeconds);
+    // limits are kept per registered context path, drop them along with the webhook
+    webhookConnectorRegistry.addDeregistrationListener(rateLimiter::remove);
+    meterRegistry.ifAvailable(
+        registry -> new WebhookRateLimiterMetrics(rateLimiter).bindTo(registry));
+    return rateLimiter;
+  }
+
+  @Bean
+  public WebhookDeduplicator webhookDeduplicator(
+      FeelEngineWrapper feelEngine,
+      @Value("${camunda.connector.webhook.deduplication.ttl:PT1H}") Duration ttl,
+      @Value("${camunda.connector.webhook.deduplication.max-entries:10000}") int maxEntries,
+      WebhookConnectorRegistry webhookConnectorRegistry,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var deduplicator = new WebhookDeduplicator(feelEngine, ttl, maxEntries);
+    // validates the duplicate response status of webhooks when they are activated
+    webhookConnectorRegistry.addRegistrationListener(
+        (contextPath, connector) ->
+            deduplicator.activate(contextPath, connector.context().getDefinition()));
+    webhookConnectorRegistry.addDeregistrationListener(deduplicator::deactivate);
+    meterRegistry.ifAvailable(
+        registry -> new WebhookDeduplicatorMetrics(deduplicator).bindTo(registry));
+    return deduplicator;
+  }
+
+  @Bean
+  public WebhookRequestBodyReader webhookRequestBodyReader(
+      @Value("${camunda.connector.webhook.body.spill-threshold:1MB}") DataSize spillThreshold,
+      @Value("${camunda.connector.webhook.body.max-size:0}") DataSize maxSize,
+      @Value("${camunda.connector.webhook.body.temp-directory:}") String tempDirectory) {
+    return new WebhookRequestBodyReader(
+        spillThreshold.toBytes(),
+        maxSize.toBytes(),
+        tempDirectory.isBlank() ? null : Path.of(tempDirectory));
+  }
 }
@@ -60,7 +60,7 @@ public class ProcessDefinitionImporter {
             .filter(d -> !registeredProcessDefinitionKeys.contains(d.getKey()))
             .collect(Collectors.toSet());
 
-    Set<Long> oldProcessDefinitionKeys = new HashSet<>();
+    Map<Long, ProcessDefinition> upgradedByOldKey = new HashMap<>();
     var upgraded =
         notYetRegistered.stream()
             .filter(
@@ -70,9 +70,10 @@ public class ProcessDefinitionImporter {
                             .equals(versionByBpmnProcessId.get(d.getBpmnProcessId()).getVersion()))
             .peek(
                 d ->
-                    oldProcessDefinitionKeys.add(
-                        versionByBpmnProcessId.get(d.getBpmnProcessId()).getKey()))
+                    upgradedByOldKey.put(
+                        versionByBpmnProcessId.get(d.getBpmnProcessId()).getKey(), d))
             .collect(Collectors.toSet());
+    var oldProcessDefinitionKeys = upgradedByOldKey.keySet();
 
     var brandNew = new HashSet<>(notYetRegistered);
     brandNew.removeAll(upgraded);
@@ -94,14 +95,14 @@ public class ProcessDefinitionImporter {
     notYetRegistered.forEach(
         definition -> versionByBpmnProcessId.put(definition.getBpmnProcessId(), definition));
 
-    var toDeregister = new HashSet<>(oldProcessDefinitionKeys);
-    toDeregister.addAll(deleted);
-
-    if (!toDeregister.isEmpty()) {
-      connectorManager.handleDeletedProcessDefinitions(toDeregister);
+    if (!deleted.isEmpty()) {
+      connectorManager.handleDeletedProcessDefinitions(deleted);
+    }
+    if (!upgradedByOldKey.isEmpty()) {
+      connectorManager.handleUpgradedProcessDefinitions(upgradedByOldKey);
     }
-    if (!notYetRegistered.isEmpty()) {
-      connectorManager.handleNewProcessDefinitions(notYetRegistered);
+    if (!brandNew.isEmpty()) {
+      connectorManager.handleNewProcessDefinitions(brandNew);
     }
   }
 
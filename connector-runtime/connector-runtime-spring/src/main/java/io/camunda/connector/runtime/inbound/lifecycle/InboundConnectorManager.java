@@ -18,26 +18,33 @@ package io.camunda.connector.runtime.inbound.lifecycle;
 
 import com.google.common.collect.EvictingQueue;
 import io.camunda.connector.api.inbound.Health;
+import io.camunda.connector.api.inbound.Health.Status;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorExecutable;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
 import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorContextFactory;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorFactory;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorReportingContext;
 import io.camunda.connector.runtime.inbound.importer.ProcessDefinitionInspector;
 import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
 import io.camunda.operate.exception.OperateException;
 import io.camunda.operate.model.ProcessDefinition;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -119,6 +126,64 @@ public class InboundConnectorManager {
     }
   }
 
+  /**
+   * Replaces the connectors of previous process definition versions with the connectors of the
+   * latest versions.
+   *
+   * <p>Connectors whose properties did not change between the versions (see {@link
+   * InboundConnectorDefinitionImpl#fingerprint()}) are not restarted. Instead, the active
+   * executable is rebound to the new process definition key and element in place, so that consumers
+   * and webhook registrations stay open during the upgrade.
+   *
+   * @param latestByPreviousKey latest process definitions mapped by the key of the process
+   *     definition they replace
+   */
+  public void handleUpgradedProcessDefinitions(Map<Long, ProcessDefinition> latestByPreviousKey) {
+    for (var entry : latestByPreviousKey.entrySet()) {
+      var latest = entry.getValue();
+      registeredProcessDefinitions.add(latest.getKey());
+
+      List<InboundConnectorDefinitionImpl> latestConnectors;
+      try {
+        latestConnectors = processDefinitionInspector.findInboundConnectors(latest);
+      } catch (OperateException e) {
+        LOG.error("Failed to inspect process definition {}", latest.getKey(), e);
+        latestConnectors = List.of();
+      }
+
+      var previousConnectors =
+          new ArrayList<>(
+              activeConnectorsByProcDefKey.getOrDefault(entry.getKey(), Collections.emptySet()));
+
+      List<InboundConnectorDefinitionImpl> connectorsToActivate = new ArrayList<>();
+      for (var connector : latestConnectors) {
+        findRebindableConnector(previousConnectors, connector)
+            .ifPresentOrElse(
+                previous -> {
+                  previousConnectors.remove(previous);
+                  if (!rebindConnector(previous, connector)) {
+                    deactivateConnector(previous);
+                    connectorsToActivate.add(connector);
+                  }
+                },
+                () -> connectorsToActivate.add(connector));
+      }
+
+      for (var connector : previousConnectors) {
+        deactivateConnector(connector);
+      }
+      activeConnectorsByProcDefKey.remove(entry.getKey());
+
+      for (var connector : connectorsToActivate) {
+        try {
+          activateConnector(connector);
+        } catch (Exception e) {
+          LOG.error("Failed to activate connector {}", connector, e);
+        }
+      }
+    }
+  }
+
   public boolean isProcessDefinitionRegistered(Long key) {
     return registeredProcessDefinitions.contains(key);
   }
@@ -126,7 +191,14 @@ public class InboundConnectorManager {
   private void activateConnector(InboundConnectorDefinitionImpl newConnector) {
     InboundConnectorExecutable<InboundConnectorContext> executable =
         connectorFactory.getInstance(newConnector.type());
-    Consumer<Throwable> cancellationCallback = throwable -> deactivateConnector(newConnector);
+    // the definition may change if the connector is rebound to a newer process version
+    var contextRef = new AtomicReference<InboundConnectorContext>();
+    Consumer<Throwable> cancellationCallback =
+        throwable ->
+            deactivateConnector(
+                Optional.ofNullable(contextRef.get())
+                    .map(c -> (InboundConnectorDefinitionImpl) c.getDefinition())
+                    .orElse(newConnector));
 
     InboundConnectorContext inboundContext =
         connectorContextFactory.createContext(
@@ -134,6 +206,7 @@ public class InboundConnectorManager {
             cancellationCallback,
             executable.getClass(),
             EvictingQueue.create(inboundLogsSize));
+    contextRef.set(inboundContext);
 
     var connector = new ActiveInboundConnector(executable, inboundContext);
 
@@ -163,6 +236,52 @@ public class InboundConnectorManager {
     }
   }
 
+  private Optional<ActiveInboundConnector> findRebindableConnector(
+      List<ActiveInboundConnector> candidates, InboundConnectorDefinitionImpl definition) {
+    var fingerprint = definition.fingerprint();
+    return candidates.stream()
+        .filter(c -> isRebindable(c.context()))
+        .filter(
+            c ->
+                fingerprint.equals(
+                    ((InboundConnectorDefinitionImpl) c.context().getDefinition()).fingerprint()))
+        // prefer the connector of the same element if there are several identical ones
+        .min(
+            Comparator.comparing(
+                c -> !definition.elementId().equals(c.context().getDefinition().elementId())));
+  }
+
+  private boolean isRebindable(InboundConnectorContext context) {
+    // connectors that failed to activate are restarted to give them another chance
+    return context instanceof InboundConnectorReportingContext reportingContext
+        && reportingContext.getHealth().getStatus() != Status.DOWN;
+  }
+
+  private boolean rebindConnector(
+      ActiveInboundConnector connector, InboundConnectorDefinitionImpl definition) {
+    var previous = connector.context().getDefinition();
+    // the definition is part of the connector hash code, so it must not change while stored
+    activeConnectorsByProcDefKey.get(previous.processDefinitionKey()).remove(connector);
+    boolean rebound = ((InboundConnectorReportingContext) connector.context()).rebind(definition);
+    addActiveConnector(connector);
+    if (!rebound) {
+      LOG.warn(
+          "Inbound connector {} of process {} cannot be rebound to version {}, restarting it",
+          definition.type(),
+          definition.bpmnProcessId(),
+          definition.version());
+      return false;
+    }
+    LOG.info(
+        "Inbound connector {} of process {} is unchanged in version {}, rebound from element {} to {}",
+        definition.type(),
+        definition.bpmnProcessId(),
+        definition.version(),
+        previous.elementId(),
+        definition.elementId());
+    return true;
+  }
+
   private void addActiveConnector(ActiveInboundConnector connector) {
     activeConnectorsByProcDefKey.compute(
         connector.context().getDefinition().processDefinitionKey(),
@@ -201,6 +320,20 @@ public class InboundConnectorManager {
     } catch (Exception e) {
       // log and continue with other connectors anyway
       LOG.error("Failed to deactivate inbound connector " + connector, e);
+    } finally {
+      // cancel the tasks the connector left behind on the shared executor
+      connector.context().getExecutor().ifPresent(ExecutorService::shutdownNow);
+      connector.context().getMetrics().ifPresent(this::closeMetrics);
+    }
+  }
+
+  private void closeMetrics(InboundConnectorMetrics metrics) {
+    if (metrics instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        LOG.warn("Failed to remove metrics of inbound connector", e);
+      }
     }
   }
 
@@ -20,18 +20,57 @@ import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.core.inbound.quota.InboundQuotaManager;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler {
 
   private final MetricsRecorder metricsRecorder;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> correlationTimers = new ConcurrentHashMap<>();
 
   public MeteredInboundCorrelationHandler(
       ZeebeClient zeebeClient, FeelEngineWrapper feelEngine, MetricsRecorder metricsRecorder) {
-    super(zeebeClient, feelEngine);
+    this(zeebeClient, feelEngine, metricsRecorder, InboundQuotaManager.unlimited());
+  }
+
+  public MeteredInboundCorrelationHandler(
+      ZeebeClient zeebeClient,
+      FeelEngineWrapper feelEngine,
+      MetricsRecorder metricsRecorder,
+      InboundQuotaManager quotaManager) {
+    this(zeebeClient, feelEngine, metricsRecorder, quotaManager, ConnectorTracer.noop());
+  }
+
+  public MeteredInboundCorrelationHandler(
+      ZeebeClient zeebeClient,
+      FeelEngineWrapper feelEngine,
+      MetricsRecorder metricsRecorder,
+      InboundQuotaManager quotaManager,
+      ConnectorTracer tracer) {
+    this(zeebeClient, feelEngine, metricsRecorder, quotaManager, tracer, null);
+  }
+
+  /**
+   * @param meterRegistry registry of the correlation timer, or null to skip timing correlations
+   */
+  public MeteredInboundCorrelationHandler(
+      ZeebeClient zeebeClient,
+      FeelEngineWrapper feelEngine,
+      MetricsRecorder metricsRecorder,
+      InboundQuotaManager quotaManager,
+      ConnectorTracer tracer,
+      MeterRegistry meterRegistry) {
+    super(zeebeClient, feelEngine, quotaManager, tracer);
     this.metricsRecorder = metricsRecorder;
+    this.meterRegistry = meterRegistry;
   }
 
   @Override
@@ -48,11 +87,31 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
   public CorrelationResult correlate(InboundConnectorDefinitionImpl definition, Object variables) {
     metricsRecorder.increase(
         Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_TRIGGERED, definition.type());
+    return correlateAndRecord(definition, variables, false);
+  }
+
+  @Override
+  public CorrelationResult retryThrottled(
+      InboundConnectorDefinitionImpl definition, Object variables) {
+    // the event was counted as triggered and throttled on its first attempt already
+    return correlateAndRecord(definition, variables, true);
+  }
 
+  private CorrelationResult correlateAndRecord(
+      InboundConnectorDefinitionImpl definition, Object variables, boolean retry) {
     try {
-      var result = super.correlate(definition, variables);
-      metricsRecorder.increase(
-          Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATED, definition.type());
+      var result =
+          meterRegistry == null
+              ? super.correlate(definition, variables)
+              : correlationTimer(definition.type())
+                  .record(() -> super.correlate(definition, variables));
+      if (!(result instanceof CorrelationResult.Failure.Throttled)) {
+        metricsRecorder.increase(
+            Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATED, definition.type());
+      } else if (!retry) {
+        metricsRecorder.increase(
+            Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_THROTTLED, definition.type());
+      }
       return result;
     } catch (Exception e) {
       metricsRecorder.increase(
@@ -60,4 +119,13 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
       throw e;
     }
   }
+
+  private Timer correlationTimer(String type) {
+    return correlationTimers.computeIfAbsent(
+        String.valueOf(type),
+        key ->
+            Timer.builder(Inbound.METRIC_NAME_CORRELATION_TIME)
+                .tag(Inbound.TAG_TYPE, key)
+                .register(meterRegistry));
+  }
 }
@@ -36,12 +36,22 @@ import io.camunda.connector.api.inbound.webhook.WebhookResult;
 import io.camunda.connector.api.inbound.webhook.WebhookResultContext;
 import io.camunda.connector.api.inbound.webhook.WebhookTriggerResultContext;
 import io.camunda.connector.feel.FeelEngineWrapperException;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.inbound.lifecycle.ActiveInboundConnector;
 import io.camunda.connector.runtime.inbound.webhook.model.HttpServletRequestWebhookProcessingPayload;
+import io.camunda.connector.runtime.inbound.webhook.model.WebhookRequestBody;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,50 +59,225 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 public class InboundWebhookRestController {
 
   private static final Logger LOG = LoggerFactory.getLogger(InboundWebhookRestController.class);
 
+  static final String WEBHOOK_ROUTE = "/inbound/{*context}";
+  static final String SPAN_VERIFY = "webhook.verify";
+  static final String SPAN_TRIGGER = "webhook.trigger";
+  static final String SPAN_RESPONSE_EXPRESSION = "webhook.response-expression";
+
+  private static final Duration ASYNC_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+  private static final AttributeKey<String> HTTP_REQUEST_METHOD =
+      AttributeKey.stringKey("http.request.method");
+  private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE =
+      AttributeKey.longKey("http.response.status_code");
+  private static final AttributeKey<String> WEBHOOK_CONTEXT =
+      AttributeKey.stringKey("camunda.webhook.context");
+
   private final WebhookConnectorRegistry webhookConnectorRegistry;
+  private final ConnectorTracer tracer;
+  private final WebhookRequestExecutor requestExecutor;
+  private final WebhookRateLimiter rateLimiter;
+  private final WebhookDeduplicator deduplicator;
+  private final WebhookRequestBodyReader bodyReader;
 
-  @Autowired
   public InboundWebhookRestController(final WebhookConnectorRegistry webhookConnectorRegistry) {
+    this(webhookConnectorRegistry, ConnectorTracer.noop());
+  }
+
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry, final ConnectorTracer tracer) {
+    this(webhookConnectorRegistry, tracer, WebhookRequestExecutor.synchronous());
+  }
+
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      final ConnectorTracer tracer,
+      final WebhookRequestExecutor requestExecutor) {
+    this(webhookConnectorRegistry, tracer, requestExecutor, WebhookRateLimiter.unlimited());
+  }
+
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      final ConnectorTracer tracer,
+      final WebhookRequestExecutor requestExecutor,
+      final WebhookRateLimiter rateLimiter) {
+    this(
+        webhookConnectorRegistry,
+        tracer,
+        requestExecutor,
+        rateLimiter,
+        WebhookDeduplicator.disabled());
+  }
+
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      final ConnectorTracer tracer,
+      final WebhookRequestExecutor requestExecutor,
+      final WebhookRateLimiter rateLimiter,
+      final WebhookDeduplicator deduplicator) {
+    this(
+        webhookConnectorRegistry,
+        tracer,
+        requestExecutor,
+        rateLimiter,
+        deduplicator,
+        WebhookRequestBodyReader.inMemory());
+  }
+
+  @Autowired
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      final ConnectorTracer tracer,
+      final WebhookRequestExecutor requestExecutor,
+      final WebhookRateLimiter rateLimiter,
+      final WebhookDeduplicator deduplicator,
+      final WebhookRequestBodyReader bodyReader) {
     this.webhookConnectorRegistry = webhookConnectorRegistry;
+    this.tracer = tracer;
+    this.requestExecutor = requestExecutor;
+    this.rateLimiter = rateLimiter;
+    this.deduplicator = deduplicator;
+    this.bodyReader = bodyReader;
   }
 
   @RequestMapping(
       method = {GET, POST, PUT, DELETE},
-      path = "/inbound/{context}")
-  public ResponseEntity<?> inbound(
-      @PathVariable String context,
+      path = WEBHOOK_ROUTE)
+  public DeferredResult<ResponseEntity<?>> inbound(
+      @PathVariable("context") String path,
       @RequestHeader Map<String, String> headers,
-      @RequestBody(required = false) byte[] bodyAsByteArray,
       @RequestParam Map<String, String> params,
       HttpServletRequest httpServletRequest)
       throws IOException {
+    // responses are timed out by the request executor, the servlet container must not time them
+    // out earlier with its default async timeout
+    var result =
+        new DeferredResult<ResponseEntity<?>>(
+            requestExecutor.getRequestTimeout().plus(ASYNC_TIMEOUT_MARGIN).toMillis());
+    handle(path, headers, params, httpServletRequest)
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                result.setResult(response);
+              } else {
+                result.setErrorResult(
+                    error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+              }
+            });
+    return result;
+  }
+
+  /**
+   * Processes a webhook request.
+   *
+   * @return the response, completed once the request was processed or timed out
+   */
+  public CompletableFuture<ResponseEntity<?>> handle(
+      String path,
+      Map<String, String> headers,
+      Map<String, String> params,
+      HttpServletRequest httpServletRequest)
+      throws IOException {
+    // {*context} captures the path including its leading slash
+    var context = path.startsWith("/") ? path.substring(1) : path;
     LOG.trace("Received inbound hook on {}", context);
-    return webhookConnectorRegistry
-        .getWebhookConnectorByContextPath(context)
-        .map(
-            connector -> {
-              WebhookProcessingPayload payload =
-                  new HttpServletRequestWebhookProcessingPayload(
-                      httpServletRequest, params, headers, bodyAsByteArray);
-              return processWebhook(connector, payload);
-            })
-        .orElseGet(() -> ResponseEntity.notFound().build());
+    var method = httpServletRequest.getMethod();
+    // continue the trace of the caller, if it propagated one
+    var span =
+        tracer
+            .spanBuilder(method + " " + WEBHOOK_ROUTE)
+            .setParent(tracer.extract(headers))
+            .setSpanKind(SpanKind.SERVER)
+            .setAttribute(HTTP_REQUEST_METHOD, method)
+            .setAttribute(HTTP_ROUTE, WEBHOOK_ROUTE)
+            .setAttribute(WEBHOOK_CONTEXT, context)
+            .startSpan();
+    CompletableFuture<ResponseEntity<?>> response;
+    WebhookRequestBody body = null;
+    try (var ignored = span.makeCurrent()) {
+      var match = webhookConnectorRegistry.match(context);
+      if (match.isEmpty()) {
+        response = CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+      } else {
+        // limits apply to the registered context path, not to each path matching its template
+        var route = match.get().route();
+        var retryAfter = rateLimiter.tryAcquire(route);
+        if (retryAfter.isPresent()) {
+          response = CompletableFuture.completedFuture(tooManyRequests(retryAfter.get()));
+        } else {
+          // the body is read by the runtime, so that large bodies don't need to be held in
+          // memory; the servlet request must not be accessed once processing is handed off to
+          // another thread
+          body = bodyReader.read(httpServletRequest);
+          WebhookProcessingPayload payload =
+              new HttpServletRequestWebhookProcessingPayload(
+                  httpServletRequest, params, match.get().pathVariables(), headers, body);
+          var connector = match.get().value();
+          var requestBody = body;
+          response =
+              requestExecutor
+                  .<ResponseEntity<?>>submit(
+                      () -> {
+                        // processing may outlive a timed out response, it owns the body
+                        try {
+                          return processWebhook(route, connector, payload);
+                        } finally {
+                          requestBody.close();
+                        }
+                      })
+                  .exceptionally(error -> timedOut(route, error));
+        }
+      }
+    } catch (WebhookRequestBodyReader.BodyTooLargeException e) {
+      LOG.debug("Webhook {} rejected: {}", context, e.getMessage());
+      response =
+          CompletableFuture.completedFuture(
+              ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Webhook {} rejected: {}", context, e.getMessage());
+      body.close();
+      response = CompletableFuture.completedFuture(serviceUnavailable());
+    } catch (IOException | RuntimeException e) {
+      ConnectorTracer.recordFailure(span, e);
+      span.end();
+      if (body != null) {
+        body.close();
+      }
+      throw e;
+    }
+    return response.whenComplete(
+        (result, error) -> {
+          if (error != null) {
+            ConnectorTracer.recordFailure(span, error);
+          } else {
+            span.setAttribute(HTTP_RESPONSE_STATUS_CODE, result.getStatusCode().value());
+            if (result.getStatusCode().is5xxServerError()) {
+              span.setStatus(StatusCode.ERROR);
+            }
+          }
+          span.end();
+        });
   }
 
   private ResponseEntity<?> processWebhook(
-      ActiveInboundConnector connector, WebhookProcessingPayload payload) {
+      String context, ActiveInboundConnector connector, WebhookProcessingPayload payload) {
     ResponseEntity<?> response;
+    String registeredDeliveryId = null;
+    boolean correlated = false;
     try {
       WebhookConnectorExecutable connectorHook =
           (WebhookConnectorExecutable) connector.executable();
@@ -100,18 +285,45 @@ public class InboundWebhookRestController {
       // This is required for cases, when we need to get a message from an external source
       // but at the same time, not triggering correlation
       // Such use-case can be echoing webhook verification challenge
-      response = verify(connectorHook, payload);
+      response = tracer.inSpan(SPAN_VERIFY, () -> verify(connectorHook, payload));
       if (response == null) {
         // when verification was skipped
         // Step 2: trigger and correlate
-        var webhookResult = connectorHook.triggerWebhook(payload);
+        var webhookResult =
+            tracer.inSpan(SPAN_TRIGGER, () -> connectorHook.triggerWebhook(payload));
         var ctxData = toWebhookTriggerResultContext(webhookResult);
-        var correlationResult = connector.context().correlateWithResult(ctxData);
-        response = buildResponse(webhookResult, correlationResult);
+        var definition = connector.context().getDefinition();
+        // Step 2a: short-circuit retries of a delivery that was already processed
+        var deliveryId = deduplicator.deliveryId(definition, payload, ctxData).orElse(null);
+        var registration =
+            deliveryId == null
+                ? WebhookDeduplicator.Registration.NEW
+                : deduplicator.register(context, deliveryId);
+        if (registration == WebhookDeduplicator.Registration.DUPLICATE) {
+          LOG.debug("Webhook {} ignored duplicate delivery {}", context, deliveryId);
+          response = ResponseEntity.status(deduplicator.duplicateStatus(context)).build();
+        } else if (registration == WebhookDeduplicator.Registration.IN_FLIGHT) {
+          // the sender retried before the first request was answered, it may still fail
+          LOG.debug("Webhook {} delivery {} is still being processed", context, deliveryId);
+          response =
+              ResponseEntity.status(HttpStatus.CONFLICT)
+                  .header(HttpHeaders.RETRY_AFTER, "1")
+                  .build();
+        } else {
+          registeredDeliveryId = deliveryId;
+          var correlationResult = connector.context().correlateWithResult(ctxData);
+          correlated = correlationResult instanceof CorrelationResult.Success;
+          response = buildResponse(webhookResult, correlationResult);
+        }
       }
     } catch (Exception e) {
       LOG.info("Webhook: {} failed with exception", connector.context().getDefinition(), e);
       response = buildErrorResponse(e);
+    } finally {
+      if (registeredDeliveryId != null) {
+        // only successful deliveries are remembered, so that the sender's retry gets through
+        deduplicator.complete(context, registeredDeliveryId, correlated);
+      }
     }
     return response;
   }
@@ -167,12 +379,42 @@ public class InboundWebhookRestController {
     ResponseEntity<?> response;
     if (failure instanceof CorrelationResult.Failure.Other) {
       response = ResponseEntity.internalServerError().build();
+    } else if (failure instanceof CorrelationResult.Failure.Throttled throttled) {
+      response = tooManyRequests(throttled.retryAfter());
     } else {
       response = ResponseEntity.unprocessableEntity().body(failure);
     }
     return response;
   }
 
+  private static ResponseEntity<?> timedOut(String context, Throwable error) {
+    var cause = error instanceof CompletionException ? error.getCause() : error;
+    if (!(cause instanceof TimeoutException)) {
+      throw error instanceof CompletionException e ? e : new CompletionException(error);
+    }
+    // correlation may still succeed, a retry of the sender is answered by deduplication
+    LOG.debug("Webhook {} timed out while processing", context);
+    return serviceUnavailable();
+  }
+
+  private static ResponseEntity<?> serviceUnavailable() {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .build();
+  }
+
+  private static ResponseEntity<?> tooManyRequests(Duration retryAfter) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, toRetryAfterSeconds(retryAfter))
+        .build();
+  }
+
+  private static String toRetryAfterSeconds(Duration retryAfter) {
+    // Retry-After is specified in whole seconds, round up to not invite early retries
+    long seconds = (retryAfter.toMillis() + 999) / 1000;
+    return String.valueOf(Math.max(1, seconds));
+  }
+
   private ResponseEntity<?> buildSuccessfulResponse(
       WebhookResult webhookResult, CorrelationResult.Success correlationResult) {
     ResponseEntity<?> response;
@@ -191,7 +433,10 @@ public class InboundWebhookRestController {
       WebhookResult webhookResult, WebhookResultContext processVariablesContext) {
     ResponseEntity<?> response;
     if (webhookResult.responseBodyExpression() != null) {
-      var httpResponseData = webhookResult.responseBodyExpression().apply(processVariablesContext);
+      var httpResponseData =
+          tracer.inSpan(
+              SPAN_RESPONSE_EXPRESSION,
+              () -> webhookResult.responseBodyExpression().apply(processVariablesContext));
       response = ResponseEntity.ok(httpResponseData);
     } else {
       response = ResponseEntity.ok().build();
@@ -232,7 +477,8 @@ public class InboundWebhookRestController {
               new MappedHttpRequest(
                   Optional.ofNullable(processedResult.request().body()).orElse(emptyMap()),
                   Optional.ofNullable(processedResult.request().headers()).orElse(emptyMap()),
-                  Optional.ofNullable(processedResult.request().params()).orElse(emptyMap())),
+                  Optional.ofNullable(processedResult.request().params()).orElse(emptyMap()),
+                  Optional.ofNullable(processedResult.request().pathParams()).orElse(emptyMap())),
               Optional.ofNullable(processedResult.connectorData()).orElse(emptyMap()));
     }
     return ctx;
@@ -255,7 +501,8 @@ public class InboundWebhookRestController {
               new MappedHttpRequest(
                   Optional.ofNullable(processedResult.request().body()).orElse(emptyMap()),
                   Optional.ofNullable(processedResult.request().headers()).orElse(emptyMap()),
-                  Optional.ofNullable(processedResult.request().params()).orElse(emptyMap())),
+                  Optional.ofNullable(processedResult.request().params()).orElse(emptyMap()),
+                  Optional.ofNullable(processedResult.request().pathParams()).orElse(emptyMap())),
               Optional.ofNullable(processedResult.connectorData()).orElse(emptyMap()),
               Optional.ofNullable(correlation).orElse(emptyMap()));
     }
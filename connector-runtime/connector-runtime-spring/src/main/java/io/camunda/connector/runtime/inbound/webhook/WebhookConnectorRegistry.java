@@ -17,27 +17,62 @@
 package io.camunda.connector.runtime.inbound.webhook;
 
 import io.camunda.connector.runtime.inbound.lifecycle.ActiveInboundConnector;
+import io.camunda.connector.runtime.inbound.webhook.WebhookPathRouter.Match;
 import io.camunda.connector.runtime.inbound.webhook.model.CommonWebhookProperties;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Keeps track of the active webhook connectors by their context path. Context paths can span
+ * multiple segments and contain template variables, e.g. <code>orders/{tenant}/events</code>, see
+ * {@link WebhookPathRouter}.
+ */
 public class WebhookConnectorRegistry {
 
   private final Logger LOG = LoggerFactory.getLogger(WebhookConnectorRegistry.class);
 
-  private final Map<String, ActiveInboundConnector> activeEndpointsByContext = new HashMap<>();
+  private final WebhookPathRouter<ActiveInboundConnector> activeEndpointsByContext =
+      new WebhookPathRouter<>();
+  private final List<BiConsumer<String, ActiveInboundConnector>> registrationListeners =
+      new CopyOnWriteArrayList<>();
+  private final List<Consumer<String>> deregistrationListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a listener that is called with the context path of every registered webhook. A listener
+   * can reject the registration by throwing an exception.
+   */
+  public void addRegistrationListener(BiConsumer<String, ActiveInboundConnector> listener) {
+    registrationListeners.add(listener);
+  }
+
+  /** Adds a listener that is called with the context path of every deregistered webhook. */
+  public void addDeregistrationListener(Consumer<String> listener) {
+    deregistrationListeners.add(listener);
+  }
 
   public Optional<ActiveInboundConnector> getWebhookConnectorByContextPath(String context) {
-    return Optional.ofNullable(activeEndpointsByContext.get(context));
+    return match(context).map(Match::value);
+  }
+
+  /**
+   * Finds the connector responsible for a request path.
+   *
+   * @return the matching connector along with its registered context path and the values of the
+   *     path's template variables
+   */
+  public Optional<Match<ActiveInboundConnector>> match(String path) {
+    return activeEndpointsByContext.match(path);
   }
 
   public void register(ActiveInboundConnector connector) {
     var properties = connector.context().bindProperties(CommonWebhookProperties.class);
     var context = properties.getContext();
-    var existingEndpoint = activeEndpointsByContext.putIfAbsent(context, connector);
+    var existingEndpoint = activeEndpointsByContext.addIfAbsent(context, connector);
     if (existingEndpoint != null) {
       var bpmnProcessId = existingEndpoint.context().getDefinition().bpmnProcessId();
       var elementId = existingEndpoint.context().getDefinition().elementId();
@@ -46,11 +81,19 @@ public class WebhookConnectorRegistry {
       LOG.debug(logMessage);
       throw new RuntimeException(logMessage);
     }
+    try {
+      registrationListeners.forEach(listener -> listener.accept(context, connector));
+    } catch (RuntimeException e) {
+      deregister(connector);
+      throw e;
+    }
   }
 
   public void deregister(ActiveInboundConnector connector) {
     var context = connector.context().bindProperties(CommonWebhookProperties.class).getContext();
-    activeEndpointsByContext.remove(context);
+    if (activeEndpointsByContext.remove(context)) {
+      deregistrationListeners.forEach(listener -> listener.accept(context));
+    }
   }
 
   public void reset() {
@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.api.inbound.InboundConnectorDefinition;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the delivery IDs of recently processed webhook requests. Senders like GitHub, Stripe or
+ * Slack retry a delivery when they don't get a timely answer; with deduplication, such retries are
+ * answered without correlating the same event a second time.
+ *
+ * <p>Deduplication is configured per connector with the {@link Keywords#DEDUPLICATION_KEY_KEYWORD}
+ * property. A value starting with <code>=</code> is a FEEL expression evaluated against the same
+ * variables as the activation condition, any other value is the name of the header holding the
+ * delivery ID.
+ *
+ * <p>A delivery ID is only remembered once its request was correlated successfully. While the first
+ * request is still being processed, a retry is reported as {@link Registration#IN_FLIGHT}.
+ *
+ * <p>Memory is bounded: entries expire after the configured time-to-live, and the oldest entries
+ * are evicted once the maximum number of entries is reached.
+ */
+public class WebhookDeduplicator {
+
+  public static final int DEFAULT_DUPLICATE_STATUS = 200;
+
+  /** Outcome of registering the delivery ID of a request. */
+  public enum Registration {
+    /** The delivery ID was not seen before, the request should be processed. */
+    NEW,
+    /** A request with the same delivery ID is being processed right now. */
+    IN_FLIGHT,
+    /** A request with the same delivery ID was already processed successfully. */
+    DUPLICATE
+  }
+
+  private static final WebhookDeduplicator DISABLED =
+      new WebhookDeduplicator(null, Duration.ZERO, 0);
+
+  private final FeelEngineWrapper feelEngine;
+  private final long ttlNanos;
+  private final int maxEntries;
+  private final LongSupplier clock;
+
+  // all entries share the same time-to-live, so insertion order is also expiry order
+  private final LinkedHashMap<Key, Long> expiries = new LinkedHashMap<>();
+  private final Set<Key> inFlight = new HashSet<>();
+  // validated when a webhook is registered, so that it isn't parsed for every duplicate
+  private final Map<String, Integer> duplicateStatuses = new ConcurrentHashMap<>();
+  private final AtomicLong duplicates = new AtomicLong();
+
+  private record Key(String contextPath, String deliveryId) {}
+
+  /**
+   * @param feelEngine evaluates deduplication keys given as FEEL expression
+   * @param ttl how long a delivery ID is remembered, zero to disable deduplication
+   * @param maxEntries the maximum number of remembered delivery IDs, zero to disable deduplication
+   */
+  public WebhookDeduplicator(
+      final FeelEngineWrapper feelEngine, final Duration ttl, final int maxEntries) {
+    this(feelEngine, ttl, maxEntries, System::nanoTime);
+  }
+
+  WebhookDeduplicator(
+      final FeelEngineWrapper feelEngine,
+      final Duration ttl,
+      final int maxEntries,
+      final LongSupplier clock) {
+    this.feelEngine = feelEngine;
+    this.ttlNanos = ttl.toNanos();
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  public static WebhookDeduplicator disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return ttlNanos > 0 && maxEntries > 0;
+  }
+
+  /**
+   * Extracts the delivery ID of a request.
+   *
+   * @return the delivery ID, or empty if deduplication is disabled, the connector doesn't define a
+   *     deduplication key or the request doesn't carry one
+   */
+  public Optional<String> deliveryId(
+      final InboundConnectorDefinition definition,
+      final WebhookProcessingPayload payload,
+      final Object variables) {
+    if (!isEnabled() || !(definition instanceof InboundConnectorDefinitionImpl impl)) {
+      return Optional.empty();
+    }
+    var key = impl.deduplicationKey();
+    if (key == null || key.isBlank()) {
+      return Optional.empty();
+    }
+    String deliveryId;
+    if (key.startsWith("=")) {
+      deliveryId = feelEngine.evaluate(key, String.class, variables);
+    } else {
+      deliveryId = header(payload.headers(), key.trim());
+    }
+    return Optional.ofNullable(deliveryId).filter(id -> !id.isBlank());
+  }
+
+  /**
+   * Validates and remembers the HTTP status to answer duplicates with, as configured by the {@link
+   * Keywords#DEDUPLICATION_RESPONSE_STATUS_KEYWORD} property. Called when a webhook is registered.
+   *
+   * @throws IllegalArgumentException if the configured status is not a valid HTTP status
+   */
+  public void activate(final String contextPath, final InboundConnectorDefinition definition) {
+    int status = parseDuplicateStatus(definition);
+    if (isEnabled()) {
+      duplicateStatuses.put(contextPath, status);
+    }
+  }
+
+  /** Forgets the state of a context path, called when its webhook is deregistered. */
+  public void deactivate(final String contextPath) {
+    duplicateStatuses.remove(contextPath);
+  }
+
+  /** Returns the HTTP status to answer duplicate requests of a context path with. */
+  public int duplicateStatus(final String contextPath) {
+    return duplicateStatuses.getOrDefault(contextPath, DEFAULT_DUPLICATE_STATUS);
+  }
+
+  static int parseDuplicateStatus(final InboundConnectorDefinition definition) {
+    if (!(definition instanceof InboundConnectorDefinitionImpl impl)
+        || impl.deduplicationResponseStatus() == null
+        || impl.deduplicationResponseStatus().isBlank()) {
+      return DEFAULT_DUPLICATE_STATUS;
+    }
+    var value = impl.deduplicationResponseStatus().trim();
+    try {
+      int status = Integer.parseInt(value);
+      if (status >= 100 && status <= 599) {
+        return status;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new IllegalArgumentException(
+        "Invalid "
+            + Keywords.DEDUPLICATION_RESPONSE_STATUS_KEYWORD
+            + " '"
+            + value
+            + "', expected an HTTP status code");
+  }
+
+  /**
+   * Registers the delivery ID of a request for the given context path. A {@link Registration#NEW}
+   * delivery ID must be {@link #complete completed} once its request is processed.
+   */
+  public Registration register(final String contextPath, final String deliveryId) {
+    var key = new Key(contextPath, deliveryId);
+    long now = clock.getAsLong();
+    synchronized (expiries) {
+      evictExpired(now);
+      if (expiries.containsKey(key)) {
+        duplicates.incrementAndGet();
+        return Registration.DUPLICATE;
+      }
+      if (!inFlight.add(key)) {
+        duplicates.incrementAndGet();
+        return Registration.IN_FLIGHT;
+      }
+      return Registration.NEW;
+    }
+  }
+
+  /**
+   * Completes the processing of a registered delivery ID. The delivery ID is only remembered if the
+   * request was correlated, so that a retry of a request that failed is processed again.
+   */
+  public void complete(
+      final String contextPath, final String deliveryId, final boolean correlated) {
+    var key = new Key(contextPath, deliveryId);
+    synchronized (expiries) {
+      inFlight.remove(key);
+      if (correlated) {
+        expiries.put(key, clock.getAsLong() + ttlNanos);
+        if (expiries.size() > maxEntries) {
+          var eldest = expiries.keySet().iterator();
+          eldest.next();
+          eldest.remove();
+        }
+      }
+    }
+  }
+
+  public int size() {
+    synchronized (expiries) {
+      evictExpired(clock.getAsLong());
+      return expiries.size();
+    }
+  }
+
+  public long getDuplicates() {
+    return duplicates.get();
+  }
+
+  private void evictExpired(final long now) {
+    Iterator<Long> iterator = expiries.values().iterator();
+    while (iterator.hasNext() && iterator.next() - now <= 0) {
+      iterator.remove();
+    }
+  }
+
+  private static String header(final Map<String, String> headers, final String name) {
+    if (headers == null) {
+      return null;
+    }
+    var value = headers.get(name);
+    if (value == null) {
+      for (var entry : headers.entrySet()) {
+        if (name.equalsIgnoreCase(entry.getKey())) {
+          return entry.getValue();
+        }
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes webhook request paths to registered webhooks. A route consists of path segments separated
+ * by <code>/</code>, and a segment in braces, e.g. <code>orders/{tenant}/events</code>, is a
+ * template variable that matches any single segment of a request path.
+ *
+ * <p>Routes are stored in a radix tree with path segments as edges, so the cost of a lookup depends
+ * on the number of segments of the requested path, but not on the number of registered routes.
+ * Static segments take precedence over template variables. Lookups don't lock and may run
+ * concurrently with modifications.
+ *
+ * @param <T> the type of the routed values
+ */
+public class WebhookPathRouter<T> {
+
+  /**
+   * A route matching a request path.
+   *
+   * @param route the route as registered
+   * @param value the value registered for the route
+   * @param pathVariables the values of the route's template variables
+   */
+  public record Match<T>(String route, T value, Map<String, String> pathVariables) {}
+
+  private record Route<T>(String template, List<String> variableNames, T value) {}
+
+  private static final class Node<T> {
+    private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+    private volatile Node<T> variableChild;
+    private volatile Route<T> route;
+
+    private boolean isEmpty() {
+      return route == null && variableChild == null && children.isEmpty();
+    }
+  }
+
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Registers a value for a route, unless a route of the same shape is already registered. Routes
+   * that only differ in the names of their template variables have the same shape.
+   *
+   * @return the value already registered for the route's shape, or null if the value was added
+   */
+  public synchronized T addIfAbsent(final String route, final T value) {
+    var node = root;
+    var variableNames = new ArrayList<String>();
+    for (var segment : segments(route)) {
+      var variableName = variableName(segment);
+      if (variableName != null) {
+        variableNames.add(variableName);
+        if (node.variableChild == null) {
+          node.variableChild = new Node<>();
+        }
+        node = node.variableChild;
+      } else {
+        node = node.children.computeIfAbsent(segment, s -> new Node<>());
+      }
+    }
+    if (node.route != null) {
+      return node.route.value();
+    }
+    node.route = new Route<>(route, List.copyOf(variableNames), value);
+    return null;
+  }
+
+  /**
+   * Removes a route, or a route of the same shape.
+   *
+   * @return true if a route was removed
+   */
+  public synchronized boolean remove(final String route) {
+    return remove(root, segments(route), 0);
+  }
+
+  public synchronized void clear() {
+    root.children.clear();
+    root.variableChild = null;
+    root.route = null;
+  }
+
+  /** Finds the route matching a request path. */
+  public Optional<Match<T>> match(final String path) {
+    var segments = segments(path);
+    var variableValues = new ArrayList<String>(2);
+    var route = match(root, segments, 0, variableValues);
+    if (route == null) {
+      return Optional.empty();
+    }
+    Map<String, String> pathVariables;
+    if (variableValues.isEmpty()) {
+      pathVariables = Map.of();
+    } else {
+      pathVariables = new LinkedHashMap<>();
+      for (int i = 0; i < variableValues.size(); i++) {
+        pathVariables.put(route.variableNames().get(i), variableValues.get(i));
+      }
+    }
+    return Optional.of(new Match<>(route.template(), route.value(), pathVariables));
+  }
+
+  private static <T> Route<T> match(
+      final Node<T> node,
+      final String[] segments,
+      final int index,
+      final List<String> variableValues) {
+    if (index == segments.length) {
+      return node.route;
+    }
+    var child = node.children.get(segments[index]);
+    if (child != null) {
+      var route = match(child, segments, index + 1, variableValues);
+      if (route != null) {
+        return route;
+      }
+    }
+    var variableChild = node.variableChild;
+    if (variableChild != null) {
+      variableValues.add(segments[index]);
+      var route = match(variableChild, segments, index + 1, variableValues);
+      if (route != null) {
+        return route;
+      }
+      variableValues.remove(variableValues.size() - 1);
+    }
+    return null;
+  }
+
+  private static <T> boolean remove(final Node<T> node, final String[] segments, final int index) {
+    if (index == segments.length) {
+      var removed = node.route != null;
+      node.route = null;
+      return removed;
+    }
+    var segment = segments[index];
+    if (variableName(segment) != null) {
+      var child = node.variableChild;
+      if (child == null || !remove(child, segments, index + 1)) {
+        return false;
+      }
+      if (child.isEmpty()) {
+        node.variableChild = null;
+      }
+    } else {
+      var child = node.children.get(segment);
+      if (child == null || !remove(child, segments, index + 1)) {
+        return false;
+      }
+      if (child.isEmpty()) {
+        node.children.remove(segment);
+      }
+    }
+    return true;
+  }
+
+  /** Splits a path into its segments, ignoring leading, trailing and repeated slashes. */
+  static String[] segments(final String path) {
+    if (path == null) {
+      return new String[0];
+    }
+    var segments = new ArrayList<String>();
+    int start = 0;
+    for (int i = 0; i <= path.length(); i++) {
+      if (i == path.length() || path.charAt(i) == '/') {
+        if (i > start) {
+          segments.add(path.substring(start, i));
+        }
+        start = i + 1;
+      }
+    }
+    return segments.toArray(String[]::new);
+  }
+
+  private static String variableName(final String segment) {
+    if (segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}")) {
+      return segment.substring(1, segment.length() - 1);
+    }
+    return null;
+  }
+}
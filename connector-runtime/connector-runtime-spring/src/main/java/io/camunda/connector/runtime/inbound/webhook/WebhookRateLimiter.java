@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.runtime.core.inbound.quota.RateLimits;
+import io.camunda.connector.runtime.core.inbound.quota.TokenBucket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits the rate of webhook requests, so that a single noisy caller can't take most of the
+ * runtime's capacity. Every context path has its own token bucket, and all requests additionally
+ * share a global bucket. A request is only processed if both buckets have a permit available.
+ *
+ * <p>Acquiring a permit is lock-free, see {@link TokenBucket}.
+ */
+public class WebhookRateLimiter {
+
+  public static final String SCOPE_GLOBAL = "global";
+  public static final String SCOPE_PATH = "path";
+
+  /** Notified about every request that is rejected because of a rate limit. */
+  @FunctionalInterface
+  public interface RejectionListener {
+    void onRejected(String scope, String contextPath);
+
+    /** Called when the bucket of a context path is removed, see {@link #remove(String)}. */
+    default void onRemoved(String contextPath) {}
+  }
+
+  private static final WebhookRateLimiter UNLIMITED = new WebhookRateLimiter(0, 0, Map.of(), 1);
+
+  private final RateLimits pathLimits;
+  private final Optional<TokenBucket> globalBucket;
+
+  private final Map<String, Optional<TokenBucket>> pathBuckets = new ConcurrentHashMap<>();
+  private volatile RejectionListener rejectionListener = (scope, contextPath) -> {};
+
+  /**
+   * @param globalRate requests per second allowed for all context paths together, zero or less for
+   *     no limit
+   * @param defaultPathRate requests per second allowed for context paths without a specific rate
+   * @param pathRates requests per second allowed for specific context paths
+   * @param burstSeconds the number of seconds worth of requests that can be processed at once
+   */
+  public WebhookRateLimiter(
+      final double globalRate,
+      final double defaultPathRate,
+      final Map<String, Double> pathRates,
+      final double burstSeconds) {
+    this.pathLimits = new RateLimits(defaultPathRate, pathRates, burstSeconds);
+    this.globalBucket = pathLimits.createBucket(globalRate);
+  }
+
+  public static WebhookRateLimiter unlimited() {
+    return UNLIMITED;
+  }
+
+  public void setRejectionListener(final RejectionListener rejectionListener) {
+    this.rejectionListener =
+        rejectionListener == null ? (scope, contextPath) -> {} : rejectionListener;
+  }
+
+  /**
+   * Tries to acquire a permit for a request. Should only be called for context paths of registered
+   * webhooks, as a bucket is kept for every context path.
+   *
+   * @return an empty optional if the request can be processed, otherwise the duration after which
+   *     the caller should retry
+   */
+  public Optional<Duration> tryAcquire(final String contextPath) {
+    var pathBucket = pathBuckets.get(contextPath);
+    if (pathBucket == null) {
+      pathBucket = pathBuckets.computeIfAbsent(contextPath, pathLimits::createBucket);
+    }
+
+    if (pathBucket.isPresent()) {
+      long waitNanos = pathBucket.get().tryAcquire();
+      if (waitNanos > 0) {
+        rejectionListener.onRejected(SCOPE_PATH, contextPath);
+        return Optional.of(Duration.ofNanos(waitNanos));
+      }
+    }
+    if (globalBucket.isPresent()) {
+      long waitNanos = globalBucket.get().tryAcquire();
+      if (waitNanos > 0) {
+        // the request is not processed, don't charge the context path for it
+        pathBucket.ifPresent(TokenBucket::release);
+        rejectionListener.onRejected(SCOPE_GLOBAL, contextPath);
+        return Optional.of(Duration.ofNanos(waitNanos));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Removes the bucket of a context path, called when its webhook is deregistered. */
+  public void remove(final String contextPath) {
+    if (pathBuckets.remove(contextPath) != null) {
+      rejectionListener.onRemoved(contextPath);
+    }
+  }
+
+  /** Number of context paths a bucket is kept for. */
+  public int getPathCount() {
+    return pathBuckets.size();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.runtime.inbound.webhook.model.WebhookRequestBody;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.http.server.ServletServerHttpRequest;
+
+/**
+ * Reads webhook request bodies. Small bodies are kept in memory, bodies above the spill threshold
+ * are written to a temporary file while reading, so that bursts of large uploads don't fill the
+ * heap. The maximum size is enforced while reading, independent of the announced content length.
+ */
+public class WebhookRequestBodyReader {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  private static final WebhookRequestBodyReader IN_MEMORY =
+      new WebhookRequestBodyReader(Long.MAX_VALUE, 0, null);
+
+  /** Thrown if a request body exceeds the maximum size. */
+  public static class BodyTooLargeException extends IOException {
+    public BodyTooLargeException(final long maxSize) {
+      super("Request body exceeds the maximum size of " + maxSize + " bytes");
+    }
+  }
+
+  private final long spillThreshold;
+  private final long maxSize;
+  private final Path tempDirectory;
+
+  /**
+   * @param spillThreshold bodies larger than this number of bytes are spilled to a temporary file
+   * @param maxSize maximum body size in bytes, zero or less for no limit
+   * @param tempDirectory directory for spilled bodies, null for the default temporary directory
+   */
+  public WebhookRequestBodyReader(
+      final long spillThreshold, final long maxSize, final Path tempDirectory) {
+    this.spillThreshold = spillThreshold;
+    this.maxSize = maxSize;
+    this.tempDirectory = tempDirectory;
+  }
+
+  public static WebhookRequestBodyReader inMemory() {
+    return IN_MEMORY;
+  }
+
+  public WebhookRequestBody read(final HttpServletRequest request) throws IOException {
+    if (maxSize > 0 && request.getContentLengthLong() > maxSize) {
+      throw new BodyTooLargeException(maxSize);
+    }
+    // unlike the servlet input stream, this also covers form parameters already parsed by the
+    // servlet container
+    try (var body = new ServletServerHttpRequest(request).getBody()) {
+      return read(body);
+    }
+  }
+
+  WebhookRequestBody read(final InputStream body) throws IOException {
+    var buffer = new ByteArrayOutputStream();
+    OutputStream out = buffer;
+    Path file = null;
+    long size = 0;
+    try {
+      var chunk = new byte[CHUNK_SIZE];
+      int read;
+      while ((read = body.read(chunk)) != -1) {
+        size += read;
+        if (maxSize > 0 && size > maxSize) {
+          throw new BodyTooLargeException(maxSize);
+        }
+        if (file == null && size > spillThreshold) {
+          file = createTempFile();
+          out = Files.newOutputStream(file);
+          buffer.writeTo(out);
+          buffer = null;
+        }
+        out.write(chunk, 0, read);
+      }
+      out.close();
+    } catch (IOException | RuntimeException e) {
+      out.close();
+      if (file != null) {
+        Files.deleteIfExists(file);
+      }
+      throw e;
+    }
+    return file == null
+        ? WebhookRequestBody.of(buffer.toByteArray())
+        : WebhookRequestBody.spilled(file, size);
+  }
+
+  private Path createTempFile() throws IOException {
+    return tempDirectory == null
+        ? Files.createTempFile("webhook-", ".body")
+        : Files.createTempFile(tempDirectory, "webhook-", ".body");
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.opentelemetry.context.Context;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs webhook requests and bounds the number of requests that are processed at the same time.
+ *
+ * <p>In synchronous mode, requests are processed on the calling servlet thread. In asynchronous
+ * mode, they are processed on virtual threads, so that slow correlation doesn't hold on to the
+ * servlet container's request threads. Requests over the in-flight limit are rejected right away,
+ * and requests still processing after the request timeout are answered with a timeout, while their
+ * processing continues and keeps holding its in-flight permit.
+ */
+public class WebhookRequestExecutor implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebhookRequestExecutor.class);
+
+  public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 1000;
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final boolean async;
+  private final int maxInFlightRequests;
+  private final Duration requestTimeout;
+  private final Semaphore permits;
+  private final ExecutorService executor;
+  private final AtomicLong rejectedRequests = new AtomicLong();
+
+  public WebhookRequestExecutor(final boolean async, final int maxInFlightRequests) {
+    this(async, maxInFlightRequests, DEFAULT_REQUEST_TIMEOUT);
+  }
+
+  public WebhookRequestExecutor(
+      final boolean async, final int maxInFlightRequests, final Duration requestTimeout) {
+    if (maxInFlightRequests < 1) {
+      throw new IllegalArgumentException(
+          "Max in-flight requests must be positive: " + maxInFlightRequests);
+    }
+    if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+      throw new IllegalArgumentException("Request timeout must be positive: " + requestTimeout);
+    }
+    this.async = async;
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.requestTimeout = requestTimeout;
+    this.permits = new Semaphore(maxInFlightRequests);
+    this.executor =
+        async
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webhook-", 0).factory())
+            : null;
+    LOG.info(
+        "Created webhook request executor (async: {}, max in-flight requests: {}, timeout: {})",
+        async,
+        maxInFlightRequests,
+        requestTimeout);
+  }
+
+  public static WebhookRequestExecutor synchronous() {
+    return new WebhookRequestExecutor(false, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  /**
+   * Processes a webhook request. The current (tracing) context is propagated to the processing
+   * thread.
+   *
+   * @return response of the request, already completed in synchronous mode, or completed
+   *     exceptionally with a {@link java.util.concurrent.TimeoutException} after the request
+   *     timeout in asynchronous mode
+   * @throws RejectedExecutionException if the in-flight limit is reached
+   */
+  public <T> CompletableFuture<T> submit(final Supplier<T> request) {
+    if (!permits.tryAcquire()) {
+      rejectedRequests.incrementAndGet();
+      throw new RejectedExecutionException(
+          "Too many webhook requests in flight (limit: " + maxInFlightRequests + ")");
+    }
+    // the permit is held until processing ends, also when the response timed out before
+    Supplier<T> releasing =
+        () -> {
+          try {
+            return request.get();
+          } finally {
+            permits.release();
+          }
+        };
+    if (!async) {
+      return CompletableFuture.completedFuture(releasing.get());
+    }
+    try {
+      return CompletableFuture.supplyAsync(releasing, Context.current().wrap(executor))
+          .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public boolean isAsync() {
+    return async;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public int getMaxInFlightRequests() {
+    return maxInFlightRequests;
+  }
+
+  /** Number of requests that are currently being processed. */
+  public int getInFlightRequests() {
+    return maxInFlightRequests - permits.availablePermits();
+  }
+
+  /** Number of requests that were rejected because the in-flight limit was reached. */
+  public long getRejectedRequests() {
+    return rejectedRequests.get();
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -17,7 +17,11 @@
 package io.camunda.connector.runtime.inbound.webhook.model;
 
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookRequestBodyParser;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -29,18 +33,41 @@ public class HttpServletRequestWebhookProcessingPayload implements WebhookProces
   private final String method;
   private final Map<String, String> headers;
   private final Map<String, String> params;
-  private final byte[] rawBody;
+  private final Map<String, String> pathParams;
+  private final WebhookRequestBody rawBody;
+
+  // parsed on first access and shared by all processing stages of the request
+  private volatile Map<String, Object> body;
+
+  public HttpServletRequestWebhookProcessingPayload(
+      final HttpServletRequest httpServletRequest,
+      final Map<String, String> params,
+      final Map<String, String> headers,
+      byte[] bodyAsByteArray) {
+    this(httpServletRequest, params, Map.of(), headers, bodyAsByteArray);
+  }
 
   public HttpServletRequestWebhookProcessingPayload(
       final HttpServletRequest httpServletRequest,
       final Map<String, String> params,
+      final Map<String, String> pathParams,
       final Map<String, String> headers,
       byte[] bodyAsByteArray) {
+    this(httpServletRequest, params, pathParams, headers, WebhookRequestBody.of(bodyAsByteArray));
+  }
+
+  public HttpServletRequestWebhookProcessingPayload(
+      final HttpServletRequest httpServletRequest,
+      final Map<String, String> params,
+      final Map<String, String> pathParams,
+      final Map<String, String> headers,
+      final WebhookRequestBody body) {
     this.requestURL = httpServletRequest.getRequestURL().toString();
     this.method = httpServletRequest.getMethod();
     this.headers = headers;
     this.params = params;
-    this.rawBody = bodyAsByteArray;
+    this.pathParams = pathParams;
+    this.rawBody = body;
   }
 
   @Override
@@ -63,9 +90,51 @@ public class HttpServletRequestWebhookProcessingPayload implements WebhookProces
     return Collections.unmodifiableMap(Optional.ofNullable(params).orElse(Collections.emptyMap()));
   }
 
+  @Override
+  public Map<String, String> pathParams() {
+    return Collections.unmodifiableMap(
+        Optional.ofNullable(pathParams).orElse(Collections.emptyMap()));
+  }
+
   @Override
   public byte[] rawBody() {
-    return rawBody != null ? Arrays.copyOf(rawBody, rawBody.length) : null;
+    if (rawBody.isSpilled()) {
+      // already a fresh copy of the file contents
+      return rawBody.bytes();
+    }
+    var bytes = rawBody.bytes();
+    return bytes != null ? Arrays.copyOf(bytes, bytes.length) : null;
+  }
+
+  @Override
+  public InputStream rawBodyStream() {
+    return rawBody.openStream();
+  }
+
+  @Override
+  public long rawBodySize() {
+    return rawBody.size();
+  }
+
+  @Override
+  public Map<String, Object> body() {
+    var parsedBody = body;
+    if (parsedBody == null) {
+      parsedBody = Collections.unmodifiableMap(parseBody());
+      body = parsedBody;
+    }
+    return parsedBody;
+  }
+
+  private Map<String, Object> parseBody() {
+    if (!rawBody.isSpilled()) {
+      return WebhookRequestBodyParser.parse(rawBody.bytes(), headers());
+    }
+    try (var stream = rawBody.openStream()) {
+      return WebhookRequestBodyParser.parse(stream, headers());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Override
@@ -81,8 +150,10 @@ public class HttpServletRequestWebhookProcessingPayload implements WebhookProces
         + headers
         + ", params="
         + params
+        + ", pathParams="
+        + pathParams
         + ", rawBody="
-        + Arrays.toString(rawBody)
+        + (rawBody.isSpilled() ? rawBody.size() + " bytes" : Arrays.toString(rawBody.bytes()))
         + "}";
   }
 }
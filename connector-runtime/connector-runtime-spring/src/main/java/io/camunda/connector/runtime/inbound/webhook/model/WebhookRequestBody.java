@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The body of a webhook request, either held in memory or spilled to a temporary file if it is
+ * large. Closing the body deletes the temporary file.
+ */
+public final class WebhookRequestBody implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebhookRequestBody.class);
+
+  private static final WebhookRequestBody EMPTY = new WebhookRequestBody(null, null, 0);
+
+  private final byte[] bytes;
+  private final Path file;
+  private final long size;
+
+  private WebhookRequestBody(final byte[] bytes, final Path file, final long size) {
+    this.bytes = bytes;
+    this.file = file;
+    this.size = size;
+  }
+
+  /** Wraps a body held in memory, null or an empty array for requests without body. */
+  public static WebhookRequestBody of(final byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return EMPTY;
+    }
+    return new WebhookRequestBody(bytes, null, bytes.length);
+  }
+
+  /** Wraps a body spilled to a temporary file, which is deleted when the body is closed. */
+  public static WebhookRequestBody spilled(final Path file, final long size) {
+    return new WebhookRequestBody(null, file, size);
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean isSpilled() {
+    return file != null;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return the body as byte array, read from the temporary file if the body was spilled, or null
+   *     if the request has no body. The array must not be modified.
+   */
+  public byte[] bytes() {
+    if (file == null) {
+      return bytes;
+    }
+    try {
+      return Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Opens a new stream over the body, the caller must close it. */
+  public InputStream openStream() {
+    if (file == null) {
+      return bytes == null ? InputStream.nullInputStream() : new ByteArrayInputStream(bytes);
+    }
+    try {
+      return Files.newInputStream(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOG.warn("Failed to delete webhook body file {}", file, e);
+      }
+    }
+  }
+}
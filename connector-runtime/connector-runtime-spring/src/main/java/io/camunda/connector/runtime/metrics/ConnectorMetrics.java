@@ -46,5 +46,42 @@ public class ConnectorMetrics {
     public static final String ACTION_ACTIVATION_CONDITION_FAILED = "activation-condition-failed";
     public static final String ACTION_CORRELATED = "correlated";
     public static final String ACTION_CORRELATION_FAILED = "correlation-failed";
+    public static final String ACTION_THROTTLED = "throttled";
+
+    public static final String METRIC_NAME_EXECUTOR_ACTIVE =
+        "camunda.connector.inbound.executor.active";
+    public static final String METRIC_NAME_EXECUTOR_QUEUED =
+        "camunda.connector.inbound.executor.queued";
+    public static final String METRIC_NAME_EXECUTOR_LOOPS =
+        "camunda.connector.inbound.executor.loops";
+    public static final String METRIC_NAME_EXECUTOR_QUEUE_TIME =
+        "camunda.connector.inbound.executor.queue-time";
+    public static final String TAG_EXECUTOR_POOL = "pool";
+
+    public static final String METRIC_NAME_WEBHOOK_IN_FLIGHT =
+        "camunda.connector.inbound.webhook.in-flight";
+    public static final String METRIC_NAME_WEBHOOK_REJECTED =
+        "camunda.connector.inbound.webhook.rejected";
+    public static final String METRIC_NAME_WEBHOOK_RATE_LIMITED =
+        "camunda.connector.inbound.webhook.rate-limited";
+    public static final String TAG_SCOPE = "scope";
+    public static final String TAG_CONTEXT_PATH = "context";
+    public static final String METRIC_NAME_WEBHOOK_DUPLICATES =
+        "camunda.connector.inbound.webhook.duplicates";
+    public static final String METRIC_NAME_WEBHOOK_DEDUPLICATION_ENTRIES =
+        "camunda.connector.inbound.webhook.deduplication.entries";
+
+    public static final String METRIC_NAME_EVENT_LATENCY =
+        "camunda.connector.inbound.event-latency";
+    public static final String METRIC_NAME_CORRELATION_TIME =
+        "camunda.connector.inbound.correlation-time";
+
+    // gauges registered by inbound connectors are prefixed, e.g. "kafka.consumer-lag"
+    public static final String METRIC_PREFIX_CONNECTOR_GAUGES = "camunda.connector.inbound.";
+
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_TENANT = "tenant";
+    public static final String TAG_PROCESS = "process";
+    public static final String TAG_ELEMENT = "element";
   }
 }
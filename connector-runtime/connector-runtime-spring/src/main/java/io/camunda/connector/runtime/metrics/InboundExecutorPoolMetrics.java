@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.inbound.executor.InboundExecutorPool;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/** Exposes the utilization of the {@link InboundExecutorPool} shared by inbound Connectors. */
+public class InboundExecutorPoolMetrics implements MeterBinder {
+
+  private static final String POOL_NAME = "inbound";
+
+  private final InboundExecutorPool pool;
+
+  public InboundExecutorPoolMetrics(final InboundExecutorPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    Gauge.builder(Inbound.METRIC_NAME_EXECUTOR_ACTIVE, pool, InboundExecutorPool::getActiveTasks)
+        .description("Number of inbound Connector tasks running on the shared executor")
+        .tag(Inbound.TAG_EXECUTOR_POOL, POOL_NAME)
+        .register(registry);
+    Gauge.builder(Inbound.METRIC_NAME_EXECUTOR_QUEUED, pool, InboundExecutorPool::getQueuedTasks)
+        .description(
+            "Number of inbound Connector tasks waiting for a worker of the shared executor")
+        .tag(Inbound.TAG_EXECUTOR_POOL, POOL_NAME)
+        .register(registry);
+    Gauge.builder(Inbound.METRIC_NAME_EXECUTOR_LOOPS, pool, InboundExecutorPool::getRunningLoops)
+        .description("Number of inbound Connector consumer loops running outside of the limit")
+        .tag(Inbound.TAG_EXECUTOR_POOL, POOL_NAME)
+        .register(registry);
+    Timer queueTime =
+        Timer.builder(Inbound.METRIC_NAME_EXECUTOR_QUEUE_TIME)
+            .description("Time inbound Connector tasks spend waiting for a worker")
+            .tag(Inbound.TAG_EXECUTOR_POOL, POOL_NAME)
+            .register(registry);
+    pool.setQueueTimeListener(queueTime::record);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.api.metrics.ConnectorMeterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registers the meters Connectors bind through {@link
+ * io.camunda.connector.api.metrics.ConnectorMeters} with the runtime's {@link MeterRegistry}, next
+ * to the runtime's own metrics.
+ */
+public class MicrometerConnectorMeterRegistry implements ConnectorMeterRegistry {
+
+  private final MeterRegistry registry;
+  // FunctionCounter only holds a weak reference to its callback, and Connectors don't keep theirs
+  private final List<DoubleSupplier> counters = new CopyOnWriteArrayList<>();
+
+  public MicrometerConnectorMeterRegistry(final MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void gauge(
+      final String name,
+      final String description,
+      final String unit,
+      final Map<String, String> tags,
+      final DoubleSupplier value) {
+    Gauge.builder(name, value, DoubleSupplier::getAsDouble)
+        .description(description)
+        .baseUnit(unit)
+        .tags(toTags(tags))
+        // Connectors don't keep a reference to the callback
+        .strongReference(true)
+        .register(registry);
+  }
+
+  @Override
+  public void counter(
+      final String name,
+      final String description,
+      final String unit,
+      final Map<String, String> tags,
+      final DoubleSupplier value) {
+    counters.add(value);
+    FunctionCounter.builder(name, value, DoubleSupplier::getAsDouble)
+        .description(description)
+        .baseUnit(unit)
+        .tags(toTags(tags))
+        .register(registry);
+  }
+
+  private static Iterable<Tag> toTags(final Map<String, String> tags) {
+    return tags.entrySet().stream().map(tag -> Tag.of(tag.getKey(), tag.getValue())).toList();
+  }
+}
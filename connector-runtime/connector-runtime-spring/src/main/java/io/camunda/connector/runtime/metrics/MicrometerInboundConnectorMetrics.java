@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer based metrics of a single inbound Connector. All meters registered through this
+ * instance are released when it is closed.
+ */
+public class MicrometerInboundConnectorMetrics implements InboundConnectorMetrics, AutoCloseable {
+
+  private final MicrometerInboundConnectorMetricsFactory meters;
+  private final Tags tags;
+  private final Timer eventLatency;
+  private final List<Runnable> releases = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  MicrometerInboundConnectorMetrics(
+      final MicrometerInboundConnectorMetricsFactory meters,
+      final InboundConnectorDefinitionImpl definition) {
+    this.meters = meters;
+    this.tags =
+        Tags.of(
+            Inbound.TAG_TYPE, Objects.toString(definition.type(), ""),
+            Inbound.TAG_TENANT, Objects.toString(definition.tenantId(), ""),
+            Inbound.TAG_PROCESS, Objects.toString(definition.bpmnProcessId(), ""),
+            Inbound.TAG_ELEMENT, Objects.toString(definition.elementId(), ""));
+    this.eventLatency =
+        meters.acquireTimer(
+            Inbound.METRIC_NAME_EVENT_LATENCY,
+            "Time from the creation of an event in the source system to correlation",
+            tags);
+    releases.add(() -> meters.releaseTimer(eventLatency));
+  }
+
+  @Override
+  public void recordEventLatency(final Instant eventTimestamp) {
+    var latency = Duration.between(eventTimestamp, Instant.now());
+    // clocks of the source system may be ahead of ours
+    eventLatency.record(latency.isNegative() ? Duration.ZERO : latency);
+  }
+
+  @Override
+  public void registerGauge(
+      final String name, final Map<String, String> tags, final Supplier<Number> value) {
+    if (closed.get()) {
+      return;
+    }
+    var gaugeTags = this.tags;
+    for (var tag : tags.entrySet()) {
+      gaugeTags = gaugeTags.and(tag.getKey(), tag.getValue());
+    }
+    var id = meters.acquireGauge(Inbound.METRIC_PREFIX_CONNECTOR_GAUGES + name, gaugeTags, value);
+    releases.add(() -> meters.releaseGauge(id, value));
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      releases.forEach(Runnable::run);
+      releases.clear();
+    }
+  }
+}
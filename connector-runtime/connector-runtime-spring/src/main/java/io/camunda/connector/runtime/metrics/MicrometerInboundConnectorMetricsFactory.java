@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorMetricsFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Creates the Micrometer based metrics of inbound Connectors. Several Connectors may register
+ * meters with the same id (e.g. the same element activated for two process versions), so meters are
+ * reference counted and removed from the registry when the last Connector using them is closed.
+ */
+public class MicrometerInboundConnectorMetricsFactory implements InboundConnectorMetricsFactory {
+
+  private final MeterRegistry registry;
+  private final Map<Meter.Id, SharedTimer> timers = new HashMap<>();
+  private final Map<Meter.Id, SharedGauge> gauges = new HashMap<>();
+
+  public MicrometerInboundConnectorMetricsFactory(final MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public MicrometerInboundConnectorMetrics create(final InboundConnectorDefinitionImpl definition) {
+    return new MicrometerInboundConnectorMetrics(this, definition);
+  }
+
+  synchronized Timer acquireTimer(final String name, final String description, final Tags tags) {
+    var timer = Timer.builder(name).description(description).tags(tags).register(registry);
+    timers.computeIfAbsent(timer.getId(), id -> new SharedTimer(timer)).references++;
+    return timer;
+  }
+
+  synchronized void releaseTimer(final Timer timer) {
+    var shared = timers.get(timer.getId());
+    if (shared != null && --shared.references == 0) {
+      timers.remove(timer.getId());
+      registry.remove(shared.timer);
+    }
+  }
+
+  /** Registers the gauge, or adds a value to the existing gauge; the latest value is reported. */
+  synchronized Meter.Id acquireGauge(
+      final String name, final Tags tags, final Supplier<Number> value) {
+    var id = new Meter.Id(name, tags, null, null, Meter.Type.GAUGE);
+    gauges
+        .computeIfAbsent(
+            id,
+            key -> {
+              var values = new CopyOnWriteArrayList<Supplier<Number>>();
+              var gauge =
+                  Gauge.builder(name, values, MicrometerInboundConnectorMetricsFactory::latest)
+                      .tags(tags)
+                      .strongReference(true)
+                      .register(registry);
+              return new SharedGauge(gauge, values);
+            })
+        .values
+        .add(value);
+    return id;
+  }
+
+  synchronized void releaseGauge(final Meter.Id id, final Supplier<Number> value) {
+    var shared = gauges.get(id);
+    if (shared != null && shared.values.remove(value) && shared.values.isEmpty()) {
+      gauges.remove(id);
+      registry.remove(shared.gauge);
+    }
+  }
+
+  private static double latest(final List<Supplier<Number>> values) {
+    Supplier<Number> latest = null;
+    for (var value : values) {
+      latest = value;
+    }
+    var number = latest == null ? null : latest.get();
+    return number == null ? Double.NaN : number.doubleValue();
+  }
+
+  private static final class SharedTimer {
+    private final Timer timer;
+    private int references;
+
+    private SharedTimer(final Timer timer) {
+      this.timer = timer;
+    }
+  }
+
+  private record SharedGauge(Gauge gauge, List<Supplier<Number>> values) {}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.inbound.webhook.WebhookRateLimiter;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Counts webhook requests rejected by the {@link WebhookRateLimiter}, per limit and path. */
+public class WebhookRateLimiterMetrics implements MeterBinder {
+
+  private final WebhookRateLimiter rateLimiter;
+
+  public WebhookRateLimiterMetrics(final WebhookRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    rateLimiter.setRejectionListener(new CountingRejectionListener(registry));
+  }
+
+  private static final class CountingRejectionListener
+      implements WebhookRateLimiter.RejectionListener {
+
+    private final MeterRegistry registry;
+    // counters by context path and scope, context paths are bounded by the active webhooks
+    private final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    private CountingRejectionListener(final MeterRegistry registry) {
+      this.registry = registry;
+    }
+
+    @Override
+    public void onRejected(final String scope, final String contextPath) {
+      counters
+          .computeIfAbsent(contextPath, ignored -> new ConcurrentHashMap<>())
+          .computeIfAbsent(scope, ignored -> register(scope, contextPath))
+          .increment();
+    }
+
+    @Override
+    public void onRemoved(final String contextPath) {
+      var removed = counters.remove(contextPath);
+      if (removed != null) {
+        removed.values().forEach(registry::remove);
+      }
+    }
+
+    private Counter register(final String scope, final String contextPath) {
+      return Counter.builder(Inbound.METRIC_NAME_WEBHOOK_RATE_LIMITED)
+          .description("Number of webhook requests rejected because of a rate limit")
+          .tag(Inbound.TAG_SCOPE, scope)
+          .tag(Inbound.TAG_CONTEXT_PATH, contextPath)
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestExecutor;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/** Exposes the webhook requests in flight and those rejected because of the in-flight limit. */
+public class WebhookRequestExecutorMetrics implements MeterBinder {
+
+  private final WebhookRequestExecutor executor;
+
+  public WebhookRequestExecutorMetrics(final WebhookRequestExecutor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    Gauge.builder(
+            Inbound.METRIC_NAME_WEBHOOK_IN_FLIGHT,
+            executor,
+            WebhookRequestExecutor::getInFlightRequests)
+        .description("Number of webhook requests that are currently being processed")
+        .register(registry);
+    FunctionCounter.builder(
+            Inbound.METRIC_NAME_WEBHOOK_REJECTED,
+            executor,
+            WebhookRequestExecutor::getRejectedRequests)
+        .description("Number of webhook requests rejected because of the in-flight limit")
+        .register(registry);
+  }
+}
@@ -24,6 +24,7 @@ import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.outbound.ConnectorJobHandler;
 import io.camunda.connector.runtime.core.outbound.ConnectorResult;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics.Outbound;
 import io.camunda.zeebe.client.api.command.FinalCommandStep;
@@ -55,7 +56,32 @@ public class SpringConnectorJobHandler extends ConnectorJobHandler {
       ObjectMapper objectMapper,
       OutboundConnectorFunction connectorFunction,
       OutboundConnectorConfiguration connectorConfiguration) {
-    super(connectorFunction, secretProviderAggregator, validationProvider, objectMapper);
+    this(
+        metricsRecorder,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        objectMapper,
+        connectorFunction,
+        connectorConfiguration,
+        ConnectorTracer.noop());
+  }
+
+  public SpringConnectorJobHandler(
+      MetricsRecorder metricsRecorder,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      ObjectMapper objectMapper,
+      OutboundConnectorFunction connectorFunction,
+      OutboundConnectorConfiguration connectorConfiguration,
+      ConnectorTracer connectorTracer) {
+    super(
+        connectorFunction,
+        secretProviderAggregator,
+        validationProvider,
+        objectMapper,
+        connectorTracer);
     this.metricsRecorder = metricsRecorder;
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
     this.connectorConfiguration = connectorConfiguration;
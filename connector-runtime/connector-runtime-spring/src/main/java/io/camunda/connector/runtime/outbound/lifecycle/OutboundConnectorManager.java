@@ -22,6 +22,7 @@ import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.outbound.jobhandling.SpringConnectorJobHandler;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
@@ -44,6 +45,7 @@ public class OutboundConnectorManager {
   private final ValidationProvider validationProvider;
   private final ObjectMapper objectMapper;
   private final MetricsRecorder metricsRecorder;
+  private final ConnectorTracer connectorTracer;
 
   public OutboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -53,6 +55,26 @@ public class OutboundConnectorManager {
       ValidationProvider validationProvider,
       ObjectMapper objectMapper,
       MetricsRecorder metricsRecorder) {
+    this(
+        jobWorkerManager,
+        connectorFactory,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        objectMapper,
+        metricsRecorder,
+        ConnectorTracer.noop());
+  }
+
+  public OutboundConnectorManager(
+      JobWorkerManager jobWorkerManager,
+      OutboundConnectorFactory connectorFactory,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      ObjectMapper objectMapper,
+      MetricsRecorder metricsRecorder,
+      ConnectorTracer connectorTracer) {
     this.jobWorkerManager = jobWorkerManager;
     this.connectorFactory = connectorFactory;
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
@@ -60,6 +82,7 @@ public class OutboundConnectorManager {
     this.validationProvider = validationProvider;
     this.objectMapper = objectMapper;
     this.metricsRecorder = metricsRecorder;
+    this.connectorTracer = connectorTracer;
   }
 
   public void start(final ZeebeClient client) {
@@ -98,7 +121,8 @@ public class OutboundConnectorManager {
             validationProvider,
             objectMapper,
             connectorFunction,
-            connector);
+            connector,
+            connectorTracer);
 
     jobWorkerManager.openWorker(client, zeebeWorkerValue, connectorJobHandler);
   }
@@ -28,6 +28,7 @@ import io.camunda.operate.model.ProcessDefinition;
 import io.camunda.zeebe.spring.client.metrics.DefaultNoopMetricsRecorder;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,8 +75,8 @@ public class ProcessDefinitionImporterTest {
 
     // then
     verify(manager, times(1)).handleNewProcessDefinitions(new HashSet<>(first));
-    verify(manager, times(1)).handleDeletedProcessDefinitions(Set.of(first.get(0).getVersion()));
-    verify(manager, times(1)).handleNewProcessDefinitions(Set.of(second.get(1)));
+    verify(manager, times(1))
+        .handleUpgradedProcessDefinitions(Map.of(first.get(0).getKey(), second.get(1)));
 
     // verify old version was deregistered and no action is taken on the next polling iteration
     importer.handleImportedDefinitions(second);
@@ -128,8 +129,9 @@ public class ProcessDefinitionImporterTest {
 
     // then
     verify(manager, times(1)).handleNewProcessDefinitions(Set.of(first.get(1)));
-    verify(manager, times(1)).handleDeletedProcessDefinitions(Set.of(first.get(1).getVersion()));
-    verify(manager, times(1)).handleNewProcessDefinitions(new HashSet<>(second));
+    verify(manager, times(1))
+        .handleUpgradedProcessDefinitions(Map.of(first.get(1).getKey(), second.get(0)));
+    verifyNoMoreInteractions(manager);
   }
 
   private ProcessDefinition getProcessDefinition(String bpmnProcessId, long version, long key) {
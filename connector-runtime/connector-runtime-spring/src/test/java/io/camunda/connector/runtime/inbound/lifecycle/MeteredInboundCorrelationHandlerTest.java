@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.inbound.CorrelationResult.Failure.Throttled;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import io.camunda.connector.runtime.core.inbound.quota.InboundQuotaManager;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.spring.client.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class MeteredInboundCorrelationHandlerTest {
+
+  private static final String TYPE = "io.camunda:test:1";
+
+  private final MetricsRecorder metricsRecorder = mock(MetricsRecorder.class);
+  private final InboundQuotaManager quotaManager = mock(InboundQuotaManager.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MeteredInboundCorrelationHandler handler =
+      new MeteredInboundCorrelationHandler(
+          mock(ZeebeClient.class),
+          new FeelEngineWrapper(),
+          metricsRecorder,
+          quotaManager,
+          ConnectorTracer.noop(),
+          meterRegistry);
+  private final InboundConnectorDefinitionImpl definition =
+      new InboundConnectorDefinitionImpl(
+          Map.of(Keywords.INBOUND_TYPE_KEYWORD, TYPE),
+          new StartEventCorrelationPoint("process", 1, 1L),
+          "process",
+          1,
+          1L,
+          "element",
+          "tenant");
+
+  @Test
+  void throttledEvent_isCountedOnce() {
+    // given
+    when(quotaManager.tryAcquire(any(), any())).thenReturn(Optional.of(Duration.ofSeconds(1)));
+
+    // when
+    var first = handler.correlate(definition, Map.of());
+    var retry = handler.retryThrottled(definition, Map.of());
+
+    // then
+    assertThat(first).isInstanceOf(Throttled.class);
+    assertThat(retry).isInstanceOf(Throttled.class);
+    verify(metricsRecorder, times(1))
+        .increase(Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_TRIGGERED, TYPE);
+    verify(metricsRecorder, times(1))
+        .increase(Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_THROTTLED, TYPE);
+    verify(metricsRecorder, never())
+        .increase(Inbound.METRIC_NAME_TRIGGERS, Inbound.ACTION_CORRELATED, TYPE);
+    assertThat(
+            meterRegistry
+                .get(Inbound.METRIC_NAME_CORRELATION_TIME)
+                .tag(Inbound.TAG_TYPE, TYPE)
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+}
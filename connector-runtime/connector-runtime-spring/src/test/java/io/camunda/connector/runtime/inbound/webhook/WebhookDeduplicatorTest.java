@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import io.camunda.connector.runtime.inbound.webhook.WebhookDeduplicator.Registration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class WebhookDeduplicatorTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private WebhookDeduplicator deduplicator(Duration ttl, int maxEntries) {
+    return new WebhookDeduplicator(new FeelEngineWrapper(), ttl, maxEntries, clock::get);
+  }
+
+  @Test
+  void shouldDetectDuplicatesPerContextPath() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+
+    // when
+    var first = deduplicator.register("myPath", "delivery-1");
+    deduplicator.complete("myPath", "delivery-1", true);
+    var duplicate = deduplicator.register("myPath", "delivery-1");
+    var otherPath = deduplicator.register("otherPath", "delivery-1");
+
+    // then
+    assertThat(first).isEqualTo(Registration.NEW);
+    assertThat(duplicate).isEqualTo(Registration.DUPLICATE);
+    assertThat(otherPath).isEqualTo(Registration.NEW);
+    assertThat(deduplicator.getDuplicates()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReportInFlightDelivery_UntilCompleted() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+    deduplicator.register("myPath", "delivery-1");
+
+    // when
+    var whileProcessing = deduplicator.register("myPath", "delivery-1");
+    deduplicator.complete("myPath", "delivery-1", true);
+    var afterProcessing = deduplicator.register("myPath", "delivery-1");
+
+    // then
+    assertThat(whileProcessing).isEqualTo(Registration.IN_FLIGHT);
+    assertThat(afterProcessing).isEqualTo(Registration.DUPLICATE);
+  }
+
+  @Test
+  void shouldForgetDeliveryIds_AfterTtl() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+    register(deduplicator, "myPath", "delivery-1");
+
+    // when
+    clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+    // then
+    assertThat(deduplicator.size()).isZero();
+    assertThat(deduplicator.register("myPath", "delivery-1")).isEqualTo(Registration.NEW);
+  }
+
+  @Test
+  void shouldEvictOldestEntries_WhenFull() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 2);
+
+    // when
+    register(deduplicator, "myPath", "delivery-1");
+    register(deduplicator, "myPath", "delivery-2");
+    register(deduplicator, "myPath", "delivery-3");
+
+    // then
+    assertThat(deduplicator.size()).isEqualTo(2);
+    assertThat(deduplicator.register("myPath", "delivery-3")).isEqualTo(Registration.DUPLICATE);
+    assertThat(deduplicator.register("myPath", "delivery-1")).isEqualTo(Registration.NEW);
+  }
+
+  @Test
+  void shouldAcceptDeliveryAgain_WhenNotCorrelated() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+    deduplicator.register("myPath", "delivery-1");
+
+    // when
+    deduplicator.complete("myPath", "delivery-1", false);
+
+    // then
+    assertThat(deduplicator.register("myPath", "delivery-1")).isEqualTo(Registration.NEW);
+  }
+
+  @Test
+  void shouldExtractDeliveryId_FromHeaderIgnoringCase() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+    var payload = mock(WebhookProcessingPayload.class);
+    when(payload.headers()).thenReturn(Map.of("x-github-delivery", "delivery-1"));
+
+    // when
+    var deliveryId =
+        deduplicator.deliveryId(definition("X-GitHub-Delivery", null), payload, Map.of());
+
+    // then
+    assertThat(deliveryId).contains("delivery-1");
+  }
+
+  @Test
+  void shouldExtractDeliveryId_FromFeelExpression() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+    var payload = mock(WebhookProcessingPayload.class);
+    var variables = Map.of("request", Map.of("body", Map.of("id", "evt_1")));
+
+    // when
+    var deliveryId =
+        deduplicator.deliveryId(definition("=request.body.id", null), payload, variables);
+
+    // then
+    assertThat(deliveryId).contains("evt_1");
+  }
+
+  @Test
+  void shouldNotExtractDeliveryId_WhenDisabledOrNotConfigured() {
+    // given
+    var payload = mock(WebhookProcessingPayload.class);
+    when(payload.headers()).thenReturn(Map.of("x-github-delivery", "delivery-1"));
+
+    // when
+    var disabled =
+        WebhookDeduplicator.disabled()
+            .deliveryId(definition("X-GitHub-Delivery", null), payload, Map.of());
+    var notConfigured =
+        deduplicator(Duration.ofMinutes(1), 100)
+            .deliveryId(definition(null, null), payload, Map.of());
+
+    // then
+    assertThat(disabled).isEmpty();
+    assertThat(notConfigured).isEmpty();
+  }
+
+  @Test
+  void shouldUseDuplicateStatus_ValidatedOnActivation() {
+    // given
+    var deduplicator = deduplicator(Duration.ofMinutes(1), 100);
+
+    // when
+    deduplicator.activate("myPath", definition("X-Id", "409"));
+    deduplicator.activate("otherPath", definition("X-Id", null));
+
+    // then
+    assertThat(deduplicator.duplicateStatus("myPath")).isEqualTo(409);
+    assertThat(deduplicator.duplicateStatus("otherPath")).isEqualTo(200);
+    assertThatThrownBy(() -> deduplicator.activate("invalid", definition("X-Id", "conflict")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> deduplicator.activate("invalid", definition("X-Id", "99")))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    deduplicator.deactivate("myPath");
+    assertThat(deduplicator.duplicateStatus("myPath")).isEqualTo(200);
+  }
+
+  private static void register(
+      WebhookDeduplicator deduplicator, String contextPath, String deliveryId) {
+    deduplicator.register(contextPath, deliveryId);
+    deduplicator.complete(contextPath, deliveryId, true);
+  }
+
+  private static InboundConnectorDefinitionImpl definition(
+      String deduplicationKey, String responseStatus) {
+    var properties = new HashMap<String, String>();
+    properties.put("inbound.type", "io.camunda:webhook:1");
+    if (deduplicationKey != null) {
+      properties.put("deduplicationKey", deduplicationKey);
+    }
+    if (responseStatus != null) {
+      properties.put("deduplicationResponseStatus", responseStatus);
+    }
+    return new InboundConnectorDefinitionImpl(
+        properties,
+        new StartEventCorrelationPoint("process", 1, 1L),
+        "process",
+        1,
+        1L,
+        "element",
+        "tenant");
+  }
+}
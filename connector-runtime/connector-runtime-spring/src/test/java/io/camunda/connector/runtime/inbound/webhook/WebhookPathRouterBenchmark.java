@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link WebhookPathRouter} lookups for a growing number of registered routes. Half of the
+ * routes are single-segment context paths, the other half are templates like <code>
+ * orders-42/{tenant}/events</code>. The lookup time should stay the same for every number of
+ * routes.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebhookPathRouterBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int routes;
+
+  private final WebhookPathRouter<Integer> router = new WebhookPathRouter<>();
+  private String staticPath;
+  private String templatePath;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < routes / 2; i++) {
+      router.addIfAbsent("webhook-" + i, i);
+      router.addIfAbsent("orders-" + i + "/{tenant}/events", i);
+    }
+    staticPath = "/webhook-" + (routes / 4);
+    templatePath = "/orders-" + (routes / 4) + "/acme/events";
+  }
+
+  @Benchmark
+  public Object matchStaticPath() {
+    return router.match(staticPath);
+  }
+
+  @Benchmark
+  public Object matchTemplatePath() {
+    return router.match(templatePath);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(WebhookPathRouterBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
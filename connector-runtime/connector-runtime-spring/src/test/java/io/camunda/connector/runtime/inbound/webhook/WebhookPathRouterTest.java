@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+public class WebhookPathRouterTest {
+
+  private final WebhookPathRouter<String> router = new WebhookPathRouter<>();
+
+  @Test
+  void shouldMatchSingleSegmentContextPath() {
+    // given
+    router.addIfAbsent("myPath", "A");
+
+    // when
+    var match = router.match("/myPath");
+
+    // then
+    assertThat(match).isPresent();
+    assertThat(match.get().route()).isEqualTo("myPath");
+    assertThat(match.get().value()).isEqualTo("A");
+    assertThat(match.get().pathVariables()).isEmpty();
+    assertThat(router.match("myPath/")).isPresent();
+    assertThat(router.match("other")).isEmpty();
+  }
+
+  @Test
+  void shouldMatchTemplateAndExtractVariables() {
+    // given
+    router.addIfAbsent("orders/{tenant}/events/{type}", "A");
+
+    // when
+    var match = router.match("orders/acme/events/created");
+
+    // then
+    assertThat(match).isPresent();
+    assertThat(match.get().route()).isEqualTo("orders/{tenant}/events/{type}");
+    assertThat(match.get().pathVariables())
+        .containsExactly(entry("tenant", "acme"), entry("type", "created"));
+    assertThat(router.match("orders/acme/events")).isEmpty();
+    assertThat(router.match("orders/acme/events/created/more")).isEmpty();
+  }
+
+  @Test
+  void shouldPreferStaticSegments_AndFallBackToTemplate() {
+    // given
+    router.addIfAbsent("orders/{tenant}/events", "template");
+    router.addIfAbsent("orders/special/audit", "static");
+
+    // when
+    var special = router.match("orders/special/audit");
+    var fallback = router.match("orders/special/events");
+
+    // then
+    assertThat(special.map(WebhookPathRouter.Match::value)).contains("static");
+    assertThat(fallback.map(WebhookPathRouter.Match::value)).contains("template");
+    assertThat(fallback.get().pathVariables()).containsEntry("tenant", "special");
+  }
+
+  @Test
+  void shouldRejectRouteOfSameShape() {
+    // given
+    router.addIfAbsent("orders/{tenant}", "A");
+
+    // when
+    var existing = router.addIfAbsent("orders/{customer}", "B");
+
+    // then
+    assertThat(existing).isEqualTo("A");
+    assertThat(router.match("orders/acme").map(WebhookPathRouter.Match::value)).contains("A");
+  }
+
+  @Test
+  void shouldRemoveRouteAndKeepOthers() {
+    // given
+    router.addIfAbsent("orders/{tenant}/events", "A");
+    router.addIfAbsent("orders", "B");
+
+    // when
+    var removed = router.remove("orders/{tenant}/events");
+
+    // then
+    assertThat(removed).isTrue();
+    assertThat(router.match("orders/acme/events")).isEmpty();
+    assertThat(router.match("orders")).isPresent();
+    assertThat(router.remove("orders/{tenant}/events")).isFalse();
+  }
+}
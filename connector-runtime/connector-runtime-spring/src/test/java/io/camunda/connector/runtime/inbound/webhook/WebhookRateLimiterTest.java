@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+
+public class WebhookRateLimiterTest {
+
+  // one permit per 100 seconds, so that no permits are replenished while the test runs
+  private static final double SLOW_RATE = 0.01;
+
+  @Test
+  void shouldNotLimit_WhenNoRatesConfigured() {
+    // given
+    var rateLimiter = WebhookRateLimiter.unlimited();
+
+    // when
+    for (int i = 0; i < 1000; i++) {
+      // then
+      assertThat(rateLimiter.tryAcquire("myPath")).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldLimitEachPathSeparately() {
+    // given a burst of a single request per path, unless configured otherwise
+    var rateLimiter = new WebhookRateLimiter(0, SLOW_RATE, Map.of("other", 1000.0), 100);
+
+    // when
+    var first = rateLimiter.tryAcquire("myPath");
+    var second = rateLimiter.tryAcquire("myPath");
+    var otherPath = rateLimiter.tryAcquire("other");
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).isPresent();
+    assertThat(second.get()).isPositive();
+    assertThat(otherPath).isEmpty();
+  }
+
+  @Test
+  void shouldRemovePathBucket_WhenWebhookIsDeregistered() {
+    // given
+    var rateLimiter = new WebhookRateLimiter(0, SLOW_RATE, Map.of(), 100);
+    var removed = new ArrayList<String>();
+    rateLimiter.setRejectionListener(
+        new WebhookRateLimiter.RejectionListener() {
+          @Override
+          public void onRejected(String scope, String contextPath) {}
+
+          @Override
+          public void onRemoved(String contextPath) {
+            removed.add(contextPath);
+          }
+        });
+    rateLimiter.tryAcquire("myPath");
+
+    // when
+    rateLimiter.remove("myPath");
+
+    // then
+    assertThat(rateLimiter.getPathCount()).isZero();
+    assertThat(removed).containsExactly("myPath");
+    assertThat(rateLimiter.tryAcquire("myPath")).isEmpty();
+  }
+
+  @Test
+  void shouldNotChargePath_WhenGlobalLimitIsReached() {
+    // given
+    var rateLimiter = new WebhookRateLimiter(SLOW_RATE, SLOW_RATE, Map.of(), 200);
+    var rejections = new ConcurrentHashMap<String, AtomicInteger>();
+    rateLimiter.setRejectionListener(
+        (scope, contextPath) ->
+            rejections.computeIfAbsent(scope, ignored -> new AtomicInteger()).incrementAndGet());
+    // burst of two requests globally and per path
+    assertThat(rateLimiter.tryAcquire("pathA")).isEmpty();
+    assertThat(rateLimiter.tryAcquire("pathB")).isEmpty();
+
+    // when
+    var globallyLimited = rateLimiter.tryAcquire("pathC");
+
+    // then
+    assertThat(globallyLimited).isPresent();
+    assertThat(rejections.get(WebhookRateLimiter.SCOPE_GLOBAL)).hasValue(1);
+    assertThat(rejections).doesNotContainKey(WebhookRateLimiter.SCOPE_PATH);
+  }
+
+  @Test
+  void shouldGrantExactlyTheBurst_WhenCalledConcurrently() throws Exception {
+    // given
+    int burst = 100;
+    int threads = 8;
+    int attemptsPerThread = 1000;
+    var rateLimiter = new WebhookRateLimiter(0, SLOW_RATE, Map.of(), burst / SLOW_RATE);
+    var rejected = new LongAdder();
+    rateLimiter.setRejectionListener((scope, contextPath) -> rejected.increment());
+    var granted = new LongAdder();
+    var start = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(threads);
+
+    // when
+    try {
+      var futures = new ArrayList<Future<?>>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int attempt = 0; attempt < attemptsPerThread; attempt++) {
+                    if (rateLimiter.tryAcquire("myPath").isEmpty()) {
+                      granted.increment();
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(granted.sum()).isEqualTo(burst);
+    assertThat(rejected.sum()).isEqualTo((long) threads * attemptsPerThread - burst);
+  }
+}
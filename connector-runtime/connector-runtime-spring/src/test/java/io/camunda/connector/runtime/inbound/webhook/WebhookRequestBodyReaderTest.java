@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestBodyReader.BodyTooLargeException;
+import io.camunda.connector.runtime.inbound.webhook.model.HttpServletRequestWebhookProcessingPayload;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class WebhookRequestBodyReaderTest {
+
+  @TempDir Path tempDirectory;
+
+  @Test
+  void shouldKeepSmallBodiesInMemory() throws IOException {
+    // given
+    var reader = new WebhookRequestBodyReader(16, 0, tempDirectory);
+
+    // when
+    try (var body = reader.read(stream("{\"a\": 1}"))) {
+
+      // then
+      assertThat(body.isSpilled()).isFalse();
+      assertThat(body.bytes()).asString(StandardCharsets.UTF_8).isEqualTo("{\"a\": 1}");
+      assertThat(tempDirectory).isEmptyDirectory();
+    }
+  }
+
+  @Test
+  void shouldSpillLargeBodiesToFile_AndDeleteFileOnClose() throws IOException {
+    // given
+    var reader = new WebhookRequestBodyReader(16, 0, tempDirectory);
+    var json = "{\"key\": \"" + "x".repeat(100_000) + "\"}";
+
+    // when
+    var body = reader.read(stream(json));
+
+    // then
+    assertThat(body.isSpilled()).isTrue();
+    assertThat(body.size()).isEqualTo(json.length());
+    try (var files = Files.list(tempDirectory)) {
+      assertThat(files).hasSize(1);
+    }
+    var payload =
+        new HttpServletRequestWebhookProcessingPayload(
+            new MockHttpServletRequest("POST", "/inbound/test"),
+            Map.of(),
+            Map.of(),
+            Map.of("Content-Type", "application/json"),
+            body);
+    assertThat(payload.body()).containsEntry("key", "x".repeat(100_000));
+    assertThat(payload.rawBodySize()).isEqualTo(json.length());
+    body.close();
+    assertThat(tempDirectory).isEmptyDirectory();
+  }
+
+  @Test
+  void shouldRejectBodiesOverMaxSize_WhileReading() {
+    // given a stream that doesn't announce its length
+    var reader = new WebhookRequestBodyReader(16, 1024, tempDirectory);
+
+    // when / then
+    assertThatThrownBy(() -> reader.read(stream("x".repeat(2048))))
+        .isInstanceOf(BodyTooLargeException.class);
+    assertThat(tempDirectory).isEmptyDirectory();
+  }
+
+  @Test
+  void shouldRejectBodiesOverMaxSize_ByContentLength() {
+    // given
+    var reader = new WebhookRequestBodyReader(16, 1024, tempDirectory);
+    var request = new MockHttpServletRequest("POST", "/inbound/test");
+    request.setContent(new byte[2048]);
+
+    // when / then
+    assertThatThrownBy(() -> reader.read(request)).isInstanceOf(BodyTooLargeException.class);
+  }
+
+  @Test
+  void shouldReturnEmptyBody_WhenRequestHasNoBody() throws IOException {
+    // given
+    var reader = new WebhookRequestBodyReader(16, 0, tempDirectory);
+
+    // when
+    var body = reader.read(new MockHttpServletRequest("POST", "/inbound/test"));
+
+    // then
+    assertThat(body.isEmpty()).isTrue();
+    assertThat(body.bytes()).isNull();
+  }
+
+  private static ByteArrayInputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class HttpServletRequestWebhookProcessingPayloadTest {
+
+  @Test
+  void body_shouldBeParsedOnce() {
+    // given
+    var payload = payload(Map.of("Content-Type", "application/json"), "{\"key\": \"value\"}");
+
+    // when
+    var body = payload.body();
+
+    // then
+    assertThat(body).containsEntry("key", "value");
+    assertThat(payload.body()).isSameAs(body);
+  }
+
+  @Test
+  void body_shouldParseFormData() {
+    // given
+    var payload =
+        payload(
+            Map.of("content-type", "application/x-www-form-urlencoded"),
+            "key1=value1&key2=value%202");
+
+    // when
+    var body = payload.body();
+
+    // then
+    assertThat(body).containsEntry("key1", "value1").containsEntry("key2", "value 2");
+  }
+
+  @Test
+  void body_shouldBeEmpty_WhenRequestHasNoBody() {
+    // given
+    var payload = payload(Map.of(), null);
+
+    // when
+    var body = payload.body();
+
+    // then
+    assertThat(body).isEmpty();
+  }
+
+  @Test
+  void body_shouldNotBeModifiable() {
+    // given
+    var payload = payload(Map.of(), "{\"key\": \"value\"}");
+
+    // when
+    var body = payload.body();
+
+    // then
+    assertThatThrownBy(() -> body.put("key", "other"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private static HttpServletRequestWebhookProcessingPayload payload(
+      Map<String, String> headers, String body) {
+    var request = mock(HttpServletRequest.class);
+    when(request.getRequestURL()).thenReturn(new StringBuffer("http://localhost/inbound/test"));
+    when(request.getMethod()).thenReturn("POST");
+    return new HttpServletRequestWebhookProcessingPayload(
+        request, Map.of(), headers, body == null ? null : body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerConnectorMeterRegistryTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MicrometerConnectorMeterRegistry connectorMeters =
+      new MicrometerConnectorMeterRegistry(registry);
+
+  @Test
+  void shouldReadConnectorMetersFromTheirCallbacks() {
+    // given
+    var connections = new AtomicLong(3);
+    var retries = new AtomicLong(1);
+    connectorMeters.gauge(
+        "connector.test.connections",
+        "Connections",
+        null,
+        Map.of("state", "leased"),
+        connections::get);
+    connectorMeters.counter("connector.test.retries", "Retries", null, Map.of(), retries::get);
+
+    // when
+    connections.set(5);
+    retries.addAndGet(2);
+    System.gc();
+
+    // then
+    assertThat(registry.get("connector.test.connections").tag("state", "leased").gauge().value())
+        .isEqualTo(5);
+    assertThat(registry.get("connector.test.retries").functionCounter().count()).isEqualTo(3);
+  }
+}
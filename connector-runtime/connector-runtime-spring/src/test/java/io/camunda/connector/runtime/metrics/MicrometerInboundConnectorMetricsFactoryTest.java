@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics.Inbound;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerInboundConnectorMetricsFactoryTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MicrometerInboundConnectorMetricsFactory factory =
+      new MicrometerInboundConnectorMetricsFactory(registry);
+
+  @Test
+  void close_shouldRemoveAllMetersOfTheConnector() {
+    // given
+    var metrics = factory.create(definition(1));
+    metrics.recordEventLatency(Instant.now());
+    metrics.registerGauge("test.lag", Map.of("partition", "0"), () -> 5);
+
+    // when
+    metrics.close();
+
+    // then
+    assertThat(registry.getMeters()).isEmpty();
+  }
+
+  @Test
+  void close_shouldKeepMetersSharedWithOtherConnectors() {
+    // given
+    var first = factory.create(definition(1));
+    var second = factory.create(definition(2));
+    first.registerGauge("test.lag", Map.of(), () -> 1);
+    second.registerGauge("test.lag", Map.of(), () -> 2);
+
+    // when
+    first.close();
+
+    // then
+    assertThat(registry.get(Inbound.METRIC_NAME_EVENT_LATENCY).timer()).isNotNull();
+    assertThat(registry.get(Inbound.METRIC_PREFIX_CONNECTOR_GAUGES + "test.lag").gauge().value())
+        .isEqualTo(2);
+
+    second.close();
+    assertThat(registry.getMeters()).isEmpty();
+  }
+
+  private static InboundConnectorDefinitionImpl definition(long processDefinitionKey) {
+    return new InboundConnectorDefinitionImpl(
+        Map.of(Keywords.INBOUND_TYPE_KEYWORD, "io.camunda:test:1"),
+        new StartEventCorrelationPoint("process", 1, processDefinitionKey),
+        "process",
+        1,
+        processDefinitionKey,
+        "element",
+        "tenant");
+  }
+}
@@ -18,17 +18,27 @@ package io.camunda.connector.runtime;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.api.metrics.ConnectorMeterRegistry;
+import io.camunda.connector.api.metrics.ConnectorMeters;
 import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.env.SpringEnvironmentSecretProvider;
+import io.camunda.connector.runtime.metrics.MicrometerConnectorMeterRegistry;
 import io.camunda.connector.runtime.outbound.OutboundConnectorRuntimeConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -62,6 +72,41 @@ public class OutboundConnectorsAutoConfiguration {
     return new FeelEngineWrapper();
   }
 
+  /**
+   * Provides a {@link ConnectorTracer} backed by the {@link OpenTelemetry} instance from the Spring
+   * Context, or the global one (e.g. registered by the OpenTelemetry Java agent) otherwise. The
+   * same instance is installed for the spans Connectors create through {@link ConnectorTracing}.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public ConnectorTracer connectorTracer(
+      @Value("${camunda.connector.tracing.enabled:true}") boolean tracingEnabled,
+      ObjectProvider<OpenTelemetry> openTelemetry) {
+    if (!tracingEnabled) {
+      ConnectorTracing.install(OpenTelemetry.noop());
+      return ConnectorTracer.noop();
+    }
+    var instance = openTelemetry.getIfAvailable(GlobalOpenTelemetry::get);
+    ConnectorTracing.install(instance);
+    return new ConnectorTracer(instance);
+  }
+
+  /**
+   * Provides the registry for the meters Connectors bind through {@link ConnectorMeters}, backed by
+   * the {@link MeterRegistry} from the Spring Context, or the global one otherwise, so that they
+   * are exported along with the runtime's own metrics.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public ConnectorMeterRegistry connectorMeterRegistry(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var registry =
+        new MicrometerConnectorMeterRegistry(
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    ConnectorMeters.install(registry);
+    return registry;
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public SecretProviderAggregator springSecretProviderAggregator(
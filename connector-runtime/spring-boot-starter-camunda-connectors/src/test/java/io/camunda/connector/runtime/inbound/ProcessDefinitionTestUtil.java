@@ -61,6 +61,16 @@ public class ProcessDefinitionTestUtil {
     manager.handleNewProcessDefinitions(connectorsByProcDef.keySet());
   }
 
+  public void upgradeProcessDefinition(
+      ProcessDefinition previous,
+      ProcessDefinition latest,
+      List<InboundConnectorDefinitionImpl> connectors)
+      throws OperateException {
+
+    when(inspector.findInboundConnectors(latest)).thenReturn(connectors);
+    manager.handleUpgradedProcessDefinitions(Map.of(previous.getKey(), latest));
+  }
+
   static long processDefinitionKey = 0L;
 
   public static ProcessDefinition processDefinition(String bpmnId, int version) {
@@ -17,33 +17,69 @@
 
 package io.camunda.connector.runtime.inbound;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.EvictingQueue;
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.api.inbound.webhook.MappedHttpRequest;
 import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
 import io.camunda.connector.api.inbound.webhook.WebhookResult;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorContextImpl;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import io.camunda.connector.runtime.core.tracing.ConnectorTracer;
 import io.camunda.connector.runtime.inbound.lifecycle.ActiveInboundConnector;
+import io.camunda.connector.runtime.inbound.webhook.InboundWebhookRestController;
 import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
+import io.camunda.connector.runtime.inbound.webhook.WebhookDeduplicator;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRateLimiter;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestBodyReader;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestExecutor;
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -102,6 +138,367 @@ public class WebhookControllerPlainJavaTests {
     assertFalse(webhook.getWebhookConnectorByContextPath("myPath").isPresent());
   }
 
+  @Test
+  public void webhook_shouldContinuePropagatedTrace() throws Exception {
+    // given
+    var spanExporter = InMemorySpanExporter.create();
+    var tracer =
+        new ConnectorTracer(
+            OpenTelemetrySdk.builder()
+                .setTracerProvider(
+                    SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build());
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var correlationSpan = new AtomicReference<SpanContext>();
+    when(correlationHandler.correlate(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              correlationSpan.set(Span.current().getSpanContext());
+              return new CorrelationResult.Success.ProcessInstanceCreated(1L, "testTenantId");
+            });
+    WebhookConnectorExecutable executable = mock(WebhookConnectorExecutable.class);
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenReturn(() -> new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    var definition = webhookDefinition("processA", 1, "myPath");
+    var context =
+        new InboundConnectorContextImpl(
+            name -> null,
+            new DefaultValidationProvider(),
+            definition,
+            correlationHandler,
+            e -> {},
+            mapper,
+            EvictingQueue.create(10));
+    var registry = new WebhookConnectorRegistry();
+    registry.register(new ActiveInboundConnector(executable, context));
+    var controller = new InboundWebhookRestController(registry, tracer);
+    var traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    // when
+    var response =
+        controller
+            .handle(
+                "myPath",
+                Map.of("traceparent", "00-" + traceId + "-00f067aa0ba902b7-01"),
+                Map.of(),
+                jsonRequest("POST", "/inbound/myPath"))
+            .join();
+
+    // then
+    assertEquals(200, response.getStatusCode().value());
+    var spans = spanExporter.getFinishedSpanItems();
+    var serverSpan = spans.get(spans.size() - 1);
+    assertEquals("POST /inbound/{*context}", serverSpan.getName());
+    assertEquals(SpanKind.SERVER, serverSpan.getKind());
+    assertEquals(traceId, serverSpan.getTraceId());
+    assertEquals("00f067aa0ba902b7", serverSpan.getParentSpanId());
+    assertEquals(
+        200L, serverSpan.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+    assertTrue(
+        spans.stream()
+            .anyMatch(
+                span ->
+                    span.getName().equals("webhook.trigger")
+                        && span.getParentSpanId().equals(serverSpan.getSpanId())));
+    // correlation runs within the webhook request trace
+    assertEquals(traceId, correlationSpan.get().getTraceId());
+    assertEquals(serverSpan.getSpanId(), correlationSpan.get().getSpanId());
+  }
+
+  @Test
+  public void asyncWebhook_shouldRejectRequestsOverInFlightLimit() throws Exception {
+    // given
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var correlationStarted = new CountDownLatch(1);
+    var correlationReleased = new CountDownLatch(1);
+    var correlationThread = new AtomicReference<Thread>();
+    when(correlationHandler.correlate(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              correlationThread.set(Thread.currentThread());
+              correlationStarted.countDown();
+              correlationReleased.await();
+              return new CorrelationResult.Success.ProcessInstanceCreated(1L, "testTenantId");
+            });
+    WebhookConnectorExecutable executable = mock(WebhookConnectorExecutable.class);
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenReturn(() -> new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    var context =
+        new InboundConnectorContextImpl(
+            name -> null,
+            new DefaultValidationProvider(),
+            webhookDefinition("processA", 1, "myPath"),
+            correlationHandler,
+            e -> {},
+            mapper,
+            EvictingQueue.create(10));
+    var registry = new WebhookConnectorRegistry();
+    registry.register(new ActiveInboundConnector(executable, context));
+
+    try (var requestExecutor = new WebhookRequestExecutor(true, 1)) {
+      var controller =
+          new InboundWebhookRestController(registry, ConnectorTracer.noop(), requestExecutor);
+
+      // when
+      var slowResponse = controller.handle("myPath", Map.of(), Map.of(), jsonRequest());
+      assertTrue(correlationStarted.await(5, TimeUnit.SECONDS));
+      var rejectedResponse = controller.handle("myPath", Map.of(), Map.of(), jsonRequest()).join();
+
+      // then
+      assertEquals(503, rejectedResponse.getStatusCode().value());
+      assertEquals("1", rejectedResponse.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+      assertEquals(1, requestExecutor.getRejectedRequests());
+      assertFalse(slowResponse.isDone());
+
+      correlationReleased.countDown();
+      assertEquals(200, slowResponse.get(5, TimeUnit.SECONDS).getStatusCode().value());
+      assertTrue(correlationThread.get().isVirtual());
+      assertEquals(0, requestExecutor.getInFlightRequests());
+    }
+  }
+
+  @Test
+  public void asyncWebhook_shouldTimeOutSlowCorrelation() throws Exception {
+    // given
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var correlationReleased = new CountDownLatch(1);
+    when(correlationHandler.correlate(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              correlationReleased.await();
+              return new CorrelationResult.Success.ProcessInstanceCreated(1L, "testTenantId");
+            });
+    WebhookConnectorExecutable executable = mock(WebhookConnectorExecutable.class);
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenReturn(() -> new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    var context =
+        new InboundConnectorContextImpl(
+            name -> null,
+            new DefaultValidationProvider(),
+            webhookDefinition("processA", 1, "myPath"),
+            correlationHandler,
+            e -> {},
+            mapper,
+            EvictingQueue.create(10));
+    var registry = new WebhookConnectorRegistry();
+    registry.register(new ActiveInboundConnector(executable, context));
+
+    try (var requestExecutor = new WebhookRequestExecutor(true, 1, Duration.ofMillis(100))) {
+      var controller =
+          new InboundWebhookRestController(registry, ConnectorTracer.noop(), requestExecutor);
+
+      // when
+      var response =
+          controller.handle("myPath", Map.of(), Map.of(), jsonRequest()).get(5, TimeUnit.SECONDS);
+
+      // then
+      assertEquals(503, response.getStatusCode().value());
+      assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+      // the correlation still runs and holds its in-flight permit
+      assertEquals(1, requestExecutor.getInFlightRequests());
+      correlationReleased.countDown();
+    }
+  }
+
+  @Test
+  public void asyncWebhook_shouldKeepSpilledBodyUntilTimedOutProcessingEnds(@TempDir Path directory)
+      throws Exception {
+    // given
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    when(correlationHandler.correlate(any(), any()))
+        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(1L, "testTenantId"));
+    var responseSent = new CountDownLatch(1);
+    var bodyRead = new CompletableFuture<String>();
+    WebhookConnectorExecutable executable = mock(WebhookConnectorExecutable.class);
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenAnswer(
+            invocation -> {
+              try {
+                responseSent.await();
+                WebhookProcessingPayload payload = invocation.getArgument(0);
+                bodyRead.complete(new String(payload.rawBody(), StandardCharsets.UTF_8));
+              } catch (Exception e) {
+                bodyRead.completeExceptionally(e);
+                throw e;
+              }
+              return (WebhookResult) () -> new MappedHttpRequest(Map.of(), Map.of(), Map.of());
+            });
+    var context =
+        new InboundConnectorContextImpl(
+            name -> null,
+            new DefaultValidationProvider(),
+            webhookDefinition("processA", 1, "myPath"),
+            correlationHandler,
+            e -> {},
+            mapper,
+            EvictingQueue.create(10));
+    var registry = new WebhookConnectorRegistry();
+    registry.register(new ActiveInboundConnector(executable, context));
+
+    try (var requestExecutor = new WebhookRequestExecutor(true, 1, Duration.ofMillis(100))) {
+      var controller =
+          new InboundWebhookRestController(
+              registry,
+              ConnectorTracer.noop(),
+              requestExecutor,
+              WebhookRateLimiter.unlimited(),
+              WebhookDeduplicator.disabled(),
+              new WebhookRequestBodyReader(1, 0, directory));
+
+      // when the response times out before the body is read
+      var response =
+          controller.handle("myPath", Map.of(), Map.of(), jsonRequest()).get(5, TimeUnit.SECONDS);
+      responseSent.countDown();
+
+      // then
+      assertEquals(503, response.getStatusCode().value());
+      assertEquals("{}", bodyRead.get(5, TimeUnit.SECONDS));
+      await().atMost(Duration.ofSeconds(5)).until(() -> requestExecutor.getInFlightRequests() == 0);
+      try (var files = Files.list(directory)) {
+        assertEquals(0, files.count());
+      }
+    }
+  }
+
+  @Test
+  public void webhook_shouldReturnTooManyRequests_WhenRateLimitReached() throws IOException {
+    // given a burst of a single request per path
+    var registry = new WebhookConnectorRegistry();
+    registry.register(buildConnector(webhookDefinition("processA", 1, "myPath")));
+    registry.register(buildConnector(webhookDefinition("processB", 1, "otherPath")));
+    var controller =
+        new InboundWebhookRestController(
+            registry,
+            ConnectorTracer.noop(),
+            WebhookRequestExecutor.synchronous(),
+            new WebhookRateLimiter(0, 0.5, Map.of(), 2));
+
+    // when
+    var first = controller.handle("myPath", Map.of(), Map.of(), jsonRequest()).join();
+    var second = controller.handle("myPath", Map.of(), Map.of(), jsonRequest()).join();
+    var otherPath = controller.handle("otherPath", Map.of(), Map.of(), jsonRequest()).join();
+
+    // then
+    assertNotEquals(429, first.getStatusCode().value());
+    assertEquals(429, second.getStatusCode().value());
+    assertEquals("2", second.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertNotEquals(429, otherPath.getStatusCode().value());
+  }
+
+  @Test
+  public void webhook_shouldShortCircuitDuplicateDeliveries() throws Exception {
+    // given a connector that fails to correlate the first delivery
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    when(correlationHandler.correlate(any(), any()))
+        .thenReturn(
+            new CorrelationResult.Failure.Other(new RuntimeException("expected")),
+            new CorrelationResult.Success.ProcessInstanceCreated(1L, "testTenantId"));
+    var executable = mock(WebhookConnectorExecutable.class);
+    var webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(executable.triggerWebhook(any())).thenReturn(webhookResult);
+    var definition =
+        new InboundConnectorDefinitionImpl(
+            Map.of(
+                "inbound.type", "io.camunda:webhook:1",
+                "inbound.context", "myPath",
+                "deduplicationKey", "X-GitHub-Delivery",
+                "deduplicationResponseStatus", "208"),
+            new StartEventCorrelationPoint("processA", 1, 1L),
+            "processA",
+            1,
+            1L,
+            "testElement",
+            "testTenantId");
+    var registry = new WebhookConnectorRegistry();
+    var deduplicator = new WebhookDeduplicator(new FeelEngineWrapper(), Duration.ofMinutes(1), 100);
+    registry.addRegistrationListener(
+        (path, connector) -> deduplicator.activate(path, connector.context().getDefinition()));
+    registry.register(
+        new ActiveInboundConnector(
+            executable,
+            new InboundConnectorContextImpl(
+                name -> null,
+                new DefaultValidationProvider(),
+                definition,
+                correlationHandler,
+                e -> {},
+                mapper,
+                EvictingQueue.create(10))));
+    var controller =
+        new InboundWebhookRestController(
+            registry,
+            ConnectorTracer.noop(),
+            WebhookRequestExecutor.synchronous(),
+            WebhookRateLimiter.unlimited(),
+            deduplicator);
+    var headers = Map.of("x-github-delivery", "delivery-1");
+
+    // when
+    var failed = controller.handle("myPath", headers, Map.of(), jsonRequest()).join();
+    var retried = controller.handle("myPath", headers, Map.of(), jsonRequest()).join();
+    var duplicate = controller.handle("myPath", headers, Map.of(), jsonRequest()).join();
+
+    // then
+    assertEquals(500, failed.getStatusCode().value());
+    assertEquals(200, retried.getStatusCode().value());
+    assertEquals(208, duplicate.getStatusCode().value());
+    Mockito.verify(correlationHandler, Mockito.times(2)).correlate(any(), any());
+  }
+
+  @Test
+  public void webhook_shouldRouteTemplatePathAndExposePathParams() throws Exception {
+    // given
+    var registry = new WebhookConnectorRegistry();
+    var connector = buildConnector(webhookDefinition("processA", 1, "orders/{tenant}/events"));
+    registry.register(connector);
+    var controller = new InboundWebhookRestController(registry);
+
+    // when
+    var response =
+        controller.handle("/orders/acme/events", Map.of(), Map.of(), jsonRequest()).join();
+    var notFound = controller.handle("/orders/acme", Map.of(), Map.of(), jsonRequest()).join();
+
+    // then
+    assertNotEquals(404, response.getStatusCode().value());
+    assertEquals(404, notFound.getStatusCode().value());
+    var payload = ArgumentCaptor.forClass(WebhookProcessingPayload.class);
+    Mockito.verify((WebhookConnectorExecutable) connector.executable())
+        .triggerWebhook(payload.capture());
+    assertEquals(Map.of("tenant", "acme"), payload.getValue().pathParams());
+  }
+
+  @Test
+  public void webhook_shouldAnswerUnknownPathAsDeferredResult() throws IOException {
+    // given
+    var controller = new InboundWebhookRestController(new WebhookConnectorRegistry());
+
+    // when
+    var result = controller.inbound("/unknown", Map.of(), Map.of(), jsonRequest());
+
+    // then
+    assertTrue(result.hasResult());
+    assertEquals(404, ((ResponseEntity<?>) result.getResult()).getStatusCode().value());
+  }
+
+  @Test
+  public void webhook_shouldOmitEmptyPathParamsFromRequest() {
+    // given
+    var staticPath = new MappedHttpRequest(Map.of(), Map.of(), Map.of());
+    var templatePath = new MappedHttpRequest(Map.of(), Map.of(), Map.of(), Map.of("tenant", "a"));
+
+    // when
+    var staticJson = mapper.valueToTree(staticPath);
+    var templateJson = mapper.valueToTree(templatePath);
+
+    // then
+    assertFalse(staticJson.has("pathParams"));
+    assertEquals("a", templateJson.get("pathParams").get("tenant").asText());
+  }
+
   private static long nextProcessDefinitionKey = 0L;
 
   public static ActiveInboundConnector buildConnector(InboundConnectorDefinitionImpl definition) {
@@ -143,4 +540,15 @@ public class WebhookControllerPlainJavaTests {
         "testElement",
         "testTenantId");
   }
+
+  private static MockHttpServletRequest jsonRequest() {
+    return jsonRequest("POST", "");
+  }
+
+  private static MockHttpServletRequest jsonRequest(String method, String requestURI) {
+    var request = new MockHttpServletRequest(method, requestURI);
+    request.setContentType("application/json");
+    request.setContent("{}".getBytes());
+    return request;
+  }
 }
@@ -47,6 +47,7 @@ import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.spring.test.ZeebeSpringTest;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,6 +59,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 
@@ -115,17 +117,48 @@ class WebhookControllerTestZeebeTests {
     deployProcess("processA");
 
     ResponseEntity<?> responseEntity =
-        controller.inbound(
-            "myPath",
-            new HashMap<>(),
-            "{}".getBytes(),
-            new HashMap<>(),
-            new MockHttpServletRequest());
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
     assertNull(responseEntity.getBody());
   }
 
+  @Test
+  public void testThrottledCorrelation_returnsTooManyRequests() throws Exception {
+    WebhookConnectorExecutable webhookConnectorExecutable = mock(WebhookConnectorExecutable.class);
+    WebhookResult webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(webhookConnectorExecutable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenReturn(webhookResult);
+
+    var throttlingHandler = mock(InboundCorrelationHandler.class);
+    when(throttlingHandler.correlate(any(), any()))
+        .thenReturn(new CorrelationResult.Failure.Throttled(Duration.ofMillis(1500)));
+
+    var webhookDef = webhookDefinition("processA", 1, "myPath");
+    var webhookContext =
+        new InboundConnectorContextImpl(
+            secretProvider,
+            v -> {},
+            webhookDef,
+            throttlingHandler,
+            (e) -> {},
+            mapper,
+            EvictingQueue.create(10),
+            null,
+            null,
+            Duration.ZERO);
+
+    webhookConnectorRegistry.register(
+        new ActiveInboundConnector(webhookConnectorExecutable, webhookContext));
+
+    ResponseEntity<?> responseEntity =
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
+
+    assertEquals(429, responseEntity.getStatusCode().value());
+    assertEquals("2", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void testSuccessfulProcessingWithActivationAndStrictResponse() throws Exception {
@@ -156,12 +189,7 @@ class WebhookControllerTestZeebeTests {
 
     ResponseEntity<Map> responseEntity =
         (ResponseEntity<Map>)
-            controller.inbound(
-                "myPath",
-                new HashMap<>(),
-                "{}".getBytes(),
-                new HashMap<>(),
-                new MockHttpServletRequest());
+            controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
     assertEquals("valueResponse", responseEntity.getBody().get("keyResponse"));
@@ -199,12 +227,7 @@ class WebhookControllerTestZeebeTests {
         new ActiveInboundConnector(webhookConnectorExecutable, webhookContext));
 
     ResponseEntity<?> responseEntity =
-        controller.inbound(
-            "myPath",
-            new HashMap<>(),
-            "{}".getBytes(),
-            new HashMap<>(),
-            new MockHttpServletRequest());
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
     assertNotNull(responseEntity.getBody());
@@ -239,12 +262,7 @@ class WebhookControllerTestZeebeTests {
         new ActiveInboundConnector(webhookConnectorExecutable, webhookContext));
 
     ResponseEntity<?> responseEntity =
-        controller.inbound(
-            "myPath",
-            new HashMap<>(),
-            "{}".getBytes(),
-            new HashMap<>(),
-            new MockHttpServletRequest());
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
     assertNotNull(responseEntity.getBody());
@@ -280,12 +298,7 @@ class WebhookControllerTestZeebeTests {
 
     ResponseEntity<Map> responseEntity =
         (ResponseEntity<Map>)
-            controller.inbound(
-                "myPath",
-                new HashMap<>(),
-                "{}".getBytes(),
-                new HashMap<>(),
-                new MockHttpServletRequest());
+            controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
 
@@ -317,12 +330,7 @@ class WebhookControllerTestZeebeTests {
     deployProcess("processB");
 
     ResponseEntity<?> responseEntity =
-        controller.inbound(
-            "myPath",
-            new HashMap<>(),
-            "{}".getBytes(),
-            new HashMap<>(),
-            new MockHttpServletRequest());
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
     assertEquals(500, responseEntity.getStatusCode().value());
   }
 
@@ -350,12 +358,7 @@ class WebhookControllerTestZeebeTests {
     deployProcess("processA");
 
     ResponseEntity<?> responseEntity =
-        controller.inbound(
-            "myPath",
-            new HashMap<>(),
-            "{}".getBytes(),
-            new HashMap<>(),
-            new MockHttpServletRequest());
+        controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(500, responseEntity.getStatusCode().value());
   }
@@ -386,12 +389,7 @@ class WebhookControllerTestZeebeTests {
 
     ResponseEntity<FeelExpressionErrorResponse> responseEntity =
         (ResponseEntity<FeelExpressionErrorResponse>)
-            controller.inbound(
-                "myPath",
-                new HashMap<>(),
-                "{}".getBytes(),
-                new HashMap<>(),
-                new MockHttpServletRequest());
+            controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(422, responseEntity.getStatusCode().value());
     assertEquals("reason", responseEntity.getBody().reason());
@@ -435,12 +433,7 @@ class WebhookControllerTestZeebeTests {
 
     ResponseEntity<Map> responseEntity =
         (ResponseEntity<Map>)
-            controller.inbound(
-                "myPath",
-                new HashMap<>(),
-                "{}".getBytes(),
-                new HashMap<>(),
-                new MockHttpServletRequest());
+            controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(201, responseEntity.getStatusCode().value());
     assertNull(responseEntity.getBody().get("keyResponse"));
@@ -484,12 +477,7 @@ class WebhookControllerTestZeebeTests {
 
     ResponseEntity<CorrelationResult.Success.ProcessInstanceCreated> responseEntity =
         (ResponseEntity<CorrelationResult.Success.ProcessInstanceCreated>)
-            controller.inbound(
-                "myPath",
-                new HashMap<>(),
-                "{}".getBytes(),
-                new HashMap<>(),
-                new MockHttpServletRequest());
+            controller.handle("myPath", new HashMap<>(), new HashMap<>(), jsonRequest()).join();
 
     assertEquals(200, responseEntity.getStatusCode().value());
     assertEquals(1L, responseEntity.getBody().processInstanceKey());
@@ -505,4 +493,15 @@ class WebhookControllerTestZeebeTests {
         .send()
         .join();
   }
+
+  private static MockHttpServletRequest jsonRequest() {
+    return jsonRequest("POST", "");
+  }
+
+  private static MockHttpServletRequest jsonRequest(String method, String requestURI) {
+    var request = new MockHttpServletRequest(method, requestURI);
+    request.setContentType("application/json");
+    request.setContent("{}".getBytes());
+    return request;
+  }
 }
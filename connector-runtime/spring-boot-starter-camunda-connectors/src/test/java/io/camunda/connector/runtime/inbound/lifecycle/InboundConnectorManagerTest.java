@@ -18,10 +18,12 @@ package io.camunda.connector.runtime.inbound.lifecycle;
 
 import static io.camunda.connector.runtime.inbound.ProcessDefinitionTestUtil.processDefinition;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +33,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.EvictingQueue;
+import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.api.inbound.InboundConnectorExecutable;
 import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
@@ -45,6 +48,7 @@ import io.camunda.connector.runtime.core.inbound.InboundConnectorContextFactory;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorContextImpl;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorDefinitionImpl;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorFactory;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorReportingContext;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import io.camunda.connector.runtime.core.inbound.correlation.MessageCorrelationPoint;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
@@ -56,6 +60,7 @@ import io.camunda.operate.CamundaOperateClient;
 import io.camunda.operate.model.ProcessDefinition;
 import io.camunda.zeebe.spring.client.metrics.DefaultNoopMetricsRecorder;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -191,6 +196,137 @@ public class InboundConnectorManagerTest {
     assertEquals(2, connector.get().context().getDefinition().version());
   }
 
+  @Test
+  void shouldRebindUnchangedConnector_NewBpmnVersionDeployed() throws Exception {
+    // given
+    var pv1 = processDefinition("proc1", 1);
+    var connector1 = inboundConnector(pv1);
+    procDefUtil.deployProcessDefinition(pv1, connector1);
+
+    // when
+    var pv2 = processDefinition("proc1", 2);
+    var connector2 = inboundConnector(pv2);
+    procDefUtil.upgradeProcessDefinition(pv1, pv2, List.of(connector2));
+
+    // then
+    assertTrue(manager.isProcessDefinitionRegistered(pv2.getKey()));
+    verify(factory, times(1)).getInstance(connector1.type());
+    verify(inboundConnectorExecutable, times(1)).activate(any());
+    verify(inboundConnectorExecutable, never()).deactivate();
+
+    var active = manager.query(new ActiveInboundConnectorQuery("proc1", null, null, null));
+    assertEquals(1, active.size());
+    assertEquals(connector2, active.get(0).context().getDefinition());
+    // the executable keeps working with the context it was activated with
+    assertSame(
+        active.get(0).context(),
+        ((TestInboundConnector) inboundConnectorExecutable).getProvidedContext());
+  }
+
+  @Test
+  void shouldRebindUnchangedWebhook_NewBpmnVersionDeployed() throws Exception {
+    // given
+    when(factory.getInstance(webhookConfig.type())).thenReturn(webhookConnectorExecutable);
+    var pv1 = processDefinition("webhook1", 1);
+    procDefUtil.deployProcessDefinition(pv1, webhookConnector(pv1));
+
+    // when
+    var pv2 = processDefinition("webhook1", 2);
+    procDefUtil.upgradeProcessDefinition(pv1, pv2, List.of(webhookConnector(pv2)));
+
+    // then
+    verify(webhookConnectorExecutable, times(1)).activate(any());
+    verify(webhookConnectorExecutable, never()).deactivate();
+    var connector = webhookRegistry.getWebhookConnectorByContextPath("myWebhookEndpoint");
+    assertEquals(2, connector.get().context().getDefinition().version());
+    assertEquals(pv2.getKey(), connector.get().context().getDefinition().processDefinitionKey());
+  }
+
+  @Test
+  void shouldReactivateChangedConnector_NewBpmnVersionDeployed() throws Exception {
+    // given
+    var pv1 = processDefinition("proc1", 1);
+    var connector1 = inboundConnector(pv1);
+    procDefUtil.deployProcessDefinition(pv1, connector1);
+
+    // when
+    var pv2 = processDefinition("proc1", 2);
+    var connector2 =
+        new InboundConnectorDefinitionImpl(
+            Map.of(Keywords.INBOUND_TYPE_KEYWORD, connectorConfig.type(), "changed", "value"),
+            new MessageCorrelationPoint("", "", null),
+            pv2.getBpmnProcessId(),
+            pv2.getVersion().intValue(),
+            pv2.getKey(),
+            "test-element",
+            "test-tenant");
+    procDefUtil.upgradeProcessDefinition(pv1, pv2, List.of(connector2));
+
+    // then
+    verify(inboundConnectorExecutable, times(1)).activate(eq(inboundContext(connector1)));
+    verify(inboundConnectorExecutable, times(1)).deactivate();
+    verify(inboundConnectorExecutable, times(1)).activate(eq(inboundContext(connector2)));
+
+    var active = manager.query(new ActiveInboundConnectorQuery("proc1", null, null, null));
+    assertEquals(1, active.size());
+    assertEquals(connector2, active.get(0).context().getDefinition());
+  }
+
+  @Test
+  void shouldRestartConnector_IfContextCannotBeRebound() throws Exception {
+    // given a context that does not support rebinding
+    InboundConnectorContextFactory nonRebindableContextFactory =
+        mock(InboundConnectorContextFactory.class);
+    when(nonRebindableContextFactory.createContext(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              var context = mock(InboundConnectorReportingContext.class);
+              when(context.getDefinition()).thenReturn(invocation.getArgument(0));
+              when(context.getHealth()).thenReturn(Health.up());
+              return context;
+            });
+    ProcessDefinitionInspector inspector = mock(ProcessDefinitionInspector.class);
+    manager =
+        new InboundConnectorManager(
+            factory,
+            nonRebindableContextFactory,
+            inspector,
+            new DefaultNoopMetricsRecorder(),
+            webhookRegistry);
+    procDefUtil = new ProcessDefinitionTestUtil(manager, inspector);
+    var pv1 = processDefinition("proc1", 1);
+    procDefUtil.deployProcessDefinition(pv1, inboundConnector(pv1));
+
+    // when
+    var pv2 = processDefinition("proc1", 2);
+    var connector2 = inboundConnector(pv2);
+    procDefUtil.upgradeProcessDefinition(pv1, pv2, List.of(connector2));
+
+    // then
+    verify(inboundConnectorExecutable, times(2)).activate(any());
+    verify(inboundConnectorExecutable, times(1)).deactivate();
+    var active = manager.query(new ActiveInboundConnectorQuery("proc1", null, null, null));
+    assertEquals(1, active.size());
+    assertEquals(connector2, active.get(0).context().getDefinition());
+  }
+
+  @Test
+  void shouldHandleCancellationCallback_AfterRebind() throws Exception {
+    // given
+    var pv1 = processDefinition("proc1", 1);
+    procDefUtil.deployProcessDefinition(pv1, inboundConnector(pv1));
+    var pv2 = processDefinition("proc1", 2);
+    procDefUtil.upgradeProcessDefinition(pv1, pv2, List.of(inboundConnector(pv2)));
+
+    // when
+    var context = ((TestInboundConnector) inboundConnectorExecutable).getProvidedContext();
+    context.cancel(new RuntimeException("subscription interrupted"));
+
+    // then
+    assertTrue(manager.query(new ActiveInboundConnectorQuery("proc1", null, null, null)).isEmpty());
+    verify(inboundConnectorExecutable, times(1)).deactivate();
+  }
+
   @Test
   void shouldNotActivateWebhookWhenDisabled() throws Exception {
     // Given
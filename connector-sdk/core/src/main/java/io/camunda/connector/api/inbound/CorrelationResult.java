@@ -16,6 +16,8 @@
  */
 package io.camunda.connector.api.inbound;
 
+import java.time.Duration;
+
 public sealed interface CorrelationResult {
 
   sealed interface Success extends CorrelationResult {
@@ -47,6 +49,17 @@ public sealed interface CorrelationResult {
       }
     }
 
+    /**
+     * The event was not correlated because the tenant or the Connector type exceeded its quota. The
+     * event can be retried once the given duration has elapsed.
+     */
+    record Throttled(Duration retryAfter) implements Failure {
+      @Override
+      public boolean isRetryable() {
+        return true;
+      }
+    }
+
     record Other(Throwable error) implements Failure {
       @Override
       public boolean isRetryable() {
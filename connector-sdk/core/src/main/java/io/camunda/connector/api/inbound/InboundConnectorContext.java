@@ -17,6 +17,8 @@
 package io.camunda.connector.api.inbound;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * The context object provided to an inbound connector function. The context allows to fetch
@@ -113,4 +115,31 @@ public interface InboundConnectorContext {
    * implementation requires it.
    */
   void log(Activity activity);
+
+  /**
+   * Provides an executor managed by the Connector runtime that can be used to run consumer loops
+   * and to schedule polling tasks, so Connectors don't need to create threads of their own. Tasks
+   * submitted for immediate execution are expected to be long-running consumer loops and get a
+   * thread each, delayed and periodic tasks share a bounded set of workers.
+   *
+   * <p>The returned executor is scoped to this Connector: shutting it down only cancels the tasks
+   * submitted through it, and the runtime cancels all remaining tasks when the Connector is
+   * deactivated.
+   *
+   * @return the runtime-managed executor, or an empty optional if the runtime doesn't provide one
+   *     (in this case, the Connector is responsible for creating its own executor)
+   */
+  default Optional<ScheduledExecutorService> getExecutor() {
+    return Optional.empty();
+  }
+
+  /**
+   * Provides access to the metrics of this Connector, e.g. to report the latency of events or the
+   * backlog of the source system.
+   *
+   * @return the metrics facility, or an empty optional if the runtime doesn't collect metrics
+   */
+  default Optional<InboundConnectorMetrics> getMetrics() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.inbound;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Metrics facility provided by the Connector runtime to inbound Connectors. All metrics are tagged
+ * with the Connector type, tenant, process, and element. Gauges are removed when the Connector is
+ * deactivated.
+ */
+public interface InboundConnectorMetrics {
+
+  /**
+   * Records the time between the moment the source system created an event and its successful
+   * correlation. Should be called right after the event was correlated.
+   *
+   * @param eventTimestamp the timestamp assigned to the event by the source system
+   */
+  void recordEventLatency(Instant eventTimestamp);
+
+  /**
+   * Registers a gauge that is sampled by the runtime, e.g. to expose the backlog of a consumer. The
+   * value supplier is called from a metrics thread and must be thread-safe and non-blocking.
+   *
+   * @param name the name of the gauge, prefixed by the runtime (e.g. {@code kafka.consumer-lag})
+   * @param tags additional tags identifying the gauge (e.g. topic and partition)
+   * @param value supplier of the current value
+   */
+  void registerGauge(String name, Map<String, String> tags, Supplier<Number> value);
+}
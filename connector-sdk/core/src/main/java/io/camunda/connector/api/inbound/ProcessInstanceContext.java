@@ -59,4 +59,21 @@ public interface ProcessInstanceContext {
    *     unexpected runtime error. Such errors may be temporary and can be retried.
    */
   void correlate(Object variables);
+
+  /**
+   * Correlates the inbound event like {@link #correlate(Object)} and returns the result instead of
+   * discarding it, e.g. to find out whether the activation condition was met.
+   *
+   * <p>The default implementation delegates to {@link #correlate(Object)}, which does not report
+   * its result. It thus returns a {@link CorrelationResult.Success.MessagePublished} without a
+   * message key and tenant whenever {@link #correlate(Object)} does not throw.
+   *
+   * @param variables An object containing inbound connector variables.
+   * @return The result of the correlation. Failures such as an unmet activation condition are
+   *     returned as {@link CorrelationResult.Failure}.
+   */
+  default CorrelationResult correlateWithResult(Object variables) {
+    correlate(variables);
+    return new CorrelationResult.Success.MessagePublished(null, null);
+  }
 }
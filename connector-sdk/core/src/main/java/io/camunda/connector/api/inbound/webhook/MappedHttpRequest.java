@@ -16,7 +16,25 @@
  */
 package io.camunda.connector.api.inbound.webhook;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Map;
 
+/**
+ * HTTP request data exposed to FEEL expressions and process variables.
+ *
+ * @param body the parsed request body
+ * @param headers the request headers
+ * @param params the URL query parameters
+ * @param pathParams the values of the template variables in the webhook's context path, omitted
+ *     from the serialized request when the path has no variables
+ */
 public record MappedHttpRequest(
-    Object body, Map<String, String> headers, Map<String, String> params) {}
+    Object body,
+    Map<String, String> headers,
+    Map<String, String> params,
+    @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> pathParams) {
+
+  public MappedHttpRequest(Object body, Map<String, String> headers, Map<String, String> params) {
+    this(body, headers, params, Map.of());
+  }
+}
@@ -16,6 +16,8 @@
  */
 package io.camunda.connector.api.inbound.webhook;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Map;
 
 /** A wrapper object for the webhook request. */
@@ -41,6 +43,15 @@ public interface WebhookProcessingPayload {
    */
   Map<String, String> params();
 
+  /**
+   * @return values of the template variables in the webhook's context path as {@link Map}, e.g.
+   *     <code>{tenant=acme}</code> for the context path <code>orders/{tenant}/events</code> and the
+   *     request path <code>orders/acme/events</code>
+   */
+  default Map<String, String> pathParams() {
+    return Map.of();
+  }
+
   /**
    * <b>Note:</b> byte array is chosen because several security mechanisms, such as HMAC rely on
    * original data 'as-is', and not being modified or tampered.
@@ -48,4 +59,37 @@ public interface WebhookProcessingPayload {
    * @return HTTP Request body as byte array.
    */
   byte[] rawBody();
+
+  /**
+   * Opens the request body as a stream. Large bodies may not be held in memory by the runtime, in
+   * which case reading this stream is cheaper than {@link #rawBody()}.
+   *
+   * @return HTTP Request body as {@link InputStream}, empty if the request has no body. The caller
+   *     must close the stream.
+   */
+  default InputStream rawBodyStream() {
+    var rawBody = rawBody();
+    return rawBody == null ? InputStream.nullInputStream() : new ByteArrayInputStream(rawBody);
+  }
+
+  /**
+   * @return HTTP Request body size in bytes, 0 if the request has no body
+   */
+  default long rawBodySize() {
+    var rawBody = rawBody();
+    return rawBody == null ? 0 : rawBody.length;
+  }
+
+  /**
+   * Request body parsed according to its content type: URL-encoded forms as a map of parameters,
+   * any other body as a JSON object. Implementations should parse the body at most once, so that
+   * signature checks, authorization and variable mapping can share the result.
+   *
+   * @return HTTP Request body as {@link Map}, empty if the request has no body. The map must not be
+   *     modified.
+   * @throws RuntimeException if the body cannot be parsed
+   */
+  default Map<String, Object> body() {
+    return WebhookRequestBodyParser.parse(rawBody(), headers());
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.inbound.webhook;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Parses webhook request bodies into the map representation exposed by {@link
+ * WebhookProcessingPayload#body()}.
+ */
+public final class WebhookRequestBodyParser {
+
+  static final String CONTENT_TYPE_HEADER = "Content-Type";
+  static final String FORM_URL_ENCODED = "application/x-www-form-urlencoded";
+
+  // readers are immutable and thread-safe, unlike copies of the connectors object mapper
+  private static final ObjectReader MAP_READER =
+      ConnectorsObjectMapperSupplier.DEFAULT_MAPPER.readerFor(Map.class);
+
+  private WebhookRequestBodyParser() {}
+
+  /**
+   * @param rawBody HTTP request body, may be null
+   * @param headers HTTP request headers, used to detect URL-encoded forms
+   * @return form parameters for URL-encoded bodies, the JSON object otherwise, or an empty map if
+   *     there is no body
+   * @throws RuntimeException if the body is neither a URL-encoded form nor a JSON object
+   */
+  public static Map<String, Object> parse(byte[] rawBody, Map<String, String> headers) {
+    if (rawBody == null) {
+      return Collections.emptyMap();
+    }
+    if (FORM_URL_ENCODED.equalsIgnoreCase(extractContentType(headers))) {
+      String bodyAsString =
+          URLDecoder.decode(new String(rawBody, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+      return Arrays.stream(bodyAsString.split("&"))
+          .filter(Objects::nonNull)
+          .map(param -> param.split("="))
+          .collect(Collectors.toMap(param -> param[0], param -> param.length == 1 ? "" : param[1]));
+    }
+    // Do our best to parse to JSON (throws exception otherwise)
+    try {
+      return MAP_READER.readValue(rawBody);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Parses a body from a stream, without buffering JSON bodies as a whole. Meant for large bodies
+   * that are not held in memory.
+   *
+   * @param rawBody HTTP request body, may be null
+   * @param headers HTTP request headers, used to detect URL-encoded forms
+   * @return form parameters for URL-encoded bodies, the JSON object otherwise, or an empty map if
+   *     there is no body
+   * @throws RuntimeException if the body is neither a URL-encoded form nor a JSON object
+   */
+  public static Map<String, Object> parse(InputStream rawBody, Map<String, String> headers) {
+    if (rawBody == null) {
+      return Collections.emptyMap();
+    }
+    try {
+      if (FORM_URL_ENCODED.equalsIgnoreCase(extractContentType(headers))) {
+        return parse(rawBody.readAllBytes(), headers);
+      }
+      return MAP_READER.readValue(rawBody);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return value of the Content-Type header (case-insensitive lookup), or an empty string
+   */
+  public static String extractContentType(Map<String, String> headers) {
+    if (headers == null) {
+      return "";
+    }
+    return headers.entrySet().stream()
+        .filter(header -> CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getKey()))
+        .map(Map.Entry::getValue)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse("");
+  }
+}
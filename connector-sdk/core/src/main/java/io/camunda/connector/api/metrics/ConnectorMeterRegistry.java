@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.metrics;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registers meters of a Connector with the metrics backend of the Connector runtime. Meters are
+ * read through callbacks, so Connectors only keep the values they already track.
+ *
+ * @see ConnectorMeters
+ */
+public interface ConnectorMeterRegistry {
+
+  /**
+   * Registers a gauge, i.e. a value that can go up and down.
+   *
+   * @param name The name of the meter, e.g. {@code connector.http.client.connections}.
+   * @param description A human-readable description of the meter.
+   * @param unit The unit of the value, or {@code null} if it has none.
+   * @param tags Tags that distinguish meters of the same name.
+   * @param value Reads the current value.
+   */
+  void gauge(
+      String name, String description, String unit, Map<String, String> tags, DoubleSupplier value);
+
+  /**
+   * Registers a counter, i.e. a value that only increases.
+   *
+   * @param name The name of the meter, e.g. {@code connector.http.client.retries}.
+   * @param description A human-readable description of the meter.
+   * @param unit The unit of the value, or {@code null} if it has none.
+   * @param tags Tags that distinguish meters of the same name.
+   * @param value Reads the current count.
+   */
+  void counter(
+      String name, String description, String unit, Map<String, String> tags, DoubleSupplier value);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Metrics support for Connectors that hold shared resources, e.g. a connection pool. Meters are
+ * registered with the {@link ConnectorMeterRegistry} installed by the Connector runtime. Binding is
+ * deferred until the runtime installs its registry, so that Connectors loaded early don't miss it.
+ */
+public final class ConnectorMeters {
+
+  private static final List<Consumer<ConnectorMeterRegistry>> binders = new ArrayList<>();
+  private static ConnectorMeterRegistry installed;
+
+  private ConnectorMeters() {}
+
+  /**
+   * Called by the Connector runtime to share its meter registry with Connectors. Binds the meters
+   * registered so far and all meters registered later to this registry.
+   */
+  public static synchronized void install(ConnectorMeterRegistry registry) {
+    installed = registry;
+    binders.forEach(binder -> binder.accept(registry));
+  }
+
+  /**
+   * Registers meters with the given binder, right away if the runtime has installed its registry
+   * already, otherwise once it does. The binder is called again if the runtime installs another
+   * registry.
+   */
+  public static synchronized void bind(Consumer<ConnectorMeterRegistry> binder) {
+    binders.add(binder);
+    if (installed != null) {
+      binder.accept(installed);
+    }
+  }
+}
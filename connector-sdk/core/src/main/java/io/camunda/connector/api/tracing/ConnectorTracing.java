@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.tracing;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Tracing support for Connectors that instrument their own transport calls, e.g. a message
+ * published to a broker. Spans are created with the OpenTelemetry instance installed by the
+ * Connector runtime, which is a no-op one if the runtime has tracing disabled. Without an installed
+ * instance, the global one (e.g. registered by the OpenTelemetry Java agent) is used.
+ */
+public final class ConnectorTracing {
+
+  public static final String INSTRUMENTATION_SCOPE = "io.camunda.connector";
+
+  public static final AttributeKey<String> MESSAGING_SYSTEM =
+      AttributeKey.stringKey("messaging.system");
+  public static final AttributeKey<String> MESSAGING_DESTINATION_NAME =
+      AttributeKey.stringKey("messaging.destination.name");
+
+  private static volatile OpenTelemetry installed;
+
+  private ConnectorTracing() {}
+
+  /** Called by the Connector runtime to share its OpenTelemetry instance with Connectors. */
+  public static void install(OpenTelemetry openTelemetry) {
+    installed = openTelemetry;
+  }
+
+  public static OpenTelemetry openTelemetry() {
+    var openTelemetry = installed;
+    return openTelemetry != null ? openTelemetry : GlobalOpenTelemetry.get();
+  }
+
+  public static SpanBuilder spanBuilder(String name, SpanKind kind) {
+    return openTelemetry().getTracer(INSTRUMENTATION_SCOPE).spanBuilder(name).setSpanKind(kind);
+  }
+
+  /** Creates a producer or consumer span following the OpenTelemetry messaging conventions. */
+  public static SpanBuilder messagingSpanBuilder(
+      String name, SpanKind kind, String system, String destination) {
+    return spanBuilder(name, kind)
+        .setAttribute(MESSAGING_SYSTEM, system)
+        .setAttribute(MESSAGING_DESTINATION_NAME, destination);
+  }
+
+  /** Propagates the current trace context, e.g. into the headers of an outgoing message. */
+  public static <C> void inject(C carrier, TextMapSetter<C> setter) {
+    openTelemetry()
+        .getPropagators()
+        .getTextMapPropagator()
+        .inject(Context.current(), carrier, setter);
+  }
+
+  /**
+   * Extracts the trace context propagated by a remote producer, or returns the current context if
+   * the carrier holds none.
+   */
+  public static <C> Context extract(C carrier, TextMapGetter<C> getter) {
+    if (carrier == null) {
+      return Context.current();
+    }
+    return openTelemetry()
+        .getPropagators()
+        .getTextMapPropagator()
+        .extract(Context.current(), carrier, getter);
+  }
+
+  /**
+   * Runs the given action with the span as current span and ends the span afterwards. Exceptions
+   * thrown by the action are recorded on the span and rethrown.
+   */
+  public static <T, E extends Exception> T inSpan(Span span, SpanCallable<T, E> action) throws E {
+    try (var ignored = span.makeCurrent()) {
+      return action.call();
+    } catch (Exception | Error e) {
+      recordFailure(span, e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  /** Variant of {@link #inSpan(Span, SpanCallable)} for actions without a result. */
+  public static <E extends Exception> void runInSpan(Span span, SpanRunnable<E> action) throws E {
+    inSpan(
+        span,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  public static void recordFailure(Span span, Throwable t) {
+    span.recordException(t);
+    span.setStatus(StatusCode.ERROR);
+  }
+
+  @FunctionalInterface
+  public interface SpanCallable<T, E extends Exception> {
+    T call() throws E;
+  }
+
+  @FunctionalInterface
+  public interface SpanRunnable<E extends Exception> {
+    void run() throws E;
+  }
+}
@@ -169,6 +169,25 @@ public class FeelEngineWrapper {
   }
 
   private Object evaluateInternal(final String expression, final Object[] variables) {
+    var event = new FeelEvaluationEvent();
+    event.begin();
+    boolean success = false;
+    try {
+      var result = evaluateExpression(expression, variables);
+      success = true;
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.expressionHash = expression == null ? 0 : expression.hashCode();
+        event.expressionLength = expression == null ? 0 : expression.length();
+        event.success = success;
+        event.commit();
+      }
+    }
+  }
+
+  private Object evaluateExpression(final String expression, final Object[] variables) {
     var variablesAsMap = ensureVariablesMap(variables);
     var variablesAsMapAsScalaMap = toScalaMap(variablesAsMap);
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering a single FEEL expression evaluation. The expression itself is not recorded, as
+ * it may contain sensitive literals; its hash allows grouping evaluations of the same expression.
+ */
+@Name(FeelEvaluationEvent.NAME)
+@Label("FEEL Evaluation")
+@Description("Evaluation of a FEEL expression by the connector FEEL engine wrapper")
+@Category({"Camunda", "Connectors"})
+@StackTrace(false)
+final class FeelEvaluationEvent extends Event {
+
+  static final String NAME = "io.camunda.connector.FeelEvaluation";
+
+  @Label("Expression Hash")
+  int expressionHash;
+
+  @Label("Expression Length")
+  int expressionLength;
+
+  @Label("Success")
+  boolean success;
+}
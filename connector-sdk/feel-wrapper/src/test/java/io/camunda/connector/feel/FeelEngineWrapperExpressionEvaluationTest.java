@@ -22,6 +22,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
 import org.assertj.core.api.Assertions;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
@@ -313,5 +316,31 @@ class FeelEngineWrapperExpressionEvaluationTest {
         () -> objectUnderTest.evaluate(resultExpression, variables));
   }
 
+  @Test
+  void evaluate_ShouldRecordFlightRecorderEvents() {
+    // given
+    final var expression = "=a + 1";
+    final var events = new CopyOnWriteArrayList<RecordedEvent>();
+
+    // when
+    try (var recording = new RecordingStream()) {
+      recording.enable(FeelEvaluationEvent.NAME);
+      recording.onEvent(FeelEvaluationEvent.NAME, events::add);
+      recording.startAsync();
+      objectUnderTest.evaluate(expression, Map.of("a", 1));
+      assertThrows(
+          FeelEngineWrapperException.class, () -> objectUnderTest.evaluate("=a +", Map.of("a", 1)));
+      recording.stop();
+    }
+
+    // then
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0).getInt("expressionHash")).isEqualTo(expression.hashCode());
+    assertThat(events.get(0).getInt("expressionLength")).isEqualTo(expression.length());
+    assertThat(events.get(0).getBoolean("success")).isTrue();
+    assertThat(events.get(0).getDuration()).isPositive();
+    assertThat(events.get(1).getBoolean("success")).isFalse();
+  }
+
   record TestPojo(String value) {}
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.e2e;
+
+import static io.camunda.connector.e2e.BpmnFile.replace;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.e2e.app.TestConnectorRuntimeApplication;
+import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.inbound.importer.ProcessDefinitionSearch;
+import io.camunda.connector.runtime.inbound.lifecycle.InboundConnectorManager;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestExecutor;
+import io.camunda.operate.CamundaOperateClient;
+import io.camunda.operate.model.ProcessDefinition;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.model.bpmn.instance.Process;
+import io.camunda.zeebe.spring.test.ZeebeSpringTest;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Load test for the asynchronous webhook mode. Zeebe is stubbed with a correlation that blocks
+ * until the test releases it, while the servlet container only has {@link #REQUEST_THREADS} request
+ * threads.
+ */
+@SpringBootTest(
+    classes = {TestConnectorRuntimeApplication.class},
+    properties = {
+      "spring.main.allow-bean-definition-overriding=true",
+      "camunda.connector.webhook.enabled=true",
+      "camunda.connector.polling.enabled=true",
+      "camunda.connector.webhook.async.enabled=true",
+      "camunda.connector.webhook.max-in-flight-requests=" + WebhookLoadTests.MAX_IN_FLIGHT_REQUESTS,
+      "server.tomcat.threads.max=" + WebhookLoadTests.REQUEST_THREADS,
+      "server.tomcat.threads.min-spare=" + WebhookLoadTests.REQUEST_THREADS
+    },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ZeebeSpringTest
+public class WebhookLoadTests {
+
+  static final int REQUEST_THREADS = 4;
+  static final int MAX_IN_FLIGHT_REQUESTS = 64;
+  private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+  @Autowired ZeebeClient zeebeClient;
+
+  @MockBean ProcessDefinitionSearch processDefinitionSearch;
+
+  @MockBean InboundCorrelationHandler correlationHandler;
+
+  @Autowired InboundConnectorManager inboundManager;
+
+  @Autowired CamundaOperateClient camundaOperateClient;
+
+  @Autowired WebhookRequestExecutor requestExecutor;
+
+  @LocalServerPort int serverPort;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final AtomicInteger correlating = new AtomicInteger();
+  private final CountDownLatch correlationReleased = new CountDownLatch(1);
+
+  @BeforeEach
+  void beforeEach() throws Exception {
+    doNothing().when(processDefinitionSearch).query(any());
+    when(correlationHandler.correlate(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              correlating.incrementAndGet();
+              correlationReleased.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+              return new CorrelationResult.Success.ProcessInstanceCreated(
+                  1L, zeebeClient.getConfiguration().getDefaultTenantId());
+            });
+    deployWebhook();
+  }
+
+  @AfterEach
+  void afterEach() {
+    correlationReleased.countDown();
+    await().atMost(TIMEOUT).until(() -> requestExecutor.getInFlightRequests() == 0);
+  }
+
+  @Test
+  void slowCorrelation_shouldNotBlockRequestThreads() {
+    // when
+    var responses = sendConcurrently(MAX_IN_FLIGHT_REQUESTS);
+
+    // then many more requests correlate at the same time than there are request threads
+    await().atMost(TIMEOUT).until(() -> correlating.get() == MAX_IN_FLIGHT_REQUESTS);
+    correlationReleased.countDown();
+    assertThat(statusCodes(responses)).hasSize(MAX_IN_FLIGHT_REQUESTS).containsOnly(200);
+  }
+
+  @Test
+  void requestsOverInFlightLimit_shouldFailFast() {
+    // given
+    var accepted = sendConcurrently(MAX_IN_FLIGHT_REQUESTS);
+    await().atMost(TIMEOUT).until(() -> correlating.get() == MAX_IN_FLIGHT_REQUESTS);
+
+    // when
+    var rejected = sendConcurrently(MAX_IN_FLIGHT_REQUESTS * 2);
+
+    // then the rejected requests are answered while the correlations are still blocked
+    assertThat(statusCodes(rejected)).hasSize(MAX_IN_FLIGHT_REQUESTS * 2).containsOnly(503);
+    assertThat(correlationReleased.getCount()).isOne();
+    assertThat(requestExecutor.getRejectedRequests())
+        .isGreaterThanOrEqualTo(MAX_IN_FLIGHT_REQUESTS * 2);
+    correlationReleased.countDown();
+    assertThat(statusCodes(accepted)).hasSize(MAX_IN_FLIGHT_REQUESTS).containsOnly(200);
+  }
+
+  private List<CompletableFuture<HttpResponse<Void>>> sendConcurrently(int requests) {
+    var request =
+        HttpRequest.newBuilder(
+                URI.create("http://localhost:" + serverPort + "/inbound/test-webhook"))
+            .header("Authorization", "Bearer 123")
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString("{\"webhookExecuted\": true}"))
+            .build();
+    return IntStream.range(0, requests)
+        .mapToObj(i -> httpClient.sendAsync(request, BodyHandlers.discarding()))
+        .toList();
+  }
+
+  private static List<Integer> statusCodes(List<CompletableFuture<HttpResponse<Void>>> responses) {
+    return responses.stream()
+        .map(response -> response.orTimeout(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).join())
+        .map(HttpResponse::statusCode)
+        .toList();
+  }
+
+  private void deployWebhook() throws Exception {
+    var model = replace("webhook_connector.bpmn");
+    when(camundaOperateClient.getProcessDefinitionModel(1L)).thenReturn(model);
+    var processDef = mock(ProcessDefinition.class);
+    when(processDef.getKey()).thenReturn(1L);
+    when(processDef.getTenantId()).thenReturn(zeebeClient.getConfiguration().getDefaultTenantId());
+    when(processDef.getBpmnProcessId())
+        .thenReturn(model.getModelElementsByType(Process.class).stream().findFirst().get().getId());
+    inboundManager.handleNewProcessDefinitions(Set.of(processDef));
+  }
+}
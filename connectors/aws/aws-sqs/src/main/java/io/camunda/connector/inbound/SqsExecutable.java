@@ -25,13 +25,12 @@ import org.slf4j.LoggerFactory;
 public class SqsExecutable implements InboundConnectorExecutable {
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsExecutable.class);
   private final AmazonSQSClientSupplier sqsClientSupplier;
-  private final ExecutorService executorService;
+  private ExecutorService executorService;
   private AmazonSQS amazonSQS;
   private SqsQueueConsumer sqsQueueConsumer;
 
   public SqsExecutable() {
     this.sqsClientSupplier = new DefaultAmazonSQSClientSupplier();
-    this.executorService = Executors.newSingleThreadExecutor();
   }
 
   public SqsExecutable(
@@ -58,6 +57,14 @@ public class SqsExecutable implements InboundConnectorExecutable {
     if (sqsQueueConsumer == null) {
       sqsQueueConsumer = new SqsQueueConsumer(amazonSQS, properties, context);
     }
+    if (executorService == null) {
+      // prefer the executor shared by the runtime over a dedicated thread per consumer
+      executorService =
+          context
+              .getExecutor()
+              .map(ExecutorService.class::cast)
+              .orElseGet(Executors::newSingleThreadExecutor);
+    }
     executorService.execute(sqsQueueConsumer);
     LOGGER.debug("SQS queue consumer started successfully");
   }
@@ -8,14 +8,23 @@ package io.camunda.connector.inbound;
 
 import com.amazonaws.services.sqs.AmazonSQS;
 import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.amazonaws.services.sqs.model.ReceiveMessageResult;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,11 +33,19 @@ public class SqsQueueConsumer implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsQueueConsumer.class);
 
   private static final List<String> ALL_ATTRIBUTES_KEY = List.of("All");
+  private static final String SENT_TIMESTAMP_ATTRIBUTE = "SentTimestamp";
+  static final String OLDEST_MESSAGE_AGE_METRIC = "sqs.oldest-message-age-seconds";
 
   private final AmazonSQS sqsClient;
   private final SqsInboundProperties properties;
   private final InboundConnectorContext context;
   private final AtomicBoolean queueConsumerActive;
+  private static final long NO_PENDING_MESSAGE = Long.MAX_VALUE;
+
+  // sent time of the oldest received message that is not processed yet, in epoch millis; SQS only
+  // reports the age of the oldest message in the queue to CloudWatch, so messages not received
+  // yet are not covered
+  private final AtomicLong oldestPendingSentMillis = new AtomicLong(NO_PENDING_MESSAGE);
 
   public SqsQueueConsumer(
       AmazonSQS sqsClient, SqsInboundProperties properties, InboundConnectorContext context) {
@@ -41,6 +58,7 @@ public class SqsQueueConsumer implements Runnable {
   @Override
   public void run() {
     LOGGER.info("Started SQS consumer for queue {}", properties.getQueue().getUrl());
+    registerOldestMessageAgeGauge();
 
     final ReceiveMessageRequest receiveMessageRequest = createReceiveMessageRequest();
     ReceiveMessageResult receiveMessageResult;
@@ -48,21 +66,94 @@ public class SqsQueueConsumer implements Runnable {
       try {
         receiveMessageResult = sqsClient.receiveMessage(receiveMessageRequest);
         List<Message> messages = receiveMessageResult.getMessages();
-        for (Message message : messages) {
+        long[] oldestPendingSent = oldestSentMillisFrom(messages);
+        for (int i = 0; i < messages.size(); i++) {
+          Message message = messages.get(i);
+          oldestPendingSentMillis.set(oldestPendingSent[i]);
+          var sentTimestamp = getSentTimestamp(message);
           try {
-            context.correlate(MessageMapper.toSqsInboundMessage(message));
+            correlate(message);
             sqsClient.deleteMessage(properties.getQueue().getUrl(), message.getReceiptHandle());
+            sentTimestamp.ifPresent(
+                sent ->
+                    context.getMetrics().ifPresent(metrics -> metrics.recordEventLatency(sent)));
           } catch (ConnectorInputException e) {
             LOGGER.warn("NACK - failed to parse SQS message body: {}", e.getMessage());
           }
         }
       } catch (Exception e) {
         LOGGER.debug("NACK - failed to correlate event", e);
+      } finally {
+        oldestPendingSentMillis.set(NO_PENDING_MESSAGE);
       }
     } while (queueConsumerActive.get());
     LOGGER.info("Stopping SQS consumer for queue {}", properties.getQueue().getUrl());
   }
 
+  private void correlate(Message message) {
+    // continue the trace of the producer, if it propagated one in the message attributes; only
+    // received when the attribute names to receive include it or are left empty
+    var parentContext =
+        ConnectorTracing.extract(message.getMessageAttributes(), MessageAttributesGetter.INSTANCE);
+    var span =
+        ConnectorTracing.messagingSpanBuilder(
+                "sqs process", SpanKind.CONSUMER, "aws_sqs", properties.getQueue().getUrl())
+            .setParent(parentContext)
+            .startSpan();
+    ConnectorTracing.runInSpan(
+        span, () -> context.correlate(MessageMapper.toSqsInboundMessage(message)));
+  }
+
+  private Optional<Instant> getSentTimestamp(Message message) {
+    return Optional.ofNullable(message.getAttributes())
+        .map(attributes -> attributes.get(SENT_TIMESTAMP_ATTRIBUTE))
+        .flatMap(
+            timestamp -> {
+              try {
+                return Optional.of(Instant.ofEpochMilli(Long.parseLong(timestamp)));
+              } catch (NumberFormatException e) {
+                return Optional.empty();
+              }
+            });
+  }
+
+  /**
+   * Returns, for each message of the batch, the sent time of the oldest message from this one to
+   * the end of the batch, i.e. of the oldest message still pending while this one is processed.
+   */
+  private long[] oldestSentMillisFrom(List<Message> messages) {
+    long[] oldest = new long[messages.size()];
+    long oldestSoFar = NO_PENDING_MESSAGE;
+    for (int i = messages.size() - 1; i >= 0; i--) {
+      var sentTimestamp = getSentTimestamp(messages.get(i));
+      if (sentTimestamp.isPresent()) {
+        oldestSoFar = Math.min(oldestSoFar, sentTimestamp.get().toEpochMilli());
+      }
+      oldest[i] = oldestSoFar;
+    }
+    return oldest;
+  }
+
+  /** Age of the oldest received message that is not processed yet, 0 if there is none. */
+  private long oldestPendingMessageAgeSeconds() {
+    long sentMillis = oldestPendingSentMillis.get();
+    if (sentMillis == NO_PENDING_MESSAGE) {
+      return 0;
+    }
+    return Math.max(0, Duration.ofMillis(System.currentTimeMillis() - sentMillis).toSeconds());
+  }
+
+  private void registerOldestMessageAgeGauge() {
+    context
+        .getMetrics()
+        .ifPresent(
+            metrics ->
+                metrics.registerGauge(
+                    OLDEST_MESSAGE_AGE_METRIC,
+                    Map.of("queue", Objects.toString(properties.getQueue().getUrl(), "")),
+                    this::oldestPendingMessageAgeSeconds));
+  }
+
   private ReceiveMessageRequest createReceiveMessageRequest() {
     return new ReceiveMessageRequest()
         .withWaitTimeSeconds(Integer.valueOf(properties.getQueue().getPollingWaitTime()))
@@ -84,4 +175,20 @@ public class SqsQueueConsumer implements Runnable {
   public void setQueueConsumerActive(final boolean isQueueConsumerActive) {
     this.queueConsumerActive.set(isQueueConsumerActive);
   }
+
+  private enum MessageAttributesGetter
+      implements TextMapGetter<Map<String, MessageAttributeValue>> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(Map<String, MessageAttributeValue> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, MessageAttributeValue> carrier, String key) {
+      var value = carrier == null ? null : carrier.get(key);
+      return value == null ? null : value.getStringValue();
+    }
+  }
 }
@@ -8,6 +8,7 @@ package io.camunda.connector.outbound;
 
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
 import com.amazonaws.services.sqs.model.SendMessageRequest;
 import com.amazonaws.services.sqs.model.SendMessageResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -15,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.aws.AwsUtils;
 import io.camunda.connector.aws.CredentialsProviderSupport;
 import io.camunda.connector.aws.ObjectMapperSupplier;
@@ -23,6 +25,9 @@ import io.camunda.connector.common.suppliers.DefaultAmazonSQSClientSupplier;
 import io.camunda.connector.outbound.model.QueueRequestData;
 import io.camunda.connector.outbound.model.SqsConnectorRequest;
 import io.camunda.connector.outbound.model.SqsConnectorResult;
+import io.opentelemetry.api.trace.SpanKind;
+import java.util.HashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +38,8 @@ import org.slf4j.LoggerFactory;
 public class SqsConnectorFunction implements OutboundConnectorFunction {
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsConnectorFunction.class);
 
+  private static final int MAX_MESSAGE_ATTRIBUTES = 10;
+
   private final AmazonSQSClientSupplier sqsClientSupplier;
   private final ObjectMapper objectMapper;
 
@@ -69,7 +76,7 @@ public class SqsConnectorFunction implements OutboundConnectorFunction {
               .withMessageAttributes(queue.getAwsSqsNativeMessageAttributes())
               .withMessageGroupId(queue.getMessageGroupId())
               .withMessageDeduplicationId(queue.getMessageDeduplicationId());
-      return sqsClient.sendMessage(message);
+      return send(sqsClient, message);
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Error mapping payload to json.");
     } finally {
@@ -78,4 +85,28 @@ public class SqsConnectorFunction implements OutboundConnectorFunction {
       }
     }
   }
+
+  private SendMessageResult send(final AmazonSQS sqsClient, final SendMessageRequest message) {
+    var span =
+        ConnectorTracing.messagingSpanBuilder(
+                "sqs publish", SpanKind.PRODUCER, "aws_sqs", message.getQueueUrl())
+            .startSpan();
+    return ConnectorTracing.inSpan(span, () -> sqsClient.sendMessage(withTraceContext(message)));
+  }
+
+  /** Propagates the trace to the consumers in a copy of the message attributes. */
+  private static SendMessageRequest withTraceContext(final SendMessageRequest message) {
+    var attributes = new HashMap<>(message.getMessageAttributes());
+    ConnectorTracing.inject(attributes, SqsConnectorFunction::setMessageAttribute);
+    return message.clone().withMessageAttributes(attributes);
+  }
+
+  private static void setMessageAttribute(
+      Map<String, MessageAttributeValue> attributes, String key, String value) {
+    // SQS rejects messages with more than 10 attributes, user attributes take precedence
+    if (attributes.size() < MAX_MESSAGE_ATTRIBUTES) {
+      attributes.put(
+          key, new MessageAttributeValue().withDataType("String").withStringValue(value));
+    }
+  }
 }
@@ -8,9 +8,12 @@ package io.camunda.connector.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.sqs.AmazonSQS;
@@ -18,11 +21,18 @@ import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.amazonaws.services.sqs.model.ReceiveMessageResult;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
 import io.camunda.connector.inbound.model.SqsInboundQueueProperties;
 import io.camunda.connector.inbound.model.message.SqsInboundMessage;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,7 +49,6 @@ public class SqsQueueConsumerTest {
   private SqsInboundQueueProperties queue;
   @Mock private InboundConnectorContext context;
   @Mock private ReceiveMessageResult receiveMessageResult;
-  @Mock private List<Message> messages;
   private Message message;
   @Captor private ArgumentCaptor<ReceiveMessageRequest> requestArgumentCaptor;
   private List<Message> emptyMessageList;
@@ -69,10 +78,9 @@ public class SqsQueueConsumerTest {
     // given
     when(sqsClient.receiveMessage(requestArgumentCaptor.capture()))
         .thenReturn(receiveMessageResult);
-    when(receiveMessageResult.getMessages()).thenReturn(messages);
-    when(messages.iterator())
-        .thenReturn(Collections.singletonList(message).iterator())
-        .thenReturn(emptyMessageList.iterator());
+    when(receiveMessageResult.getMessages())
+        .thenReturn(Collections.singletonList(message))
+        .thenReturn(emptyMessageList);
     // when
     Thread thread =
         new Thread(
@@ -100,10 +108,9 @@ public class SqsQueueConsumerTest {
     queue.setMessageAttributeNames(messageAttributeNames);
     when(sqsClient.receiveMessage(requestArgumentCaptor.capture()))
         .thenReturn(receiveMessageResult);
-    when(receiveMessageResult.getMessages()).thenReturn(messages);
-    when(messages.iterator())
-        .thenReturn(Collections.singletonList(message).iterator())
-        .thenReturn(emptyMessageList.iterator());
+    when(receiveMessageResult.getMessages())
+        .thenReturn(Collections.singletonList(message))
+        .thenReturn(emptyMessageList);
     // when
     Thread thread =
         new Thread(
@@ -137,7 +144,87 @@ public class SqsQueueConsumerTest {
     thread.start();
     consumer.setQueueConsumerActive(false);
     thread.join();
+    // then only the metrics were looked up
+    verify(context).getMetrics();
+    verifyNoMoreInteractions(context);
+  }
+
+  @Test
+  void run_shouldReportMetrics() throws InterruptedException {
+    // given
+    var metrics = mock(InboundConnectorMetrics.class);
+    when(context.getMetrics()).thenReturn(Optional.of(metrics));
+
+    var sentTimestamp = Instant.now().minusSeconds(120);
+    message.addAttributesEntry("SentTimestamp", String.valueOf(sentTimestamp.toEpochMilli()));
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(receiveMessageResult);
+    when(receiveMessageResult.getMessages())
+        .thenReturn(Collections.singletonList(message))
+        .thenReturn(emptyMessageList);
+
+    // when
+    Thread thread = new Thread(consumer::run);
+    thread.start();
+    consumer.setQueueConsumerActive(false);
+    thread.join();
+
     // then
-    verifyNoInteractions(context);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ArgumentCaptor<Supplier<Number>> oldestMessageAge =
+        (ArgumentCaptor) ArgumentCaptor.forClass(Supplier.class);
+    verify(metrics)
+        .registerGauge(
+            eq(SqsQueueConsumer.OLDEST_MESSAGE_AGE_METRIC),
+            eq(Map.of("queue", "my-queue")),
+            oldestMessageAge.capture());
+    verify(metrics).recordEventLatency(Instant.ofEpochMilli(sentTimestamp.toEpochMilli()));
+    assertThat(oldestMessageAge.getValue().get().longValue()).isBetween(0L, 125L);
+  }
+
+  @Test
+  void run_shouldReportAgeOfOldestMessageNotProcessedYet() {
+    // given a batch with an old and a recent message
+    var metrics = mock(InboundConnectorMetrics.class);
+    when(context.getMetrics()).thenReturn(Optional.of(metrics));
+    var oldestMessageAge = new AtomicReference<Supplier<Number>>();
+    doAnswer(
+            invocation -> {
+              oldestMessageAge.set(invocation.getArgument(2));
+              return null;
+            })
+        .when(metrics)
+        .registerGauge(eq(SqsQueueConsumer.OLDEST_MESSAGE_AGE_METRIC), any(), any());
+    var old = sentAgo("old", 120);
+    var recent = sentAgo("recent", 10);
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(receiveMessageResult);
+    when(receiveMessageResult.getMessages()).thenReturn(List.of(old, recent));
+    List<Long> agesDuringCorrelation = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              agesDuringCorrelation.add(oldestMessageAge.get().get().longValue());
+              return null;
+            })
+        .when(context)
+        .correlate(any());
+
+    // when
+    consumer.setQueueConsumerActive(false);
+    consumer.run();
+
+    // then
+    assertThat(agesDuringCorrelation).hasSize(2);
+    assertThat(agesDuringCorrelation.get(0)).isBetween(120L, 125L);
+    assertThat(agesDuringCorrelation.get(1)).isBetween(10L, 15L);
+    assertThat(oldestMessageAge.get().get().longValue()).isZero();
+  }
+
+  private static Message sentAgo(String id, long seconds) {
+    return new Message()
+        .withMessageId(id)
+        .withBody("body msg")
+        .addAttributesEntry(
+            "SentTimestamp", String.valueOf(Instant.now().minusSeconds(seconds).toEpochMilli()));
   }
 }
@@ -14,6 +14,7 @@ import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.json.JsonHttpContent;
 import com.google.api.client.json.gson.GsonFactory;
 import io.camunda.connector.api.annotation.OutboundConnector;
@@ -30,17 +31,25 @@ import io.camunda.connector.http.base.services.AuthenticationService;
 import io.camunda.connector.http.base.services.HttpInteractionService;
 import io.camunda.connector.http.base.services.HttpProxyService;
 import io.camunda.connector.http.base.services.HttpRequestMapper;
+import io.camunda.connector.http.base.services.OAuthTokenCache;
+import io.camunda.connector.http.graphql.components.GraphQLBatcher;
 import io.camunda.connector.http.graphql.components.HttpTransportComponentSupplier;
 import io.camunda.connector.http.graphql.model.GraphQLRequest;
 import io.camunda.connector.http.graphql.model.GraphQLRequestWrapper;
 import io.camunda.connector.http.graphql.model.GraphQLResult;
 import io.camunda.connector.http.graphql.utils.GraphQLRequestMapper;
 import io.camunda.connector.http.graphql.utils.JsonSerializeHelper;
+import io.camunda.connector.http.graphql.utils.PersistedQueries;
+import io.camunda.connector.http.graphql.utils.PersistedQueries.Outcome;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,10 +61,14 @@ import org.slf4j.LoggerFactory;
 public class GraphQLFunction implements OutboundConnectorFunction {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLFunction.class);
+  private static final String UNAUTHORIZED = "401";
 
   private final ObjectMapper objectMapper;
   private final GsonFactory gsonFactory;
   private final HttpRequestFactory requestFactory;
+  private final OAuthTokenCache tokenCache;
+  private final GraphQLBatcher batcher;
+  private final Set<String> persistedQueriesUnsupported = ConcurrentHashMap.newKeySet();
 
   private final String proxyFunctionUrl;
 
@@ -76,10 +89,42 @@ public class GraphQLFunction implements OutboundConnectorFunction {
       final HttpRequestFactory requestFactory,
       final GsonFactory gsonFactory,
       final String proxyFunctionUrl) {
+    this(
+        objectMapper,
+        requestFactory,
+        gsonFactory,
+        proxyFunctionUrl,
+        OAuthTokenCache.sharedInstance());
+  }
+
+  public GraphQLFunction(
+      final ObjectMapper objectMapper,
+      final HttpRequestFactory requestFactory,
+      final GsonFactory gsonFactory,
+      final String proxyFunctionUrl,
+      final OAuthTokenCache tokenCache) {
+    this(
+        objectMapper,
+        requestFactory,
+        gsonFactory,
+        proxyFunctionUrl,
+        tokenCache,
+        GraphQLBatcher.sharedInstance());
+  }
+
+  public GraphQLFunction(
+      final ObjectMapper objectMapper,
+      final HttpRequestFactory requestFactory,
+      final GsonFactory gsonFactory,
+      final String proxyFunctionUrl,
+      final OAuthTokenCache tokenCache,
+      final GraphQLBatcher batcher) {
     this.objectMapper = objectMapper;
     this.requestFactory = requestFactory;
     this.gsonFactory = gsonFactory;
     this.proxyFunctionUrl = proxyFunctionUrl;
+    this.tokenCache = tokenCache;
+    this.batcher = batcher;
   }
 
   @Override
@@ -94,24 +139,123 @@ public class GraphQLFunction implements OutboundConnectorFunction {
   }
 
   private GraphQLResult executeGraphQLConnector(final GraphQLRequest connectorRequest)
-      throws IOException, InstantiationException, IllegalAccessException {
+      throws IOException {
     // connector logic
     LOGGER.debug("Executing graphql connector with request {}", connectorRequest);
     HttpInteractionService httpInteractionService = new HttpInteractionService(objectMapper);
     String bearerToken = null;
-    if (connectorRequest.getAuthentication() != null
-        && connectorRequest.getAuthentication() instanceof OAuthAuthentication) {
+    if (connectorRequest.getAuthentication() instanceof OAuthAuthentication authentication) {
       AuthenticationService authService = new AuthenticationService(objectMapper, requestFactory);
-      final com.google.api.client.http.HttpRequest oauthRequest =
-          authService.createOAuthRequest(connectorRequest);
-      final HttpResponse oauthResponse = httpInteractionService.executeHttpRequest(oauthRequest);
-      bearerToken = authService.extractOAuthAccessToken(oauthResponse);
+      bearerToken =
+          tokenCache.getAccessToken(
+              authentication,
+              () -> {
+                final com.google.api.client.http.HttpRequest oauthRequest =
+                    authService.createOAuthRequest(connectorRequest);
+                final HttpResponse oauthResponse =
+                    httpInteractionService.executeHttpRequest(oauthRequest);
+                return authService.extractOAuthToken(oauthResponse);
+              });
+    }
+
+    final String token = bearerToken;
+    if (connectorRequest.isBatched() && HttpMethod.POST.equals(connectorRequest.getMethod())) {
+      return batcher.submit(
+          connectorRequest.getUrl(),
+          BatchKey.of(connectorRequest, HttpRequestMapper.createHeaders(connectorRequest, token)),
+          Duration.ofMillis(connectorRequest.getBatchWindowInMillis()),
+          JsonSerializeHelper.queryAndVariablesToMap(connectorRequest),
+          body -> send(connectorRequest, token, body, httpInteractionService));
+    }
+    if (connectorRequest.isPersistedQuery()) {
+      return executePersistedQuery(connectorRequest, bearerToken, httpInteractionService);
     }
+    return send(
+        connectorRequest,
+        bearerToken,
+        JsonSerializeHelper.queryAndVariablesToMap(connectorRequest),
+        httpInteractionService);
+  }
+
+  /**
+   * Sends the hash of the query only. The query is sent along if the server does not know the hash
+   * yet, and instead of the hash if the server does not support persisted queries.
+   */
+  private GraphQLResult executePersistedQuery(
+      final GraphQLRequest request,
+      final String bearerToken,
+      final HttpInteractionService httpInteractionService)
+      throws IOException {
+    final Map<String, Object> operation = JsonSerializeHelper.queryAndVariablesToMap(request);
+    if (persistedQueriesUnsupported.contains(request.getUrl())) {
+      return send(request, bearerToken, operation, httpInteractionService);
+    }
+    final Map<String, Object> extensions =
+        PersistedQueries.extensions(JsonSerializeHelper.getEscapedQuery(request));
+    final Map<String, Object> hashOnly = new HashMap<>(operation);
+    hashOnly.remove("query");
+    hashOnly.put("extensions", extensions);
+
+    GraphQLResult result = null;
+    Outcome outcome;
+    try {
+      result = send(request, bearerToken, hashOnly, httpInteractionService);
+      outcome = PersistedQueries.outcome(result.getBody());
+    } catch (ConnectorException e) {
+      outcome = PersistedQueries.outcome(errorBody(e));
+      if (outcome == Outcome.ANSWERED) {
+        throw e;
+      }
+    }
+    return switch (outcome) {
+      case ANSWERED -> result;
+      case NOT_FOUND -> {
+        operation.put("extensions", extensions);
+        yield send(request, bearerToken, operation, httpInteractionService);
+      }
+      case NOT_SUPPORTED -> {
+        LOGGER.debug("Persisted queries are not supported by {}", request.getUrl());
+        persistedQueriesUnsupported.add(request.getUrl());
+        yield send(request, bearerToken, operation, httpInteractionService);
+      }
+    };
+  }
 
+  private GraphQLResult send(
+      final GraphQLRequest request,
+      final String bearerToken,
+      final Object body,
+      final HttpInteractionService httpInteractionService)
+      throws IOException {
     final com.google.api.client.http.HttpRequest httpRequest =
-        createRequest(connectorRequest, bearerToken);
-    HttpResponse httpResponse = httpInteractionService.executeHttpRequest(httpRequest);
-    return httpInteractionService.toHttpResponse(httpResponse, GraphQLResult.class);
+        createRequest(request, bearerToken, body);
+    HttpResponse httpResponse;
+    try {
+      httpResponse = httpInteractionService.executeHttpRequest(httpRequest);
+    } catch (ConnectorException e) {
+      // a rejected token may have been revoked before it expired, fetch a new one next time
+      if (request.getAuthentication() instanceof OAuthAuthentication authentication
+          && UNAUTHORIZED.equals(e.getErrorCode())) {
+        tokenCache.invalidate(authentication);
+      }
+      throw e;
+    }
+    try {
+      return httpInteractionService.toHttpResponse(httpResponse, GraphQLResult.class);
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new ConnectorException("Failed to create the result: " + e.getMessage(), e);
+    }
+  }
+
+  private Object errorBody(final ConnectorException e) {
+    if (e.getCause() instanceof HttpResponseException response && response.getContent() != null) {
+      try {
+        return objectMapper.readValue(response.getContent(), Object.class);
+      } catch (IOException ignored) {
+        // not a GraphQL response
+      }
+    }
+    return null;
   }
 
   private HttpCommonResult executeGraphQLConnectorViaProxy(GraphQLRequest request)
@@ -137,15 +281,29 @@ public class GraphQLFunction implements OutboundConnectorFunction {
 
   public com.google.api.client.http.HttpRequest createRequest(
       final GraphQLRequest request, String bearerToken) throws IOException {
+    return createRequest(request, bearerToken, JsonSerializeHelper.queryAndVariablesToMap(request));
+  }
+
+  /**
+   * @param body a single operation, or a list of operations for a batch
+   */
+  private com.google.api.client.http.HttpRequest createRequest(
+      final GraphQLRequest request, String bearerToken, Object body) throws IOException {
     final GenericUrl genericUrl = new GenericUrl(request.getUrl());
     HttpContent content = null;
     final HttpHeaders headers = HttpRequestMapper.createHeaders(request, bearerToken);
-    final Map<String, Object> queryAndVariablesMap =
-        JsonSerializeHelper.queryAndVariablesToMap(request);
     if (HttpMethod.POST.equals(request.getMethod())) {
-      content = new JsonHttpContent(gsonFactory, queryAndVariablesMap);
-    } else {
-      genericUrl.putAll(queryAndVariablesMap);
+      content = new JsonHttpContent(gsonFactory, body);
+    } else if (body instanceof Map<?, ?> parameters) {
+      for (var parameter : parameters.entrySet()) {
+        Object value = parameter.getValue();
+        // GET requests carry the extensions as JSON encoded query parameter
+        genericUrl.put(
+            String.valueOf(parameter.getKey()),
+            "extensions".equals(parameter.getKey())
+                ? objectMapper.writeValueAsString(value)
+                : value);
+      }
     }
 
     final var httpRequest =
@@ -156,4 +314,30 @@ public class GraphQLFunction implements OutboundConnectorFunction {
 
     return httpRequest;
   }
+
+  /**
+   * Operations are batched if they go to the same endpoint on behalf of the same client. For OAuth,
+   * the client is identified by its configuration rather than by the Authorization header, which
+   * changes whenever the token is refreshed.
+   */
+  private record BatchKey(
+      String url, Map<String, Object> headers, Object client, Integer connectionTimeout) {
+
+    private static BatchKey of(final GraphQLRequest request, final Map<String, Object> headers) {
+      if (!(request.getAuthentication() instanceof OAuthAuthentication authentication)) {
+        return new BatchKey(
+            request.getUrl(),
+            new HashMap<>(headers),
+            null,
+            request.getConnectionTimeoutInSeconds());
+      }
+      Map<String, Object> otherHeaders = new HashMap<>(headers);
+      otherHeaders.keySet().removeIf("Authorization"::equalsIgnoreCase);
+      return new BatchKey(
+          request.getUrl(),
+          otherHeaders,
+          OAuthTokenCache.clientIdentity(authentication),
+          request.getConnectionTimeoutInSeconds());
+    }
+  }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.graphql.components;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.http.graphql.model.GraphQLResult;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines GraphQL operations sent to the same endpoint within a short window into one batched
+ * request, whose body is the array of operations. The first operation of a batch waits for the
+ * window to pass, or for the batch to be full, and sends the request on its own thread; the others
+ * wait for their element of the response array.
+ *
+ * <p>If the endpoint answers a batch with 400 or with something else than an array of the same
+ * length, it is assumed not to support batching: the operations are sent one by one, and later
+ * operations for the same endpoint are not batched anymore. This is remembered per endpoint URL
+ * rather than per key, so credentials that change over time do not add entries.
+ */
+public class GraphQLBatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLBatcher.class);
+
+  static final int DEFAULT_MAX_BATCH_SIZE = 20;
+  private static final String BAD_REQUEST = "400";
+
+  private static final GraphQLBatcher SHARED_INSTANCE = new GraphQLBatcher(DEFAULT_MAX_BATCH_SIZE);
+
+  private final int maxBatchSize;
+  private final Map<Object, Batch> batches = new ConcurrentHashMap<>();
+  private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+
+  public GraphQLBatcher(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /** Batcher shared by all GraphQL connectors of this runtime. */
+  public static GraphQLBatcher sharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  /**
+   * Sends the operation, batched with other operations submitted with an equal key.
+   *
+   * @param endpoint the URL of the endpoint, remembered if it does not support batching
+   * @param key identifies the endpoint, operations are only combined if their requests would be
+   *     identical apart from the body
+   * @param window time to wait for further operations
+   * @param operation the body of the operation
+   * @param sender sends a single operation or a list of operations
+   */
+  public GraphQLResult submit(
+      final String endpoint,
+      final Object key,
+      final Duration window,
+      final Map<String, Object> operation,
+      final Sender sender)
+      throws IOException {
+    if (unsupported.contains(endpoint)) {
+      return sender.send(operation);
+    }
+    while (true) {
+      Batch batch = batches.computeIfAbsent(key, k -> new Batch(maxBatchSize));
+      CompletableFuture<GraphQLResult> result = batch.add(operation);
+      if (result == null) {
+        // the batch was closed in the meantime
+        batches.remove(key, batch);
+        continue;
+      }
+      if (batch.isLeader(result)) {
+        batch.awaitFull(window);
+        batches.remove(key, batch);
+        flush(endpoint, batch.close(), batch.results, sender);
+      }
+      return await(result);
+    }
+  }
+
+  private void flush(
+      final String endpoint,
+      final List<Map<String, Object>> operations,
+      final List<CompletableFuture<GraphQLResult>> results,
+      final Sender sender) {
+    if (operations.size() > 1) {
+      try {
+        GraphQLResult response = sender.send(operations);
+        if (response.getBody() instanceof List<?> bodies && bodies.size() == operations.size()) {
+          for (int i = 0; i < bodies.size(); i++) {
+            results.get(i).complete(element(response, bodies.get(i)));
+          }
+          return;
+        }
+      } catch (ConnectorException e) {
+        if (!BAD_REQUEST.equals(e.getErrorCode())) {
+          results.forEach(result -> result.completeExceptionally(e));
+          return;
+        }
+      } catch (IOException | RuntimeException e) {
+        results.forEach(result -> result.completeExceptionally(e));
+        return;
+      }
+      LOGGER.info("GraphQL endpoint does not support batching, sending operations one by one");
+      unsupported.add(endpoint);
+    }
+    for (int i = 0; i < operations.size(); i++) {
+      try {
+        results.get(i).complete(sender.send(operations.get(i)));
+      } catch (IOException | RuntimeException e) {
+        results.get(i).completeExceptionally(e);
+      }
+    }
+  }
+
+  private static GraphQLResult element(final GraphQLResult response, final Object body) {
+    var result = new GraphQLResult();
+    result.setStatus(response.getStatus());
+    result.setHeaders(response.getHeaders());
+    result.setBody(body);
+    return result;
+  }
+
+  private static GraphQLResult await(final CompletableFuture<GraphQLResult> result)
+      throws IOException {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConnectorException("Interrupted while waiting for the batched GraphQL request", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new ConnectorException(e.getCause());
+    }
+  }
+
+  @FunctionalInterface
+  public interface Sender {
+    /**
+     * Sends the body, either a single operation or a list of operations.
+     *
+     * @return the response, its body is an array for a list of operations
+     */
+    GraphQLResult send(Object body) throws IOException;
+  }
+
+  private static final class Batch {
+
+    private final int maxSize;
+    private final List<Map<String, Object>> operations = new ArrayList<>();
+    private final List<CompletableFuture<GraphQLResult>> results = new ArrayList<>();
+    private final CountDownLatch full = new CountDownLatch(1);
+    private boolean closed;
+
+    private Batch(final int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    /** Returns null if the batch does not accept operations anymore. */
+    private synchronized CompletableFuture<GraphQLResult> add(final Map<String, Object> operation) {
+      if (closed) {
+        return null;
+      }
+      var result = new CompletableFuture<GraphQLResult>();
+      operations.add(operation);
+      results.add(result);
+      if (operations.size() >= maxSize) {
+        closed = true;
+        full.countDown();
+      }
+      return result;
+    }
+
+    private synchronized boolean isLeader(final CompletableFuture<GraphQLResult> result) {
+      return results.get(0) == result;
+    }
+
+    private void awaitFull(final Duration window) {
+      try {
+        full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        // send what has been collected so far
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private synchronized List<Map<String, Object>> close() {
+      closed = true;
+      return List.copyOf(operations);
+    }
+  }
+}
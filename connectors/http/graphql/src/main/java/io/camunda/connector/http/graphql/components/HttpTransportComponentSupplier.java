@@ -7,21 +7,14 @@
 package io.camunda.connector.http.graphql.components;
 
 import com.google.api.client.http.HttpRequestFactory;
-import com.google.api.client.http.HttpTransport;
-import com.google.api.client.http.apache.v2.ApacheHttpTransport;
-import com.google.api.client.json.JsonObjectParser;
-import com.google.api.client.json.gson.GsonFactory;
 
 public class HttpTransportComponentSupplier {
 
   private HttpTransportComponentSupplier() {}
 
-  private static final HttpTransport HTTP_TRANSPORT = new ApacheHttpTransport();
-  private static final HttpRequestFactory REQUEST_FACTORY =
-      HTTP_TRANSPORT.createRequestFactory(
-          request -> request.setParser(new JsonObjectParser(new GsonFactory())));
-
+  /** Shares the connection pool of the other HTTP based connectors. */
   public static HttpRequestFactory httpRequestFactoryInstance() {
-    return REQUEST_FACTORY;
+    return io.camunda.connector.http.base.components.HttpTransportComponentSupplier
+        .httpRequestFactoryInstance();
   }
 }
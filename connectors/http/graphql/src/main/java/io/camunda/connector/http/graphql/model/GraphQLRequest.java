@@ -8,6 +8,7 @@ package io.camunda.connector.http.graphql.model;
 
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.Objects;
 
 public class GraphQLRequest extends HttpCommonRequest {
@@ -15,6 +16,14 @@ public class GraphQLRequest extends HttpCommonRequest {
   @NotBlank private String query;
   private Object variables;
 
+  /**
+   * Send the hash of the query first, following the Apollo automatic persisted queries protocol.
+   */
+  private boolean persistedQuery;
+
+  /** Combine POST operations sent to the same endpoint within this window into one request. */
+  @PositiveOrZero private Integer batchWindowInMillis;
+
   public boolean hasQuery() {
     return query != null;
   }
@@ -35,21 +44,54 @@ public class GraphQLRequest extends HttpCommonRequest {
     this.variables = variables;
   }
 
+  public boolean isPersistedQuery() {
+    return persistedQuery;
+  }
+
+  public void setPersistedQuery(boolean persistedQuery) {
+    this.persistedQuery = persistedQuery;
+  }
+
+  public Integer getBatchWindowInMillis() {
+    return batchWindowInMillis;
+  }
+
+  public void setBatchWindowInMillis(Integer batchWindowInMillis) {
+    this.batchWindowInMillis = batchWindowInMillis;
+  }
+
+  public boolean isBatched() {
+    return batchWindowInMillis != null && batchWindowInMillis > 0;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     GraphQLRequest that = (GraphQLRequest) o;
-    return query.equals(that.query) && Objects.equals(variables, that.variables);
+    return query.equals(that.query)
+        && Objects.equals(variables, that.variables)
+        && persistedQuery == that.persistedQuery
+        && Objects.equals(batchWindowInMillis, that.batchWindowInMillis);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(query, variables);
+    return Objects.hash(query, variables, persistedQuery, batchWindowInMillis);
   }
 
   @Override
   public String toString() {
-    return "GraphQLRequest{" + "query='" + query + '\'' + ", variables=" + variables + '}';
+    return "GraphQLRequest{"
+        + "query='"
+        + query
+        + '\''
+        + ", variables="
+        + variables
+        + ", persistedQuery="
+        + persistedQuery
+        + ", batchWindowInMillis="
+        + batchWindowInMillis
+        + '}';
   }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.graphql.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers for the Apollo automatic persisted queries protocol. A request carries the SHA-256 hash
+ * of the query in {@code extensions.persistedQuery}, the server answers with {@code
+ * PersistedQueryNotFound} if it does not know the hash yet and with {@code
+ * PersistedQueryNotSupported} if it does not implement the protocol.
+ */
+public final class PersistedQueries {
+
+  public enum Outcome {
+    /** The server executed the operation, or failed for another reason. */
+    ANSWERED,
+    /** The hash is unknown, the query must be sent along with it. */
+    NOT_FOUND,
+    /** The server does not support persisted queries. */
+    NOT_SUPPORTED
+  }
+
+  static final String NOT_FOUND = "PersistedQueryNotFound";
+  static final String NOT_SUPPORTED = "PersistedQueryNotSupported";
+  private static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+  private static final String NOT_SUPPORTED_CODE = "PERSISTED_QUERY_NOT_SUPPORTED";
+
+  private PersistedQueries() {}
+
+  /** The {@code extensions} entry announcing the hash of the query. */
+  public static Map<String, Object> extensions(final String query) {
+    return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", sha256(query)));
+  }
+
+  public static String sha256(final String query) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** Inspects the {@code errors} of a GraphQL response body. */
+  public static Outcome outcome(final Object body) {
+    if (!(body instanceof Map<?, ?> response)
+        || !(response.get("errors") instanceof List<?> errors)) {
+      return Outcome.ANSWERED;
+    }
+    for (Object error : errors) {
+      if (!(error instanceof Map<?, ?> details)) {
+        continue;
+      }
+      Object code =
+          details.get("extensions") instanceof Map<?, ?> extensions ? extensions.get("code") : null;
+      if (NOT_FOUND.equals(details.get("message")) || NOT_FOUND_CODE.equals(code)) {
+        return Outcome.NOT_FOUND;
+      }
+      if (NOT_SUPPORTED.equals(details.get("message")) || NOT_SUPPORTED_CODE.equals(code)) {
+        return Outcome.NOT_SUPPORTED;
+      }
+    }
+    return Outcome.ANSWERED;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.http.base.services.OAuthTokenCache;
+import io.camunda.connector.http.graphql.components.GraphQLBatcher;
+import io.camunda.connector.http.graphql.model.GraphQLResult;
+import io.camunda.connector.http.graphql.utils.PersistedQueries;
+import io.camunda.connector.test.outbound.OutboundConnectorContextBuilder;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the connector against a local GraphQL server implementing persisted queries and batching.
+ */
+public class GraphQLStubServerTest {
+
+  private static final String QUERY = "query Order($id: ID) { order(id: $id) { id status } }";
+
+  private final ObjectMapper objectMapper = ConnectorsObjectMapperSupplier.getCopy();
+  private final List<JsonNode> receivedBodies = new CopyOnWriteArrayList<>();
+  private final Map<String, String> persistedQueries = new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private volatile boolean supportsPersistedQueries = true;
+  private volatile boolean supportsBatching = true;
+  private HttpServer server;
+  private GraphQLFunction function;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/graphql", this::handle);
+    server.setExecutor(Executors.newFixedThreadPool(4));
+    server.start();
+    function =
+        new GraphQLFunction(
+            objectMapper,
+            new NetHttpTransport().createRequestFactory(),
+            new GsonFactory(),
+            null,
+            OAuthTokenCache.sharedInstance(),
+            new GraphQLBatcher(20));
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void persistedQuery_isRegisteredOnceAndThenSentAsHash() throws Exception {
+    // when
+    var first = execute("1", true, null);
+    var second = execute("2", true, null);
+
+    // then
+    assertThat(data(first)).isEqualTo(Map.of("order", Map.of("id", "1")));
+    assertThat(data(second)).isEqualTo(Map.of("order", Map.of("id", "2")));
+    assertThat(receivedBodies).hasSize(3);
+    assertThat(receivedBodies.get(0).has("query")).isFalse();
+    assertThat(receivedBodies.get(1).get("query").asText()).isEqualTo(QUERY);
+    assertThat(receivedBodies.get(1).at("/extensions/persistedQuery/sha256Hash").asText())
+        .isEqualTo(PersistedQueries.sha256(QUERY));
+    assertThat(receivedBodies.get(2).has("query")).isFalse();
+  }
+
+  @Test
+  void persistedQuery_fallsBackToFullQueryIfNotSupported() throws Exception {
+    // given
+    supportsPersistedQueries = false;
+
+    // when
+    var first = execute("1", true, null);
+    var second = execute("2", true, null);
+
+    // then the hash is only tried once
+    assertThat(data(first)).isEqualTo(Map.of("order", Map.of("id", "1")));
+    assertThat(data(second)).isEqualTo(Map.of("order", Map.of("id", "2")));
+    assertThat(receivedBodies).hasSize(3);
+    assertThat(receivedBodies.get(1).has("extensions")).isFalse();
+    assertThat(receivedBodies.get(2).get("query").asText()).isEqualTo(QUERY);
+  }
+
+  @Test
+  void concurrentOperations_areSentAsOneBatch() throws Exception {
+    // when
+    List<Future<GraphQLResult>> results =
+        List.of(
+            executor.submit(() -> execute("1", false, 500)),
+            executor.submit(() -> execute("2", false, 500)),
+            executor.submit(() -> execute("3", false, 500)));
+
+    // then
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(data(results.get(i).get()))
+          .isEqualTo(Map.of("order", Map.of("id", String.valueOf(i + 1))));
+    }
+    assertThat(receivedBodies).hasSize(1);
+    assertThat(receivedBodies.get(0).isArray()).isTrue();
+    assertThat(receivedBodies.get(0)).hasSize(3);
+  }
+
+  @Test
+  void batch_isSentOneByOneIfNotSupported() throws Exception {
+    // given
+    supportsBatching = false;
+
+    // when
+    List<Future<GraphQLResult>> results =
+        List.of(
+            executor.submit(() -> execute("1", false, 500)),
+            executor.submit(() -> execute("2", false, 500)));
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(data(results.get(i).get()))
+          .isEqualTo(Map.of("order", Map.of("id", String.valueOf(i + 1))));
+    }
+    var later = execute("3", false, 500);
+
+    // then one rejected batch, two single operations and no further batch
+    assertThat(data(later)).isEqualTo(Map.of("order", Map.of("id", "3")));
+    assertThat(receivedBodies).hasSize(4);
+    assertThat(receivedBodies.get(0).isArray()).isTrue();
+    assertThat(receivedBodies.subList(1, 4)).noneMatch(JsonNode::isArray);
+  }
+
+  @Test
+  void batchingUnsupported_isRememberedForOtherCredentials() throws Exception {
+    // given
+    supportsBatching = false;
+    Map<String, Object> first = Map.of("type", "bearer", "token", "token-1");
+    Map<String, Object> rotated = Map.of("type", "bearer", "token", "token-2");
+    List<Future<GraphQLResult>> results =
+        List.of(
+            executor.submit(() -> execute("1", false, 500, first)),
+            executor.submit(() -> execute("2", false, 500, first)));
+    for (Future<GraphQLResult> result : results) {
+      result.get();
+    }
+
+    // when
+    var later = execute("3", false, 500, rotated);
+
+    // then the endpoint is not sent another batch
+    assertThat(data(later)).isEqualTo(Map.of("order", Map.of("id", "3")));
+    assertThat(receivedBodies).hasSize(4);
+    assertThat(receivedBodies.subList(1, 4)).noneMatch(JsonNode::isArray);
+  }
+
+  private GraphQLResult execute(String id, boolean persistedQuery, Integer batchWindowInMillis)
+      throws Exception {
+    return execute(id, persistedQuery, batchWindowInMillis, Map.of("type", "noAuth"));
+  }
+
+  private GraphQLResult execute(
+      String id,
+      boolean persistedQuery,
+      Integer batchWindowInMillis,
+      Map<String, Object> authentication)
+      throws Exception {
+    var graphql =
+        new HashMap<String, Object>(
+            Map.of(
+                "method",
+                "post",
+                "url",
+                "http://localhost:" + server.getAddress().getPort() + "/graphql",
+                "query",
+                QUERY,
+                "variables",
+                Map.of("id", id),
+                "persistedQuery",
+                persistedQuery));
+    if (batchWindowInMillis != null) {
+      graphql.put("batchWindowInMillis", batchWindowInMillis);
+    }
+    var variables =
+        objectMapper.writeValueAsString(
+            Map.of("authentication", authentication, "graphql", graphql));
+    var context = OutboundConnectorContextBuilder.create().variables(variables).build();
+    return (GraphQLResult) function.execute(context);
+  }
+
+  private static Object data(GraphQLResult result) {
+    return ((Map<?, ?>) result.getBody()).get("data");
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+    receivedBodies.add(body);
+    if (body.isArray()) {
+      if (!supportsBatching) {
+        respond(exchange, 400, objectMapper.createObjectNode().put("error", "batching disabled"));
+        return;
+      }
+      ArrayNode responses = objectMapper.createArrayNode();
+      body.forEach(operation -> responses.add(answer(operation)));
+      respond(exchange, 200, responses);
+      return;
+    }
+    if (body.has("extensions")) {
+      if (!supportsPersistedQueries) {
+        respond(exchange, 400, error(PersistedQueries.Outcome.NOT_SUPPORTED));
+        return;
+      }
+      String hash = body.at("/extensions/persistedQuery/sha256Hash").asText();
+      if (body.has("query")) {
+        persistedQueries.put(hash, body.get("query").asText());
+      } else if (!persistedQueries.containsKey(hash)) {
+        respond(exchange, 200, error(PersistedQueries.Outcome.NOT_FOUND));
+        return;
+      }
+    }
+    respond(exchange, 200, answer(body));
+  }
+
+  private ObjectNode answer(JsonNode operation) {
+    ObjectNode response = objectMapper.createObjectNode();
+    response.putObject("data").putObject("order").put("id", operation.at("/variables/id").asText());
+    return response;
+  }
+
+  private ObjectNode error(PersistedQueries.Outcome outcome) {
+    boolean notFound = outcome == PersistedQueries.Outcome.NOT_FOUND;
+    ObjectNode response = objectMapper.createObjectNode();
+    ObjectNode error = response.putArray("errors").addObject();
+    error.put("message", notFound ? "PersistedQueryNotFound" : "PersistedQueryNotSupported");
+    error
+        .putObject("extensions")
+        .put("code", notFound ? "PERSISTED_QUERY_NOT_FOUND" : "PERSISTED_QUERY_NOT_SUPPORTED");
+    return response;
+  }
+
+  private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+    byte[] bytes = objectMapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (var out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.graphql.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.http.graphql.utils.PersistedQueries.Outcome;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class PersistedQueriesTest {
+
+  @Test
+  void extensions_containVersionAndHash() {
+    // when
+    var extensions = PersistedQueries.extensions("{ hello }");
+
+    // then
+    assertThat(extensions)
+        .isEqualTo(
+            Map.of(
+                "persistedQuery",
+                Map.of(
+                    "version",
+                    1,
+                    "sha256Hash",
+                    "001c3174e099bd72b729d0c0a529ba9f5a740c446e2a6e1d71b283cb84ec3065")));
+  }
+
+  @Test
+  void outcome_detectsErrorsByMessageOrCode() {
+    assertThat(
+            PersistedQueries.outcome(
+                Map.of("errors", List.of(Map.of("message", PersistedQueries.NOT_FOUND)))))
+        .isEqualTo(Outcome.NOT_FOUND);
+    assertThat(
+            PersistedQueries.outcome(
+                Map.of(
+                    "errors",
+                    List.of(
+                        Map.of(
+                            "message",
+                            "not supported",
+                            "extensions",
+                            Map.of("code", "PERSISTED_QUERY_NOT_SUPPORTED"))))))
+        .isEqualTo(Outcome.NOT_SUPPORTED);
+  }
+
+  @Test
+  void outcome_isAnsweredForOtherResponses() {
+    assertThat(PersistedQueries.outcome(Map.of("data", Map.of("hello", "world"))))
+        .isEqualTo(Outcome.ANSWERED);
+    assertThat(PersistedQueries.outcome(Map.of("errors", List.of(Map.of("message", "boom")))))
+        .isEqualTo(Outcome.ANSWERED);
+    assertThat(PersistedQueries.outcome(null)).isEqualTo(Outcome.ANSWERED);
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.blocklist;
+
+import com.google.api.client.http.GenericUrl;
+import io.camunda.connector.http.base.blocklist.block.Block;
+import io.camunda.connector.http.base.blocklist.block.PortBlock;
+import io.camunda.connector.http.base.blocklist.block.RegexBlock;
+import io.camunda.connector.http.base.blocklist.block.UrlBlock;
+import io.camunda.connector.http.base.blocklist.util.BlocklistExceptionHelper;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The blocks of a blocklist combined into as few lookups as possible, so that validating a URL does
+ * not depend on the number of blocks:
+ *
+ * <ul>
+ *   <li>all blocked ports are kept in one bit set
+ *   <li>all {@link UrlBlock} values are searched for in one scan by a {@link SubstringMatcher}
+ *   <li>all {@link RegexBlock} patterns are merged into one alternation, patterns that cannot be
+ *       merged (e.g. because they use back references) are matched on their own
+ * </ul>
+ *
+ * The URL is built only once per validation, and only if there are URL or regex blocks.
+ */
+final class CompiledBlocklist {
+  private static final Logger logger = LoggerFactory.getLogger(CompiledBlocklist.class);
+
+  private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+  private static final String GROUP_PREFIX = "block";
+
+  private final BitSet blockedPorts = new BitSet();
+  private final Map<Integer, String> portBlockNames = new HashMap<>();
+  private final List<String> urlBlockNames = new ArrayList<>();
+  private final SubstringMatcher urlMatcher;
+  private final List<String> mergedRegexBlockNames = new ArrayList<>();
+  private final Pattern mergedRegex;
+  private final List<RegexBlock> separateRegexBlocks = new ArrayList<>();
+  private final boolean empty;
+
+  private CompiledBlocklist(final List<Block> blocks) {
+    empty = blocks.isEmpty();
+    List<String> urlValues = new ArrayList<>();
+    List<RegexBlock> regexBlocks = new ArrayList<>();
+    for (Block block : blocks) {
+      if (block instanceof PortBlock portBlock) {
+        for (int port : portBlock.blockedPorts()) {
+          blockedPorts.set(port);
+          portBlockNames.putIfAbsent(port, portBlock.blockName());
+        }
+      } else if (block instanceof UrlBlock urlBlock) {
+        urlValues.add(urlBlock.value());
+        urlBlockNames.add(urlBlock.blockName());
+      } else if (block instanceof RegexBlock regexBlock) {
+        regexBlocks.add(regexBlock);
+      }
+    }
+    urlMatcher = urlValues.isEmpty() ? null : new SubstringMatcher(urlValues);
+    mergedRegex = mergeRegexBlocks(regexBlocks);
+  }
+
+  static CompiledBlocklist compile(final List<Block> blocks) {
+    return new CompiledBlocklist(blocks);
+  }
+
+  /**
+   * @throws io.camunda.connector.api.error.ConnectorInputException if the URL matches any of the
+   *     blocks.
+   */
+  void validate(final GenericUrl url) {
+    if (empty) {
+      return;
+    }
+    int port = url.getPort();
+    if (port >= 0 && blockedPorts.get(port)) {
+      BlocklistExceptionHelper.throwBlocklistException("port", portBlockNames.get(port));
+    }
+    if (urlMatcher == null && mergedRegex == null && separateRegexBlocks.isEmpty()) {
+      return;
+    }
+    String builtUrl = url.build();
+    if (urlMatcher != null) {
+      int match = urlMatcher.findFirst(builtUrl);
+      if (match >= 0) {
+        BlocklistExceptionHelper.throwBlocklistException("URL", urlBlockNames.get(match));
+      }
+    }
+    if (mergedRegex != null) {
+      Matcher matcher = mergedRegex.matcher(builtUrl);
+      if (matcher.matches()) {
+        BlocklistExceptionHelper.throwBlocklistException("URL", matchedRegexBlockName(matcher));
+      }
+    }
+    for (RegexBlock block : separateRegexBlocks) {
+      if (block.pattern().matcher(builtUrl).matches()) {
+        BlocklistExceptionHelper.throwBlocklistException("URL", block.blockName());
+      }
+    }
+  }
+
+  private Pattern mergeRegexBlocks(final List<RegexBlock> regexBlocks) {
+    var alternation = new StringBuilder();
+    for (RegexBlock block : regexBlocks) {
+      String pattern = block.pattern().pattern();
+      // group numbers shift inside the alternation, and the flags of the pattern would be lost
+      if (BACK_REFERENCE.matcher(pattern).find() || block.pattern().flags() != 0) {
+        separateRegexBlocks.add(block);
+        continue;
+      }
+      if (!alternation.isEmpty()) {
+        alternation.append('|');
+      }
+      alternation
+          .append("(?<")
+          .append(GROUP_PREFIX)
+          .append(mergedRegexBlockNames.size())
+          .append('>')
+          .append(pattern)
+          .append(')');
+      mergedRegexBlockNames.add(block.blockName());
+    }
+    if (mergedRegexBlockNames.isEmpty()) {
+      return null;
+    }
+    try {
+      return Pattern.compile(alternation.toString());
+    } catch (PatternSyntaxException e) {
+      logger.debug("Regex blocks cannot be merged, matching them one by one", e);
+      for (RegexBlock block : regexBlocks) {
+        if (!separateRegexBlocks.contains(block)) {
+          separateRegexBlocks.add(block);
+        }
+      }
+      mergedRegexBlockNames.clear();
+      return null;
+    }
+  }
+
+  private String matchedRegexBlockName(final Matcher matcher) {
+    for (int i = 0; i < mergedRegexBlockNames.size(); i++) {
+      if (matcher.start(GROUP_PREFIX + i) >= 0) {
+        return mergedRegexBlockNames.get(i);
+      }
+    }
+    return null;
+  }
+}
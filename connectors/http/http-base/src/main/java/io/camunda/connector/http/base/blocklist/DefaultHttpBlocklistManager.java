@@ -22,16 +22,25 @@ import io.camunda.connector.http.base.blocklist.factory.BlockFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reads the blocklist from the environment and compiles it once into a {@link CompiledBlocklist},
+ * so validating a URL neither reads the environment nor matches the blocks one after another.
+ * Connectors should use the {@link #sharedInstance() shared instance}, which is compiled once per
+ * runtime; the environment of a running JVM does not change.
+ */
 public class DefaultHttpBlocklistManager implements HttpBlockListManager {
   private static final Logger logger = LoggerFactory.getLogger(DefaultHttpBlocklistManager.class);
 
   private static final String BLOCK_PREFIX = "CAMUNDA_CONNECTOR_HTTP_BLOCK_";
 
-  private final List<Block> blockList;
+  private static final DefaultHttpBlocklistManager SHARED_INSTANCE =
+      new DefaultHttpBlocklistManager();
+
+  private final List<Block> blocks;
+  private final CompiledBlocklist compiled;
 
   public DefaultHttpBlocklistManager() {
     this(System.getenv());
@@ -39,7 +48,14 @@ public class DefaultHttpBlocklistManager implements HttpBlockListManager {
 
   //  Constructor that accepts a custom environment map, primarily for testing
   public DefaultHttpBlocklistManager(Map<String, String> environment) {
-    this.blockList = loadBlocklistFromEnv(environment);
+    this.blocks = loadBlocklistFromEnv(environment);
+    this.compiled = CompiledBlocklist.compile(blocks);
+    logger.debug("Loaded HTTP blocklist with {} blocks", blocks.size());
+  }
+
+  /** Returns the blocklist manager shared by all HTTP based connectors of this runtime. */
+  public static DefaultHttpBlocklistManager sharedInstance() {
+    return SHARED_INSTANCE;
   }
 
   private List<Block> loadBlocklistFromEnv(final Map<String, String> environment) {
@@ -47,7 +63,7 @@ public class DefaultHttpBlocklistManager implements HttpBlockListManager {
         .filter(entry -> entry.getKey().startsWith(BLOCK_PREFIX))
         .map(this::createBlockFromEnvEntry)
         .filter(Objects::nonNull)
-        .collect(Collectors.toList());
+        .toList();
   }
 
   private Block createBlockFromEnvEntry(Map.Entry<String, String> entry) {
@@ -66,12 +82,10 @@ public class DefaultHttpBlocklistManager implements HttpBlockListManager {
   }
 
   public void validateUrlAgainstBlocklist(GenericUrl url) {
-    for (Block block : blockList) {
-      block.validate(url);
-    }
+    compiled.validate(url);
   }
 
   public List<Block> getBlockList() {
-    return blockList;
+    return blocks;
   }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.blocklist;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds any of a fixed set of substrings in a text with a single scan (Aho-Corasick). The values
+ * are stored in a trie whose nodes link to the longest suffix that is also a prefix of a value, so
+ * the text never has to be read twice, no matter how many values there are.
+ */
+final class SubstringMatcher {
+
+  private final Node root = new Node();
+
+  /**
+   * @param values the substrings to look for, the index of a value is reported by {@link
+   *     #findFirst(String)}
+   */
+  SubstringMatcher(final List<String> values) {
+    for (int i = 0; i < values.size(); i++) {
+      String value = values.get(i);
+      if (value.isEmpty()) {
+        root.match = root.match < 0 ? i : root.match;
+        continue;
+      }
+      Node node = root;
+      for (int c = 0; c < value.length(); c++) {
+        node = node.children.computeIfAbsent(value.charAt(c), ignored -> new Node());
+      }
+      node.match = node.match < 0 ? i : node.match;
+    }
+    linkSuffixes();
+  }
+
+  /**
+   * Returns the index of a value contained in the text, or -1 if the text contains none of them. If
+   * several values match, the one that ends first in the text is reported.
+   */
+  int findFirst(final String text) {
+    if (root.match >= 0) {
+      return root.match;
+    }
+    Node node = root;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      Node next = node.children.get(c);
+      while (next == null && node != root) {
+        node = node.suffix;
+        next = node.children.get(c);
+      }
+      node = next == null ? root : next;
+      if (node.match >= 0) {
+        return node.match;
+      }
+    }
+    return -1;
+  }
+
+  private void linkSuffixes() {
+    var queue = new ArrayDeque<Node>();
+    root.suffix = root;
+    for (Node child : root.children.values()) {
+      child.suffix = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      Node node = queue.poll();
+      for (var child : node.children.entrySet()) {
+        Node suffix = node.suffix;
+        while (suffix != root && !suffix.children.containsKey(child.getKey())) {
+          suffix = suffix.suffix;
+        }
+        Node target = suffix.children.get(child.getKey());
+        child.getValue().suffix = target == null || target == child.getValue() ? root : target;
+        // a value ending in the suffix also ends here
+        if (child.getValue().match < 0) {
+          child.getValue().match = child.getValue().suffix.match;
+        }
+        queue.add(child.getValue());
+      }
+    }
+  }
+
+  private static final class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    private Node suffix;
+    private int match = -1;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.components;
+
+import static io.camunda.connector.http.base.utils.EnvironmentSettings.parse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.http.HttpHost;
+
+/**
+ * Connection pool settings of the shared HTTP transport, read from environment variables:
+ *
+ * <ul>
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS}: pool size over all hosts (200)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE}: connections per host (20)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS_PER_HOST}: overrides for single hosts,
+ *       e.g. {@code https://api.example.com=100,http://localhost:8080=5}
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_IDLE_TIMEOUT}: idle connections are closed after this
+ *       ISO-8601 duration (PT1M), 0 to keep them
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CONNECTION_TTL}: connections are not reused after this
+ *       duration, unset by default
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_KEEP_ALIVE}: upper bound for the keep-alive
+ *       duration a server announces, unset by default
+ * </ul>
+ *
+ * @param maxConnectionsPerHost per-host limits, keyed by host including scheme and port
+ * @param idleTimeout null to keep idle connections
+ * @param connectionTtl null for no limit
+ * @param maxKeepAlive null to follow the server's keep-alive header
+ */
+public record HttpClientPoolConfiguration(
+    int maxConnections,
+    int maxConnectionsPerRoute,
+    Map<HttpHost, Integer> maxConnectionsPerHost,
+    Duration idleTimeout,
+    Duration connectionTtl,
+    Duration maxKeepAlive) {
+
+  private static final String PREFIX = "CAMUNDA_CONNECTOR_HTTP_CLIENT_";
+  static final String MAX_CONNECTIONS = PREFIX + "MAX_CONNECTIONS";
+  static final String MAX_CONNECTIONS_PER_ROUTE = PREFIX + "MAX_CONNECTIONS_PER_ROUTE";
+  static final String MAX_CONNECTIONS_PER_HOST = PREFIX + "MAX_CONNECTIONS_PER_HOST";
+  static final String IDLE_TIMEOUT = PREFIX + "IDLE_TIMEOUT";
+  static final String CONNECTION_TTL = PREFIX + "CONNECTION_TTL";
+  static final String MAX_KEEP_ALIVE = PREFIX + "MAX_KEEP_ALIVE";
+
+  public static final int DEFAULT_MAX_CONNECTIONS = 200;
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+  public HttpClientPoolConfiguration {
+    maxConnectionsPerHost = Map.copyOf(maxConnectionsPerHost);
+    idleTimeout = positiveOrNull(idleTimeout);
+    connectionTtl = positiveOrNull(connectionTtl);
+    maxKeepAlive = positiveOrNull(maxKeepAlive);
+  }
+
+  public static HttpClientPoolConfiguration defaults() {
+    return fromEnvironment(Map.of());
+  }
+
+  public static HttpClientPoolConfiguration fromEnvironment(final Map<String, String> environment) {
+    return new HttpClientPoolConfiguration(
+        parse(environment, MAX_CONNECTIONS, Integer::parseInt, DEFAULT_MAX_CONNECTIONS),
+        parse(
+            environment,
+            MAX_CONNECTIONS_PER_ROUTE,
+            Integer::parseInt,
+            DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+        parse(
+            environment,
+            MAX_CONNECTIONS_PER_HOST,
+            HttpClientPoolConfiguration::parseHostLimits,
+            Map.of()),
+        parse(environment, IDLE_TIMEOUT, Duration::parse, DEFAULT_IDLE_TIMEOUT),
+        parse(environment, CONNECTION_TTL, Duration::parse, null),
+        parse(environment, MAX_KEEP_ALIVE, Duration::parse, null));
+  }
+
+  /** Parses {@code scheme://host[:port]=limit} pairs separated by commas. */
+  static Map<HttpHost, Integer> parseHostLimits(final String value) {
+    Map<HttpHost, Integer> limits = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      int separator = entry.lastIndexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Expected <url>=<limit>, but got " + entry);
+      }
+      limits.put(
+          toHost(entry.substring(0, separator).trim()),
+          Integer.parseInt(entry.substring(separator + 1).trim()));
+    }
+    return limits;
+  }
+
+  static HttpHost toHost(final String url) {
+    URI uri = URI.create(url);
+    if (uri.getScheme() == null || uri.getHost() == null) {
+      throw new IllegalArgumentException("Expected an absolute URL, but got " + url);
+    }
+    String scheme = uri.getScheme().toLowerCase();
+    int port = uri.getPort() > 0 ? uri.getPort() : "https".equals(scheme) ? 443 : 80;
+    return new HttpHost(uri.getHost(), port, scheme);
+  }
+
+  private static Duration positiveOrNull(final Duration duration) {
+    return duration == null || duration.isNegative() || duration.isZero() ? null : duration;
+  }
+}
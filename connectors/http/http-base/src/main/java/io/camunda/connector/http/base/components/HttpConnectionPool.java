@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.components;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import io.camunda.connector.api.metrics.ConnectorMeterRegistry;
+import java.net.ProxySelector;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * HTTP transport backed by a connection pool configured with {@link HttpClientPoolConfiguration}.
+ * Apart from the pool, the client is set up like the default {@link ApacheHttpTransport} client:
+ * system properties and proxy selector are honored, redirects and retries are left to the caller.
+ */
+public final class HttpConnectionPool implements AutoCloseable {
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final HttpRoutePlanner routePlanner;
+  private final Map<HttpHost, Integer> hostLimits;
+  private final Set<HttpRoute> limitedRoutes = ConcurrentHashMap.newKeySet();
+  private final CloseableHttpClient httpClient;
+  private final HttpTransport transport;
+
+  private HttpConnectionPool(
+      final HttpClientPoolConfiguration configuration, final ProxySelector proxySelector) {
+    var socketFactories =
+        RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", SSLConnectionSocketFactory.getSocketFactory())
+            .build();
+    connectionManager =
+        new PoolingHttpClientConnectionManager(
+            socketFactories,
+            null,
+            null,
+            null,
+            configuration.connectionTtl() == null ? -1 : configuration.connectionTtl().toMillis(),
+            TimeUnit.MILLISECONDS);
+    connectionManager.setMaxTotal(configuration.maxConnections());
+    connectionManager.setDefaultMaxPerRoute(configuration.maxConnectionsPerRoute());
+    hostLimits = configuration.maxConnectionsPerHost();
+    routePlanner = new SystemDefaultRoutePlanner(proxySelector);
+    // limits of the routes planned now; routes planned later, e.g. through another proxy, get their
+    // limit when first used
+    hostLimits.keySet().forEach(this::route);
+
+    var builder =
+        HttpClientBuilder.create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setRoutePlanner(this::determineRoute)
+            .setKeepAliveStrategy(keepAliveStrategy(configuration))
+            .disableRedirectHandling()
+            .disableAutomaticRetries();
+    if (configuration.idleTimeout() != null) {
+      builder.evictIdleConnections(configuration.idleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+    if (configuration.connectionTtl() != null) {
+      builder.evictExpiredConnections();
+    }
+    httpClient = builder.build();
+    transport = new ApacheHttpTransport(httpClient);
+  }
+
+  public static HttpConnectionPool create(final HttpClientPoolConfiguration configuration) {
+    return create(configuration, ProxySelector.getDefault());
+  }
+
+  static HttpConnectionPool create(
+      final HttpClientPoolConfiguration configuration, final ProxySelector proxySelector) {
+    return new HttpConnectionPool(configuration, proxySelector);
+  }
+
+  public HttpTransport transport() {
+    return transport;
+  }
+
+  public PoolStats totalStats() {
+    return connectionManager.getTotalStats();
+  }
+
+  /**
+   * Statistics of the route to the given host, e.g. {@code https://api.example.com}, through the
+   * proxy currently selected for it, if any.
+   */
+  public PoolStats hostStats(final String url) {
+    return connectionManager.getStats(route(HttpClientPoolConfiguration.toHost(url)));
+  }
+
+  /** Registers leased, pending and available connection gauges. */
+  public void bindMetrics(final ConnectorMeterRegistry registry) {
+    registry.gauge(
+        "connector.http.client.connections",
+        "Connections of the HTTP connector pool by state",
+        null,
+        Map.of("state", "leased"),
+        () -> connectionManager.getTotalStats().getLeased());
+    registry.gauge(
+        "connector.http.client.connections",
+        "Connections of the HTTP connector pool by state",
+        null,
+        Map.of("state", "pending"),
+        () -> connectionManager.getTotalStats().getPending());
+    registry.gauge(
+        "connector.http.client.connections",
+        "Connections of the HTTP connector pool by state",
+        null,
+        Map.of("state", "available"),
+        () -> connectionManager.getTotalStats().getAvailable());
+    registry.gauge(
+        "connector.http.client.connections.max",
+        "Maximum number of connections of the HTTP connector pool",
+        null,
+        Map.of(),
+        () -> connectionManager.getTotalStats().getMax());
+  }
+
+  @Override
+  public void close() throws Exception {
+    httpClient.close();
+  }
+
+  /**
+   * Plans the route like the default client does, and applies the host limit to it. Limits are
+   * keyed by route, which includes the proxy, so a limit set for the direct route of a host would
+   * not apply to requests sent through a proxy.
+   */
+  private HttpRoute determineRoute(
+      final HttpHost host, final HttpRequest request, final HttpContext context)
+      throws HttpException {
+    var route = routePlanner.determineRoute(host, request, context);
+    var limit = hostLimits.get(route.getTargetHost());
+    if (limit != null && limitedRoutes.add(route)) {
+      connectionManager.setMaxPerRoute(route, limit);
+    }
+    return route;
+  }
+
+  private HttpRoute route(final HttpHost host) {
+    try {
+      return determineRoute(host, new BasicHttpRequest("GET", "/"), new BasicHttpContext());
+    } catch (HttpException e) {
+      return new HttpRoute(host, null, "https".equals(host.getSchemeName()));
+    }
+  }
+
+  private static ConnectionKeepAliveStrategy keepAliveStrategy(
+      final HttpClientPoolConfiguration configuration) {
+    if (configuration.maxKeepAlive() == null) {
+      return DefaultConnectionKeepAliveStrategy.INSTANCE;
+    }
+    long maxKeepAlive = configuration.maxKeepAlive().toMillis();
+    return (response, context) -> {
+      long announced =
+          DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return announced <= 0 ? maxKeepAlive : Math.min(announced, maxKeepAlive);
+    };
+  }
+}
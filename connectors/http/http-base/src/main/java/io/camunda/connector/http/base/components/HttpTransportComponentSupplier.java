@@ -18,20 +18,31 @@ package io.camunda.connector.http.base.components;
 
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpTransport;
-import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.JsonObjectParser;
 import com.google.api.client.json.gson.GsonFactory;
+import io.camunda.connector.api.metrics.ConnectorMeters;
+import org.apache.http.pool.PoolStats;
 
 public class HttpTransportComponentSupplier {
 
   private HttpTransportComponentSupplier() {}
 
-  private static final HttpTransport HTTP_TRANSPORT = new ApacheHttpTransport();
+  private static final HttpConnectionPool CONNECTION_POOL =
+      HttpConnectionPool.create(HttpClientPoolConfiguration.fromEnvironment(System.getenv()));
+  private static final HttpTransport HTTP_TRANSPORT = CONNECTION_POOL.transport();
   private static final HttpRequestFactory REQUEST_FACTORY =
       HTTP_TRANSPORT.createRequestFactory(
           request -> request.setParser(new JsonObjectParser(new GsonFactory())));
 
+  static {
+    ConnectorMeters.bind(CONNECTION_POOL::bindMetrics);
+  }
+
   public static HttpRequestFactory httpRequestFactoryInstance() {
     return REQUEST_FACTORY;
   }
+
+  public static PoolStats connectionPoolStats() {
+    return CONNECTION_POOL.totalStats();
+  }
 }
@@ -23,6 +23,7 @@ public class Constants {
   public static final String AUDIENCE = "audience";
   public static final String SCOPE = "scope";
   public static final String ACCESS_TOKEN = "access_token";
+  public static final String EXPIRES_IN = "expires_in";
   public static final String BASIC_AUTH_HEADER = "basicAuthHeader";
   public static final String CREDENTIALS_BODY = "credentialsBody";
   public static final String PROXY_FUNCTION_URL_ENV_NAME = "CAMUNDA_CONNECTOR_HTTP_PROXY_URL";
@@ -74,6 +74,20 @@ public class HttpCommonRequest {
               oneOf = {"POST", "PUT", "PATCH"}))
   private Object body;
 
+  @FEEL
+  @TemplateProperty(
+      label = "Request body file",
+      description =
+          "Stored response body to send instead of the request body, i.e. the bodyFile of an earlier HTTP response. Stored bodies are deleted after one hour by default",
+      feel = FeelMode.required,
+      group = "payload",
+      optional = true,
+      condition =
+          @PropertyCondition(
+              property = "method",
+              oneOf = {"POST", "PUT", "PATCH"}))
+  private Map<String, Object> bodyFile;
+
   @FEEL
   @TemplateProperty(
       feel = FeelMode.required,
@@ -90,6 +104,21 @@ public class HttpCommonRequest {
     this.body = body;
   }
 
+  /**
+   * @return the {@link HttpResponseFile} to send, as map
+   */
+  public Map<String, Object> getBodyFile() {
+    return bodyFile;
+  }
+
+  public void setBodyFile(final Map<String, Object> bodyFile) {
+    this.bodyFile = bodyFile;
+  }
+
+  public boolean hasBodyFile() {
+    return bodyFile != null;
+  }
+
   public boolean hasHeaders() {
     return headers != null;
   }
@@ -159,19 +188,27 @@ public class HttpCommonRequest {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     HttpCommonRequest that = (HttpCommonRequest) o;
-    return url.equals(that.url)
-        && method.equals(that.method)
+    return Objects.equals(url, that.url)
+        && method == that.method
         && Objects.equals(authentication, that.authentication)
         && Objects.equals(connectionTimeoutInSeconds, that.connectionTimeoutInSeconds)
         && Objects.equals(headers, that.headers)
         && Objects.equals(body, that.body)
+        && Objects.equals(bodyFile, that.bodyFile)
         && Objects.equals(queryParameters, that.queryParameters);
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(
-        url, method, authentication, connectionTimeoutInSeconds, headers, body, queryParameters);
+        url,
+        method,
+        authentication,
+        connectionTimeoutInSeconds,
+        headers,
+        body,
+        bodyFile,
+        queryParameters);
   }
 
   @Override
@@ -192,6 +229,8 @@ public class HttpCommonRequest {
         + headers
         + ", body="
         + body
+        + ", bodyFile="
+        + bodyFile
         + ", queryParameters="
         + queryParameters
         + '}';
@@ -16,6 +16,7 @@
  */
 package io.camunda.connector.http.base.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.google.common.base.Objects;
 import java.util.Map;
 
@@ -25,6 +26,9 @@ public class HttpCommonResult {
   private Map<String, Object> headers;
   private Object body;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private HttpResponseFile bodyFile;
+
   public int getStatus() {
     return status;
   }
@@ -49,6 +53,19 @@ public class HttpCommonResult {
     this.body = body;
   }
 
+  /**
+   * @return the body stored in a temporary file if it exceeded the spill threshold, in which case
+   *     {@link #getBody()} is null. The file is deleted after the retention of the {@link
+   *     io.camunda.connector.http.base.services.HttpResponseSpool}, one hour by default.
+   */
+  public HttpResponseFile getBodyFile() {
+    return bodyFile;
+  }
+
+  public void setBodyFile(HttpResponseFile bodyFile) {
+    this.bodyFile = bodyFile;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -60,12 +77,13 @@ public class HttpCommonResult {
     HttpCommonResult that = (HttpCommonResult) o;
     return status == that.status
         && Objects.equal(headers, that.headers)
-        && Objects.equal(body, that.body);
+        && Objects.equal(body, that.body)
+        && Objects.equal(bodyFile, that.bodyFile);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(status, headers, body);
+    return Objects.hashCode(status, headers, body, bodyFile);
   }
 
   @Override
@@ -77,6 +95,8 @@ public class HttpCommonResult {
         + headers
         + ", body="
         + body
+        + ", bodyFile="
+        + bodyFile
         + '}';
   }
 }
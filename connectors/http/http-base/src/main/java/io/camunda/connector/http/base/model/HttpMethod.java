@@ -17,15 +17,19 @@
 package io.camunda.connector.http.base.model;
 
 public enum HttpMethod {
-  POST(true),
-  GET(false),
-  DELETE(false),
-  PATCH(true),
-  PUT(true);
+  POST(true, false),
+  GET(false, true),
+  DELETE(false, true),
+  PATCH(true, false),
+  PUT(true, true);
 
   public final boolean supportsBody;
 
-  private HttpMethod(boolean supportsBody) {
+  /** Sending the request several times has the same effect as sending it once (RFC 9110). */
+  public final boolean idempotent;
+
+  private HttpMethod(boolean supportsBody, boolean idempotent) {
     this.supportsBody = supportsBody;
+    this.idempotent = idempotent;
   }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A response body that was written to a temporary file instead of being kept in memory. Only the
+ * size, the content type and a short text preview are part of the result; the body itself can be
+ * read from {@link #getPath()} by later steps running in the same runtime.
+ */
+public class HttpResponseFile {
+
+  private String path;
+  private long size;
+  private String contentType;
+  private String preview;
+  private String sha256;
+
+  public HttpResponseFile() {}
+
+  public HttpResponseFile(String path, long size, String contentType, String preview) {
+    this(path, size, contentType, preview, null);
+  }
+
+  public HttpResponseFile(
+      String path, long size, String contentType, String preview, String sha256) {
+    this.path = path;
+    this.size = size;
+    this.contentType = contentType;
+    this.preview = preview;
+    this.sha256 = sha256;
+  }
+
+  /** Opens the stored body, the caller has to close the stream. */
+  public InputStream openStream() throws IOException {
+    return Files.newInputStream(Path.of(path));
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public void setPath(String path) {
+    this.path = path;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public void setSize(long size) {
+    this.size = size;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public void setContentType(String contentType) {
+    this.contentType = contentType;
+  }
+
+  public String getPreview() {
+    return preview;
+  }
+
+  public void setPreview(String preview) {
+    this.preview = preview;
+  }
+
+  /** Hex encoded SHA-256 hash of the body, computed while it was written. */
+  public String getSha256() {
+    return sha256;
+  }
+
+  public void setSha256(String sha256) {
+    this.sha256 = sha256;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    HttpResponseFile that = (HttpResponseFile) o;
+    return size == that.size
+        && Objects.equals(path, that.path)
+        && Objects.equals(contentType, that.contentType)
+        && Objects.equals(preview, that.preview)
+        && Objects.equals(sha256, that.sha256);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, size, contentType, preview, sha256);
+  }
+
+  @Override
+  public String toString() {
+    return "HttpResponseFile{"
+        + "path='"
+        + path
+        + '\''
+        + ", size="
+        + size
+        + ", contentType='"
+        + contentType
+        + '\''
+        + '}';
+  }
+}
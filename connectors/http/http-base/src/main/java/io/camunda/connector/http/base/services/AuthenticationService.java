@@ -18,6 +18,7 @@ package io.camunda.connector.http.base.services;
 
 import static io.camunda.connector.http.base.utils.Timeout.setTimeout;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpContent;
@@ -31,6 +32,7 @@ import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpMethod;
 import io.camunda.connector.http.base.utils.JsonHelper;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
@@ -46,10 +48,22 @@ public class AuthenticationService {
   }
 
   public String extractOAuthAccessToken(HttpResponse oauthResponse) throws IOException {
-    return Optional.ofNullable(
-            JsonHelper.getAsJsonElement(oauthResponse.parseAsString(), objectMapper))
-        .map(jsonNode -> jsonNode.findValue(Constants.ACCESS_TOKEN).asText())
-        .orElse(null);
+    return extractOAuthToken(oauthResponse).accessToken();
+  }
+
+  public OAuthTokenCache.Token extractOAuthToken(HttpResponse oauthResponse) throws IOException {
+    JsonNode jsonNode = JsonHelper.getAsJsonElement(oauthResponse.parseAsString(), objectMapper);
+    if (jsonNode == null) {
+      return new OAuthTokenCache.Token(null, null);
+    }
+    String accessToken = jsonNode.findValue(Constants.ACCESS_TOKEN).asText();
+    Duration expiresIn =
+        Optional.ofNullable(jsonNode.findValue(Constants.EXPIRES_IN))
+            .map(JsonNode::asLong)
+            .filter(seconds -> seconds > 0)
+            .map(Duration::ofSeconds)
+            .orElse(null);
+    return new OAuthTokenCache.Token(accessToken, expiresIn);
   }
 
   public com.google.api.client.http.HttpRequest createOAuthRequest(HttpCommonRequest request)
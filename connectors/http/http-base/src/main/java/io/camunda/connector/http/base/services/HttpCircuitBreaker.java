@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker of one host. The outcomes of the latest calls are kept in a fixed size window;
+ * once the share of failed or slow calls reaches its threshold, the circuit opens and calls are
+ * rejected. After the open duration a limited number of probe calls is let through: the circuit
+ * closes when all of them succeed and opens again as soon as one fails or is slow.
+ */
+final class HttpCircuitBreaker {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HttpCircuitBreaker.class);
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final byte SUCCESS = 0;
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final String host;
+  private final HttpResilienceConfiguration configuration;
+  private final LongSupplier nanoClock;
+  private final long slowCallNanos;
+  private final long openNanos;
+
+  // guarded by this
+  private final byte[] window;
+  private int next;
+  private int calls;
+  private int failures;
+  private int slowCalls;
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int probePermits;
+  private int probeSuccesses;
+  private int halfOpenRound;
+
+  HttpCircuitBreaker(
+      final String host,
+      final HttpResilienceConfiguration configuration,
+      final LongSupplier nanoClock) {
+    this.host = host;
+    this.configuration = configuration;
+    this.nanoClock = nanoClock;
+    this.slowCallNanos = configuration.slowCallDuration().toNanos();
+    this.openNanos = configuration.openDuration().toNanos();
+    this.window = new byte[configuration.windowSize()];
+  }
+
+  String host() {
+    return host;
+  }
+
+  long now() {
+    return nanoClock.getAsLong();
+  }
+
+  /**
+   * Returns null if the call must not be sent. A permitted call must report its outcome with the
+   * returned permit.
+   */
+  synchronized Permit tryAcquire() {
+    if (state == State.OPEN) {
+      if (now() - openedAt < openNanos) {
+        return null;
+      }
+      state = State.HALF_OPEN;
+      probePermits = configuration.probeCalls();
+      probeSuccesses = 0;
+      halfOpenRound++;
+      LOGGER.info("Circuit breaker for {} is half-open, sending probe calls", host);
+    }
+    if (state == State.HALF_OPEN) {
+      if (probePermits == 0) {
+        return null;
+      }
+      probePermits--;
+      return new Permit(true, halfOpenRound, now());
+    }
+    return new Permit(false, halfOpenRound, now());
+  }
+
+  /**
+   * Records the outcome of a permitted call.
+   *
+   * @param permit the permit the call was sent with
+   * @param failed whether the call failed
+   */
+  synchronized void onResult(final Permit permit, final boolean failed) {
+    boolean slow = now() - permit.startedAt() >= slowCallNanos;
+    switch (state) {
+      case HALF_OPEN -> {
+        if (!permit.probe() || permit.halfOpenRound() != halfOpenRound) {
+          // the call was sent before the circuit opened, it tells nothing about the recovery
+          return;
+        }
+        if (failed || slow) {
+          open();
+        } else if (++probeSuccesses >= configuration.probeCalls()) {
+          close();
+        }
+      }
+      case CLOSED -> {
+        record(failed ? FAILURE : slow ? SLOW : SUCCESS);
+        if (calls >= configuration.minimumCalls()
+            && (failures * 100 >= configuration.failureRateThreshold() * calls
+                || slowCalls * 100 >= configuration.slowCallRateThreshold() * calls)) {
+          open();
+        }
+      }
+      case OPEN -> {
+        // the call was sent before the circuit opened
+      }
+    }
+  }
+
+  synchronized State state() {
+    return state;
+  }
+
+  /**
+   * Permission to send one call.
+   *
+   * @param probe whether the call is a probe of the half-open circuit
+   * @param halfOpenRound the half-open phase the permit was acquired in, or the latest one
+   * @param startedAt {@link #now()} when the permit was acquired
+   */
+  record Permit(boolean probe, int halfOpenRound, long startedAt) {}
+
+  private void record(final byte outcome) {
+    if (calls == window.length) {
+      forget(window[next]);
+    } else {
+      calls++;
+    }
+    window[next] = outcome;
+    next = (next + 1) % window.length;
+    if (outcome == FAILURE) {
+      failures++;
+    } else if (outcome == SLOW) {
+      slowCalls++;
+    }
+  }
+
+  private void forget(final byte outcome) {
+    if (outcome == FAILURE) {
+      failures--;
+    } else if (outcome == SLOW) {
+      slowCalls--;
+    }
+  }
+
+  private void open() {
+    LOGGER.warn(
+        "Circuit breaker for {} is open, requests are rejected for {}",
+        host,
+        configuration.openDuration());
+    state = State.OPEN;
+    openedAt = now();
+  }
+
+  private void close() {
+    LOGGER.info("Circuit breaker for {} is closed", host);
+    state = State.CLOSED;
+    calls = 0;
+    next = 0;
+    failures = 0;
+    slowCalls = 0;
+  }
+}
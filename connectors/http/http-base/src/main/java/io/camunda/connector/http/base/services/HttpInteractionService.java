@@ -17,21 +17,22 @@
 package io.camunda.connector.http.base.services;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponse;
 import com.google.api.client.http.HttpResponseException;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
-import com.google.gson.stream.JsonReader;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.http.base.blocklist.DefaultHttpBlocklistManager;
 import io.camunda.connector.http.base.blocklist.HttpBlockListManager;
 import io.camunda.connector.http.base.model.ErrorResponse;
 import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.model.HttpResponseFile;
+import io.camunda.connector.http.base.services.HttpResponseBodyReader.ResponseTooLargeException;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,12 +43,35 @@ public class HttpInteractionService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HttpInteractionService.class);
 
+  private static final AttributeKey<String> HTTP_REQUEST_METHOD =
+      AttributeKey.stringKey("http.request.method");
+  private static final AttributeKey<String> SERVER_ADDRESS =
+      AttributeKey.stringKey("server.address");
+  private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE =
+      AttributeKey.longKey("http.response.status_code");
+
   private final ObjectMapper objectMapper;
   private final HttpBlockListManager httpBlocklistManager;
+  private final HttpResponseBodyReader bodyReader;
+  private final HttpResponseSpool spool;
 
   public HttpInteractionService(final ObjectMapper objectMapper) {
+    this(objectMapper, HttpResponseBodyReader.fromEnvironment(objectMapper, System.getenv()));
+  }
+
+  public HttpInteractionService(
+      final ObjectMapper objectMapper, final HttpResponseBodyReader bodyReader) {
+    this(objectMapper, bodyReader, HttpResponseSpool.sharedInstance());
+  }
+
+  public HttpInteractionService(
+      final ObjectMapper objectMapper,
+      final HttpResponseBodyReader bodyReader,
+      final HttpResponseSpool spool) {
     this.objectMapper = objectMapper;
-    this.httpBlocklistManager = new DefaultHttpBlocklistManager();
+    this.httpBlocklistManager = DefaultHttpBlocklistManager.sharedInstance();
+    this.bodyReader = bodyReader;
+    this.spool = spool;
   }
 
   public HttpResponse executeHttpRequest(com.google.api.client.http.HttpRequest externalRequest)
@@ -58,10 +82,22 @@ public class HttpInteractionService {
   public HttpResponse executeHttpRequest(
       com.google.api.client.http.HttpRequest externalRequest, boolean isProxyCall)
       throws IOException {
-    try {
-      httpBlocklistManager.validateUrlAgainstBlocklist(externalRequest.getUrl());
-      return externalRequest.execute();
+    var url = externalRequest.getUrl();
+    var span =
+        ConnectorTracing.spanBuilder(externalRequest.getRequestMethod(), SpanKind.CLIENT)
+            .setAttribute(HTTP_REQUEST_METHOD, externalRequest.getRequestMethod())
+            .setAttribute(SERVER_ADDRESS, url == null ? null : url.getHost())
+            .startSpan();
+    try (var ignored = span.makeCurrent()) {
+      httpBlocklistManager.validateUrlAgainstBlocklist(url);
+      // propagate the trace to the called service
+      ConnectorTracing.inject(externalRequest.getHeaders(), HttpHeaders::set);
+      var response = externalRequest.execute();
+      span.setAttribute(HTTP_RESPONSE_STATUS_CODE, response.getStatusCode());
+      return response;
     } catch (HttpResponseException hrex) {
+      span.setAttribute(HTTP_RESPONSE_STATUS_CODE, hrex.getStatusCode());
+      span.setStatus(StatusCode.ERROR);
       var errorCode = String.valueOf(hrex.getStatusCode());
       var errorMessage = hrex.getMessage();
       if (isProxyCall && hrex.getContent() != null) {
@@ -75,6 +111,11 @@ public class HttpInteractionService {
         }
       }
       throw new ConnectorException(errorCode, errorMessage, hrex);
+    } catch (IOException | RuntimeException e) {
+      ConnectorTracing.recordFailure(span, e);
+      throw e;
+    } finally {
+      span.end();
     }
   }
 
@@ -96,31 +137,24 @@ public class HttpInteractionService {
             });
     connectorResult.setHeaders(headers);
     try (InputStream content = externalResponse.getContent()) {
-      String bodyString = null;
       if (content != null) {
-        bodyString = new String(content.readAllBytes(), StandardCharsets.UTF_8);
-      }
-
-      if (bodyString != null) {
-        if (isJSONValid(bodyString)) {
-          Object body = objectMapper.readValue(bodyString, Object.class);
-          connectorResult.setBody(body);
+        Object body =
+            spool.read(
+                content,
+                externalResponse.getHeaders().getContentType(),
+                externalResponse.getHeaders().getContentLength(),
+                bodyReader);
+        if (body instanceof HttpResponseFile bodyFile) {
+          connectorResult.setBodyFile(bodyFile);
         } else {
-          connectorResult.setBody(bodyString);
+          connectorResult.setBody(body);
         }
       }
+    } catch (final ResponseTooLargeException e) {
+      throw new ConnectorException(e.getMessage());
     } catch (final Exception e) {
       LOGGER.error("Failed to parse external response: {}", externalResponse, e);
     }
     return connectorResult;
   }
-
-  protected static boolean isJSONValid(String jsonInString) {
-    try (JsonReader reader = new JsonReader(new StringReader(jsonInString))) {
-      final JsonElement jsonElement = JsonParser.parseReader(reader);
-      return jsonElement.isJsonObject() || jsonElement.isJsonArray();
-    } catch (JsonParseException | IOException e) {
-      return false;
-    }
-  }
 }
@@ -19,6 +19,7 @@ package io.camunda.connector.http.base.services;
 import static org.apache.http.entity.ContentType.APPLICATION_FORM_URLENCODED;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 
+import com.google.api.client.http.FileContent;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
@@ -27,13 +28,16 @@ import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.UrlEncodedContent;
 import com.google.api.client.http.json.JsonHttpContent;
 import com.google.api.client.json.gson.GsonFactory;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.http.base.auth.ApiKeyAuthentication;
 import io.camunda.connector.http.base.auth.OAuthAuthentication;
 import io.camunda.connector.http.base.constants.Constants;
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpMethod;
 import io.camunda.connector.http.base.model.HttpRequestBuilder;
+import io.camunda.connector.http.base.model.HttpResponseFile;
 import java.io.IOException;
+import java.nio.file.Path;
 import org.apache.commons.text.StringEscapeUtils;
 
 public class HttpRequestMapper {
@@ -91,7 +95,9 @@ public class HttpRequestMapper {
     }
 
     HttpContent content = null;
-    if (request.getMethod().supportsBody) {
+    if (request.getMethod().supportsBody && request.hasBodyFile()) {
+      content = storedBodyContent(request, headers);
+    } else if (request.getMethod().supportsBody) {
       if (APPLICATION_FORM_URLENCODED.getMimeType().equalsIgnoreCase(headers.getContentType())) {
         content = new UrlEncodedContent(request.getBody());
       } else {
@@ -110,6 +116,25 @@ public class HttpRequestMapper {
         .build(requestFactory);
   }
 
+  /**
+   * Sends a response body stored by the {@link HttpResponseSpool} of this runtime, with its content
+   * type unless the request configures one.
+   */
+  private static HttpContent storedBodyContent(
+      final HttpCommonRequest request, final HttpHeaders headers) {
+    HttpResponseFile bodyFile =
+        ConnectorsObjectMapperSupplier.DEFAULT_MAPPER.convertValue(
+            request.getBodyFile(), HttpResponseFile.class);
+    Path file = HttpResponseSpool.sharedInstance().storedFile(bodyFile);
+    boolean contentTypeConfigured =
+        request.hasHeaders()
+            && request.getHeaders().keySet().stream().anyMatch("Content-Type"::equalsIgnoreCase);
+    if (!contentTypeConfigured && bodyFile.getContentType() != null) {
+      headers.setContentType(bodyFile.getContentType());
+    }
+    return new FileContent(headers.getContentType(), file.toFile());
+  }
+
   public static HttpHeaders createHeaders(final HttpCommonRequest request, String bearerToken) {
     final HttpHeaders httpHeaders = new HttpHeaders();
     if (request.getMethod().supportsBody) {
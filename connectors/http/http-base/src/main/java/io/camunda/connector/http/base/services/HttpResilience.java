@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import com.google.api.client.http.GenericUrl;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.metrics.ConnectorMeterRegistry;
+import io.camunda.connector.api.metrics.ConnectorMeters;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.services.HttpCircuitBreaker.State;
+import io.camunda.connector.http.base.utils.RetryAfter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retries failed idempotent requests and guards every host with a circuit breaker, as configured by
+ * {@link HttpResilienceConfiguration}.
+ *
+ * <p>Connection errors and the status codes 429, 502, 503 and 504 are retried after a backoff that
+ * doubles with each attempt, half of it randomized. A {@code Retry-After} header of a 429 or 503
+ * response raises the backoff to the requested delay, at most to the maximum backoff. Connection
+ * errors and 5xx responses count as failures for the circuit breaker. While the circuit of a host
+ * is open, requests fail immediately with the error code {@value #CIRCUIT_OPEN}.
+ */
+public class HttpResilience {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HttpResilience.class);
+
+  /** Error code of requests rejected by an open circuit breaker. */
+  public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+
+  private static final Set<String> RETRYABLE_STATUS_CODES = Set.of("429", "502", "503", "504");
+  private static final Set<String> THROTTLING_STATUS_CODES = Set.of("429", "503");
+
+  private static final HttpResilience SHARED_INSTANCE = createSharedInstance();
+
+  private final HttpResilienceConfiguration configuration;
+  private final LongSupplier nanoClock;
+  private final DoubleSupplier random;
+  private final Sleeper sleeper;
+  private final Map<String, HttpCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+
+  public HttpResilience(final HttpResilienceConfiguration configuration) {
+    this(
+        configuration,
+        System::nanoTime,
+        () -> ThreadLocalRandom.current().nextDouble(),
+        duration -> Thread.sleep(duration.toMillis()));
+  }
+
+  HttpResilience(
+      final HttpResilienceConfiguration configuration,
+      final LongSupplier nanoClock,
+      final DoubleSupplier random,
+      final Sleeper sleeper) {
+    this.configuration = configuration;
+    this.nanoClock = nanoClock;
+    this.random = random;
+    this.sleeper = sleeper;
+  }
+
+  /** Instance shared by all HTTP based connectors of this runtime, configured from environment. */
+  public static HttpResilience sharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  /**
+   * Sends the request through the circuit breaker of its host and retries it if the method is
+   * idempotent and the failure is transient.
+   */
+  public <T> T execute(final HttpMethod method, final GenericUrl url, final Call<T> call)
+      throws IOException {
+    HttpCircuitBreaker circuitBreaker = circuitBreaker(url);
+    int maxAttempts = method != null && method.idempotent ? configuration.maxRetries() + 1 : 1;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return attempt(circuitBreaker, call);
+      } catch (IOException | RuntimeException e) {
+        if (attempt >= maxAttempts || !isRetryable(e)) {
+          throw e;
+        }
+        Duration backoff = backoff(attempt, e);
+        LOGGER.debug(
+            "Retrying {} request in {} after attempt {} failed: {}",
+            method,
+            backoff,
+            attempt,
+            e.getMessage());
+        retries.increment();
+        try {
+          sleeper.sleep(backoff);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  /** Registers counters of retried and rejected requests and a gauge of open circuits. */
+  public void bindMetrics(final ConnectorMeterRegistry registry) {
+    registry.counter(
+        "connector.http.client.retries",
+        "Requests of HTTP connectors sent again after a transient failure",
+        null,
+        Map.of(),
+        retries::sum);
+    registry.counter(
+        "connector.http.client.rejected",
+        "Requests of HTTP connectors rejected by an open circuit breaker",
+        null,
+        Map.of(),
+        rejections::sum);
+    registry.gauge(
+        "connector.http.client.circuits.open",
+        "Hosts whose circuit breaker is open or half-open",
+        null,
+        Map.of(),
+        () ->
+            circuitBreakers.values().stream()
+                .filter(circuitBreaker -> circuitBreaker.state() != State.CLOSED)
+                .count());
+  }
+
+  State circuitState(final GenericUrl url) {
+    HttpCircuitBreaker circuitBreaker = circuitBreakers.get(hostOf(url));
+    return circuitBreaker == null ? State.CLOSED : circuitBreaker.state();
+  }
+
+  private <T> T attempt(final HttpCircuitBreaker circuitBreaker, final Call<T> call)
+      throws IOException {
+    if (circuitBreaker == null) {
+      return call.execute();
+    }
+    var permit = circuitBreaker.tryAcquire();
+    if (permit == null) {
+      rejections.increment();
+      throw new ConnectorException(
+          CIRCUIT_OPEN,
+          "Request not sent, the circuit breaker of " + circuitBreaker.host() + " is open");
+    }
+    boolean failed = true;
+    try {
+      T result = call.execute();
+      failed = false;
+      return result;
+    } catch (IOException | RuntimeException e) {
+      failed = isFailure(e);
+      throw e;
+    } finally {
+      circuitBreaker.onResult(permit, failed);
+    }
+  }
+
+  private HttpCircuitBreaker circuitBreaker(final GenericUrl url) {
+    if (!configuration.circuitBreakerEnabled() || url == null) {
+      return null;
+    }
+    return circuitBreakers.computeIfAbsent(
+        hostOf(url), host -> new HttpCircuitBreaker(host, configuration, nanoClock));
+  }
+
+  /** Backoff before the given retry, at least the delay the server asked for with Retry-After. */
+  Duration backoff(final int attempt, final Exception e) {
+    Duration backoff = backoff(attempt);
+    if (!(e instanceof ConnectorException connectorException)
+        || !THROTTLING_STATUS_CODES.contains(connectorException.getErrorCode())) {
+      return backoff;
+    }
+    Duration retryAfter = RetryAfter.of(e);
+    if (retryAfter == null || retryAfter.compareTo(backoff) <= 0) {
+      return backoff;
+    }
+    Duration max = configuration.retryMaxBackoff();
+    return retryAfter.compareTo(max) > 0 ? max : retryAfter;
+  }
+
+  /** Backoff before the given retry: half of it fixed, the other half random. */
+  Duration backoff(final int attempt) {
+    long base = configuration.retryBackoff().toMillis();
+    long max = configuration.retryMaxBackoff().toMillis();
+    long exponential = base << Math.min(attempt - 1, 30);
+    long cap = exponential < 0 || exponential > max ? max : exponential;
+    return Duration.ofMillis(cap / 2 + Math.round(cap / 2d * random.getAsDouble()));
+  }
+
+  private static boolean isRetryable(final Exception e) {
+    if (e instanceof ConnectorException connectorException) {
+      return RETRYABLE_STATUS_CODES.contains(connectorException.getErrorCode());
+    }
+    return e instanceof IOException;
+  }
+
+  private static boolean isFailure(final Exception e) {
+    if (e instanceof ConnectorException connectorException) {
+      String errorCode = connectorException.getErrorCode();
+      return errorCode != null && errorCode.length() == 3 && errorCode.charAt(0) == '5';
+    }
+    return e instanceof IOException;
+  }
+
+  private static String hostOf(final GenericUrl url) {
+    return url.getScheme() + "://" + url.getHost() + (url.getPort() > 0 ? ":" + url.getPort() : "");
+  }
+
+  private static HttpResilience createSharedInstance() {
+    var resilience =
+        new HttpResilience(HttpResilienceConfiguration.fromEnvironment(System.getenv()));
+    ConnectorMeters.bind(resilience::bindMetrics);
+    return resilience;
+  }
+
+  @FunctionalInterface
+  public interface Call<T> {
+    T execute() throws IOException;
+  }
+
+  @FunctionalInterface
+  interface Sleeper {
+    void sleep(Duration duration) throws InterruptedException;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static io.camunda.connector.http.base.utils.EnvironmentSettings.parse;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Retry and circuit breaker settings for outbound HTTP requests, read from environment variables.
+ * Both are disabled by default.
+ *
+ * <ul>
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_RETRIES}: retries of idempotent requests (0), at
+ *       most {@value #MAX_RETRIES_LIMIT}
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_RETRY_BACKOFF}: delay before the first retry, doubled
+ *       for each further retry (PT0.5S)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_RETRY_MAX_BACKOFF}: upper bound of the delay (PT10S)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_ENABLED}: one circuit breaker per host
+ *       (false)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_RATE}: percentage of failed
+ *       calls that opens the circuit (50)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_SLOW_CALL_RATE}: percentage of slow
+ *       calls that opens the circuit (100)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_SLOW_CALL_DURATION}: calls taking at
+ *       least this long are slow (PT10S)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_WINDOW_SIZE}: number of latest calls
+ *       the rates are computed from (20)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_MINIMUM_CALLS}: calls required before
+ *       the circuit can open (10)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION}: time the circuit stays
+ *       open before probe calls are let through (PT30S)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_CIRCUIT_BREAKER_PROBE_CALLS}: successful probe calls
+ *       that close the circuit again (3)
+ * </ul>
+ */
+public record HttpResilienceConfiguration(
+    int maxRetries,
+    Duration retryBackoff,
+    Duration retryMaxBackoff,
+    boolean circuitBreakerEnabled,
+    int failureRateThreshold,
+    int slowCallRateThreshold,
+    Duration slowCallDuration,
+    int windowSize,
+    int minimumCalls,
+    Duration openDuration,
+    int probeCalls) {
+
+  private static final String PREFIX = "CAMUNDA_CONNECTOR_HTTP_CLIENT_";
+  private static final String CIRCUIT_BREAKER = PREFIX + "CIRCUIT_BREAKER_";
+  static final String MAX_RETRIES = PREFIX + "MAX_RETRIES";
+  static final String RETRY_BACKOFF = PREFIX + "RETRY_BACKOFF";
+  static final String RETRY_MAX_BACKOFF = PREFIX + "RETRY_MAX_BACKOFF";
+  static final String CIRCUIT_BREAKER_ENABLED = CIRCUIT_BREAKER + "ENABLED";
+  static final String FAILURE_RATE = CIRCUIT_BREAKER + "FAILURE_RATE";
+  static final String SLOW_CALL_RATE = CIRCUIT_BREAKER + "SLOW_CALL_RATE";
+  static final String SLOW_CALL_DURATION = CIRCUIT_BREAKER + "SLOW_CALL_DURATION";
+  static final String WINDOW_SIZE = CIRCUIT_BREAKER + "WINDOW_SIZE";
+  static final String MINIMUM_CALLS = CIRCUIT_BREAKER + "MINIMUM_CALLS";
+  static final String OPEN_DURATION = CIRCUIT_BREAKER + "OPEN_DURATION";
+  static final String PROBE_CALLS = CIRCUIT_BREAKER + "PROBE_CALLS";
+
+  public static final int MAX_RETRIES_LIMIT = 10;
+  public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(500);
+  public static final Duration DEFAULT_RETRY_MAX_BACKOFF = Duration.ofSeconds(10);
+  public static final int DEFAULT_FAILURE_RATE = 50;
+  public static final int DEFAULT_SLOW_CALL_RATE = 100;
+  public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(10);
+  public static final int DEFAULT_WINDOW_SIZE = 20;
+  public static final int DEFAULT_MINIMUM_CALLS = 10;
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+  public static final int DEFAULT_PROBE_CALLS = 3;
+
+  public HttpResilienceConfiguration {
+    maxRetries = Math.min(Math.max(maxRetries, 0), MAX_RETRIES_LIMIT);
+    failureRateThreshold = Math.min(Math.max(failureRateThreshold, 1), 100);
+    slowCallRateThreshold = Math.min(Math.max(slowCallRateThreshold, 1), 100);
+    windowSize = Math.max(windowSize, 1);
+    minimumCalls = Math.min(Math.max(minimumCalls, 1), windowSize);
+    probeCalls = Math.max(probeCalls, 1);
+  }
+
+  public static HttpResilienceConfiguration defaults() {
+    return fromEnvironment(Map.of());
+  }
+
+  public static HttpResilienceConfiguration fromEnvironment(final Map<String, String> environment) {
+    return new HttpResilienceConfiguration(
+        parse(environment, MAX_RETRIES, Integer::parseInt, 0),
+        parse(environment, RETRY_BACKOFF, Duration::parse, DEFAULT_RETRY_BACKOFF),
+        parse(environment, RETRY_MAX_BACKOFF, Duration::parse, DEFAULT_RETRY_MAX_BACKOFF),
+        parse(environment, CIRCUIT_BREAKER_ENABLED, Boolean::parseBoolean, false),
+        parse(environment, FAILURE_RATE, Integer::parseInt, DEFAULT_FAILURE_RATE),
+        parse(environment, SLOW_CALL_RATE, Integer::parseInt, DEFAULT_SLOW_CALL_RATE),
+        parse(environment, SLOW_CALL_DURATION, Duration::parse, DEFAULT_SLOW_CALL_DURATION),
+        parse(environment, WINDOW_SIZE, Integer::parseInt, DEFAULT_WINDOW_SIZE),
+        parse(environment, MINIMUM_CALLS, Integer::parseInt, DEFAULT_MINIMUM_CALLS),
+        parse(environment, OPEN_DURATION, Duration::parse, DEFAULT_OPEN_DURATION),
+        parse(environment, PROBE_CALLS, Integer::parseInt, DEFAULT_PROBE_CALLS));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static io.camunda.connector.http.base.utils.EnvironmentSettings.parse;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an HTTP response body in a single pass. JSON objects and arrays are parsed into maps and
+ * lists, anything else is returned as text.
+ *
+ * <p>Whether a body is JSON is decided by its first non-whitespace byte. If the content type
+ * declares JSON as well, the body is parsed straight from the stream; otherwise it is buffered so
+ * that it can still be returned as text if it turns out not to be JSON.
+ *
+ * <p>The maximum body size is read from {@code CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_RESPONSE_SIZE}
+ * (bytes, unlimited by default).
+ */
+public final class HttpResponseBodyReader {
+
+  static final String MAX_RESPONSE_SIZE = "CAMUNDA_CONNECTOR_HTTP_CLIENT_MAX_RESPONSE_SIZE";
+
+  private static final int PEEK_LIMIT = 1024;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final ObjectMapper objectMapper;
+  private final long maxSize;
+
+  /**
+   * @param maxSize maximum body size in bytes, 0 for no limit
+   */
+  public HttpResponseBodyReader(final ObjectMapper objectMapper, final long maxSize) {
+    this.objectMapper = objectMapper;
+    this.maxSize = Math.max(0, maxSize);
+  }
+
+  public static HttpResponseBodyReader fromEnvironment(
+      final ObjectMapper objectMapper, final Map<String, String> environment) {
+    return new HttpResponseBodyReader(
+        objectMapper, parse(environment, MAX_RESPONSE_SIZE, Long::parseLong, 0L));
+  }
+
+  /**
+   * @param content the response body
+   * @param contentType the content type header, may be null
+   * @param contentLength the content length header, may be null
+   * @return the parsed JSON, or the body as text
+   * @throws ResponseTooLargeException if the body exceeds the maximum size
+   */
+  public Object read(final InputStream content, final String contentType, final Long contentLength)
+      throws IOException {
+    InputStream in = new BufferedInputStream(limit(content, contentLength), BUFFER_SIZE);
+    if (!startsWithJsonContainer(in)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    if (isJsonContentType(contentType)) {
+      return readJson(objectMapper.createParser(in));
+    }
+    byte[] body = in.readAllBytes();
+    try {
+      return readJson(objectMapper.createParser(body));
+    } catch (JsonProcessingException e) {
+      return new String(body, StandardCharsets.UTF_8);
+    }
+  }
+
+  /** Reads a single JSON value, rejecting any content after it. */
+  private Object readJson(final JsonParser parser) throws IOException {
+    try (parser) {
+      Object value = objectMapper.readValue(parser, Object.class);
+      if (parser.nextToken() != null) {
+        throw new JsonParseException(parser, "Unexpected content after the JSON value");
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Applies the maximum body size to a stream that is consumed without parsing it.
+   *
+   * @throws ResponseTooLargeException if the content length already exceeds the maximum size
+   */
+  InputStream limit(final InputStream content, final Long contentLength)
+      throws ResponseTooLargeException {
+    if (maxSize > 0 && contentLength != null && contentLength > maxSize) {
+      throw new ResponseTooLargeException(maxSize);
+    }
+    return maxSize > 0 ? new SizeLimitingInputStream(content, maxSize) : content;
+  }
+
+  private static boolean startsWithJsonContainer(final InputStream in) throws IOException {
+    in.mark(PEEK_LIMIT);
+    try {
+      for (int i = 0; i < PEEK_LIMIT - 1; i++) {
+        int next = in.read();
+        switch (next) {
+          case ' ', '\t', '\r', '\n', 0xEF, 0xBB, 0xBF -> {
+            // whitespace and the UTF-8 byte order mark
+          }
+          case '{', '[' -> {
+            return true;
+          }
+          default -> {
+            return false;
+          }
+        }
+      }
+      return false;
+    } finally {
+      in.reset();
+    }
+  }
+
+  private static boolean isJsonContentType(final String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    String mimeType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return mimeType.equals("application/json") || mimeType.endsWith("+json");
+  }
+
+  /** Thrown when a response body exceeds the configured maximum size. */
+  public static final class ResponseTooLargeException extends IOException {
+    ResponseTooLargeException(final long maxSize) {
+      super("Response body exceeds the maximum size of " + maxSize + " bytes");
+    }
+  }
+
+  private static final class SizeLimitingInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long read;
+
+    SizeLimitingInputStream(final InputStream in, final long maxSize) {
+      super(in);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int next = super.read();
+      if (next >= 0) {
+        count(1);
+      }
+      return next;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count(n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count(final long n) throws ResponseTooLargeException {
+      read += n;
+      if (read > maxSize) {
+        throw new ResponseTooLargeException(maxSize);
+      }
+    }
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static io.camunda.connector.http.base.utils.EnvironmentSettings.parse;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.http.base.model.HttpResponseFile;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes response bodies above a size threshold to temporary files, so that their size does not
+ * affect the memory of the runtime. Smaller bodies are read as before.
+ *
+ * <p>Configured by environment variables, spilling is disabled by default:
+ *
+ * <ul>
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_SPILL_THRESHOLD}: bodies larger than this (bytes) are
+ *       written to a file
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_SPILL_DIRECTORY}: directory of the files (the system
+ *       temp directory)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_SPILL_PREVIEW_SIZE}: bytes of a text body returned as
+ *       preview (1024)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_CLIENT_SPILL_RETENTION}: files older than this are deleted,
+ *       {@code PT0S} keeps them (PT1H)
+ * </ul>
+ *
+ * <p>A stored body is returned as {@code bodyFile} of the response and can be sent as request body
+ * by a later HTTP request of the same runtime, see {@link #storedFile(HttpResponseFile)}. It has to
+ * be used within the retention, afterwards the file is gone. Expired files are deleted when a body
+ * is stored and, for the shared instance, by a background sweep every minute.
+ */
+public final class HttpResponseSpool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseSpool.class);
+
+  private static final String PREFIX = "CAMUNDA_CONNECTOR_HTTP_CLIENT_SPILL_";
+  static final String THRESHOLD = PREFIX + "THRESHOLD";
+  static final String DIRECTORY = PREFIX + "DIRECTORY";
+  static final String PREVIEW_SIZE = PREFIX + "PREVIEW_SIZE";
+  static final String RETENTION = PREFIX + "RETENTION";
+
+  public static final int DEFAULT_PREVIEW_SIZE = 1024;
+  public static final Duration DEFAULT_RETENTION = Duration.ofHours(1);
+
+  static final String FILE_PREFIX = "connector-http-response-";
+  static final String FILE_SUFFIX = ".body";
+  private static final long MAX_THRESHOLD = Integer.MAX_VALUE - 16;
+  private static final long SWEEP_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+  private static final HttpResponseSpool SHARED_INSTANCE = createSharedInstance();
+
+  private final long threshold;
+  private final Path directory;
+  private final int previewSize;
+  private final Duration retention;
+  private final Clock clock;
+  private final AtomicLong nextSweep = new AtomicLong();
+
+  /**
+   * @param threshold bodies larger than this are written to a file, 0 to disable spilling
+   */
+  public HttpResponseSpool(
+      final long threshold, final Path directory, final int previewSize, final Duration retention) {
+    this(threshold, directory, previewSize, retention, Clock.systemUTC());
+  }
+
+  HttpResponseSpool(
+      final long threshold,
+      final Path directory,
+      final int previewSize,
+      final Duration retention,
+      final Clock clock) {
+    this.threshold = Math.min(Math.max(threshold, 0), MAX_THRESHOLD);
+    this.directory = directory;
+    this.previewSize = Math.max(previewSize, 0);
+    this.retention = retention;
+    this.clock = clock;
+  }
+
+  public static HttpResponseSpool sharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  public static HttpResponseSpool disabled() {
+    return new HttpResponseSpool(0, null, 0, Duration.ZERO);
+  }
+
+  public static HttpResponseSpool fromEnvironment(final Map<String, String> environment) {
+    return new HttpResponseSpool(
+        parse(environment, THRESHOLD, Long::parseLong, 0L),
+        parse(environment, DIRECTORY, Path::of, Path.of(System.getProperty("java.io.tmpdir"))),
+        parse(environment, PREVIEW_SIZE, Integer::parseInt, DEFAULT_PREVIEW_SIZE),
+        parse(environment, RETENTION, Duration::parse, DEFAULT_RETENTION));
+  }
+
+  public boolean isEnabled() {
+    return threshold > 0;
+  }
+
+  /**
+   * Reads a response body, or writes it to a file if it exceeds the threshold.
+   *
+   * @return the body as returned by the reader, or a {@link HttpResponseFile}
+   */
+  public Object read(
+      final InputStream content,
+      final String contentType,
+      final Long contentLength,
+      final HttpResponseBodyReader reader)
+      throws IOException {
+    if (!isEnabled()) {
+      return reader.read(content, contentType, contentLength);
+    }
+    if (contentLength != null && contentLength > threshold) {
+      return spill(reader.limit(content, contentLength), contentType);
+    }
+    // the content length may be missing or wrong, only trust the bytes read
+    byte[] head = content.readNBytes((int) threshold + 1);
+    if (head.length <= threshold) {
+      return reader.read(new ByteArrayInputStream(head), contentType, (long) head.length);
+    }
+    return spill(
+        reader.limit(new SequenceInputStream(new ByteArrayInputStream(head), content), null),
+        contentType);
+  }
+
+  /**
+   * Resolves a body stored by this spool, so that it can be sent again.
+   *
+   * @throws ConnectorException if the file was not stored by this spool or is already deleted
+   */
+  public Path storedFile(final HttpResponseFile bodyFile) {
+    if (!isEnabled() || bodyFile.getPath() == null) {
+      throw new ConnectorException("Response bodies are not stored by this runtime");
+    }
+    Path file = Path.of(bodyFile.getPath()).toAbsolutePath().normalize();
+    String name = String.valueOf(file.getFileName());
+    if (!directory.toAbsolutePath().normalize().equals(file.getParent())
+        || !name.startsWith(FILE_PREFIX)
+        || !name.endsWith(FILE_SUFFIX)) {
+      throw new ConnectorException(
+          "Not a response body stored by this runtime: " + bodyFile.getPath());
+    }
+    if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+      throw new ConnectorException(
+          "Stored response body "
+              + bodyFile.getPath()
+              + " does not exist anymore, stored bodies are deleted after "
+              + retention);
+    }
+    return file;
+  }
+
+  private HttpResponseFile spill(final InputStream content, final String contentType)
+      throws IOException {
+    deleteExpiredFiles();
+    Files.createDirectories(directory);
+    Path file = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+    MessageDigest digest = sha256();
+    try (OutputStream out = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+      byte[] preview = content.readNBytes(previewSize);
+      out.write(preview);
+      long size = preview.length + content.transferTo(out);
+      LOGGER.debug("Stored response body of {} bytes in {}", size, file);
+      return new HttpResponseFile(
+          file.toAbsolutePath().toString(),
+          size,
+          contentType,
+          isText(contentType) ? new String(preview, StandardCharsets.UTF_8) : null,
+          HexFormat.of().formatHex(digest.digest()));
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  /** Deletes files older than the retention, at most once per sweep interval. */
+  void deleteExpiredFiles() {
+    long now = clock.millis();
+    long next = nextSweep.get();
+    if (retention.isZero()
+        || retention.isNegative()
+        || now < next
+        || !nextSweep.compareAndSet(next, now + SWEEP_INTERVAL_MILLIS)
+        || !Files.isDirectory(directory)) {
+      return;
+    }
+    long expiredBefore = now - retention.toMillis();
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+      for (Path file : files) {
+        try {
+          if (Files.getLastModifiedTime(file).toMillis() < expiredBefore) {
+            Files.deleteIfExists(file);
+          }
+        } catch (IOException e) {
+          LOGGER.debug("Failed to delete expired response body {}", file, e);
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Failed to delete expired response bodies in {}", directory, e);
+    }
+  }
+
+  private static HttpResponseSpool createSharedInstance() {
+    var spool = fromEnvironment(System.getenv());
+    if (spool.isEnabled() && !spool.retention.isZero() && !spool.retention.isNegative()) {
+      // files also expire while no new bodies are stored, e.g. after the last connector stopped
+      var sweeper =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                var thread = new Thread(runnable, "connector-http-spool-sweeper");
+                thread.setDaemon(true);
+                return thread;
+              });
+      sweeper.scheduleWithFixedDelay(
+          () -> {
+            try {
+              spool.deleteExpiredFiles();
+            } catch (RuntimeException e) {
+              LOGGER.warn("Failed to delete expired response bodies", e);
+            }
+          },
+          SWEEP_INTERVAL_MILLIS,
+          SWEEP_INTERVAL_MILLIS,
+          TimeUnit.MILLISECONDS);
+    }
+    return spool;
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean isText(final String contentType) {
+    if (contentType == null) {
+      return true;
+    }
+    String mimeType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return mimeType.startsWith("text/")
+        || mimeType.endsWith("json")
+        || mimeType.endsWith("xml")
+        || mimeType.equals("application/x-www-form-urlencoded");
+  }
+}
@@ -35,14 +35,34 @@ import org.slf4j.LoggerFactory;
 
 public class HttpService {
   private static final Logger LOGGER = LoggerFactory.getLogger(HttpService.class);
+  private static final String UNAUTHORIZED = "401";
 
   private final ObjectMapper objectMapper;
   private final HttpRequestFactory requestFactory;
+  private final OAuthTokenCache tokenCache;
+  private final HttpResilience resilience;
   private final String proxyFunctionUrl = System.getenv(PROXY_FUNCTION_URL_ENV_NAME);
 
   public HttpService(final ObjectMapper objectMapper, final HttpRequestFactory requestFactory) {
+    this(objectMapper, requestFactory, OAuthTokenCache.sharedInstance());
+  }
+
+  public HttpService(
+      final ObjectMapper objectMapper,
+      final HttpRequestFactory requestFactory,
+      final OAuthTokenCache tokenCache) {
+    this(objectMapper, requestFactory, tokenCache, HttpResilience.sharedInstance());
+  }
+
+  public HttpService(
+      final ObjectMapper objectMapper,
+      final HttpRequestFactory requestFactory,
+      final OAuthTokenCache tokenCache,
+      final HttpResilience resilience) {
     this.objectMapper = objectMapper;
     this.requestFactory = requestFactory;
+    this.tokenCache = tokenCache;
+    this.resilience = resilience;
   }
 
   public HttpCommonResult executeConnectorRequest(final HttpCommonRequest request)
@@ -63,7 +83,17 @@ public class HttpService {
     }
     com.google.api.client.http.HttpRequest httpRequest =
         HttpRequestMapper.toHttpRequest(requestFactory, request, bearerToken);
-    HttpResponse httpResponse = httpInteractionService.executeHttpRequest(httpRequest, false);
+    HttpResponse httpResponse;
+    try {
+      httpResponse =
+          resilience.execute(
+              request.getMethod(),
+              httpRequest.getUrl(),
+              () -> httpInteractionService.executeHttpRequest(httpRequest, false));
+    } catch (ConnectorException e) {
+      invalidateRejectedToken(request, e);
+      throw e;
+    }
     return httpInteractionService.toHttpResponse(httpResponse, HttpCommonResult.class);
   }
 
@@ -72,10 +102,24 @@ public class HttpService {
       final HttpInteractionService httpInteractionService,
       final AuthenticationService authService)
       throws IOException {
-    final com.google.api.client.http.HttpRequest oauthRequest =
-        authService.createOAuthRequest(connectorRequest);
-    final HttpResponse oauthResponse = httpInteractionService.executeHttpRequest(oauthRequest);
-    return authService.extractOAuthAccessToken(oauthResponse);
+    return tokenCache.getAccessToken(
+        (OAuthAuthentication) connectorRequest.getAuthentication(),
+        () -> {
+          final com.google.api.client.http.HttpRequest oauthRequest =
+              authService.createOAuthRequest(connectorRequest);
+          final HttpResponse oauthResponse =
+              httpInteractionService.executeHttpRequest(oauthRequest);
+          return authService.extractOAuthToken(oauthResponse);
+        });
+  }
+
+  private void invalidateRejectedToken(
+      final HttpCommonRequest request, final ConnectorException exception) {
+    // a rejected token may have been revoked before it expired, fetch a new one next time
+    if (request.getAuthentication() instanceof OAuthAuthentication authentication
+        && UNAUTHORIZED.equals(exception.getErrorCode())) {
+      tokenCache.invalidate(authentication);
+    }
   }
 
   private HttpCommonResult executeRequestViaProxy(HttpCommonRequest request) throws IOException {
@@ -0,0 +1,243 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.http.base.auth.OAuthAuthentication;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches access tokens obtained with the OAuth client credentials flow, so that connectors don't
+ * call the token endpoint before every request. Tokens are keyed by token endpoint, client, scopes,
+ * audience and a hash of the client secret.
+ *
+ * <p>A token is used until {@code expires_in} minus a safety skew. Once 80% of that lifetime has
+ * passed, the next caller refreshes the token while concurrent callers keep using the current one.
+ * Concurrent fetches for the same key are coalesced into a single token request. Tokens without
+ * {@code expires_in} are not cached.
+ */
+public class OAuthTokenCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OAuthTokenCache.class);
+
+  static final Duration DEFAULT_EXPIRY_SKEW = Duration.ofSeconds(30);
+  static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+  private static final double REFRESH_AFTER_LIFETIME_FRACTION = 0.8;
+  private static final OAuthTokenCache SHARED_INSTANCE =
+      new OAuthTokenCache(Clock.systemUTC(), DEFAULT_EXPIRY_SKEW, DEFAULT_MAX_ENTRIES);
+
+  private final Clock clock;
+  private final Duration expirySkew;
+  private final int maxEntries;
+  private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+  public OAuthTokenCache(final Clock clock, final Duration expirySkew, final int maxEntries) {
+    this.clock = clock;
+    this.expirySkew = expirySkew;
+    this.maxEntries = maxEntries;
+  }
+
+  /** Cache shared by all HTTP based connectors of this runtime. */
+  public static OAuthTokenCache sharedInstance() {
+    return SHARED_INSTANCE;
+  }
+
+  /**
+   * Returns a cached access token for the given authentication, or obtains one with the fetcher.
+   */
+  public String getAccessToken(final OAuthAuthentication authentication, final TokenFetcher fetcher)
+      throws IOException {
+    final CacheKey key = CacheKey.of(authentication);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      purgeIfFull();
+      entry = entries.computeIfAbsent(key, k -> new Entry());
+    }
+    final CachedToken current = entry.token;
+    final Instant now = clock.instant();
+    if (current != null && now.isBefore(current.refreshAt())) {
+      return current.accessToken();
+    }
+
+    final CompletableFuture<String> inFlight;
+    synchronized (entry) {
+      final CachedToken latest = entry.token;
+      if (latest != current && latest != null && clock.instant().isBefore(latest.refreshAt())) {
+        return latest.accessToken();
+      }
+      if (entry.refresh != null) {
+        inFlight = entry.refresh;
+      } else {
+        entry.refresh = new CompletableFuture<>();
+        inFlight = null;
+      }
+    }
+    if (inFlight != null) {
+      if (current != null && now.isBefore(current.expiresAt())) {
+        // another caller is already refreshing, the current token is still good
+        return current.accessToken();
+      }
+      return await(inFlight);
+    }
+    return refresh(entry, fetcher);
+  }
+
+  /** Drops the cached token, e.g. after the target API rejected it. */
+  public void invalidate(final OAuthAuthentication authentication) {
+    final Entry entry = entries.get(CacheKey.of(authentication));
+    if (entry != null) {
+      entry.token = null;
+    }
+  }
+
+  /**
+   * Identifies the client of the authentication by the same properties the tokens are cached by,
+   * with the secret hashed. Unlike the access token it does not change when the token is refreshed.
+   */
+  public static Object clientIdentity(final OAuthAuthentication authentication) {
+    return CacheKey.of(authentication);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private String refresh(final Entry entry, final TokenFetcher fetcher) throws IOException {
+    final CompletableFuture<String> refresh = entry.refresh;
+    try {
+      final Instant fetchedAt = clock.instant();
+      final Token token = fetcher.fetch();
+      entry.token = toCachedToken(token, fetchedAt);
+      refresh.complete(token.accessToken());
+      return token.accessToken();
+    } catch (IOException | RuntimeException e) {
+      refresh.completeExceptionally(e);
+      throw e;
+    } finally {
+      synchronized (entry) {
+        entry.refresh = null;
+      }
+    }
+  }
+
+  private CachedToken toCachedToken(final Token token, final Instant fetchedAt) {
+    if (token.accessToken() == null || token.expiresIn() == null) {
+      return null;
+    }
+    final Duration lifetime = token.expiresIn().minus(expirySkew);
+    if (lifetime.isNegative() || lifetime.isZero()) {
+      LOGGER.debug("OAuth token expires within {}, not caching it", expirySkew);
+      return null;
+    }
+    return new CachedToken(
+        token.accessToken(),
+        fetchedAt.plus(lifetime),
+        fetchedAt.plusMillis((long) (lifetime.toMillis() * REFRESH_AFTER_LIFETIME_FRACTION)));
+  }
+
+  private void purgeIfFull() {
+    if (entries.size() >= maxEntries) {
+      final Instant now = clock.instant();
+      entries
+          .values()
+          .removeIf(
+              entry ->
+                  entry.refresh == null
+                      && (entry.token == null || !now.isBefore(entry.token.expiresAt())));
+    }
+  }
+
+  private static String await(final CompletableFuture<String> refresh) throws IOException {
+    try {
+      return refresh.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ConnectorException(e.getCause());
+    }
+  }
+
+  /** Requests a new token from the token endpoint. */
+  @FunctionalInterface
+  public interface TokenFetcher {
+    Token fetch() throws IOException;
+  }
+
+  /**
+   * @param accessToken the access token
+   * @param expiresIn the token lifetime from the {@code expires_in} response field, or null
+   */
+  public record Token(String accessToken, Duration expiresIn) {}
+
+  private record CachedToken(String accessToken, Instant expiresAt, Instant refreshAt) {}
+
+  private record CacheKey(
+      String tokenEndpoint,
+      String clientId,
+      String clientAuthentication,
+      String scopes,
+      String audience,
+      String credentialHash) {
+
+    static CacheKey of(final OAuthAuthentication authentication) {
+      return new CacheKey(
+          authentication.getOauthTokenEndpoint(),
+          authentication.getClientId(),
+          authentication.getClientAuthentication(),
+          authentication.getScopes(),
+          authentication.getAudience(),
+          sha256(authentication.getClientSecret()));
+    }
+
+    private static String sha256(final String value) {
+      if (value == null) {
+        return null;
+      }
+      try {
+        return HexFormat.of()
+            .formatHex(
+                MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private static final class Entry {
+    private volatile CachedToken token;
+    private CompletableFuture<String> refresh;
+  }
+}
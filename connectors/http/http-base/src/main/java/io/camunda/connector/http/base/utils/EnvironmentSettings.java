@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.utils;
+
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Reads settings of the HTTP connectors from environment variables. */
+public final class EnvironmentSettings {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentSettings.class);
+
+  private EnvironmentSettings() {}
+
+  /**
+   * Parses a single setting. Invalid values are logged and replaced by the default, so a typo in
+   * the deployment does not prevent the connectors from starting.
+   *
+   * @param environment the environment variables, e.g. {@link System#getenv()}
+   * @param name the name of the variable
+   * @param parser converts the trimmed value, may throw {@link IllegalArgumentException} or {@link
+   *     DateTimeParseException}
+   * @param defaultValue returned if the variable is unset, blank or invalid
+   */
+  public static <T> T parse(
+      final Map<String, String> environment,
+      final String name,
+      final Function<String, T> parser,
+      final T defaultValue) {
+    String value = environment.get(name);
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    try {
+      return parser.apply(value.trim());
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      LOGGER.warn("Ignoring invalid value '{}' of {}: {}", value, name, e.getMessage());
+      return defaultValue;
+    }
+  }
+}
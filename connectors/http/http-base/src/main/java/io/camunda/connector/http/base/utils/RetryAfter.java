@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.utils;
+
+import com.google.api.client.http.HttpResponseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Reads the {@code Retry-After} header of failed HTTP responses. */
+public final class RetryAfter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RetryAfter.class);
+
+  private RetryAfter() {}
+
+  /**
+   * Returns the delay requested by the {@code Retry-After} header, given in seconds or as HTTP
+   * date, of the response that caused the exception.
+   *
+   * @return the delay, or null if the exception was not caused by a response with a valid header
+   */
+  public static Duration of(final Throwable e) {
+    if (e == null
+        || !(e.getCause() instanceof HttpResponseException response)
+        || response.getHeaders() == null) {
+      return null;
+    }
+    String value = response.getHeaders().getRetryAfter();
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Long.parseLong(value.trim()));
+    } catch (NumberFormatException ignored) {
+      // not a number of seconds, try an HTTP date
+    }
+    try {
+      var date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      var delay = Duration.between(Instant.now(), date.toInstant());
+      return delay.isNegative() ? null : delay;
+    } catch (DateTimeParseException ignored) {
+      LOGGER.debug("Ignoring invalid Retry-After header: {}", value);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.blocklist;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.api.client.http.GenericUrl;
+import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.http.base.blocklist.block.PortBlock;
+import io.camunda.connector.http.base.blocklist.block.RegexBlock;
+import io.camunda.connector.http.base.blocklist.block.UrlBlock;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+public class CompiledBlocklistTest {
+
+  private final CompiledBlocklist blocklist =
+      CompiledBlocklist.compile(
+          List.of(
+              PortBlock.create("8080,8081", "PORTS"),
+              new UrlBlock("169.254.169.254", "METADATA"),
+              new UrlBlock("internal.example.com", "INTERNAL"),
+              RegexBlock.create("^http://regex.*", "PLAIN_REGEX"),
+              RegexBlock.create("(?i)https://UPPER.*", "CASE_INSENSITIVE"),
+              RegexBlock.create("https://(\\w+)\\.\\1\\.com/?", "BACK_REFERENCE"),
+              new RegexBlock("FLAGS", Pattern.compile("https://flags.*", Pattern.CASE_INSENSITIVE)),
+              RegexBlock.create("(?<block0>https://named.*)", "NAMED_GROUP")));
+
+  @Test
+  public void shouldReportBlockedPort() {
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://example.com:8081/path")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("port")
+        .hasMessageContaining("PORTS");
+  }
+
+  @Test
+  public void shouldReportUrlBlockByName() {
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://internal.example.com/x")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("INTERNAL");
+    assertThatThrownBy(
+            () -> blocklist.validate(new GenericUrl("http://169.254.169.254/latest/meta-data")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("METADATA");
+  }
+
+  @Test
+  public void shouldReportMergedRegexBlockByName() {
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("http://regex.example.com")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("PLAIN_REGEX");
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://upper.example.com")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("CASE_INSENSITIVE");
+  }
+
+  @Test
+  public void shouldMatchRegexBlocksThatCannotBeMerged() {
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://abc.abc.com")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("BACK_REFERENCE");
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://FLAGS.example.com")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("FLAGS");
+    assertThatThrownBy(() -> blocklist.validate(new GenericUrl("https://named.example.com")))
+        .isInstanceOf(ConnectorInputException.class)
+        .hasMessageContaining("NAMED_GROUP");
+  }
+
+  @Test
+  public void shouldAcceptUrlMatchingNoBlock() {
+    assertThatCode(() -> blocklist.validate(new GenericUrl("https://abc.abd.com:8443/regex")))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  public void shouldAcceptEverythingWithoutBlocks() {
+    var empty = CompiledBlocklist.compile(List.of());
+    assertThatCode(() -> empty.validate(new GenericUrl("http://localhost:8080")))
+        .doesNotThrowAnyException();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.blocklist;
+
+import com.google.api.client.http.GenericUrl;
+import io.camunda.connector.http.base.blocklist.block.Block;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares validating an allowed URL the way it was done before (a blocklist manager created per
+ * request, every block matched on its own) with the compiled blocklist of the shared manager.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpBlocklistBenchmark {
+
+  @Param({"5", "50"})
+  public int blocksPerType;
+
+  private Map<String, String> environment;
+  private List<Block> blocks;
+  private DefaultHttpBlocklistManager manager;
+  private GenericUrl url;
+
+  @Setup
+  public void setUp() {
+    environment = new HashMap<>();
+    for (int i = 0; i < blocksPerType; i++) {
+      environment.put("CAMUNDA_CONNECTOR_HTTP_BLOCK_URL_HOST_" + i, "http://internal-" + i + ".");
+      environment.put("CAMUNDA_CONNECTOR_HTTP_BLOCK_PORT_PORT_" + i, String.valueOf(9000 + i));
+      environment.put(
+          "CAMUNDA_CONNECTOR_HTTP_BLOCK_REGEX_REGEX_" + i, "^https?://10\\.0\\." + i + "\\..*");
+    }
+    manager = new DefaultHttpBlocklistManager(environment);
+    blocks = manager.getBlockList();
+    url = new GenericUrl("https://api.example.com/v1/customers/12345?expand=orders&limit=50");
+  }
+
+  @Benchmark
+  public void managerPerRequest() {
+    new DefaultHttpBlocklistManager(environment).validateUrlAgainstBlocklist(url);
+  }
+
+  @Benchmark
+  public void blockByBlock() {
+    for (Block block : blocks) {
+      block.validate(url);
+    }
+  }
+
+  @Benchmark
+  public void compiled() {
+    manager.validateUrlAgainstBlocklist(url);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(HttpBlocklistBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.blocklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class SubstringMatcherTest {
+
+  private final SubstringMatcher matcher =
+      new SubstringMatcher(List.of("he", "she", "his", "hers", "http://internal"));
+
+  @ParameterizedTest
+  @CsvSource({
+    "he, 0",
+    "ushers, 1",
+    "this, 2",
+    "ahishers, 2",
+    "https://example.com, -1",
+    "http://internal.service, 4",
+    "http://interna, -1",
+    "'', -1"
+  })
+  public void shouldFindFirstContainedValue(String text, int expectedIndex) {
+    // when
+    int index = matcher.findFirst(text);
+    // then
+    assertThat(index).isEqualTo(expectedIndex);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.components;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Duration;
+import java.util.Map;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.Test;
+
+class HttpClientPoolConfigurationTest {
+
+  @Test
+  void defaults_matchPreviousTransport() {
+    // when
+    var configuration = HttpClientPoolConfiguration.defaults();
+
+    // then
+    assertThat(configuration.maxConnections()).isEqualTo(200);
+    assertThat(configuration.maxConnectionsPerRoute()).isEqualTo(20);
+    assertThat(configuration.maxConnectionsPerHost()).isEmpty();
+    assertThat(configuration.idleTimeout()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.connectionTtl()).isNull();
+    assertThat(configuration.maxKeepAlive()).isNull();
+  }
+
+  @Test
+  void fromEnvironment_readsAllSettings() {
+    // given
+    var environment =
+        Map.of(
+            HttpClientPoolConfiguration.MAX_CONNECTIONS, "500",
+            HttpClientPoolConfiguration.MAX_CONNECTIONS_PER_ROUTE, "50",
+            HttpClientPoolConfiguration.MAX_CONNECTIONS_PER_HOST,
+                "https://api.example.com=100, http://localhost:8080=5",
+            HttpClientPoolConfiguration.IDLE_TIMEOUT, "PT0S",
+            HttpClientPoolConfiguration.CONNECTION_TTL, "PT5M",
+            HttpClientPoolConfiguration.MAX_KEEP_ALIVE, "PT30S");
+
+    // when
+    var configuration = HttpClientPoolConfiguration.fromEnvironment(environment);
+
+    // then
+    assertThat(configuration.maxConnections()).isEqualTo(500);
+    assertThat(configuration.maxConnectionsPerRoute()).isEqualTo(50);
+    assertThat(configuration.maxConnectionsPerHost())
+        .containsOnly(
+            entry(new HttpHost("api.example.com", 443, "https"), 100),
+            entry(new HttpHost("localhost", 8080, "http"), 5));
+    assertThat(configuration.idleTimeout()).isNull();
+    assertThat(configuration.connectionTtl()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(configuration.maxKeepAlive()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void invalidValues_fallBackToDefaults() {
+    // given
+    var environment =
+        Map.of(
+            HttpClientPoolConfiguration.MAX_CONNECTIONS, "many",
+            HttpClientPoolConfiguration.MAX_CONNECTIONS_PER_HOST, "api.example.com",
+            HttpClientPoolConfiguration.IDLE_TIMEOUT, "60");
+
+    // when
+    var configuration = HttpClientPoolConfiguration.fromEnvironment(environment);
+
+    // then
+    assertThat(configuration.maxConnections())
+        .isEqualTo(HttpClientPoolConfiguration.DEFAULT_MAX_CONNECTIONS);
+    assertThat(configuration.maxConnectionsPerHost()).isEmpty();
+    assertThat(configuration.idleTimeout())
+        .isEqualTo(HttpClientPoolConfiguration.DEFAULT_IDLE_TIMEOUT);
+  }
+}
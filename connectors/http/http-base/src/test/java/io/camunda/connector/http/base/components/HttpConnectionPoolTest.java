@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.components;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.api.client.http.GenericUrl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.http.HttpHost;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpConnectionPoolTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService clients = Executors.newFixedThreadPool(8);
+  private HttpServer server;
+  private String baseUrl;
+
+  @BeforeEach
+  void startServer() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange);
+        });
+    server.createContext("/fast", HttpConnectionPoolTest::respond);
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void stopServer() {
+    release.countDown();
+    clients.shutdownNow();
+    server.stop(0);
+  }
+
+  @Test
+  void concurrentRequests_areLimitedPerRoute() throws Exception {
+    // given
+    var configuration = configuration(Map.of());
+    try (var pool = HttpConnectionPool.create(configuration)) {
+
+      // when
+      var responses = sendConcurrently(pool, 6);
+
+      // then
+      awaitStats(pool, stats -> stats.getLeased() == 2 && stats.getPending() == 4);
+      release.countDown();
+      for (var response : responses) {
+        assertThat(response.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+      }
+      assertThat(pool.totalStats().getLeased()).isZero();
+      assertThat(pool.totalStats().getAvailable()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void hostLimit_overridesRouteLimit() throws Exception {
+    // given
+    var configuration = configuration(HttpClientPoolConfiguration.parseHostLimits(baseUrl + "=4"));
+    try (var pool = HttpConnectionPool.create(configuration)) {
+
+      // when
+      var responses = sendConcurrently(pool, 6);
+
+      // then
+      awaitStats(pool, stats -> stats.getLeased() == 4 && stats.getPending() == 2);
+      assertThat(pool.hostStats(baseUrl).getMax()).isEqualTo(4);
+      release.countDown();
+      for (var response : responses) {
+        assertThat(response.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+      }
+    }
+  }
+
+  @Test
+  void hostLimit_appliesToProxiedRoute() throws Exception {
+    // given a proxy that forwards to the test server, it serves the request path as is
+    var proxy = new InetSocketAddress("localhost", server.getAddress().getPort());
+    var proxySelector = ProxySelector.of(proxy);
+    var targetUrl = "http://upstream.test:8080";
+    var configuration =
+        configuration(HttpClientPoolConfiguration.parseHostLimits(targetUrl + "=4"));
+    try (var pool = HttpConnectionPool.create(configuration, proxySelector)) {
+
+      // when
+      var responses = sendConcurrently(pool, new GenericUrl(targetUrl + "/slow"), 6);
+
+      // then
+      awaitStats(pool, stats -> stats.getLeased() == 4 && stats.getPending() == 2);
+      assertThat(pool.hostStats(targetUrl).getMax()).isEqualTo(4);
+      release.countDown();
+      for (var response : responses) {
+        assertThat(response.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+      }
+    }
+  }
+
+  @Test
+  void idleConnections_areEvicted() throws Exception {
+    // given
+    var configuration =
+        new HttpClientPoolConfiguration(10, 2, Map.of(), Duration.ofMillis(100), null, null);
+    try (var pool = HttpConnectionPool.create(configuration)) {
+
+      // when
+      var response =
+          pool.transport().createRequestFactory().buildGetRequest(url("/fast")).execute();
+      response.disconnect();
+
+      // then
+      assertThat(pool.totalStats().getAvailable()).isEqualTo(1);
+      awaitStats(pool, stats -> stats.getAvailable() == 0);
+    }
+  }
+
+  private HttpClientPoolConfiguration configuration(Map<HttpHost, Integer> hosts) {
+    return new HttpClientPoolConfiguration(10, 2, hosts, null, null, null);
+  }
+
+  private List<Future<Integer>> sendConcurrently(HttpConnectionPool pool, int count) {
+    return sendConcurrently(pool, url("/slow"), count);
+  }
+
+  private List<Future<Integer>> sendConcurrently(
+      HttpConnectionPool pool, GenericUrl url, int count) {
+    var requestFactory = pool.transport().createRequestFactory();
+    List<Future<Integer>> responses = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      responses.add(
+          clients.submit(
+              () -> {
+                var response = requestFactory.buildGetRequest(url).execute();
+                try {
+                  return response.getStatusCode();
+                } finally {
+                  response.disconnect();
+                }
+              }));
+    }
+    return responses;
+  }
+
+  private GenericUrl url(String path) {
+    return new GenericUrl(baseUrl + path);
+  }
+
+  private static void awaitStats(HttpConnectionPool pool, Predicate<PoolStats> condition)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.test(pool.totalStats()) && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(pool.totalStats()).matches(condition);
+  }
+
+  private static void respond(HttpExchange exchange) throws IOException {
+    var body = "{}".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (var out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
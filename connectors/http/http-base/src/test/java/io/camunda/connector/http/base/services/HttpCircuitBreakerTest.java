@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.http.base.services.HttpCircuitBreaker.State;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class HttpCircuitBreakerTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final HttpResilienceConfiguration configuration =
+      HttpResilienceConfiguration.fromEnvironment(
+          Map.of(
+              HttpResilienceConfiguration.CIRCUIT_BREAKER_ENABLED, "true",
+              HttpResilienceConfiguration.WINDOW_SIZE, "10",
+              HttpResilienceConfiguration.MINIMUM_CALLS, "4",
+              HttpResilienceConfiguration.FAILURE_RATE, "50",
+              HttpResilienceConfiguration.SLOW_CALL_RATE, "75",
+              HttpResilienceConfiguration.SLOW_CALL_DURATION, "PT1S",
+              HttpResilienceConfiguration.OPEN_DURATION, "PT30S",
+              HttpResilienceConfiguration.PROBE_CALLS, "2"));
+  private final HttpCircuitBreaker circuitBreaker =
+      new HttpCircuitBreaker("https://api.example.com", configuration, nanoTime::get);
+
+  @Test
+  void failureRate_opensCircuit() {
+    // when
+    call(false);
+    call(true);
+    call(false);
+    var beforeMinimumCalls = circuitBreaker.state();
+    call(true);
+
+    // then
+    assertThat(beforeMinimumCalls).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isNull();
+  }
+
+  @Test
+  void failuresBelowRate_keepCircuitClosed() {
+    // when
+    for (int i = 0; i < 20; i++) {
+      call(i % 3 == 1);
+    }
+
+    // then
+    assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void oldOutcomes_leaveWindow() {
+    // given 3 failures in 10 calls
+    for (int i = 0; i < 10; i++) {
+      call(i % 4 == 0);
+    }
+
+    // when the failures are pushed out of the window, 4 new failures make 40%
+    for (int i = 0; i < 10; i++) {
+      call(false);
+    }
+    for (int i = 0; i < 4; i++) {
+      call(true);
+    }
+
+    // then
+    assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void slowCalls_openCircuit() {
+    // when
+    for (int i = 0; i < 4; i++) {
+      var permit = circuitBreaker.tryAcquire();
+      nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+      circuitBreaker.onResult(permit, false);
+    }
+
+    // then
+    assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void successfulProbes_closeCircuit() {
+    // given
+    open();
+    nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+    // when
+    var firstProbe = circuitBreaker.tryAcquire();
+    var secondProbe = circuitBreaker.tryAcquire();
+    var thirdProbe = circuitBreaker.tryAcquire();
+    circuitBreaker.onResult(firstProbe, false);
+    var afterFirstProbe = circuitBreaker.state();
+    circuitBreaker.onResult(secondProbe, false);
+
+    // then
+    assertThat(thirdProbe).isNull();
+    assertThat(afterFirstProbe).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.tryAcquire()).isNotNull();
+  }
+
+  @Test
+  void failedProbe_opensCircuitAgain() {
+    // given
+    open();
+    nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+    // when
+    call(true);
+
+    // then
+    assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isNull();
+  }
+
+  @Test
+  void callSentBeforeOpening_isNotCountedAsProbe() {
+    // given a call sent while the circuit was closed
+    var lateCall = circuitBreaker.tryAcquire();
+    open();
+    nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+    var probe = circuitBreaker.tryAcquire();
+
+    // when the late call completes during the half-open phase
+    circuitBreaker.onResult(lateCall, true);
+    var afterLateCall = circuitBreaker.state();
+    circuitBreaker.onResult(probe, false);
+
+    // then
+    assertThat(afterLateCall).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.state()).isEqualTo(State.HALF_OPEN);
+  }
+
+  @Test
+  void probeOfEarlierHalfOpenPhase_isNotCounted() {
+    // given a probe that is still running when another probe opens the circuit again
+    open();
+    nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+    var slowProbe = circuitBreaker.tryAcquire();
+    circuitBreaker.onResult(circuitBreaker.tryAcquire(), true);
+    nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+    var probe = circuitBreaker.tryAcquire();
+
+    // when
+    circuitBreaker.onResult(slowProbe, false);
+    circuitBreaker.onResult(probe, false);
+
+    // then one of the two probes of the second half-open phase succeeded
+    assertThat(circuitBreaker.state()).isEqualTo(State.HALF_OPEN);
+  }
+
+  private void open() {
+    for (int i = 0; i < 4; i++) {
+      call(true);
+    }
+    assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+  }
+
+  private void call(boolean failed) {
+    var permit = circuitBreaker.tryAcquire();
+    assertThat(permit).isNotNull();
+    circuitBreaker.onResult(permit, failed);
+  }
+}
@@ -20,12 +20,13 @@ import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 import static org.apache.http.entity.ContentType.APPLICATION_XML;
 import static org.apache.http.entity.ContentType.TEXT_PLAIN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponse;
+import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.http.base.model.HttpCommonResult;
 import java.io.ByteArrayInputStream;
@@ -34,8 +35,6 @@ import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -123,17 +122,24 @@ class HttpInteractionServiceTest {
     assertThat(httpCommonResult.getBody()).isEqualTo(TEXT_BODY);
   }
 
-  @ParameterizedTest
-  @ValueSource(strings = {"{\"name\":\"John\", \"age\":30}", "[1, 2, 3]"})
-  public void ssJSONValid_shouldReturnTrueIfJSONIsValid(String input) {
-    boolean result = HttpInteractionService.isJSONValid(input);
-    assertTrue(result);
-  }
-
-  @ParameterizedTest
-  @ValueSource(strings = {"{name:\"John\", city:New York}", "Invalid JSON string"})
-  public void ssJSONValid_shouldReturnFalseForInvalidJSON(String input) {
-    boolean result = HttpInteractionService.isJSONValid(input);
-    assertThat(result).isFalse();
+  @Test
+  public void toHttpResponse_withBodyAboveMaximumSize_shouldThrowException() throws IOException {
+    // Given
+    var limitedService =
+        new HttpInteractionService(
+            ConnectorsObjectMapperSupplier.getCopy(),
+            new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 10));
+    when(httpResponse.getStatusCode()).thenReturn(200);
+    when(httpResponse.getContent())
+        .thenReturn(new ByteArrayInputStream(JSON_BODY.getBytes(StandardCharsets.UTF_8)));
+    when(httpResponse.getHeaders())
+        .thenReturn(new HttpHeaders().set("content-type", APPLICATION_JSON.getMimeType()));
+    // When
+    var thrown =
+        catchThrowable(() -> limitedService.toHttpResponse(httpResponse, HttpCommonResult.class));
+    // Then
+    assertThat(thrown)
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining("maximum size of 10 bytes");
   }
 }
@@ -18,12 +18,14 @@ package io.camunda.connector.http.base.services;
 
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
+import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.http.base.auth.OAuthAuthentication;
 import io.camunda.connector.http.base.components.HttpTransportComponentSupplier;
 import io.camunda.connector.http.base.constants.Constants;
@@ -60,6 +62,20 @@ class HttpRequestMapperTest {
         });
   }
 
+  @Test
+  public void testToHttpRequestWithBodyFileNotStoredByRuntime() {
+    // Given
+    HttpCommonRequest commonRequest = new HttpCommonRequest();
+    commonRequest.setMethod(HttpMethod.POST);
+    commonRequest.setUrl("https://example.com/upload");
+    commonRequest.setBodyFile(
+        Map.of("path", "/etc/passwd", "size", 0, "contentType", "text/plain"));
+
+    // When & Then
+    assertThatThrownBy(() -> HttpRequestMapper.toHttpRequest(requestFactory, commonRequest))
+        .isInstanceOf(ConnectorException.class);
+  }
+
   @Test
   public void testToOAuthHttpRequest() throws IOException {
     // Given
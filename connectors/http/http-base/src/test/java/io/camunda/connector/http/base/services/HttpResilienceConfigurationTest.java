@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HttpResilienceConfigurationTest {
+
+  @Test
+  void defaults_disableRetriesAndCircuitBreaker() {
+    // when
+    var configuration = HttpResilienceConfiguration.defaults();
+
+    // then
+    assertThat(configuration.maxRetries()).isZero();
+    assertThat(configuration.circuitBreakerEnabled()).isFalse();
+    assertThat(configuration.retryBackoff()).isEqualTo(Duration.ofMillis(500));
+    assertThat(configuration.windowSize()).isEqualTo(20);
+  }
+
+  @Test
+  void fromEnvironment_readsAllSettings() {
+    // given
+    var environment =
+        Map.ofEntries(
+            Map.entry(HttpResilienceConfiguration.MAX_RETRIES, "3"),
+            Map.entry(HttpResilienceConfiguration.RETRY_BACKOFF, "PT1S"),
+            Map.entry(HttpResilienceConfiguration.RETRY_MAX_BACKOFF, "PT5S"),
+            Map.entry(HttpResilienceConfiguration.CIRCUIT_BREAKER_ENABLED, "true"),
+            Map.entry(HttpResilienceConfiguration.FAILURE_RATE, "30"),
+            Map.entry(HttpResilienceConfiguration.SLOW_CALL_RATE, "80"),
+            Map.entry(HttpResilienceConfiguration.SLOW_CALL_DURATION, "PT2S"),
+            Map.entry(HttpResilienceConfiguration.WINDOW_SIZE, "50"),
+            Map.entry(HttpResilienceConfiguration.MINIMUM_CALLS, "25"),
+            Map.entry(HttpResilienceConfiguration.OPEN_DURATION, "PT1M"),
+            Map.entry(HttpResilienceConfiguration.PROBE_CALLS, "5"));
+
+    // when
+    var configuration = HttpResilienceConfiguration.fromEnvironment(environment);
+
+    // then
+    assertThat(configuration)
+        .isEqualTo(
+            new HttpResilienceConfiguration(
+                3,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(5),
+                true,
+                30,
+                80,
+                Duration.ofSeconds(2),
+                50,
+                25,
+                Duration.ofMinutes(1),
+                5));
+  }
+
+  @Test
+  void fromEnvironment_boundsValues() {
+    // given
+    var environment =
+        Map.of(
+            HttpResilienceConfiguration.MAX_RETRIES, "100",
+            HttpResilienceConfiguration.WINDOW_SIZE, "5",
+            HttpResilienceConfiguration.MINIMUM_CALLS, "10",
+            HttpResilienceConfiguration.FAILURE_RATE, "150");
+
+    // when
+    var configuration = HttpResilienceConfiguration.fromEnvironment(environment);
+
+    // then
+    assertThat(configuration.maxRetries()).isEqualTo(HttpResilienceConfiguration.MAX_RETRIES_LIMIT);
+    assertThat(configuration.minimumCalls()).isEqualTo(5);
+    assertThat(configuration.failureRateThreshold()).isEqualTo(100);
+  }
+
+  @Test
+  void fromEnvironment_ignoresInvalidValues() {
+    // given
+    var environment =
+        Map.of(
+            HttpResilienceConfiguration.MAX_RETRIES, "many",
+            HttpResilienceConfiguration.OPEN_DURATION, "30 seconds");
+
+    // when
+    var configuration = HttpResilienceConfiguration.fromEnvironment(environment);
+
+    // then
+    assertThat(configuration.maxRetries()).isZero();
+    assertThat(configuration.openDuration()).isEqualTo(Duration.ofSeconds(30));
+  }
+}
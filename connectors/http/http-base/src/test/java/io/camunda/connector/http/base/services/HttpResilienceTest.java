@@ -0,0 +1,312 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.services.HttpCircuitBreaker.State;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HttpResilienceTest {
+
+  private static final GenericUrl URL = new GenericUrl("https://api.example.com/orders");
+
+  private final List<Duration> sleeps = new ArrayList<>();
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void transientFailure_isRetriedForIdempotentMethod() throws IOException {
+    // given
+    var resilience = resilience(Map.of(HttpResilienceConfiguration.MAX_RETRIES, "3"));
+
+    // when
+    var result =
+        resilience.execute(
+            HttpMethod.GET,
+            URL,
+            () -> {
+              if (calls.incrementAndGet() < 3) {
+                throw new ConnectorException("503", "Service Unavailable");
+              }
+              return "ok";
+            });
+
+    // then
+    assertThat(result).isEqualTo("ok");
+    assertThat(calls).hasValue(3);
+    assertThat(sleeps).hasSize(2);
+  }
+
+  @Test
+  void nonIdempotentMethod_isNotRetried() {
+    // given
+    var resilience = resilience(Map.of(HttpResilienceConfiguration.MAX_RETRIES, "3"));
+
+    // when
+    assertThatThrownBy(() -> resilience.execute(HttpMethod.POST, URL, this::failWithIOException))
+        .isInstanceOf(IOException.class);
+
+    // then
+    assertThat(calls).hasValue(1);
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  void clientError_isNotRetried() {
+    // given
+    var resilience = resilience(Map.of(HttpResilienceConfiguration.MAX_RETRIES, "3"));
+
+    // when
+    assertThatThrownBy(
+            () ->
+                resilience.execute(
+                    HttpMethod.GET,
+                    URL,
+                    () -> {
+                      calls.incrementAndGet();
+                      throw new ConnectorException("404", "Not Found");
+                    }))
+        .isInstanceOf(ConnectorException.class);
+
+    // then
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void retries_areBounded() {
+    // given
+    var resilience = resilience(Map.of(HttpResilienceConfiguration.MAX_RETRIES, "2"));
+
+    // when
+    assertThatThrownBy(() -> resilience.execute(HttpMethod.PUT, URL, this::failWithIOException))
+        .isInstanceOf(IOException.class);
+
+    // then
+    assertThat(calls).hasValue(3);
+    assertThat(sleeps).hasSize(2);
+  }
+
+  @Test
+  void backoff_growsWithJitterUpToMaximum() {
+    // given
+    var environment =
+        Map.of(
+            HttpResilienceConfiguration.RETRY_BACKOFF, "PT1S",
+            HttpResilienceConfiguration.RETRY_MAX_BACKOFF, "PT5S");
+    var lowest = resilience(environment, 0.0);
+    var highest = resilience(environment, 1.0);
+
+    // then
+    assertThat(lowest.backoff(1)).isEqualTo(Duration.ofMillis(500));
+    assertThat(highest.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+    assertThat(lowest.backoff(2)).isEqualTo(Duration.ofSeconds(1));
+    assertThat(highest.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+    assertThat(highest.backoff(4)).isEqualTo(Duration.ofSeconds(5));
+    assertThat(highest.backoff(100)).isEqualTo(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void retryAfter_raisesBackoffUpToMaximum() throws IOException {
+    // given
+    var resilience =
+        resilience(
+            Map.of(
+                HttpResilienceConfiguration.MAX_RETRIES, "3",
+                HttpResilienceConfiguration.RETRY_BACKOFF, "PT1S",
+                HttpResilienceConfiguration.RETRY_MAX_BACKOFF, "PT10S"));
+    var failures = List.of(throttled("429", "5"), throttled("503", "60"), throttled("429", "0"));
+
+    // when
+    var result =
+        resilience.execute(
+            HttpMethod.GET,
+            URL,
+            () -> {
+              int call = calls.getAndIncrement();
+              if (call < failures.size()) {
+                throw failures.get(call);
+              }
+              return "ok";
+            });
+
+    // then the backoff is 0.75s, 1.5s and 3s without Retry-After
+    assertThat(result).isEqualTo("ok");
+    assertThat(sleeps)
+        .containsExactly(Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(3));
+  }
+
+  @Test
+  void retryAfter_isIgnoredForOtherStatusCodes() {
+    // given
+    var resilience =
+        resilience(
+            Map.of(
+                HttpResilienceConfiguration.MAX_RETRIES, "1",
+                HttpResilienceConfiguration.RETRY_BACKOFF, "PT1S"));
+
+    // when
+    assertThatThrownBy(
+            () ->
+                resilience.execute(
+                    HttpMethod.GET,
+                    URL,
+                    () -> {
+                      calls.incrementAndGet();
+                      throw throttled("502", "5");
+                    }))
+        .isInstanceOf(ConnectorException.class);
+
+    // then
+    assertThat(sleeps).containsExactly(Duration.ofMillis(750));
+  }
+
+  @Test
+  void openCircuit_failsFastWithDistinctErrorCode() {
+    // given
+    var resilience =
+        resilience(
+            Map.of(
+                HttpResilienceConfiguration.CIRCUIT_BREAKER_ENABLED, "true",
+                HttpResilienceConfiguration.MINIMUM_CALLS, "2",
+                HttpResilienceConfiguration.MAX_RETRIES, "5"));
+
+    // when the first request fails twice and opens the circuit
+    assertThatThrownBy(() -> resilience.execute(HttpMethod.GET, URL, this::failWithIOException))
+        .isInstanceOf(ConnectorException.class)
+        .extracting(e -> ((ConnectorException) e).getErrorCode())
+        .isEqualTo(HttpResilience.CIRCUIT_OPEN);
+    var callsBeforeOpen = calls.get();
+
+    // then further requests are not sent
+    assertThatThrownBy(() -> resilience.execute(HttpMethod.POST, URL, this::failWithIOException))
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining("https://api.example.com");
+    assertThat(callsBeforeOpen).isEqualTo(2);
+    assertThat(calls).hasValue(2);
+    assertThat(resilience.circuitState(URL)).isEqualTo(State.OPEN);
+    assertThat(resilience.circuitState(new GenericUrl("https://other.example.com")))
+        .isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void clientErrors_doNotOpenCircuit() {
+    // given
+    var resilience =
+        resilience(
+            Map.of(
+                HttpResilienceConfiguration.CIRCUIT_BREAKER_ENABLED, "true",
+                HttpResilienceConfiguration.MINIMUM_CALLS, "2"));
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(
+              () ->
+                  resilience.execute(
+                      HttpMethod.GET,
+                      URL,
+                      () -> {
+                        throw new ConnectorException("400", "Bad Request");
+                      }))
+          .isInstanceOf(ConnectorException.class);
+    }
+
+    // then
+    assertThat(resilience.circuitState(URL)).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void httpService_retriesUnavailableService() throws Exception {
+    // given
+    var requests = new AtomicInteger();
+    var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/orders",
+        exchange -> {
+          int status = requests.incrementAndGet() == 1 ? 503 : 200;
+          var body = "{\"status\":\"shipped\"}".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(status, body.length);
+          try (var out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+    try {
+      var httpService =
+          new HttpService(
+              ConnectorsObjectMapperSupplier.getCopy(),
+              new NetHttpTransport().createRequestFactory(),
+              OAuthTokenCache.sharedInstance(),
+              resilience(Map.of(HttpResilienceConfiguration.MAX_RETRIES, "1")));
+      var request = new HttpCommonRequest();
+      request.setMethod(HttpMethod.GET);
+      request.setUrl("http://localhost:" + server.getAddress().getPort() + "/orders");
+
+      // when
+      var result = httpService.executeConnectorRequest(request);
+
+      // then
+      assertThat(result.getStatus()).isEqualTo(200);
+      assertThat(requests).hasValue(2);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private String failWithIOException() throws IOException {
+    calls.incrementAndGet();
+    throw new IOException("Connection reset");
+  }
+
+  private static ConnectorException throttled(String status, String retryAfter) {
+    var response =
+        new HttpResponseException.Builder(
+                Integer.parseInt(status), "Throttled", new HttpHeaders().setRetryAfter(retryAfter))
+            .build();
+    return new ConnectorException(status, "Throttled", response);
+  }
+
+  private HttpResilience resilience(Map<String, String> environment) {
+    return resilience(environment, 0.5);
+  }
+
+  private HttpResilience resilience(Map<String, String> environment, double random) {
+    return new HttpResilience(
+        HttpResilienceConfiguration.fromEnvironment(environment),
+        System::nanoTime,
+        () -> random,
+        sleeps::add);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.http.base.services.HttpResponseBodyReader.ResponseTooLargeException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HttpResponseBodyReaderTest {
+
+  private final HttpResponseBodyReader reader =
+      new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 0);
+
+  @ParameterizedTest
+  @ValueSource(strings = {"application/json", "application/problem+json; charset=utf-8"})
+  void jsonContentType_isParsed(String contentType) throws IOException {
+    // when
+    var body = reader.read(stream("{\"name\":\"John\",\"tags\":[1,2]}"), contentType, null);
+
+    // then
+    assertThat(body).isEqualTo(Map.of("name", "John", "tags", List.of(1, 2)));
+  }
+
+  @Test
+  void jsonWithoutJsonContentType_isParsed() throws IOException {
+    // when
+    var body = reader.read(stream(" \n[1, 2, 3]"), "text/plain", null);
+
+    // then
+    assertThat(body).isEqualTo(List.of(1, 2, 3));
+  }
+
+  @Test
+  void jsonObjectWithoutContentType_isParsed() throws IOException {
+    // when
+    var body = reader.read(stream("{\"name\":\"John\", \"age\":30}"), null, null);
+
+    // then
+    assertThat(body).isEqualTo(Map.of("name", "John", "age", 30));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "[INFO] started",
+        "{name:John}",
+        "{name:\"John\", city:New York}",
+        "{\"a\":1} trailing",
+        "[1][2]",
+        "42",
+        "\"text\"",
+        "Hello",
+        ""
+      })
+  void nonJsonBody_isReturnedAsText(String content) throws IOException {
+    // when
+    var body = reader.read(stream(content), null, null);
+
+    // then
+    assertThat(body).isEqualTo(content);
+  }
+
+  @Test
+  void jsonContentTypeWithTrailingContent_isRejected() {
+    // when & then
+    assertThatThrownBy(() -> reader.read(stream("{\"a\":1} {\"b\":2}"), "application/json", null))
+        .isInstanceOf(JsonProcessingException.class)
+        .hasMessageContaining("Unexpected content after the JSON value");
+  }
+
+  @Test
+  void declaredContentLengthAboveLimit_isRejectedBeforeReading() {
+    // given
+    var limited = new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 10);
+
+    // when & then
+    assertThatThrownBy(() -> limited.read(stream("{}"), "application/json", 11L))
+        .isInstanceOf(ResponseTooLargeException.class)
+        .hasMessageContaining("10 bytes");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"application/json", "text/plain"})
+  void bodyAboveLimit_isRejectedWhileReading(String contentType) {
+    // given
+    var limited = new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 10);
+
+    // when & then
+    assertThatThrownBy(() -> limited.read(stream("[1,2,3,4,5,6,7]"), contentType, null))
+        .isInstanceOf(ResponseTooLargeException.class);
+  }
+
+  @Test
+  void bodyWithinLimit_isRead() throws IOException {
+    // given
+    var limited = new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 10);
+
+    // when
+    var body = limited.read(stream("[1,2,3]"), "application/json", 7L);
+
+    // then
+    assertThat(body).isEqualTo(List.of(1, 2, 3));
+  }
+
+  @Test
+  void fromEnvironment_readsMaximumSize() {
+    // given
+    var limited =
+        HttpResponseBodyReader.fromEnvironment(
+            ConnectorsObjectMapperSupplier.getCopy(),
+            Map.of(HttpResponseBodyReader.MAX_RESPONSE_SIZE, "2"));
+
+    // when & then
+    assertThatThrownBy(() -> limited.read(stream("abc"), "text/plain", null))
+        .isInstanceOf(ResponseTooLargeException.class);
+  }
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
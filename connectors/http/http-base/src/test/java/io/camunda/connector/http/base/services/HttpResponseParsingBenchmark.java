@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the previous response handling (read into a String, validate with Gson, parse again with
+ * Jackson) with the single pass of {@link HttpResponseBodyReader}. Run with {@code -prof gc} to see
+ * the allocation per response.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class HttpResponseParsingBenchmark {
+
+  @Param({"10240", "1048576", "20971520"})
+  public int bodySize;
+
+  private final ObjectMapper objectMapper = ConnectorsObjectMapperSupplier.getCopy();
+  private final HttpResponseBodyReader reader = new HttpResponseBodyReader(objectMapper, 0);
+  private byte[] body;
+
+  @Setup
+  public void setUp() {
+    var json = new StringBuilder("[");
+    for (int i = 0; json.length() < bodySize - 128; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":")
+          .append(i)
+          .append(",\"name\":\"item-")
+          .append(i)
+          .append("\",\"active\":true,\"score\":")
+          .append(i * 0.5)
+          .append('}');
+    }
+    body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Object stringGsonJackson() throws Exception {
+    String bodyString =
+        new String(new ByteArrayInputStream(body).readAllBytes(), StandardCharsets.UTF_8);
+    try (JsonReader jsonReader = new JsonReader(new StringReader(bodyString))) {
+      JsonElement element = JsonParser.parseReader(jsonReader);
+      if (element.isJsonObject() || element.isJsonArray()) {
+        return objectMapper.readValue(bodyString, Object.class);
+      }
+    }
+    return bodyString;
+  }
+
+  @Benchmark
+  public Object singlePass() throws Exception {
+    return reader.read(new ByteArrayInputStream(body), "application/json", (long) body.length);
+  }
+
+  @Benchmark
+  public Object singlePassWithoutContentType() throws Exception {
+    return reader.read(new ByteArrayInputStream(body), null, null);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(HttpResponseParsingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+        .run();
+  }
+}
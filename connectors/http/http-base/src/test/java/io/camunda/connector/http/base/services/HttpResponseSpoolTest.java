@@ -0,0 +1,262 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.http.base.model.HttpResponseFile;
+import io.camunda.connector.http.base.services.HttpResponseBodyReader.ResponseTooLargeException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HttpResponseSpoolTest {
+
+  private static final String LARGE_BODY = "{\"report\":\"" + "x".repeat(100) + "\"}";
+
+  private final HttpResponseBodyReader reader =
+      new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 0);
+
+  @TempDir Path directory;
+
+  @Test
+  void bodyBelowThreshold_isRead() throws IOException {
+    // given
+    var spool = spool(64);
+
+    // when
+    var body = spool.read(stream("{\"id\":1}"), "application/json", null, reader);
+
+    // then
+    assertThat(body).isEqualTo(Map.of("id", 1));
+    assertThat(directory).isEmptyDirectory();
+  }
+
+  @Test
+  void bodyAboveThreshold_isWrittenToFile() throws Exception {
+    // given
+    var spool = spool(64);
+
+    // when
+    var body = spool.read(stream(LARGE_BODY), "application/json", null, reader);
+
+    // then
+    assertThat(body).isInstanceOf(HttpResponseFile.class);
+    var file = (HttpResponseFile) body;
+    assertThat(file.getSize()).isEqualTo(LARGE_BODY.length());
+    assertThat(file.getContentType()).isEqualTo("application/json");
+    assertThat(file.getPreview()).isEqualTo(LARGE_BODY.substring(0, 16));
+    assertThat(file.getSha256())
+        .isEqualTo(
+            HexFormat.of()
+                .formatHex(
+                    MessageDigest.getInstance("SHA-256")
+                        .digest(LARGE_BODY.getBytes(StandardCharsets.UTF_8))));
+    try (InputStream content = file.openStream()) {
+      assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+    }
+  }
+
+  @Test
+  void declaredContentLengthAboveThreshold_isWrittenToFile() throws IOException {
+    // given
+    var spool = spool(64);
+
+    // when
+    var body = spool.read(stream(LARGE_BODY), "text/plain", (long) LARGE_BODY.length(), reader);
+
+    // then
+    assertThat(body).isInstanceOf(HttpResponseFile.class);
+    assertThat(Path.of(((HttpResponseFile) body).getPath())).hasContent(LARGE_BODY);
+  }
+
+  @Test
+  void binaryBody_hasNoPreview() throws IOException {
+    // given
+    var spool = spool(64);
+
+    // when
+    var body = spool.read(stream(LARGE_BODY), "application/octet-stream", null, reader);
+
+    // then
+    assertThat(((HttpResponseFile) body).getPreview()).isNull();
+  }
+
+  @Test
+  void bodyAboveMaximumSize_isRejectedAndFileDeleted() {
+    // given
+    var spool = spool(64);
+    var limitedReader = new HttpResponseBodyReader(ConnectorsObjectMapperSupplier.getCopy(), 100);
+
+    // when & then
+    assertThatThrownBy(() -> spool.read(stream(LARGE_BODY), null, null, limitedReader))
+        .isInstanceOf(ResponseTooLargeException.class);
+    assertThat(directory).isEmptyDirectory();
+  }
+
+  @Test
+  void disabledSpool_readsEveryBody() throws IOException {
+    // when
+    var body = HttpResponseSpool.disabled().read(stream(LARGE_BODY), null, null, reader);
+
+    // then
+    assertThat(body).isEqualTo(Map.of("report", "x".repeat(100)));
+  }
+
+  @Test
+  void expiredFiles_areDeleted() throws IOException {
+    // given
+    var now = Instant.parse("2024-01-01T12:00:00Z");
+    var spool =
+        new HttpResponseSpool(
+            64, directory, 16, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    var expired = spoolFile(now.minus(Duration.ofHours(2)));
+    var recent = spoolFile(now.minus(Duration.ofMinutes(30)));
+    var unrelated = Files.writeString(directory.resolve("other.txt"), "keep");
+    Files.setLastModifiedTime(unrelated, FileTime.from(now.minus(Duration.ofDays(1))));
+
+    // when
+    spool.read(stream(LARGE_BODY), null, null, reader);
+
+    // then
+    assertThat(expired).doesNotExist();
+    assertThat(recent).exists();
+    assertThat(unrelated).exists();
+  }
+
+  @Test
+  void expiredFiles_areDeletedWithoutNewBodies() throws IOException {
+    // given
+    var now = Instant.parse("2024-01-01T12:00:00Z");
+    var spool =
+        new HttpResponseSpool(
+            64, directory, 16, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    var expired = spoolFile(now.minus(Duration.ofHours(2)));
+    var recent = spoolFile(now.minus(Duration.ofMinutes(30)));
+
+    // when
+    spool.deleteExpiredFiles();
+
+    // then
+    assertThat(expired).doesNotExist();
+    assertThat(recent).exists();
+  }
+
+  @Test
+  void storedBody_isResolvedForSending() throws IOException {
+    // given
+    var spool = spool(64);
+    var body = (HttpResponseFile) spool.read(stream(LARGE_BODY), null, null, reader);
+
+    // when
+    var file = spool.storedFile(body);
+
+    // then
+    assertThat(file).hasContent(LARGE_BODY);
+  }
+
+  @Test
+  void otherFile_isNotResolved() throws IOException {
+    // given
+    var spool = spool(64);
+    var other = Files.writeString(directory.resolve("secret.txt"), "secret");
+    var outside =
+        Files.createTempFile(HttpResponseSpool.FILE_PREFIX, HttpResponseSpool.FILE_SUFFIX);
+    var traversal = directory.resolve("..").resolve(outside.getFileName());
+
+    try {
+      // when & then
+      assertThatThrownBy(() -> spool.storedFile(bodyFile(other)))
+          .isInstanceOf(ConnectorException.class);
+      assertThatThrownBy(() -> spool.storedFile(bodyFile(outside)))
+          .isInstanceOf(ConnectorException.class);
+      assertThatThrownBy(() -> spool.storedFile(bodyFile(traversal)))
+          .isInstanceOf(ConnectorException.class);
+      assertThatThrownBy(() -> HttpResponseSpool.disabled().storedFile(bodyFile(outside)))
+          .isInstanceOf(ConnectorException.class);
+    } finally {
+      Files.deleteIfExists(outside);
+    }
+  }
+
+  @Test
+  void deletedBody_isReportedWithRetention() throws IOException {
+    // given
+    var spool = spool(64);
+    var body = (HttpResponseFile) spool.read(stream(LARGE_BODY), null, null, reader);
+    Files.delete(Path.of(body.getPath()));
+
+    // when & then
+    assertThatThrownBy(() -> spool.storedFile(body))
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining("PT1H");
+  }
+
+  @Test
+  void fromEnvironment_readsSettings() {
+    // when
+    var spool =
+        HttpResponseSpool.fromEnvironment(
+            Map.of(
+                HttpResponseSpool.THRESHOLD,
+                "1048576",
+                HttpResponseSpool.DIRECTORY,
+                directory.toString()));
+
+    // then
+    assertThat(spool.isEnabled()).isTrue();
+    assertThat(HttpResponseSpool.fromEnvironment(Map.of()).isEnabled()).isFalse();
+    assertThat(HttpResponseSpool.fromEnvironment(Map.of(HttpResponseSpool.THRESHOLD, "1 MB")))
+        .returns(false, HttpResponseSpool::isEnabled);
+  }
+
+  private HttpResponseSpool spool(long threshold) {
+    return new HttpResponseSpool(threshold, directory, 16, Duration.ofHours(1));
+  }
+
+  private Path spoolFile(Instant lastModified) throws IOException {
+    var file =
+        Files.createTempFile(
+            directory, HttpResponseSpool.FILE_PREFIX, HttpResponseSpool.FILE_SUFFIX);
+    Files.setLastModifiedTime(file, FileTime.from(lastModified));
+    return file;
+  }
+
+  private static HttpResponseFile bodyFile(Path path) {
+    return new HttpResponseFile(path.toString(), 0, null, null);
+  }
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
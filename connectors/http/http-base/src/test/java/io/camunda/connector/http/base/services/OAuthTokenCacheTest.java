@@ -0,0 +1,314 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.base.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.http.base.auth.OAuthAuthentication;
+import io.camunda.connector.http.base.constants.Constants;
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.services.OAuthTokenCache.Token;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OAuthTokenCacheTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+  private final OAuthTokenCache cache =
+      new OAuthTokenCache(clock, Duration.ofSeconds(30), OAuthTokenCache.DEFAULT_MAX_ENTRIES);
+  private final AtomicInteger fetches = new AtomicInteger();
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void token_isReusedUntilRefreshWindow() throws Exception {
+    // given 3600s - 30s skew, refreshed after 80% of 3570s = 2856s
+    var auth = authentication("secret");
+    cache.getAccessToken(auth, fetcher(Duration.ofSeconds(3600)));
+
+    // when
+    clock.advance(Duration.ofSeconds(2855));
+    var cached = cache.getAccessToken(auth, fetcher(Duration.ofSeconds(3600)));
+    clock.advance(Duration.ofSeconds(1));
+    var refreshed = cache.getAccessToken(auth, fetcher(Duration.ofSeconds(3600)));
+
+    // then
+    assertThat(cached).isEqualTo("token-1");
+    assertThat(refreshed).isEqualTo("token-2");
+    assertThat(fetches).hasValue(2);
+  }
+
+  @Test
+  void tokenWithoutExpiry_isNotCached() throws Exception {
+    // given
+    var auth = authentication("secret");
+
+    // when
+    cache.getAccessToken(auth, fetcher(null));
+    var second = cache.getAccessToken(auth, fetcher(null));
+
+    // then
+    assertThat(second).isEqualTo("token-2");
+  }
+
+  @Test
+  void tokenExpiringWithinSkew_isNotCached() throws Exception {
+    // given
+    var auth = authentication("secret");
+
+    // when
+    cache.getAccessToken(auth, fetcher(Duration.ofSeconds(30)));
+    cache.getAccessToken(auth, fetcher(Duration.ofSeconds(30)));
+
+    // then
+    assertThat(fetches).hasValue(2);
+  }
+
+  @Test
+  void differentCredentials_useSeparateTokens() throws Exception {
+    // when
+    var first = cache.getAccessToken(authentication("secret"), fetcher(Duration.ofHours(1)));
+    var second = cache.getAccessToken(authentication("rotated"), fetcher(Duration.ofHours(1)));
+
+    // then
+    assertThat(first).isNotEqualTo(second);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void invalidate_dropsCachedToken() throws Exception {
+    // given
+    var auth = authentication("secret");
+    cache.getAccessToken(auth, fetcher(Duration.ofHours(1)));
+
+    // when
+    cache.invalidate(auth);
+    var token = cache.getAccessToken(auth, fetcher(Duration.ofHours(1)));
+
+    // then
+    assertThat(token).isEqualTo("token-2");
+  }
+
+  @Test
+  void concurrentFetches_areCoalesced() throws Exception {
+    // given
+    var auth = authentication("secret");
+    var release = new CountDownLatch(1);
+    OAuthTokenCache.TokenFetcher slowFetcher =
+        () -> {
+          awaitQuietly(release);
+          return fetcher(Duration.ofHours(1)).fetch();
+        };
+
+    // when
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(executor.submit(() -> cache.getAccessToken(auth, slowFetcher)));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    // then
+    for (var result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+    }
+    assertThat(fetches).hasValue(1);
+  }
+
+  @Test
+  void proactiveRefresh_doesNotBlockOtherCallers() throws Exception {
+    // given
+    var auth = authentication("secret");
+    cache.getAccessToken(auth, fetcher(Duration.ofHours(1)));
+    clock.advance(Duration.ofMinutes(50));
+    var refreshStarted = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Future<String> refreshing =
+        executor.submit(
+            () ->
+                cache.getAccessToken(
+                    auth,
+                    () -> {
+                      refreshStarted.countDown();
+                      awaitQuietly(release);
+                      return fetcher(Duration.ofHours(1)).fetch();
+                    }));
+    assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    var duringRefresh = cache.getAccessToken(auth, fetcher(Duration.ofHours(1)));
+    release.countDown();
+
+    // then
+    assertThat(duringRefresh).isEqualTo("token-1");
+    assertThat(refreshing.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+    assertThat(cache.getAccessToken(auth, fetcher(Duration.ofHours(1)))).isEqualTo("token-2");
+  }
+
+  @Test
+  void failedFetch_isPropagatedAndRetried() throws Exception {
+    // given
+    var auth = authentication("secret");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                cache.getAccessToken(
+                    auth,
+                    () -> {
+                      throw new IOException("token endpoint unavailable");
+                    }))
+        .isInstanceOf(IOException.class);
+    var token = cache.getAccessToken(auth, fetcher(Duration.ofHours(1)));
+
+    // then
+    assertThat(token).isEqualTo("token-1");
+  }
+
+  @Test
+  void httpService_fetchesTokenOncePerLifetime() throws Exception {
+    // given
+    var tokenRequests = new AtomicInteger();
+    var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/oauth/token",
+        exchange -> {
+          tokenRequests.incrementAndGet();
+          respond(exchange, "{\"access_token\":\"stub-token\",\"expires_in\":3600}");
+        });
+    server.createContext(
+        "/api",
+        exchange ->
+            respond(
+                exchange,
+                "{\"authorization\":\""
+                    + exchange.getRequestHeaders().getFirst("Authorization")
+                    + "\"}"));
+    server.start();
+    try {
+      var baseUrl = "http://localhost:" + server.getAddress().getPort();
+      HttpRequestFactory requestFactory = new NetHttpTransport().createRequestFactory();
+      var httpService =
+          new HttpService(ConnectorsObjectMapperSupplier.getCopy(), requestFactory, cache);
+      var auth = authentication("secret");
+      auth.setOauthTokenEndpoint(baseUrl + "/oauth/token");
+      var request = new HttpCommonRequest();
+      request.setMethod(HttpMethod.GET);
+      request.setUrl(baseUrl + "/api");
+      request.setAuthentication(auth);
+
+      // when
+      List<Object> bodies = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        bodies.add(httpService.executeConnectorRequest(request).getBody());
+      }
+
+      // then
+      assertThat(tokenRequests).hasValue(1);
+      assertThat(bodies)
+          .allSatisfy(body -> assertThat(body.toString()).contains("Bearer stub-token"));
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private OAuthTokenCache.TokenFetcher fetcher(Duration expiresIn) {
+    return () -> new Token("token-" + fetches.incrementAndGet(), expiresIn);
+  }
+
+  private static OAuthAuthentication authentication(String clientSecret) {
+    var authentication = new OAuthAuthentication();
+    authentication.setOauthTokenEndpoint("https://idp.example.com/oauth/token");
+    authentication.setClientId("client");
+    authentication.setClientSecret(clientSecret);
+    authentication.setClientAuthentication(Constants.CREDENTIALS_BODY);
+    authentication.setAudience("api");
+    return authentication;
+  }
+
+  private static void respond(com.sun.net.httpserver.HttpExchange exchange, String body)
+      throws IOException {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (var out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
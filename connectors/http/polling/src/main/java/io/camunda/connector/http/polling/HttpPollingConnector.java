@@ -43,8 +43,11 @@ public class HttpPollingConnector
 
   @Override
   public void activate(final InboundIntermediateConnectorContext context) {
+    // prefer the executor shared by the runtime, it cancels leftover tasks on deactivation
+    var scheduler = context.getExecutor().orElseGet(executorService::getExecutorService);
     processInstancesFetcherTask =
-        new ProcessInstancesFetcherTask(context, httpService, executorService);
+        new ProcessInstancesFetcherTask(
+            context, httpService, scheduler, executorService.getTimerWheel());
     processInstancesFetcherTask.start();
   }
 
@@ -15,6 +15,7 @@ public class PollingIntervalConfiguration {
   private static final Duration DEFAULT_OPERATE_INTERVAL = Duration.ofSeconds(5);
   @FEEL private Duration httpRequestInterval;
   @FEEL private Duration operatePollingInterval;
+  @FEEL private Duration maxHttpRequestInterval;
 
   public Duration getHttpRequestInterval() {
     return httpRequestInterval != null ? httpRequestInterval : DEFAULT_HTTP_REQUEST_INTERVAL;
@@ -24,6 +25,24 @@ public class PollingIntervalConfiguration {
     this.httpRequestInterval = httpRequestInterval;
   }
 
+  /**
+   * Upper bound of the interval between HTTP requests. If it exceeds the {@link
+   * #getHttpRequestInterval() interval}, the interval is adaptive: it grows while polls return
+   * unchanged responses and drops back to the interval when a response changes.
+   */
+  public Duration getMaxHttpRequestInterval() {
+    return maxHttpRequestInterval;
+  }
+
+  public void setMaxHttpRequestInterval(final Duration maxHttpRequestInterval) {
+    this.maxHttpRequestInterval = maxHttpRequestInterval;
+  }
+
+  public boolean isAdaptive() {
+    return maxHttpRequestInterval != null
+        && maxHttpRequestInterval.compareTo(getHttpRequestInterval()) > 0;
+  }
+
   public Duration getOperatePollingInterval() {
     return operatePollingInterval != null ? operatePollingInterval : DEFAULT_OPERATE_INTERVAL;
   }
@@ -41,12 +60,13 @@ public class PollingIntervalConfiguration {
       return false;
     }
     return Objects.equals(httpRequestInterval, that.httpRequestInterval)
-        && Objects.equals(operatePollingInterval, that.operatePollingInterval);
+        && Objects.equals(operatePollingInterval, that.operatePollingInterval)
+        && Objects.equals(maxHttpRequestInterval, that.maxHttpRequestInterval);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(httpRequestInterval, operatePollingInterval);
+    return Objects.hash(httpRequestInterval, operatePollingInterval, maxHttpRequestInterval);
   }
 
   @Override
@@ -56,6 +76,8 @@ public class PollingIntervalConfiguration {
         + httpRequestInterval
         + ", operatePollingInterval="
         + operatePollingInterval
+        + ", maxHttpRequestInterval="
+        + maxHttpRequestInterval
         + "}";
   }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.services.HttpService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the HTTP requests of polled process instances. A request that equals one already in
+ * flight is not sent again, it waits for the response of the request in flight instead. Instances
+ * polling the same URL with the same headers thus share one round trip per interval.
+ *
+ * <p>Each caller of {@link #execute(HttpCommonRequest)} has to {@link #release(HttpCommonResult,
+ * boolean) release} the response once it is done with it. A response body stored in a file is
+ * shared by all callers of the request; it is deleted when the last of them released it and none
+ * used it. Files that were used are left to the retention of the response spool.
+ */
+public class InFlightRequests {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InFlightRequests.class);
+
+  private final HttpService httpService;
+  private final ConcurrentHashMap<HttpCommonRequest, InFlight> requests = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, SharedFile> sharedFiles = new ConcurrentHashMap<>();
+
+  public InFlightRequests(final HttpService httpService) {
+    this.httpService = httpService;
+  }
+
+  public HttpCommonResult execute(final HttpCommonRequest request) throws Exception {
+    var created = new InFlight();
+    var inFlight =
+        requests.compute(
+            request,
+            (key, current) -> {
+              if (current == null) {
+                return created;
+              }
+              current.consumers++;
+              return current;
+            });
+    if (inFlight != created) {
+      return await(inFlight.response);
+    }
+    try {
+      HttpCommonResult result = httpService.executeConnectorRequest(request);
+      // nobody joins the request after it was removed, so the number of consumers is final
+      requests.remove(request, created);
+      String file = bodyFile(result);
+      if (file != null && created.consumers > 1) {
+        sharedFiles.put(file, new SharedFile(created.consumers, false));
+      }
+      created.response.complete(result);
+      return result;
+    } catch (Exception e) {
+      created.response.completeExceptionally(e);
+      throw e;
+    } finally {
+      requests.remove(request, created);
+    }
+  }
+
+  /**
+   * Reports that a caller is done with a response.
+   *
+   * @param used whether the response was passed on, e.g. correlated, so that a stored body must be
+   *     kept
+   */
+  public void release(final HttpCommonResult result, final boolean used) {
+    String file = bodyFile(result);
+    if (file == null) {
+      return;
+    }
+    var released = new AtomicReference<SharedFile>();
+    var remaining =
+        sharedFiles.computeIfPresent(
+            file,
+            (key, shared) -> {
+              var next = shared.release(used);
+              if (next.consumers() > 0) {
+                return next;
+              }
+              released.set(next);
+              return null;
+            });
+    if (remaining != null) {
+      return;
+    }
+    // either the only consumer or the last one of a shared response
+    boolean keep = released.get() == null ? used : released.get().used();
+    if (!keep) {
+      try {
+        Files.deleteIfExists(Path.of(file));
+      } catch (IOException | RuntimeException e) {
+        LOGGER.debug("Failed to delete response body {}", file, e);
+      }
+    }
+  }
+
+  /** The number of distinct requests currently in flight. */
+  public int size() {
+    return requests.size();
+  }
+
+  private static String bodyFile(final HttpCommonResult result) {
+    return result == null || result.getBodyFile() == null ? null : result.getBodyFile().getPath();
+  }
+
+  private static HttpCommonResult await(final CompletableFuture<HttpCommonResult> response)
+      throws Exception {
+    try {
+      return response.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class InFlight {
+
+    private final CompletableFuture<HttpCommonResult> response = new CompletableFuture<>();
+    // only changed while the request is mapped, in compute
+    private int consumers = 1;
+  }
+
+  private record SharedFile(int consumers, boolean used) {
+
+    private SharedFile release(final boolean usedByConsumer) {
+      return new SharedFile(consumers - 1, used || usedByConsumer);
+    }
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import io.camunda.connector.api.metrics.ConnectorMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel for the periodic HTTP requests of the polling connector. Scheduling and
+ * cancelling a task is O(1) regardless of how many process instances are polled, which a {@link
+ * java.util.concurrent.ScheduledExecutorService} with its priority queue cannot offer for tens of
+ * thousands of tasks.
+ *
+ * <p>A single thread advances the wheel every tick and hands due tasks to a bounded pool of worker
+ * threads. A task is rescheduled once it has completed (fixed delay), so slow requests never
+ * overlap. If the worker queue is full, the execution is skipped and the task is due again after
+ * its delay. Tasks are executed up to one tick after they are due.
+ */
+public class PollingTimerWheel implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PollingTimerWheel.class);
+
+  private static final int WHEEL_SIZE = 512;
+
+  private static final int WAITING = 0;
+  private static final int RUNNING = 1;
+  private static final int CANCELLED = 2;
+
+  private final long tickNanos;
+  private final int wheelSize;
+  private final int mask;
+  private final Bucket[] wheel;
+  private final LongSupplier nanoClock;
+  private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+  private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+  private final ExecutorService workers;
+  private final Thread ticker;
+  private final long startNanos;
+
+  private final AtomicInteger scheduledTasks = new AtomicInteger();
+  private final LongAdder skippedExecutions = new LongAdder();
+  private volatile long tickLagNanos;
+  private volatile boolean running = true;
+
+  // only accessed by the ticker thread
+  private long tick;
+
+  public PollingTimerWheel(final PollingTimerWheelConfiguration configuration) {
+    this(
+        configuration.tickDuration(),
+        WHEEL_SIZE,
+        System::nanoTime,
+        new ThreadPoolExecutor(
+            configuration.workerThreads(),
+            configuration.workerThreads(),
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(configuration.workerQueueSize()),
+            daemonThreads("http-polling-worker-")),
+        true);
+  }
+
+  /**
+   * @param wheelSize number of buckets, a power of two
+   * @param startTicker false to advance the wheel by calling {@link #processDueTicks()} instead
+   */
+  PollingTimerWheel(
+      final Duration tickDuration,
+      final int wheelSize,
+      final LongSupplier nanoClock,
+      final ExecutorService workers,
+      final boolean startTicker) {
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+    }
+    this.tickNanos = tickDuration.toNanos();
+    this.wheelSize = wheelSize;
+    this.mask = wheelSize - 1;
+    this.wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.nanoClock = nanoClock;
+    this.startNanos = nanoClock.getAsLong();
+    this.workers = workers;
+    this.ticker = daemonThreads("http-polling-timer-").newThread(this::runTicker);
+    if (startTicker) {
+      this.ticker.start();
+    }
+  }
+
+  /**
+   * Schedules the task to run after the initial delay and then repeatedly with the given delay
+   * between the end of one execution and the start of the next.
+   */
+  public Timeout scheduleWithFixedDelay(
+      final Runnable task, final Duration initialDelay, final Duration delay) {
+    return scheduleWithDynamicDelay(task, initialDelay, () -> delay);
+  }
+
+  /**
+   * Schedules the task to run after the initial delay and then repeatedly. The delay between the
+   * end of one execution and the start of the next is obtained from the supplier after every
+   * execution.
+   */
+  public Timeout scheduleWithDynamicDelay(
+      final Runnable task, final Duration initialDelay, final Supplier<Duration> delay) {
+    var scheduledTask = new ScheduledTask(task, delay);
+    scheduledTask.deadline = now() + Math.max(initialDelay.toNanos(), 0);
+    scheduledTasks.incrementAndGet();
+    pendingTasks.add(scheduledTask);
+    return scheduledTask;
+  }
+
+  /** How late the wheel processed its latest tick. */
+  public Duration tickLag() {
+    return Duration.ofNanos(tickLagNanos);
+  }
+
+  /** The number of tasks that are scheduled and not cancelled. */
+  public int scheduledTasks() {
+    return scheduledTasks.get();
+  }
+
+  /** The number of executions skipped because all workers were busy and their queue was full. */
+  public long skippedExecutions() {
+    return skippedExecutions.sum();
+  }
+
+  public void bindMetrics(final ConnectorMeterRegistry registry) {
+    registry.gauge(
+        "connector.http.polling.tick.lag",
+        "Delay of the polling timer wheel behind its schedule",
+        "ms",
+        Map.of(),
+        () -> tickLagNanos / 1_000_000d);
+    registry.gauge(
+        "connector.http.polling.tasks",
+        "Process instances polled by HTTP polling connectors",
+        null,
+        Map.of(),
+        scheduledTasks::get);
+    registry.gauge(
+        "connector.http.polling.queued",
+        "HTTP polling requests waiting for a worker thread",
+        null,
+        Map.of(),
+        this::queuedExecutions);
+    registry.counter(
+        "connector.http.polling.skipped",
+        "HTTP polling requests skipped because the worker queue was full",
+        null,
+        Map.of(),
+        skippedExecutions::sum);
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(ticker);
+    workers.shutdownNow();
+  }
+
+  private void runTicker() {
+    while (running) {
+      waitForNextTick();
+      if (!running) {
+        return;
+      }
+      processTick();
+    }
+  }
+
+  /** Processes all ticks that are due. Only called when the wheel has no ticker thread. */
+  void processDueTicks() {
+    while (tickDeadline() <= now()) {
+      processTick();
+    }
+  }
+
+  private void processTick() {
+    tickLagNanos = Math.max(now() - tickDeadline(), 0);
+    removeCancelledTasks();
+    transferPendingTasks();
+    expire(wheel[(int) (tick & mask)]);
+    tick++;
+  }
+
+  private void waitForNextTick() {
+    while (running) {
+      long sleepNanos = tickDeadline() - now();
+      if (sleepNanos <= 0) {
+        return;
+      }
+      LockSupport.parkNanos(this, sleepNanos);
+    }
+  }
+
+  private long tickDeadline() {
+    return tickNanos * (tick + 1);
+  }
+
+  private void removeCancelledTasks() {
+    ScheduledTask task;
+    while ((task = cancelledTasks.poll()) != null) {
+      if (task.bucket != null) {
+        task.bucket.remove(task);
+      }
+    }
+  }
+
+  private void transferPendingTasks() {
+    ScheduledTask task;
+    while ((task = pendingTasks.poll()) != null) {
+      if (task.state.get() == CANCELLED) {
+        continue;
+      }
+      long dueTick = task.deadline / tickNanos;
+      task.remainingRounds = (dueTick - tick) / wheelSize;
+      // tasks that are already due go into the current bucket
+      wheel[(int) (Math.max(dueTick, tick) & mask)].add(task);
+    }
+  }
+
+  private void expire(final Bucket bucket) {
+    ScheduledTask task = bucket.head;
+    while (task != null) {
+      ScheduledTask next = task.next;
+      if (task.remainingRounds <= 0) {
+        bucket.remove(task);
+        dispatch(task);
+      } else {
+        task.remainingRounds--;
+      }
+      task = next;
+    }
+  }
+
+  private void dispatch(final ScheduledTask task) {
+    if (!task.state.compareAndSet(WAITING, RUNNING)) {
+      return;
+    }
+    try {
+      workers.execute(task);
+    } catch (RejectedExecutionException e) {
+      skippedExecutions.increment();
+      LOGGER.debug("All HTTP polling workers are busy, skipping this execution");
+      task.reschedule();
+    }
+  }
+
+  private int queuedExecutions() {
+    return workers instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+  }
+
+  private long now() {
+    return nanoClock.getAsLong() - startNanos;
+  }
+
+  private static ThreadFactory daemonThreads(final String prefix) {
+    var counter = new AtomicInteger();
+    return runnable -> {
+      var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** Handle of a scheduled task. */
+  public interface Timeout {
+
+    /**
+     * Stops further executions of the task. An execution in progress is not interrupted.
+     *
+     * @return false if the task was cancelled before
+     */
+    boolean cancel();
+
+    boolean isCancelled();
+  }
+
+  private final class ScheduledTask implements Timeout, Runnable {
+    private final Runnable task;
+    private final Supplier<Duration> delay;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    // written before the task is queued, read by the ticker thread
+    private volatile long deadline;
+
+    // only accessed by the ticker thread
+    private long remainingRounds;
+    private Bucket bucket;
+    private ScheduledTask previous;
+    private ScheduledTask next;
+
+    private ScheduledTask(final Runnable task, final Supplier<Duration> delay) {
+      this.task = task;
+      this.delay = delay;
+    }
+
+    @Override
+    public void run() {
+      try {
+        task.run();
+      } catch (Exception e) {
+        LOGGER.warn("HTTP polling task failed: {}", e.getMessage(), e);
+      } finally {
+        reschedule();
+      }
+    }
+
+    private void reschedule() {
+      if (state.compareAndSet(RUNNING, WAITING)) {
+        deadline = now() + Math.max(nextDelayNanos(), tickNanos);
+        pendingTasks.add(this);
+      }
+    }
+
+    private long nextDelayNanos() {
+      try {
+        return delay.get().toNanos();
+      } catch (RuntimeException e) {
+        LOGGER.warn("Failed to determine the delay of an HTTP polling task: {}", e.getMessage());
+        return tickNanos;
+      }
+    }
+
+    @Override
+    public boolean cancel() {
+      int previousState = state.getAndSet(CANCELLED);
+      if (previousState == CANCELLED) {
+        return false;
+      }
+      scheduledTasks.decrementAndGet();
+      if (previousState == WAITING) {
+        cancelledTasks.add(this);
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+  }
+
+  private static final class Bucket {
+    private ScheduledTask head;
+    private ScheduledTask tail;
+
+    private void add(final ScheduledTask task) {
+      task.bucket = this;
+      if (head == null) {
+        head = task;
+      } else {
+        tail.next = task;
+        task.previous = tail;
+      }
+      tail = task;
+    }
+
+    private void remove(final ScheduledTask task) {
+      if (task.previous != null) {
+        task.previous.next = task.next;
+      } else {
+        head = task.next;
+      }
+      if (task.next != null) {
+        task.next.previous = task.previous;
+      } else {
+        tail = task.previous;
+      }
+      task.previous = null;
+      task.next = null;
+      task.bucket = null;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import static io.camunda.connector.http.base.utils.EnvironmentSettings.parse;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings of the {@link PollingTimerWheel} shared by all HTTP polling connectors, read from
+ * environment variables:
+ *
+ * <ul>
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_POLLING_TICK_DURATION}: resolution of the timer wheel as
+ *       ISO-8601 duration (PT0.1S)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_POLLING_WORKER_THREADS}: threads executing the HTTP requests
+ *       (10)
+ *   <li>{@code CAMUNDA_CONNECTOR_HTTP_POLLING_WORKER_QUEUE_SIZE}: requests that may wait for a
+ *       worker thread (10000), requests that do not fit are skipped until their next interval
+ * </ul>
+ */
+public record PollingTimerWheelConfiguration(
+    Duration tickDuration, int workerThreads, int workerQueueSize) {
+
+  private static final String PREFIX = "CAMUNDA_CONNECTOR_HTTP_POLLING_";
+  static final String TICK_DURATION = PREFIX + "TICK_DURATION";
+  static final String WORKER_THREADS = PREFIX + "WORKER_THREADS";
+  static final String WORKER_QUEUE_SIZE = PREFIX + "WORKER_QUEUE_SIZE";
+
+  public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+  public static final int DEFAULT_WORKER_THREADS = 10;
+  public static final int DEFAULT_WORKER_QUEUE_SIZE = 10_000;
+
+  public PollingTimerWheelConfiguration {
+    if (tickDuration == null || tickDuration.toMillis() < 1) {
+      throw new IllegalArgumentException("Tick duration must be at least 1ms");
+    }
+    if (workerThreads < 1) {
+      throw new IllegalArgumentException("At least one worker thread is required");
+    }
+    if (workerQueueSize < 1) {
+      throw new IllegalArgumentException("Worker queue size must be positive");
+    }
+  }
+
+  public static PollingTimerWheelConfiguration defaults() {
+    return fromEnvironment(Map.of());
+  }
+
+  public static PollingTimerWheelConfiguration fromEnvironment(
+      final Map<String, String> environment) {
+    Duration tickDuration = parse(environment, TICK_DURATION, Duration::parse, null);
+    int workerThreads = parse(environment, WORKER_THREADS, Integer::parseInt, 0);
+    int workerQueueSize = parse(environment, WORKER_QUEUE_SIZE, Integer::parseInt, 0);
+    return new PollingTimerWheelConfiguration(
+        tickDuration == null || tickDuration.toMillis() < 1 ? DEFAULT_TICK_DURATION : tickDuration,
+        workerThreads < 1 ? DEFAULT_WORKER_THREADS : workerThreads,
+        workerQueueSize < 1 ? DEFAULT_WORKER_QUEUE_SIZE : workerQueueSize);
+  }
+}
@@ -6,6 +6,7 @@
  */
 package io.camunda.connector.http.polling.service;
 
+import io.camunda.connector.api.metrics.ConnectorMeters;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.slf4j.Logger;
@@ -18,9 +19,13 @@ public class SharedExecutorService {
   private static final int THREAD_POOL_SIZE = 10;
 
   private final ScheduledExecutorService executorService;
+  private final PollingTimerWheel timerWheel;
 
   private SharedExecutorService() {
     this.executorService = Executors.newScheduledThreadPool(THREAD_POOL_SIZE);
+    this.timerWheel =
+        new PollingTimerWheel(PollingTimerWheelConfiguration.fromEnvironment(System.getenv()));
+    ConnectorMeters.bind(timerWheel::bindMetrics);
     addShutdownHook();
   }
 
@@ -34,6 +39,7 @@ public class SharedExecutorService {
             new Thread(
                 () -> {
                   executorService.shutdownNow();
+                  timerWheel.close();
                   LOGGER.info("Shutdown hook activated, terminating executor service.");
                   Thread.currentThread().interrupt();
                 }));
@@ -42,4 +48,9 @@ public class SharedExecutorService {
   public ScheduledExecutorService getExecutorService() {
     return executorService;
   }
+
+  /** The timer wheel that schedules the HTTP requests of all polled process instances. */
+  public PollingTimerWheel getTimerWheel() {
+    return timerWheel;
+  }
 }
@@ -6,31 +6,99 @@
  */
 package io.camunda.connector.http.polling.task;
 
+import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.inbound.Activity;
+import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.api.inbound.Severity;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.model.HttpResponseFile;
 import io.camunda.connector.http.base.services.HttpService;
+import io.camunda.connector.http.base.utils.RetryAfter;
+import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
+import io.camunda.connector.http.polling.service.InFlightRequests;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Polls the HTTP endpoint of one process instance and correlates the response. The task remembers
+ * the {@code ETag} and {@code Last-Modified} headers of the latest correlated response and sends
+ * them as {@code If-None-Match} and {@code If-Modified-Since} with the next GET request. Responses
+ * that are not modified, either answered with 304 or with the same status and body as the latest
+ * correlated response, are not correlated again.
+ *
+ * <p>The delay before the next request is tracked by a {@link PollingInterval}: it grows while
+ * responses are not modified, and throttling responses (429, 503) of the polled service or the
+ * runtime slow the task down.
+ */
 public class HttpRequestTask implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(HttpRequestTask.class);
 
-  private final HttpService httpService;
+  static final String NOT_MODIFIED = "304";
+  static final String IF_NONE_MATCH = "If-None-Match";
+  static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+  static final String TOO_MANY_REQUESTS = "429";
+  static final String SERVICE_UNAVAILABLE = "503";
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+
+  private final InFlightRequests requests;
   private final ProcessInstanceContext processInstanceContext;
 
   private final InboundIntermediateConnectorContext context;
+  private final PollingInterval interval;
+
+  // state of the latest correlated response, executions of a task never overlap
+  private volatile String entityTag;
+  private volatile String lastModified;
+  private volatile byte[] responseFingerprint;
 
   public HttpRequestTask(
       final HttpService httpService,
       final ProcessInstanceContext processInstanceContext,
       final InboundIntermediateConnectorContext context) {
-    this.httpService = httpService;
+    this(new InFlightRequests(httpService), processInstanceContext, context);
+  }
+
+  public HttpRequestTask(
+      final InFlightRequests requests,
+      final ProcessInstanceContext processInstanceContext,
+      final InboundIntermediateConnectorContext context) {
+    this(
+        requests,
+        processInstanceContext,
+        context,
+        new PollingInterval(new PollingIntervalConfiguration()));
+  }
+
+  public HttpRequestTask(
+      final InFlightRequests requests,
+      final ProcessInstanceContext processInstanceContext,
+      final InboundIntermediateConnectorContext context,
+      final PollingInterval interval) {
+    this.requests = requests;
     this.processInstanceContext = processInstanceContext;
     this.context = context;
+    this.interval = interval;
+  }
+
+  /** The delay between the end of this execution and the start of the next one. */
+  public Duration nextDelay() {
+    return interval.next();
   }
 
   @Override
@@ -39,13 +107,35 @@ public class HttpRequestTask implements Runnable {
       HttpCommonRequest httpRequest = processInstanceContext.bind(HttpCommonRequest.class);
       if (httpRequest != null) {
         try {
-          HttpCommonResult httpResponse = httpService.executeConnectorRequest(httpRequest);
-          processInstanceContext.correlate(httpResponse);
+          addConditionalHeaders(httpRequest);
+          HttpCommonResult httpResponse = execute(httpRequest);
+          if (httpResponse == null) {
+            LOGGER.debug("Polled url not modified for process instance {}", processInstanceContext);
+            interval.unchanged();
+            return;
+          }
+          boolean correlated = false;
+          try {
+            byte[] fingerprint = fingerprint(httpResponse);
+            if (fingerprint != null && Arrays.equals(fingerprint, responseFingerprint)) {
+              LOGGER.debug(
+                  "Polled response unchanged for process instance {}", processInstanceContext);
+              interval.unchanged();
+              return;
+            }
+            correlated = correlate(httpResponse, fingerprint);
+          } finally {
+            // a stored response body is deleted unless an instance was correlated with it
+            requests.release(httpResponse, correlated);
+          }
           this.context.log(
               Activity.level(Severity.INFO)
                   .tag(httpRequest.getMethod().toString())
                   .message("Polled url: " + httpRequest.getUrl()));
         } catch (Exception e) {
+          if (isThrottled(e)) {
+            interval.throttled(RetryAfter.of(e));
+          }
           LOGGER.warn(
               "Exception encountered while executing HTTP request for process instance {}: {}",
               processInstanceContext,
@@ -63,4 +153,112 @@ public class HttpRequestTask implements Runnable {
           e.getMessage());
     }
   }
+
+  /** Returns whether the response was correlated. */
+  private boolean correlate(final HttpCommonResult httpResponse, final byte[] fingerprint) {
+    CorrelationResult result = processInstanceContext.correlateWithResult(httpResponse);
+    if (result instanceof CorrelationResult.Failure.Throttled throttled) {
+      interval.throttled(throttled.retryAfter());
+      return false;
+    }
+    if (result instanceof CorrelationResult.Failure failure && failure.isRetryable()) {
+      // the same response is correlated again with the next request
+      return false;
+    }
+    rememberResponse(httpResponse, fingerprint);
+    if (result instanceof CorrelationResult.Success) {
+      interval.changed();
+      return true;
+    }
+    // e.g. the activation condition is not met yet, so keep backing off until it is
+    interval.unchanged();
+    return false;
+  }
+
+  /** Returns null if the server answered that the resource was not modified. */
+  private HttpCommonResult execute(final HttpCommonRequest httpRequest) throws Exception {
+    try {
+      return requests.execute(httpRequest);
+    } catch (ConnectorException e) {
+      if (NOT_MODIFIED.equals(e.getErrorCode())) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private void addConditionalHeaders(final HttpCommonRequest httpRequest) {
+    if (httpRequest.getMethod() != HttpMethod.GET || (entityTag == null && lastModified == null)) {
+      return;
+    }
+    Map<String, String> headers =
+        httpRequest.hasHeaders() ? new HashMap<>(httpRequest.getHeaders()) : new HashMap<>();
+    // conditions configured in the element take precedence
+    if (entityTag != null && findHeader(headers, IF_NONE_MATCH) == null) {
+      headers.put(IF_NONE_MATCH, entityTag);
+    }
+    if (lastModified != null && findHeader(headers, IF_MODIFIED_SINCE) == null) {
+      headers.put(IF_MODIFIED_SINCE, lastModified);
+    }
+    httpRequest.setHeaders(headers);
+  }
+
+  private void rememberResponse(final HttpCommonResult httpResponse, final byte[] fingerprint) {
+    Map<String, Object> headers = httpResponse.getHeaders();
+    entityTag = headers == null ? null : headerValue(findHeader(headers, ETAG));
+    lastModified = headers == null ? null : headerValue(findHeader(headers, LAST_MODIFIED));
+    responseFingerprint = fingerprint;
+  }
+
+  /**
+   * Hash of status and body. Headers are left out, as they usually differ between responses (e.g.
+   * {@code Date}) even if the resource did not change. A body written to a file contributes its
+   * size and hash; without a hash, the response is always treated as changed.
+   */
+  private static byte[] fingerprint(final HttpCommonResult httpResponse) {
+    HttpResponseFile bodyFile = httpResponse.getBodyFile();
+    if (bodyFile != null && bodyFile.getSha256() == null) {
+      return null;
+    }
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(httpResponse.getStatus()).array());
+      digest.update(
+          ConnectorsObjectMapperSupplier.DEFAULT_MAPPER.writeValueAsBytes(httpResponse.getBody()));
+      if (bodyFile != null) {
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(bodyFile.getSize()).array());
+        digest.update(bodyFile.getSha256().getBytes(StandardCharsets.US_ASCII));
+      }
+      return digest.digest();
+    } catch (NoSuchAlgorithmException | IOException | RuntimeException e) {
+      LOGGER.debug("Cannot compute the fingerprint of the polled response", e);
+      return null;
+    }
+  }
+
+  private static boolean isThrottled(final Exception e) {
+    return e instanceof ConnectorException connectorException
+        && (TOO_MANY_REQUESTS.equals(connectorException.getErrorCode())
+            || SERVICE_UNAVAILABLE.equals(connectorException.getErrorCode()));
+  }
+
+  private static <T> T findHeader(final Map<String, T> headers, final String name) {
+    T value = headers.get(name);
+    if (value != null) {
+      return value;
+    }
+    for (var header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static String headerValue(final Object value) {
+    if (value instanceof List<?> values) {
+      return values.isEmpty() ? null : String.valueOf(values.get(0));
+    }
+    return value == null ? null : value.toString();
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.task;
+
+import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The delay before the next HTTP request of one process instance.
+ *
+ * <p>With a fixed interval it always is the configured interval. An adaptive interval doubles after
+ * every poll that returned an unchanged response, up to the maximum, and drops back to the
+ * configured interval as soon as a response changes. If the polled service asks to slow down (429
+ * or 503, optionally with {@code Retry-After}), the interval is doubled and the next request waits
+ * at least as long as requested. Adaptive delays vary by up to {@value #JITTER_PERCENT}% so that
+ * instances started together do not keep polling in lockstep.
+ */
+public class PollingInterval {
+
+  static final int JITTER_PERCENT = 10;
+
+  private final Duration minInterval;
+  private final Duration maxInterval;
+  private final boolean adaptive;
+  private final DoubleSupplier random;
+
+  // executions of a task never overlap, but run on different threads
+  private volatile Duration interval;
+  private volatile Duration retryAfter;
+
+  public PollingInterval(final PollingIntervalConfiguration configuration) {
+    this(configuration, () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  PollingInterval(final PollingIntervalConfiguration configuration, final DoubleSupplier random) {
+    this.minInterval = configuration.getHttpRequestInterval();
+    this.adaptive = configuration.isAdaptive();
+    this.maxInterval = adaptive ? configuration.getMaxHttpRequestInterval() : minInterval;
+    this.random = random;
+    this.interval = minInterval;
+  }
+
+  /** The latest response equals the previous one. */
+  public void unchanged() {
+    interval = grow(interval);
+  }
+
+  /** The latest response differs from the previous one. */
+  public void changed() {
+    interval = minInterval;
+  }
+
+  /**
+   * The polled service or the runtime asked to slow down.
+   *
+   * @param retryAfter the minimum delay requested, or null
+   */
+  public void throttled(final Duration retryAfter) {
+    if (!adaptive) {
+      return;
+    }
+    interval = grow(interval);
+    this.retryAfter = retryAfter;
+  }
+
+  /** The delay until the next request, takes a pending {@code Retry-After} into account. */
+  public Duration next() {
+    if (!adaptive) {
+      return minInterval;
+    }
+    Duration delay = withJitter(interval);
+    Duration requested = retryAfter;
+    if (requested != null) {
+      retryAfter = null;
+      if (requested.compareTo(delay) > 0) {
+        return requested;
+      }
+    }
+    return delay;
+  }
+
+  /** The current interval without jitter. */
+  public Duration current() {
+    return interval;
+  }
+
+  private Duration grow(final Duration current) {
+    if (!adaptive) {
+      return current;
+    }
+    Duration doubled = current.multipliedBy(2);
+    return doubled.compareTo(maxInterval) > 0 ? maxInterval : doubled;
+  }
+
+  private Duration withJitter(final Duration delay) {
+    // uniformly distributed between -JITTER_PERCENT and +JITTER_PERCENT
+    double factor = 1 + (random.getAsDouble() * 2 - 1) * JITTER_PERCENT / 100;
+    return Duration.ofMillis(Math.round(delay.toMillis() * factor));
+  }
+}
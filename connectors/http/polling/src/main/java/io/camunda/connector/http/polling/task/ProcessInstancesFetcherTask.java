@@ -11,10 +11,14 @@ import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.http.base.services.HttpService;
 import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
-import io.camunda.connector.http.polling.service.SharedExecutorService;
+import io.camunda.connector.http.polling.service.InFlightRequests;
+import io.camunda.connector.http.polling.service.PollingTimerWheel;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -28,19 +32,27 @@ public class ProcessInstancesFetcherTask implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstancesFetcherTask.class);
 
   private final InboundIntermediateConnectorContext context;
-  private final HttpService httpService;
-  private final SharedExecutorService executorService;
+  private final InFlightRequests requests;
+  private final ScheduledExecutorService executorService;
+  private final PollingTimerWheel timerWheel;
   private final PollingIntervalConfiguration config;
-  private final ConcurrentHashMap<String, ScheduledFuture<?>> runningHttpRequestTaskIds;
+  private final ConcurrentHashMap<String, PollingTimerWheel.Timeout> runningHttpRequestTaskIds;
+  private ScheduledFuture<?> fetcherTask;
 
+  /**
+   * @param executorService runs this task, which fetches the process instances from Operate
+   * @param timerWheel runs the HTTP requests of the process instances
+   */
   public ProcessInstancesFetcherTask(
       final InboundIntermediateConnectorContext context,
       final HttpService httpService,
-      final SharedExecutorService executorService) {
+      final ScheduledExecutorService executorService,
+      final PollingTimerWheel timerWheel) {
     this.config = context.bindProperties(PollingIntervalConfiguration.class);
     this.context = context;
-    this.httpService = httpService;
+    this.requests = new InFlightRequests(httpService);
     this.executorService = executorService;
+    this.timerWheel = timerWheel;
     this.runningHttpRequestTaskIds = new ConcurrentHashMap<>();
   }
 
@@ -49,8 +61,13 @@ public class ProcessInstancesFetcherTask implements Runnable {
     try {
       List<ProcessInstanceContext> processInstanceContexts = context.getProcessInstanceContexts();
       if (processInstanceContexts != null) {
-        removeInactiveTasks(processInstanceContexts);
-        processInstanceContexts.forEach(this::scheduleRequest);
+        Set<String> activeTaskKeys = new HashSet<>();
+        for (ProcessInstanceContext processInstanceContext : processInstanceContexts) {
+          String taskKey = getRequestTaskKey(processInstanceContext);
+          activeTaskKeys.add(taskKey);
+          scheduleRequest(taskKey, processInstanceContext);
+        }
+        removeInactiveTasks(activeTaskKeys);
         context.reportHealth(Health.up("Process instances", processInstanceContexts.size()));
       }
     } catch (Exception e) {
@@ -59,32 +76,28 @@ public class ProcessInstancesFetcherTask implements Runnable {
     }
   }
 
-  private void removeInactiveTasks(final List<ProcessInstanceContext> processInstanceContexts) {
-    List<String> activeTasks =
-        processInstanceContexts.stream().map(this::getRequestTaskKey).toList();
-
-    List<Map.Entry<String, ScheduledFuture<?>>> inactiveTasks =
-        runningHttpRequestTaskIds.entrySet().stream()
-            .filter(entry -> !activeTasks.contains(entry.getKey()))
-            .toList();
-
-    inactiveTasks.forEach(
-        entry -> {
-          entry.getValue().cancel(true);
-          runningHttpRequestTaskIds.remove(entry.getKey());
-        });
+  private void removeInactiveTasks(final Set<String> activeTaskKeys) {
+    runningHttpRequestTaskIds
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (activeTaskKeys.contains(entry.getKey())) {
+                return false;
+              }
+              entry.getValue().cancel();
+              return true;
+            });
   }
 
-  private void scheduleRequest(ProcessInstanceContext processInstanceContext) {
-    String taskKey = getRequestTaskKey(processInstanceContext);
+  private void scheduleRequest(
+      final String taskKey, final ProcessInstanceContext processInstanceContext) {
     runningHttpRequestTaskIds.computeIfAbsent(
         taskKey,
         (key) -> {
-          var task = new HttpRequestTask(httpService, processInstanceContext, this.context);
-          return this.executorService
-              .getExecutorService()
-              .scheduleWithFixedDelay(
-                  task, 0, config.getHttpRequestInterval().toMillis(), TimeUnit.MILLISECONDS);
+          var task =
+              new HttpRequestTask(
+                  requests, processInstanceContext, this.context, new PollingInterval(config));
+          return timerWheel.scheduleWithDynamicDelay(task, Duration.ZERO, task::nextDelay);
         });
   }
 
@@ -93,13 +106,16 @@ public class ProcessInstancesFetcherTask implements Runnable {
   }
 
   public void start() {
-    executorService
-        .getExecutorService()
-        .scheduleWithFixedDelay(
+    fetcherTask =
+        executorService.scheduleWithFixedDelay(
             this, 0, config.getOperatePollingInterval().toMillis(), TimeUnit.MILLISECONDS);
   }
 
   public void stop() {
-    runningHttpRequestTaskIds.values().forEach(task -> task.cancel(true));
+    if (fetcherTask != null) {
+      fetcherTask.cancel(true);
+    }
+    runningHttpRequestTaskIds.values().forEach(PollingTimerWheel.Timeout::cancel);
+    runningHttpRequestTaskIds.clear();
   }
 }
@@ -8,8 +8,10 @@ package io.camunda.connector.http.polling;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
@@ -17,6 +19,7 @@ import io.camunda.connector.http.base.services.HttpService;
 import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
 import io.camunda.connector.http.polling.service.SharedExecutorService;
 import io.camunda.connector.http.polling.task.ProcessInstancesFetcherTask;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +36,7 @@ public class HttpPollingConnectorTest {
   @Mock private SharedExecutorService executorService;
   @Mock private InboundIntermediateConnectorContext context;
   @Mock private ScheduledExecutorService mockScheduledExecutorService;
+  @Mock private ScheduledExecutorService runtimeExecutorService;
 
   private HttpPollingConnector httpPollingConnector;
 
@@ -40,7 +44,7 @@ public class HttpPollingConnectorTest {
   public void setUp() {
     httpPollingConnector = new HttpPollingConnector(httpService, executorService);
     when(context.bindProperties(any())).thenReturn(new PollingIntervalConfiguration());
-    when(executorService.getExecutorService()).thenReturn(mockScheduledExecutorService);
+    lenient().when(executorService.getExecutorService()).thenReturn(mockScheduledExecutorService);
   }
 
   @Test
@@ -56,4 +60,20 @@ public class HttpPollingConnectorTest {
             eq(DEFAULT_OPERATE_INTERVAL),
             eq(TimeUnit.MILLISECONDS));
   }
+
+  @Test
+  public void testActivate_RuntimeExecutorAvailable() {
+    // Given
+    when(context.getExecutor()).thenReturn(Optional.of(runtimeExecutorService));
+    // When
+    httpPollingConnector.activate(context);
+    // Then
+    verify(runtimeExecutorService, times(1))
+        .scheduleWithFixedDelay(
+            any(ProcessInstancesFetcherTask.class),
+            eq(0L),
+            eq(DEFAULT_OPERATE_INTERVAL),
+            eq(TimeUnit.MILLISECONDS));
+    verifyNoInteractions(mockScheduledExecutorService);
+  }
 }
@@ -70,6 +70,25 @@ public class PollingIntervalConfigurationTest {
     assertThat(interval).isEqualTo(expected);
   }
 
+  @ParameterizedTest
+  @MethodSource("maxHttpRequestIntervalTestCases")
+  public void testIsAdaptive(String interval, String maxInterval, boolean expected) {
+    inboundConnectorContext.getProperties().put("httpRequestInterval", interval);
+    inboundConnectorContext.getProperties().put("maxHttpRequestInterval", maxInterval);
+    PollingIntervalConfiguration intervals =
+        inboundConnectorContext.bindProperties(PollingIntervalConfiguration.class);
+    assertThat(intervals.isAdaptive()).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> maxHttpRequestIntervalTestCases() {
+    return Stream.of(
+        Arguments.of("PT10S", "PT5M", true),
+        Arguments.of(null, "PT5M", true),
+        Arguments.of("PT10S", "PT10S", false),
+        Arguments.of("PT10M", "PT5M", false),
+        Arguments.of("PT10S", null, false));
+  }
+
   private static Stream<Arguments> httpRequestIntervalTestCases() {
     return Stream.of(
         Arguments.of("PT3M", 180000L),
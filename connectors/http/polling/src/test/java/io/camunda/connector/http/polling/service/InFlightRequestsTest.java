@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.services.HttpService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class InFlightRequestsTest {
+
+  @Mock private HttpService httpService;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldShareResponseOfIdenticalRequestsInFlight() throws Exception {
+    // given
+    var requests = new InFlightRequests(httpService);
+    var inFlight = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var result = new HttpCommonResult();
+    when(httpService.executeConnectorRequest(any()))
+        .thenAnswer(
+            invocation -> {
+              inFlight.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return result;
+            });
+
+    // when
+    List<Future<HttpCommonResult>> responses = new ArrayList<>();
+    responses.add(executor.submit(() -> requests.execute(request("https://example.com"))));
+    assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 3; i++) {
+      responses.add(executor.submit(() -> requests.execute(request("https://example.com"))));
+    }
+    Thread.sleep(100);
+    release.countDown();
+
+    // then
+    for (Future<HttpCommonResult> response : responses) {
+      assertThat(response.get(5, TimeUnit.SECONDS)).isSameAs(result);
+    }
+    verify(httpService, times(1)).executeConnectorRequest(any());
+    assertThat(requests.size()).isZero();
+  }
+
+  @Test
+  public void shouldSendDifferentRequestsSeparately() throws Exception {
+    // given
+    var requests = new InFlightRequests(httpService);
+    when(httpService.executeConnectorRequest(any())).thenReturn(new HttpCommonResult());
+
+    // when
+    requests.execute(request("https://example.com/1"));
+    requests.execute(request("https://example.com/2"));
+    requests.execute(request("https://example.com/1"));
+
+    // then
+    verify(httpService, times(3)).executeConnectorRequest(any());
+  }
+
+  @Test
+  public void shouldPassOnFailure() throws Exception {
+    // given
+    var requests = new InFlightRequests(httpService);
+    when(httpService.executeConnectorRequest(any()))
+        .thenThrow(new ConnectorException("304", "Not Modified"));
+
+    // when / then
+    assertThatThrownBy(() -> requests.execute(request("https://example.com")))
+        .isInstanceOf(ConnectorException.class)
+        .hasFieldOrPropertyWithValue("errorCode", "304");
+    assertThat(requests.size()).isZero();
+  }
+
+  private static HttpCommonRequest request(String url) {
+    var request = new HttpCommonRequest();
+    request.setMethod(HttpMethod.GET);
+    request.setUrl(url);
+    return request;
+  }
+}
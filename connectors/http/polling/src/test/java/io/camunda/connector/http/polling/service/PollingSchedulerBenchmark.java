@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares scheduling and cancelling a polling task next to {@code instances} scheduled ones on a
+ * {@link ScheduledThreadPoolExecutor} and on the {@link PollingTimerWheel}, and the reconciliation
+ * of running and active process instances with list lookups and with a set.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PollingSchedulerBenchmark {
+
+  private static final Runnable NOOP = () -> {};
+
+  @Param({"1000", "10000", "50000"})
+  public int instances;
+
+  private ScheduledThreadPoolExecutor executor;
+  private PollingTimerWheel timerWheel;
+  private Map<String, Object> running;
+  private List<String> active;
+
+  @Setup
+  public void setUp() {
+    executor = new ScheduledThreadPoolExecutor(10);
+    executor.setRemoveOnCancelPolicy(true);
+    timerWheel = new PollingTimerWheel(PollingTimerWheelConfiguration.defaults());
+    running = new ConcurrentHashMap<>();
+    active = new ArrayList<>();
+    for (int i = 0; i < instances; i++) {
+      executor.scheduleWithFixedDelay(NOOP, 1, 1, TimeUnit.HOURS);
+      timerWheel.scheduleWithFixedDelay(NOOP, Duration.ofHours(1), Duration.ofHours(1));
+      running.put("element" + i, NOOP);
+      // every tenth instance has completed
+      if (i % 10 != 0) {
+        active.add("element" + i);
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+    timerWheel.close();
+  }
+
+  @Benchmark
+  public boolean scheduledExecutorScheduleAndCancel() {
+    ScheduledFuture<?> future =
+        executor.scheduleWithFixedDelay(NOOP, 60_000, 60_000, TimeUnit.MILLISECONDS);
+    return future.cancel(true);
+  }
+
+  @Benchmark
+  public boolean timerWheelScheduleAndCancel() {
+    return timerWheel
+        .scheduleWithFixedDelay(NOOP, Duration.ofMinutes(1), Duration.ofMinutes(1))
+        .cancel();
+  }
+
+  @Benchmark
+  public int reconcileWithList() {
+    List<String> activeTasks = List.copyOf(active);
+    return (int) running.keySet().stream().filter(key -> !activeTasks.contains(key)).count();
+  }
+
+  @Benchmark
+  public int reconcileWithSet() {
+    Set<String> activeTasks = new HashSet<>(active);
+    return (int) running.keySet().stream().filter(key -> !activeTasks.contains(key)).count();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(PollingSchedulerBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class PollingTimerWheelConfigurationTest {
+
+  @Test
+  public void shouldUseDefaults() {
+    // when
+    var configuration = PollingTimerWheelConfiguration.defaults();
+
+    // then
+    assertThat(configuration.tickDuration())
+        .isEqualTo(PollingTimerWheelConfiguration.DEFAULT_TICK_DURATION);
+    assertThat(configuration.workerThreads())
+        .isEqualTo(PollingTimerWheelConfiguration.DEFAULT_WORKER_THREADS);
+    assertThat(configuration.workerQueueSize())
+        .isEqualTo(PollingTimerWheelConfiguration.DEFAULT_WORKER_QUEUE_SIZE);
+  }
+
+  @Test
+  public void shouldReadEnvironment() {
+    // when
+    var configuration =
+        PollingTimerWheelConfiguration.fromEnvironment(
+            Map.of(
+                PollingTimerWheelConfiguration.TICK_DURATION, "PT0.05S",
+                PollingTimerWheelConfiguration.WORKER_THREADS, "32",
+                PollingTimerWheelConfiguration.WORKER_QUEUE_SIZE, " 500 "));
+
+    // then
+    assertThat(configuration)
+        .isEqualTo(new PollingTimerWheelConfiguration(Duration.ofMillis(50), 32, 500));
+  }
+
+  @Test
+  public void shouldIgnoreInvalidValues() {
+    // when
+    var configuration =
+        PollingTimerWheelConfiguration.fromEnvironment(
+            Map.of(
+                PollingTimerWheelConfiguration.TICK_DURATION, "100ms",
+                PollingTimerWheelConfiguration.WORKER_THREADS, "0",
+                PollingTimerWheelConfiguration.WORKER_QUEUE_SIZE, "many"));
+
+    // then
+    assertThat(configuration).isEqualTo(PollingTimerWheelConfiguration.defaults());
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PollingTimerWheelTest {
+
+  private static final Duration TICK = Duration.ofMillis(10);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final DirectWorkers workers = new DirectWorkers();
+
+  // eight buckets, so that a rotation takes 80ms
+  private final PollingTimerWheel timerWheel =
+      new PollingTimerWheel(TICK, 8, clock::get, workers, false);
+
+  @AfterEach
+  public void tearDown() {
+    timerWheel.close();
+  }
+
+  @Test
+  public void shouldRunTaskRepeatedlyWithFixedDelay() {
+    // given
+    var executions = new AtomicInteger();
+
+    // when
+    timerWheel.scheduleWithFixedDelay(
+        executions::incrementAndGet, Duration.ZERO, Duration.ofMillis(50));
+
+    // then the task runs on the first tick and 50ms after it completed
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(1);
+    advance(Duration.ofMillis(50));
+    assertThat(executions).hasValue(1);
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(2);
+    assertThat(timerWheel.scheduledTasks()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldAskForDelayAfterEveryExecution() {
+    // given
+    var executions = new AtomicInteger();
+    var delays = new AtomicInteger();
+
+    // when
+    timerWheel.scheduleWithDynamicDelay(
+        executions::incrementAndGet,
+        Duration.ZERO,
+        () -> Duration.ofMillis(100L * delays.incrementAndGet()));
+
+    // then the delays 100ms and 200ms pass between the three executions
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(1);
+    advance(Duration.ofMillis(100));
+    assertThat(executions).hasValue(1);
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(2);
+    advance(Duration.ofMillis(200));
+    assertThat(executions).hasValue(2);
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(3);
+    assertThat(delays).hasValue(3);
+  }
+
+  @Test
+  public void shouldRunTaskDueAfterMoreThanOneRotation() {
+    // given a delay of more than three rotations
+    var executions = new AtomicInteger();
+
+    // when
+    timerWheel.scheduleWithFixedDelay(
+        executions::incrementAndGet, Duration.ofMillis(250), Duration.ofHours(1));
+
+    // then
+    advance(Duration.ofMillis(250));
+    assertThat(executions).hasValue(0);
+    advance(Duration.ofMillis(10));
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotRunCancelledTask() {
+    // given
+    var executions = new AtomicInteger();
+    var timeout =
+        timerWheel.scheduleWithFixedDelay(
+            executions::incrementAndGet, Duration.ofMillis(100), Duration.ofMillis(100));
+
+    // when
+    assertThat(timeout.cancel()).isTrue();
+    advance(Duration.ofMillis(300));
+
+    // then
+    assertThat(timeout.isCancelled()).isTrue();
+    assertThat(timeout.cancel()).isFalse();
+    assertThat(executions).hasValue(0);
+    assertThat(timerWheel.scheduledTasks()).isZero();
+  }
+
+  @Test
+  public void shouldStopRunningTaskAfterCancellation() {
+    // given
+    var executions = new AtomicInteger();
+    var timeout =
+        timerWheel.scheduleWithFixedDelay(
+            executions::incrementAndGet, Duration.ZERO, Duration.ofMillis(20));
+    advance(Duration.ofMillis(10));
+
+    // when
+    timeout.cancel();
+    advance(Duration.ofMillis(100));
+
+    // then
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotRescheduleTaskCancelledWhileRunning() {
+    // given
+    var executions = new AtomicInteger();
+    var timeout = new AtomicReference<PollingTimerWheel.Timeout>();
+    timeout.set(
+        timerWheel.scheduleWithFixedDelay(
+            () -> {
+              executions.incrementAndGet();
+              timeout.get().cancel();
+            },
+            Duration.ZERO,
+            Duration.ofMillis(20)));
+
+    // when
+    advance(Duration.ofMillis(100));
+
+    // then the execution in progress completes, but is not rescheduled
+    assertThat(executions).hasValue(1);
+    assertThat(timerWheel.scheduledTasks()).isZero();
+  }
+
+  @Test
+  public void shouldSkipExecutionsWhenWorkersAreBusy() {
+    // given
+    var executions = new AtomicInteger();
+    workers.busy = true;
+    timerWheel.scheduleWithFixedDelay(
+        executions::incrementAndGet, Duration.ZERO, Duration.ofMillis(20));
+
+    // when
+    advance(Duration.ofMillis(10));
+
+    // then the execution is skipped and due again after the delay
+    assertThat(timerWheel.skippedExecutions()).isEqualTo(1);
+    assertThat(executions).hasValue(0);
+    workers.busy = false;
+    advance(Duration.ofMillis(30));
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldContinueAfterFailingTask() {
+    // given
+    var executions = new AtomicInteger();
+
+    // when
+    timerWheel.scheduleWithFixedDelay(
+        () -> {
+          executions.incrementAndGet();
+          throw new IllegalStateException("expected");
+        },
+        Duration.ZERO,
+        Duration.ofMillis(20));
+    advance(Duration.ofMillis(40));
+
+    // then
+    assertThat(executions).hasValue(2);
+  }
+
+  @Test
+  public void shouldReportTickLag() {
+    // when the wheel is advanced 5ms after the deadline of its third tick
+    clock.addAndGet(Duration.ofMillis(35).toNanos());
+    timerWheel.processDueTicks();
+
+    // then
+    assertThat(timerWheel.tickLag()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  public void shouldRunTasksOnTickerThread() throws InterruptedException {
+    // given a wheel driven by the system clock
+    try (var wheel = new PollingTimerWheel(new PollingTimerWheelConfiguration(TICK, 2, 1))) {
+      var executions = new CountDownLatch(2);
+
+      // when
+      wheel.scheduleWithFixedDelay(executions::countDown, Duration.ZERO, TICK);
+
+      // then
+      assertThat(executions.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  /** Advances the clock tick by tick, processing the wheel like its ticker thread would. */
+  private void advance(Duration duration) {
+    for (long ticks = duration.dividedBy(TICK); ticks > 0; ticks--) {
+      clock.addAndGet(TICK.toNanos());
+      timerWheel.processDueTicks();
+    }
+  }
+
+  /** Runs tasks on the calling thread, or rejects them while busy. */
+  private static final class DirectWorkers extends AbstractExecutorService {
+
+    private volatile boolean busy;
+    private volatile boolean shutdown;
+
+    @Override
+    public void execute(Runnable command) {
+      if (busy) {
+        throw new RejectedExecutionException("busy");
+      }
+      command.run();
+    }
+
+    @Override
+    public void shutdown() {
+      shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      shutdown = true;
+      return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
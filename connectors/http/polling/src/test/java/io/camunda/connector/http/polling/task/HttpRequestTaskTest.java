@@ -6,26 +6,50 @@
  */
 package io.camunda.connector.http.polling.task;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.model.HttpResponseFile;
 import io.camunda.connector.http.base.services.HttpService;
+import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
+import io.camunda.connector.http.polling.service.InFlightRequests;
 import io.camunda.connector.test.inbound.InboundConnectorContextBuilder;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class HttpRequestTaskTest {
 
+  private static final CorrelationResult PUBLISHED =
+      new CorrelationResult.Success.MessagePublished(1L, "<default>");
+
   @Mock private HttpService mockHttpService;
 
   @Mock private HttpCommonResult httpCommonResult;
@@ -54,7 +78,7 @@ public class HttpRequestTaskTest {
     task.run();
 
     // Then
-    verify(mockProcessInstanceContext).correlate(httpCommonResult);
+    verify(mockProcessInstanceContext).correlateWithResult(httpCommonResult);
   }
 
   @Test
@@ -72,7 +96,7 @@ public class HttpRequestTaskTest {
     task.run();
 
     // Then
-    verify(mockProcessInstanceContext, never()).correlate(any());
+    verify(mockProcessInstanceContext, never()).correlateWithResult(any());
   }
 
   @Test
@@ -88,7 +112,409 @@ public class HttpRequestTaskTest {
 
     // Then
     verify(mockHttpService, never()).executeConnectorRequest(any());
-    verify(mockProcessInstanceContext, never()).correlate(any());
+    verify(mockProcessInstanceContext, never()).correlateWithResult(any());
+  }
+
+  @Test
+  public void shouldSendConditionalHeadersOfCorrelatedResponse() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    var response =
+        result(
+            Map.of("etag", List.of("\"v1\""), "last-modified", "Wed, 21 Oct 2015 07:28:00 GMT"),
+            Map.of("status", "pending"));
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(response)
+        .thenThrow(new ConnectorException(HttpRequestTask.NOT_MODIFIED, "Not Modified"));
+
+    // when
+    task.run();
+    task.run();
+
+    // then
+    var requests = ArgumentCaptor.forClass(HttpCommonRequest.class);
+    verify(mockHttpService, times(2)).executeConnectorRequest(requests.capture());
+    assertThat(requests.getAllValues().get(0).getHeaders())
+        .doesNotContainKeys(HttpRequestTask.IF_NONE_MATCH, HttpRequestTask.IF_MODIFIED_SINCE);
+    assertThat(requests.getAllValues().get(1).getHeaders())
+        .containsEntry(HttpRequestTask.IF_NONE_MATCH, "\"v1\"")
+        .containsEntry(HttpRequestTask.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT")
+        .containsEntry("Accept", "application/json");
+    verify(mockProcessInstanceContext, times(1)).correlateWithResult(any());
+  }
+
+  @Test
+  public void shouldNotCorrelateUnchangedResponseAgain() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    var pending = result(Map.of("date", "Wed, 21 Oct 2015 07:28:00 GMT"), Map.of("status", "a"));
+    var pendingLater =
+        result(Map.of("date", "Wed, 21 Oct 2015 07:29:00 GMT"), Map.of("status", "a"));
+    var done = result(Map.of("date", "Wed, 21 Oct 2015 07:30:00 GMT"), Map.of("status", "b"));
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(pending, pendingLater, done);
+
+    // when
+    task.run();
+    task.run();
+    task.run();
+
+    // then
+    verify(mockProcessInstanceContext).correlateWithResult(pending);
+    verify(mockProcessInstanceContext, never()).correlateWithResult(pendingLater);
+    verify(mockProcessInstanceContext).correlateWithResult(done);
+  }
+
+  @Test
+  public void shouldCompareStoredBodiesByHashAndDeleteUnusedFiles(@TempDir Path directory)
+      throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockProcessInstanceContext.correlateWithResult(any())).thenReturn(PUBLISHED);
+    var first = storedResult(directory.resolve("first.body"), "aaa");
+    var unchanged = storedResult(directory.resolve("unchanged.body"), "aaa");
+    var changed = storedResult(directory.resolve("changed.body"), "bbb");
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(first, unchanged, changed);
+
+    // when
+    task.run();
+    task.run();
+    task.run();
+
+    // then
+    verify(mockProcessInstanceContext).correlateWithResult(first);
+    verify(mockProcessInstanceContext, never()).correlateWithResult(unchanged);
+    verify(mockProcessInstanceContext).correlateWithResult(changed);
+    assertThat(directory.resolve("first.body")).exists();
+    assertThat(directory.resolve("unchanged.body")).doesNotExist();
+    assertThat(directory.resolve("changed.body")).exists();
+  }
+
+  @Test
+  public void shouldDeleteStoredBodyOfUncorrelatedResponse(@TempDir Path directory)
+      throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockProcessInstanceContext.correlateWithResult(any()))
+        .thenReturn(CorrelationResult.Failure.ActivationConditionNotMet.INSTANCE);
+    var pending = storedResult(directory.resolve("pending.body"), "aaa");
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class))).thenReturn(pending);
+
+    // when
+    task.run();
+
+    // then
+    assertThat(directory.resolve("pending.body")).doesNotExist();
+  }
+
+  @Test
+  public void shouldKeepSharedStoredBodyWhileAnotherInstanceCorrelatedIt(@TempDir Path directory)
+      throws Exception {
+    // given two instances polling the same request
+    var requests = new InFlightRequests(mockHttpService);
+    var otherProcessInstanceContext = mock(ProcessInstanceContext.class);
+    var correlatedTask = new HttpRequestTask(requests, mockProcessInstanceContext, context);
+    var discardingTask = new HttpRequestTask(requests, otherProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(otherProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockProcessInstanceContext.correlateWithResult(any())).thenReturn(PUBLISHED);
+    when(otherProcessInstanceContext.correlateWithResult(any()))
+        .thenReturn(CorrelationResult.Failure.ActivationConditionNotMet.INSTANCE);
+    var shared = storedResult(directory.resolve("shared.body"), "aaa");
+    var inFlight = new CountDownLatch(1);
+    var joined = new CountDownLatch(1);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              inFlight.countDown();
+              joined.await(5, TimeUnit.SECONDS);
+              return shared;
+            });
+
+    // when the discarding instance joins the request of the correlated one
+    var leader = new Thread(correlatedTask);
+    leader.start();
+    assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+    var follower = new Thread(discardingTask);
+    follower.start();
+    while (follower.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    joined.countDown();
+    leader.join(5000);
+    follower.join(5000);
+
+    // then
+    verify(mockHttpService, times(1)).executeConnectorRequest(any());
+    verify(mockProcessInstanceContext).correlateWithResult(shared);
+    verify(otherProcessInstanceContext).correlateWithResult(shared);
+    assertThat(directory.resolve("shared.body")).exists();
+  }
+
+  @Test
+  public void shouldDeleteSharedStoredBodyOnceNoInstanceCorrelatedIt(@TempDir Path directory)
+      throws Exception {
+    // given
+    var requests = new InFlightRequests(mockHttpService);
+    var shared = storedResult(directory.resolve("shared.body"), "aaa");
+    var inFlight = new CountDownLatch(1);
+    var joined = new CountDownLatch(1);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              inFlight.countDown();
+              joined.await(5, TimeUnit.SECONDS);
+              return shared;
+            });
+    var follower =
+        new Thread(
+            () -> {
+              try {
+                requests.release(requests.execute(getRequest()), false);
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    // when
+    var leader = Executors.newSingleThreadExecutor();
+    try {
+      var response = leader.submit(() -> requests.execute(getRequest()));
+      assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+      follower.start();
+      while (follower.getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+      joined.countDown();
+      follower.join(5000);
+      var result = response.get(5, TimeUnit.SECONDS);
+
+      // then the file is kept until the last consumer released it
+      assertThat(directory.resolve("shared.body")).exists();
+      requests.release(result, false);
+      assertThat(directory.resolve("shared.body")).doesNotExist();
+    } finally {
+      leader.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldPollAgainAfterFailedCorrelation() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    var response = result(Map.of("etag", "\"v1\""), Map.of("status", "done"));
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(response);
+    when(mockProcessInstanceContext.correlateWithResult(response))
+        .thenThrow(new RuntimeException("correlation failed"))
+        .thenReturn(PUBLISHED);
+
+    // when
+    task.run();
+    task.run();
+
+    // then
+    var requests = ArgumentCaptor.forClass(HttpCommonRequest.class);
+    verify(mockHttpService, times(2)).executeConnectorRequest(requests.capture());
+    assertThat(requests.getAllValues().get(1).getHeaders())
+        .doesNotContainKey(HttpRequestTask.IF_NONE_MATCH);
+    verify(mockProcessInstanceContext, times(2)).correlateWithResult(response);
+  }
+
+  @Test
+  public void shouldBackOffWhileResponseIsUnchanged() throws Exception {
+    // given
+    var interval = adaptiveInterval();
+    HttpRequestTask task =
+        new HttpRequestTask(
+            new InFlightRequests(mockHttpService), mockProcessInstanceContext, context, interval);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockProcessInstanceContext.correlateWithResult(any())).thenReturn(PUBLISHED);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(result(Map.of("etag", "\"v1\""), Map.of("status", "a")))
+        .thenThrow(new ConnectorException(HttpRequestTask.NOT_MODIFIED, "Not Modified"))
+        .thenReturn(result(Map.of(), Map.of("status", "a")))
+        .thenReturn(result(Map.of(), Map.of("status", "b")));
+
+    // when
+    task.run();
+    Duration afterCorrelation = task.nextDelay();
+    task.run();
+    Duration afterNotModified = task.nextDelay();
+    task.run();
+    Duration afterUnchanged = task.nextDelay();
+    task.run();
+    Duration afterChange = task.nextDelay();
+
+    // then
+    assertThat(afterCorrelation).isEqualTo(Duration.ofSeconds(1));
+    assertThat(afterNotModified).isEqualTo(Duration.ofSeconds(2));
+    assertThat(afterUnchanged).isEqualTo(Duration.ofSeconds(4));
+    assertThat(afterChange).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void shouldBackOffWhileActivationConditionIsNotMet() throws Exception {
+    // given
+    var interval = adaptiveInterval();
+    HttpRequestTask task =
+        new HttpRequestTask(
+            new InFlightRequests(mockHttpService), mockProcessInstanceContext, context, interval);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockProcessInstanceContext.correlateWithResult(any()))
+        .thenReturn(CorrelationResult.Failure.ActivationConditionNotMet.INSTANCE)
+        .thenReturn(CorrelationResult.Failure.ActivationConditionNotMet.INSTANCE)
+        .thenReturn(PUBLISHED);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(result(Map.of(), Map.of("status", "pending")))
+        .thenReturn(result(Map.of(), Map.of("status", "processing")))
+        .thenReturn(result(Map.of(), Map.of("status", "done")));
+
+    // when
+    task.run();
+    Duration afterFirstNotMet = task.nextDelay();
+    task.run();
+    Duration afterSecondNotMet = task.nextDelay();
+    task.run();
+    Duration afterSuccess = task.nextDelay();
+
+    // then
+    assertThat(afterFirstNotMet).isEqualTo(Duration.ofSeconds(2));
+    assertThat(afterSecondNotMet).isEqualTo(Duration.ofSeconds(4));
+    assertThat(afterSuccess).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void shouldHonorRetryAfterOfThrottledRequest() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(
+            new InFlightRequests(mockHttpService),
+            mockProcessInstanceContext,
+            context,
+            adaptiveInterval());
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    var tooManyRequests =
+        new HttpResponseException.Builder(
+                429, "Too Many Requests", new HttpHeaders().setRetryAfter("30"))
+            .build();
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenThrow(
+            new ConnectorException(
+                HttpRequestTask.TOO_MANY_REQUESTS, "Too Many Requests", tooManyRequests))
+        .thenThrow(new ConnectorException(HttpRequestTask.SERVICE_UNAVAILABLE, "Unavailable"));
+
+    // when
+    task.run();
+    Duration afterRetryAfter = task.nextDelay();
+    task.run();
+    Duration afterUnavailable = task.nextDelay();
+
+    // then
+    assertThat(afterRetryAfter).isEqualTo(Duration.ofSeconds(30));
+    assertThat(afterUnavailable).isEqualTo(Duration.ofSeconds(4));
+    verify(mockProcessInstanceContext, never()).correlateWithResult(any());
+  }
+
+  @Test
+  public void shouldSlowDownAndRetryThrottledCorrelation() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(
+            new InFlightRequests(mockHttpService),
+            mockProcessInstanceContext,
+            context,
+            adaptiveInterval());
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    var response = result(Map.of(), Map.of("status", "done"));
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(response);
+    when(mockProcessInstanceContext.correlateWithResult(response))
+        .thenReturn(new CorrelationResult.Failure.Throttled(Duration.ofSeconds(10)))
+        .thenReturn(PUBLISHED);
+
+    // when
+    task.run();
+    Duration afterThrottled = task.nextDelay();
+    task.run();
+
+    // then the same response is correlated again
+    assertThat(afterThrottled).isEqualTo(Duration.ofSeconds(10));
+    assertThat(task.nextDelay()).isEqualTo(Duration.ofSeconds(1));
+    verify(mockProcessInstanceContext, times(2)).correlateWithResult(response);
+  }
+
+  @Test
+  public void shouldKeepFixedIntervalWithoutMaximum() throws Exception {
+    // given
+    HttpRequestTask task =
+        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+    when(mockProcessInstanceContext.bind(HttpCommonRequest.class))
+        .thenAnswer(invocation -> getRequest());
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenThrow(new ConnectorException(HttpRequestTask.NOT_MODIFIED, "Not Modified"))
+        .thenThrow(new ConnectorException(HttpRequestTask.TOO_MANY_REQUESTS, "Slow down"));
+
+    // when
+    task.run();
+    task.run();
+
+    // then
+    assertThat(task.nextDelay())
+        .isEqualTo(new PollingIntervalConfiguration().getHttpRequestInterval());
+  }
+
+  private static PollingInterval adaptiveInterval() {
+    var config = new PollingIntervalConfiguration();
+    config.setHttpRequestInterval(Duration.ofSeconds(1));
+    config.setMaxHttpRequestInterval(Duration.ofMinutes(1));
+    // no jitter
+    return new PollingInterval(config, () -> 0.5);
+  }
+
+  private static HttpCommonRequest getRequest() {
+    var request = new HttpCommonRequest();
+    request.setMethod(HttpMethod.GET);
+    request.setUrl("https://example.com/orders/1");
+    request.setHeaders(Map.of("Accept", "application/json"));
+    return request;
+  }
+
+  private static HttpCommonResult result(Map<String, Object> headers, Object body) {
+    var result = new HttpCommonResult();
+    result.setStatus(200);
+    result.setHeaders(headers);
+    result.setBody(body);
+    return result;
+  }
+
+  private static HttpCommonResult storedResult(Path file, String sha256) throws IOException {
+    Files.writeString(file, sha256);
+    var result = result(Map.of(), null);
+    result.setBodyFile(new HttpResponseFile(file.toString(), 3, "application/json", null, sha256));
+    return result;
   }
 
   public static InboundConnectorContextBuilder getContextBuilder() {
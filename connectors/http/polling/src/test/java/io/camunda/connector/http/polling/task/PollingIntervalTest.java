@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+import org.junit.jupiter.api.Test;
+
+public class PollingIntervalTest {
+
+  @Test
+  public void shouldDoubleUpToMaximumWhileUnchanged() {
+    // given
+    var interval = adaptive(() -> 0.5);
+
+    // when
+    interval.unchanged();
+    interval.unchanged();
+    var doubledTwice = interval.next();
+    for (int i = 0; i < 10; i++) {
+      interval.unchanged();
+    }
+
+    // then
+    assertThat(doubledTwice).isEqualTo(Duration.ofSeconds(4));
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void shouldResetToMinimumOnChange() {
+    // given
+    var interval = adaptive(() -> 0.5);
+    interval.unchanged();
+    interval.unchanged();
+
+    // when
+    interval.changed();
+
+    // then
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void shouldVaryDelayWithinJitterBounds() {
+    // given
+    var lowest = adaptive(() -> 0.0);
+    var highest = adaptive(() -> 1.0);
+
+    // then
+    assertThat(lowest.next()).isEqualTo(Duration.ofMillis(900));
+    assertThat(highest.next()).isEqualTo(Duration.ofMillis(1100));
+    assertThat(lowest.current()).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void shouldWaitForRetryAfterOnce() {
+    // given
+    var interval = adaptive(() -> 0.5);
+
+    // when
+    interval.throttled(Duration.ofSeconds(20));
+
+    // then
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(20));
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(2));
+  }
+
+  @Test
+  public void shouldIgnoreShorterRetryAfter() {
+    // given
+    var interval = adaptive(() -> 0.5);
+
+    // when
+    interval.throttled(Duration.ofMillis(100));
+
+    // then
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(2));
+  }
+
+  @Test
+  public void shouldKeepFixedIntervalWithoutMaximum() {
+    // given
+    var config = new PollingIntervalConfiguration();
+    config.setHttpRequestInterval(Duration.ofSeconds(1));
+    var interval = new PollingInterval(config, () -> 1.0);
+
+    // when
+    interval.unchanged();
+    interval.throttled(Duration.ofMinutes(5));
+
+    // then
+    assertThat(interval.next()).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  private static PollingInterval adaptive(DoubleSupplier random) {
+    var config = new PollingIntervalConfiguration();
+    config.setHttpRequestInterval(Duration.ofSeconds(1));
+    config.setMaxHttpRequestInterval(Duration.ofSeconds(30));
+    return new PollingInterval(config, random);
+  }
+}
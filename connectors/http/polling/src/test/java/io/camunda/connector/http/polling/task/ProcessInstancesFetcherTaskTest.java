@@ -7,9 +7,7 @@
 package io.camunda.connector.http.polling.task;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,14 +17,11 @@ import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.http.base.services.HttpService;
 import io.camunda.connector.http.polling.model.PollingIntervalConfiguration;
-import io.camunda.connector.http.polling.service.SharedExecutorService;
+import io.camunda.connector.http.polling.service.PollingTimerWheel;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,11 +35,11 @@ public class ProcessInstancesFetcherTaskTest {
 
   @Mock private InboundIntermediateConnectorContext mockContext;
   @Mock private HttpService mockHttpService;
-  @Mock private SharedExecutorService mockExecutorService;
   @Mock private ScheduledExecutorService mockScheduledExecutorService;
   @Mock private ProcessInstanceContext mockProcessInstanceContext1;
   @Mock private ProcessInstanceContext mockProcessInstanceContext2;
-  @Mock private ScheduledFuture<?> mockScheduledFuture;
+  @Mock private PollingTimerWheel mockTimerWheel;
+  @Mock private PollingTimerWheel.Timeout mockTimeout;
   @Mock private InboundConnectorDefinition mockInboundConnectorDefinition;
 
   @Captor private ArgumentCaptor<Runnable> runnableCaptor;
@@ -60,31 +55,28 @@ public class ProcessInstancesFetcherTaskTest {
     when(mockContext.getDefinition()).thenReturn(mockInboundConnectorDefinition);
     when(mockInboundConnectorDefinition.elementId()).thenReturn("someElementId");
     when(mockContext.bindProperties(PollingIntervalConfiguration.class)).thenReturn(config);
-    when(mockExecutorService.getExecutorService()).thenReturn(mockScheduledExecutorService);
-    task = new ProcessInstancesFetcherTask(mockContext, mockHttpService, mockExecutorService);
+    task =
+        new ProcessInstancesFetcherTask(
+            mockContext, mockHttpService, mockScheduledExecutorService, mockTimerWheel);
   }
 
   @Test
   public void shouldAddNewTasks() {
     // given
     when(mockContext.getProcessInstanceContexts()).thenReturn(List.of(mockProcessInstanceContext1));
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    when(mockTimerWheel.scheduleWithDynamicDelay(any(), any(), any())).thenReturn(mockTimeout);
     // when
     task.run();
     // then
-    verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    verify(mockTimerWheel, times(1))
+        .scheduleWithDynamicDelay(any(HttpRequestTask.class), eq(Duration.ZERO), any());
   }
 
   @Test
   public void shouldSkipExistingTasks() {
     // given
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    when(mockTimerWheel.scheduleWithDynamicDelay(any(), any(), any())).thenReturn(mockTimeout);
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(Collections.singletonList(mockProcessInstanceContext1));
     // when run twice
@@ -92,8 +84,8 @@ public class ProcessInstancesFetcherTaskTest {
     task.run();
 
     // then schedule only once
-    verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    verify(mockTimerWheel, times(1))
+        .scheduleWithDynamicDelay(any(HttpRequestTask.class), eq(Duration.ZERO), any());
   }
 
   @Test
@@ -102,9 +94,7 @@ public class ProcessInstancesFetcherTaskTest {
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
     when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
 
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    when(mockTimerWheel.scheduleWithDynamicDelay(any(), any(), any())).thenReturn(mockTimeout);
 
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(
@@ -113,11 +103,6 @@ public class ProcessInstancesFetcherTaskTest {
                 mockProcessInstanceContext2)) // Initially two active tasks
         .thenReturn(List.of(mockProcessInstanceContext1)); // Then one becomes inactive
 
-    // Create a map of running tasks
-    ConcurrentHashMap<String, ScheduledFuture<?>> runningTasks = new ConcurrentHashMap<>();
-    runningTasks.put("someKey1", mockScheduledFuture);
-    runningTasks.put("someKey2", mockScheduledFuture);
-
     // Run task to populate the tasks initially
     task.run();
 
@@ -125,7 +110,7 @@ public class ProcessInstancesFetcherTaskTest {
     task.run();
 
     // Then verify that the task was canceled
-    verify(mockScheduledFuture, times(1)).cancel(true);
+    verify(mockTimeout, times(1)).cancel();
   }
 
   @Test
@@ -135,9 +120,7 @@ public class ProcessInstancesFetcherTaskTest {
     when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    when(mockTimerWheel.scheduleWithDynamicDelay(any(), any(), any())).thenReturn(mockTimeout);
 
     // Run task to add new tasks
     task.run();
@@ -146,6 +129,6 @@ public class ProcessInstancesFetcherTaskTest {
     task.stop();
 
     // then
-    verify(mockScheduledFuture, times(2)).cancel(true);
+    verify(mockTimeout, times(2)).cancel();
   }
 }
@@ -22,12 +22,22 @@ import com.fasterxml.jackson.module.scala.DefaultScalaModule$;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
+import io.camunda.connector.api.tracing.ConnectorTracing;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,12 +51,15 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetOutOfRangeException;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class KafkaConnectorConsumer {
   private static final Logger LOG = LoggerFactory.getLogger(KafkaConnectorConsumer.class);
 
+  static final String CONSUMER_LAG_METRIC = "kafka.consumer-lag";
+
   private final InboundConnectorContext context;
 
   private final ExecutorService executorService;
@@ -59,6 +72,9 @@ public class KafkaConnectorConsumer {
 
   private Health consumerStatus = Health.up();
 
+  // updated by the consumer loop, read by the metrics of the runtime
+  private final Map<TopicPartition, Long> consumerLag = new ConcurrentHashMap<>();
+
   public static ObjectMapper objectMapper =
       new ObjectMapper()
           .registerModule(new Jdk8Module())
@@ -82,7 +98,12 @@ public class KafkaConnectorConsumer {
     this.consumerCreatorFunction = consumerCreatorFunction;
     this.context = connectorContext;
     this.elementProps = elementProps;
-    this.executorService = Executors.newSingleThreadExecutor();
+    // prefer the executor shared by the runtime over a dedicated thread per consumer
+    this.executorService =
+        connectorContext
+            .getExecutor()
+            .map(ExecutorService.class::cast)
+            .orElseGet(Executors::newSingleThreadExecutor);
   }
 
   public void startConsumer() {
@@ -106,6 +127,7 @@ public class KafkaConnectorConsumer {
     try {
       this.consumer = consumerCreatorFunction.apply(getKafkaProperties(elementProps, context));
       var partitions = assignTopicPartitions(consumer, elementProps.getTopic().getTopicName());
+      context.getMetrics().ifPresent(metrics -> registerConsumerLagGauges(metrics, partitions));
       Optional.ofNullable(elementProps.getOffsets())
           .ifPresent(offsets -> seekOffsets(consumer, partitions, offsets));
       reportUp();
@@ -128,6 +150,26 @@ public class KafkaConnectorConsumer {
     return topicPartitions;
   }
 
+  private void registerConsumerLagGauges(
+      InboundConnectorMetrics metrics, List<TopicPartition> partitions) {
+    for (TopicPartition partition : partitions) {
+      metrics.registerGauge(
+          CONSUMER_LAG_METRIC,
+          Map.of("topic", partition.topic(), "partition", String.valueOf(partition.partition())),
+          () -> consumerLag.getOrDefault(partition, 0L));
+    }
+  }
+
+  private void updateConsumerLag() {
+    for (TopicPartition partition : consumer.assignment()) {
+      // the lag is only known once the consumer fetched from the partition
+      OptionalLong lag = consumer.currentLag(partition);
+      if (lag != null && lag.isPresent()) {
+        consumerLag.put(partition, lag.getAsLong());
+      }
+    }
+  }
+
   private void seekOffsets(
       Consumer<Object, ?> consumer, List<TopicPartition> partitions, List<Long> offsets) {
     if (partitions.size() != offsets.size()) {
@@ -165,13 +207,27 @@ public class KafkaConnectorConsumer {
     if (!records.isEmpty()) {
       this.consumer.commitSync();
     }
+    context.getMetrics().ifPresent(metrics -> updateConsumerLag());
   }
 
   private void handleMessage(ConsumerRecord<Object, Object> record) {
     LOG.trace("Kafka message received: key = {}, value = {}", record.key(), record.value());
     var reader = avroObjectReader != null ? avroObjectReader : objectMapper.reader();
     var mappedMessage = convertConsumerRecordToKafkaInboundMessage(record, reader);
-    this.context.correlate(mappedMessage);
+    // continue the trace of the producer, if it propagated one
+    var parentContext = ConnectorTracing.extract(record.headers(), KafkaHeadersGetter.INSTANCE);
+    var span =
+        ConnectorTracing.messagingSpanBuilder(
+                record.topic() + " process", SpanKind.CONSUMER, "kafka", record.topic())
+            .setParent(parentContext)
+            .startSpan();
+    ConnectorTracing.runInSpan(span, () -> this.context.correlate(mappedMessage));
+    if (record.timestamp() >= 0) {
+      context
+          .getMetrics()
+          .ifPresent(
+              metrics -> metrics.recordEventLatency(Instant.ofEpochMilli(record.timestamp())));
+    }
   }
 
   public void stopConsumer() throws ExecutionException, InterruptedException {
@@ -215,4 +271,26 @@ public class KafkaConnectorConsumer {
           error);
     }
   }
+
+  private enum KafkaHeadersGetter implements TextMapGetter<Headers> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(Headers headers) {
+      var keys = new ArrayList<String>();
+      headers.forEach(header -> keys.add(header.key()));
+      return keys;
+    }
+
+    @Override
+    public String get(Headers headers, String key) {
+      if (headers == null) {
+        return null;
+      }
+      var header = headers.lastHeader(key);
+      return header == null || header.value() == null
+          ? null
+          : new String(header.value(), StandardCharsets.UTF_8);
+    }
+  }
 }
@@ -16,8 +16,10 @@ import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.kafka.outbound.model.KafkaConnectorRequest;
 import io.camunda.connector.kafka.outbound.model.KafkaConnectorResponse;
+import io.opentelemetry.api.trace.SpanKind;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Properties;
@@ -30,6 +32,7 @@ import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Headers;
 
 @OutboundConnector(
     name = "Kafka Producer",
@@ -81,8 +84,7 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
     try {
       ProducerRecord<String, Object> producerRecord = createProducerRecord(request);
       addHeadersToProducerRecord(producerRecord, request.getHeaders());
-      Future<RecordMetadata> kafkaResponse = producer.send(producerRecord);
-      return constructKafkaConnectorResponse(kafkaResponse.get(45, TimeUnit.SECONDS));
+      return send(producer, producerRecord);
     } catch (Exception e) {
       throw new ConnectorException("FAIL", "Kafka Producer execution exception", e);
     } finally {
@@ -90,6 +92,30 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
     }
   }
 
+  private KafkaConnectorResponse send(
+      Producer<String, Object> producer, ProducerRecord<String, Object> producerRecord)
+      throws Exception {
+    var span =
+        ConnectorTracing.messagingSpanBuilder(
+                producerRecord.topic() + " publish",
+                SpanKind.PRODUCER,
+                "kafka",
+                producerRecord.topic())
+            .startSpan();
+    return ConnectorTracing.inSpan(
+        span,
+        () -> {
+          // propagate the trace to the consumers of the record
+          ConnectorTracing.inject(producerRecord.headers(), KafkaConnectorFunction::setHeader);
+          Future<RecordMetadata> kafkaResponse = producer.send(producerRecord);
+          return constructKafkaConnectorResponse(kafkaResponse.get(45, TimeUnit.SECONDS));
+        });
+  }
+
+  private static void setHeader(Headers headers, String key, String value) {
+    headers.remove(key).add(key, value.getBytes(StandardCharsets.UTF_8));
+  }
+
   private ProducerRecord<String, Object> createProducerRecord(final KafkaConnectorRequest request)
       throws Exception {
     Object transformedValue = null;
@@ -17,11 +17,15 @@ import com.rabbitmq.client.ShutdownSignalException;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.tracing.ConnectorTracing;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.rabbitmq.supplier.ObjectMapperSupplier;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.propagation.TextMapGetter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import org.apache.commons.text.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +36,10 @@ public class RabbitMqConsumer extends DefaultConsumer {
 
   private final InboundConnectorContext context;
 
+  // No backlog gauge: deliveries are handled one at a time and acked before the next one, so the
+  // consumer never holds more than one of them. Deliveries prefetched by the client are not visible
+  // here, and the queue depth needs a blocking call to the broker. The broker reports both per
+  // queue.
   public RabbitMqConsumer(Channel channel, InboundConnectorContext context) {
     super(channel);
     this.context = context;
@@ -45,8 +53,9 @@ public class RabbitMqConsumer extends DefaultConsumer {
     LOGGER.debug("Received AMQP message with delivery tag {}", envelope.getDeliveryTag());
     try {
       RabbitMqInboundResult variables = prepareVariables(consumerTag, properties, body);
-      context.correlate(variables);
+      correlate(envelope, properties, variables);
       getChannel().basicAck(envelope.getDeliveryTag(), false);
+      recordEventLatency(properties);
     } catch (ConnectorInputException e) {
       LOGGER.warn("NACK (no requeue) - failed to parse AMQP message body: {}", e.getMessage());
       getChannel().basicReject(envelope.getDeliveryTag(), false);
@@ -56,6 +65,31 @@ public class RabbitMqConsumer extends DefaultConsumer {
     }
   }
 
+  private void correlate(
+      Envelope envelope, BasicProperties properties, RabbitMqInboundResult variables) {
+    // continue the trace of the publisher, if it propagated one in the message headers
+    var parentContext =
+        ConnectorTracing.extract(
+            properties == null ? null : properties.getHeaders(), AmqpHeadersGetter.INSTANCE);
+    var span =
+        ConnectorTracing.messagingSpanBuilder(
+                envelope.getRoutingKey() + " process",
+                SpanKind.CONSUMER,
+                "rabbitmq",
+                envelope.getExchange())
+            .setParent(parentContext)
+            .startSpan();
+    ConnectorTracing.runInSpan(span, () -> context.correlate(variables));
+  }
+
+  private void recordEventLatency(BasicProperties properties) {
+    // the timestamp property is optional and set by the publisher
+    if (properties != null && properties.getTimestamp() != null) {
+      var timestamp = properties.getTimestamp().toInstant();
+      context.getMetrics().ifPresent(metrics -> metrics.recordEventLatency(timestamp));
+    }
+  }
+
   @Override
   public void handleCancel(String consumerTag) {
     LOGGER.info("Consumer cancelled: {}", consumerTag);
@@ -122,4 +156,23 @@ public class RabbitMqConsumer extends DefaultConsumer {
     }
     return true;
   }
+
+  private enum AmqpHeadersGetter implements TextMapGetter<Map<String, Object>> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(Map<String, Object> headers) {
+      return headers.keySet();
+    }
+
+    @Override
+    public String get(Map<String, Object> headers, String key) {
+      if (headers == null) {
+        return null;
+      }
+      // AMQP header values are usually delivered as LongString
+      var value = headers.get(key);
+      return value == null ? null : value.toString();
+    }
+  }
 }
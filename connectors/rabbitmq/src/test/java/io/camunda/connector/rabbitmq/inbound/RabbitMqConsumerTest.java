@@ -12,6 +12,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.rabbitmq.client.AMQP.BasicProperties;
 import com.rabbitmq.client.Channel;
@@ -19,11 +20,15 @@ import com.rabbitmq.client.Envelope;
 import com.rabbitmq.client.ShutdownSignalException;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.InboundConnectorMetrics;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.test.inbound.InboundConnectorContextBuilder.TestInboundConnectorContext;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -188,6 +193,27 @@ public class RabbitMqConsumerTest extends InboundBaseTest {
     }
   }
 
+  @Test
+  void consumer_shouldReportMetrics() throws IOException {
+    // Given a runtime that collects metrics
+    var mockContext = mock(InboundConnectorContext.class);
+    var metrics = mock(InboundConnectorMetrics.class);
+    when(mockContext.getMetrics()).thenReturn(Optional.of(metrics));
+    var consumer = new RabbitMqConsumer(mockChannel, mockContext);
+
+    Envelope envelope = new Envelope(1, false, "exchange", "routingKey");
+    var timestamp = Instant.parse("2024-01-01T10:00:00Z");
+    BasicProperties properties =
+        new BasicProperties.Builder().timestamp(Date.from(timestamp)).build();
+
+    // When
+    consumer.handleDelivery("consumerTag", envelope, properties, "plaintext".getBytes());
+
+    // Then
+    verify(metrics).recordEventLatency(timestamp);
+    verify(mockChannel).basicAck(1, false);
+  }
+
   @Test
   void consumer_shouldNackAndRequeue_UnexpectedError() throws IOException {
     // Given that correlation throws random exception
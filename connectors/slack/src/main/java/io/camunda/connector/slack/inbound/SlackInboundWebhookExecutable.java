@@ -6,7 +6,6 @@
  */
 package io.camunda.connector.slack.inbound;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 import io.camunda.connector.api.annotation.InboundConnector;
@@ -17,20 +16,14 @@ import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
 import io.camunda.connector.api.inbound.webhook.WebhookHttpResponse;
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
 import io.camunda.connector.api.inbound.webhook.WebhookResult;
-import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.slack.inbound.model.SlackWebhookProcessingResult;
 import io.camunda.connector.slack.inbound.model.SlackWebhookProperties;
 import io.camunda.connector.slack.inbound.model.SlackWebhookProperties.SlackConnectorPropertiesWrapper;
 import java.io.IOException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.time.ZonedDateTime;
-import java.util.Arrays;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 @InboundConnector(name = "Slack Inbound", type = "io.camunda:slack-webhook:1")
 public class SlackInboundWebhookExecutable
@@ -45,24 +38,14 @@ public class SlackInboundWebhookExecutable
   protected static final String COMMAND_RESPONSE_TEXT_KEY = "text";
   protected static final String COMMAND_RESPONSE_TEXT_DEFAULT_VALUE = "Command executed";
 
-  private final ObjectMapper objectMapper;
   private SlackWebhookProperties props;
 
-  public SlackInboundWebhookExecutable() {
-    this(ConnectorsObjectMapperSupplier.getCopy());
-  }
-
-  public SlackInboundWebhookExecutable(final ObjectMapper mapper) {
-    this.objectMapper = mapper;
-  }
-
   @Override
   public WebhookResult triggerWebhook(WebhookProcessingPayload webhookProcessingPayload)
       throws Exception {
     verifySlackRequestAuthentic(webhookProcessingPayload);
 
-    Map bodyAsMap =
-        bodyAsMap(webhookProcessingPayload.headers(), webhookProcessingPayload.rawBody());
+    Map<String, Object> bodyAsMap = webhookProcessingPayload.body();
 
     // Command detected
     if (bodyAsMap.containsKey(FORM_VALUE_COMMAND)) {
@@ -96,44 +79,24 @@ public class SlackInboundWebhookExecutable
         .orElse(stringObjectMap -> null)
         .apply(
             Map.of(
-                "body",
-                bodyAsMap(payload.headers(), payload.rawBody()),
-                "headers",
-                payload.headers(),
-                "params",
-                payload.params()));
-  }
-
-  private Map bodyAsMap(Map<String, String> headers, byte[] rawBody) {
-    var caseInsensitiveMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    caseInsensitiveMap.putAll(headers);
-    String contentTypeHeader =
-        caseInsensitiveMap.getOrDefault(HttpHeaders.CONTENT_TYPE, "").toString();
-    if (MediaType.FORM_DATA.toString().equalsIgnoreCase(contentTypeHeader)) {
-      String bodyAsString =
-          URLDecoder.decode(new String(rawBody, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
-      return Arrays.stream(bodyAsString.split("&"))
-          .filter(Objects::nonNull)
-          .map(param -> param.split("="))
-          .collect(Collectors.toMap(param -> param[0], param -> param.length == 1 ? "" : param[1]));
-    } else {
-      // Do our best to parse to JSON (throws exception otherwise)
-      try {
-        return objectMapper.readValue(rawBody, Map.class);
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }
+                "body", payload.body(), "headers", payload.headers(), "params", payload.params()));
   }
 
   private void verifySlackRequestAuthentic(WebhookProcessingPayload webhookProcessingPayload) {
-    if (!props
-        .signatureVerifier()
-        .isValid(
-            webhookProcessingPayload.headers().get(HEADER_SLACK_REQUEST_TIMESTAMP),
-            new String(webhookProcessingPayload.rawBody(), StandardCharsets.UTF_8),
-            webhookProcessingPayload.headers().get(HEADER_SLACK_SIGNATURE),
-            ZonedDateTime.now().toInstant().toEpochMilli())) {
+    boolean authentic;
+    try (var body = webhookProcessingPayload.rawBodyStream()) {
+      authentic =
+          props
+              .signatureVerifier()
+              .isValid(
+                  webhookProcessingPayload.headers().get(HEADER_SLACK_REQUEST_TIMESTAMP),
+                  body,
+                  webhookProcessingPayload.headers().get(HEADER_SLACK_SIGNATURE),
+                  ZonedDateTime.now().toInstant().toEpochMilli());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read the request body", e);
+    }
+    if (!authentic) {
       throw new RuntimeException("HMAC signature did not match");
     }
   }
@@ -6,8 +6,8 @@
  */
 package io.camunda.connector.slack.inbound.model;
 
-import com.slack.api.app_backend.SlackSignature;
 import io.camunda.connector.api.inbound.webhook.VerifiableWebhook;
+import io.camunda.connector.slack.inbound.SlackSignatureVerifier;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -23,8 +23,8 @@ public record SlackWebhookProperties(
         wrapper.inbound.verificationExpression);
   }
 
-  public SlackSignature.Verifier signatureVerifier() {
-    return new SlackSignature.Verifier(new SlackSignature.Generator(this.slackSigningSecret));
+  public SlackSignatureVerifier signatureVerifier() {
+    return new SlackSignatureVerifier(this.slackSigningSecret);
   }
 
   public record SlackConnectorPropertiesWrapper(SlackWebhookProperties inbound) {}
@@ -99,6 +99,8 @@ class SlackInboundWebhookExecutableTest {
     when(payload.method()).thenReturn("POST");
     when(payload.headers()).thenReturn(headers);
     when(payload.rawBody()).thenReturn(ARBITRARY_SLACK_REQUEST.getBytes(UTF_8));
+    when(payload.rawBodyStream()).thenCallRealMethod();
+    when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     final var result = testObject.triggerWebhook(payload);
@@ -123,6 +125,7 @@ class SlackInboundWebhookExecutableTest {
     when(payload.method()).thenReturn("POST");
     when(payload.headers()).thenReturn(headers);
     when(payload.rawBody()).thenReturn(ARBITRARY_SLACK_REQUEST.getBytes(UTF_8));
+    when(payload.rawBodyStream()).thenCallRealMethod();
 
     testObject.activate(ctx);
     assertThrows(Exception.class, () -> testObject.triggerWebhook(payload));
@@ -147,6 +150,8 @@ class SlackInboundWebhookExecutableTest {
     when(payload.method()).thenReturn("POST");
     when(payload.headers()).thenReturn(headers);
     when(payload.rawBody()).thenReturn(URL_VERIFICATION_REQUEST.getBytes(UTF_8));
+    when(payload.rawBodyStream()).thenCallRealMethod();
+    when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     final var result = testObject.verify(payload);
@@ -172,6 +177,8 @@ class SlackInboundWebhookExecutableTest {
     when(payload.method()).thenReturn("POST");
     when(payload.headers()).thenReturn(headers);
     when(payload.rawBody()).thenReturn(SLASH_COMMAND.getBytes(UTF_8));
+    when(payload.rawBodyStream()).thenCallRealMethod();
+    when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     final var result = testObject.triggerWebhook(payload);
@@ -201,6 +208,8 @@ class SlackInboundWebhookExecutableTest {
     when(payload.method()).thenReturn("POST");
     when(payload.headers()).thenReturn(headers);
     when(payload.rawBody()).thenReturn(SLASH_COMMAND.getBytes(UTF_8));
+    when(payload.rawBodyStream()).thenCallRealMethod();
+    when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     final var result = testObject.triggerWebhook(payload);
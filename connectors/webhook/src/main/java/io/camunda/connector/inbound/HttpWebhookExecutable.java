@@ -29,11 +29,10 @@ import io.camunda.connector.inbound.model.WebhookConnectorProperties;
 import io.camunda.connector.inbound.model.WebhookConnectorProperties.WebhookConnectorPropertiesWrapper;
 import io.camunda.connector.inbound.model.WebhookProcessingResultImpl;
 import io.camunda.connector.inbound.signature.HMACAlgoCustomerChoice;
-import io.camunda.connector.inbound.signature.HMACSignatureValidator;
+import io.camunda.connector.inbound.signature.HMACSignatureVerifier;
 import io.camunda.connector.inbound.signature.strategy.HMACEncodingStrategy;
 import io.camunda.connector.inbound.signature.strategy.HMACEncodingStrategyFactory;
 import io.camunda.connector.inbound.utils.HttpMethods;
-import io.camunda.connector.inbound.utils.HttpWebhookUtil;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.io.IOException;
 import java.security.InvalidKeyException;
@@ -50,6 +49,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
 
   private WebhookConnectorProperties props;
   private WebhookAuthorizationHandler<?> authChecker;
+  private volatile HMACSignatureVerifier hmacSignatureVerifier;
 
   private InboundConnectorContext context;
 
@@ -84,10 +84,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
 
     response.setRequest(
         new MappedHttpRequest(
-            HttpWebhookUtil.transformRawBodyToMap(
-                payload.rawBody(), HttpWebhookUtil.extractContentType(payload.headers())),
-            payload.headers(),
-            payload.params()));
+            payload.body(), payload.headers(), payload.params(), payload.pathParams()));
 
     if (props.responseBodyExpression() != null) {
       response.setResponseBodyExpression(props.responseBodyExpression());
@@ -101,8 +98,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
     if (shouldValidateHmac()) {
       HMACEncodingStrategy strategy =
           HMACEncodingStrategyFactory.getStrategy(props.hmacScopes(), payload.method());
-      byte[] bytesToSign = strategy.getBytesToSign(payload);
-      return validateHmacSignature(bytesToSign, payload);
+      return hmacSignatureVerifier().isRequestValid(strategy, payload);
     }
     return true;
   }
@@ -113,16 +109,18 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
     return enabled.name().equals(shouldValidateHmac);
   }
 
-  private boolean validateHmacSignature(byte[] signatureData, WebhookProcessingPayload payload)
-      throws NoSuchAlgorithmException, InvalidKeyException, IOException {
-    final HMACSignatureValidator hmacSignatureValidator =
-        new HMACSignatureValidator(
-            signatureData,
-            payload.headers(),
-            props.hmacHeader(),
-            props.hmacSecret(),
-            HMACAlgoCustomerChoice.valueOf(props.hmacAlgorithm()));
-    return hmacSignatureValidator.isRequestValid();
+  private HMACSignatureVerifier hmacSignatureVerifier()
+      throws NoSuchAlgorithmException, InvalidKeyException {
+    var verifier = hmacSignatureVerifier;
+    if (verifier == null) {
+      verifier =
+          new HMACSignatureVerifier(
+              props.hmacHeader(),
+              props.hmacSecret(),
+              HMACAlgoCustomerChoice.valueOf(props.hmacAlgorithm()));
+      hmacSignatureVerifier = verifier;
+    }
+    return verifier;
   }
 
   @Override
@@ -130,6 +128,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
     this.context = context;
     var wrappedProps = context.bindProperties(WebhookConnectorPropertiesWrapper.class);
     props = new WebhookConnectorProperties(wrappedProps);
+    hmacSignatureVerifier = null;
     context.reportHealth(Health.up());
     authChecker = WebhookAuthorizationHandler.getHandlerForAuth(props.auth());
   }
@@ -149,13 +148,13 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable, Verifi
                       "request",
                       Map.of(
                           "body",
-                          HttpWebhookUtil.transformRawBodyToMap(
-                              payload.rawBody(),
-                              HttpWebhookUtil.extractContentType(payload.headers())),
+                          payload.body(),
                           "headers",
                           payload.headers(),
                           "params",
-                          payload.params())));
+                          payload.params(),
+                          "pathParams",
+                          payload.pathParams())));
     }
     return result;
   }
@@ -12,7 +12,6 @@ import io.camunda.connector.api.inbound.webhook.WebhookTriggerResultContext;
 import io.camunda.connector.inbound.authorization.AuthorizationResult.Failure.InvalidCredentials;
 import io.camunda.connector.inbound.authorization.AuthorizationResult.Success;
 import io.camunda.connector.inbound.model.WebhookAuthorization.ApiKeyAuth;
-import io.camunda.connector.inbound.utils.HttpWebhookUtil;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,10 +29,7 @@ final class ApiKeyAuthHandler extends WebhookAuthorizationHandler<ApiKeyAuth> {
       WebhookTriggerResultContext result =
           new WebhookTriggerResultContext(
               new MappedHttpRequest(
-                  HttpWebhookUtil.transformRawBodyToMap(
-                      payload.rawBody(), HttpWebhookUtil.extractContentType(payload.headers())),
-                  payload.headers(),
-                  payload.params()),
+                  payload.body(), payload.headers(), payload.params(), payload.pathParams()),
               Map.of());
 
       String apiKeyValue = expectedAuthorization.apiKeyLocator().apply(result);
@@ -16,6 +16,7 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,11 +29,15 @@ import io.camunda.connector.inbound.model.JWTProperties;
 import io.camunda.connector.inbound.model.WebhookAuthorization.JwtAuth;
 import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,20 +47,39 @@ final class JWTAuthHandler extends WebhookAuthorizationHandler<JwtAuth> {
 
   private final JwkProvider jwkProvider;
   private final ObjectMapper objectMapper;
+  private final Map<VerifierKey, CachedVerifier> verifiers = new ConcurrentHashMap<>();
+  private final JWTValidationCache validationCache;
 
   public JWTAuthHandler(JwtAuth authorization, JwkProvider jwkProvider, ObjectMapper objectMapper) {
+    this(authorization, jwkProvider, objectMapper, Clock.systemUTC());
+  }
+
+  JWTAuthHandler(
+      JwtAuth authorization, JwkProvider jwkProvider, ObjectMapper objectMapper, Clock clock) {
     super(authorization);
     this.jwkProvider = jwkProvider;
     this.objectMapper = objectMapper;
+    Duration tokenCacheDuration = authorization.jwt().tokenCacheDuration();
+    this.validationCache =
+        tokenCacheDuration == null || tokenCacheDuration.isNegative() || tokenCacheDuration.isZero()
+            ? null
+            : new JWTValidationCache(
+                tokenCacheDuration, JWTValidationCache.DEFAULT_MAX_ENTRIES, clock);
   }
 
   @Override
   public AuthorizationResult checkAuthorization(WebhookProcessingPayload payload) {
 
     JWTProperties jwtProperties = expectedAuthorization.jwt();
-    Map<String, String> headers = payload.headers();
+    final String jwtToken =
+        JWTAuthHandler.extractJWTFomHeader(payload.headers())
+            .orElseThrow(() -> new RuntimeException("Cannot extract JWT from header!"));
+    if (validationCache != null && validationCache.isValid(jwtToken)) {
+      LOGGER.debug("JWT auth was successful, token validated before");
+      return Success.INSTANCE;
+    }
 
-    Optional<DecodedJWT> decodedJWT = getDecodedVerifiedJWT(headers, jwkProvider);
+    Optional<DecodedJWT> decodedJWT = getDecodedVerifiedJWT(jwtToken);
     if (decodedJWT.isEmpty()) {
       return JWT_AUTH_FAILED_RESULT;
     }
@@ -68,17 +92,16 @@ final class JWTAuthHandler extends WebhookAuthorizationHandler<JwtAuth> {
         return JWT_AUTH_MISSING_PERMISSIONS_RESULT;
       }
     }
+    if (validationCache != null) {
+      validationCache.put(jwtToken, decodedJWT.get().getExpiresAtAsInstant());
+    }
     LOGGER.debug("JWT auth was successful");
     return Success.INSTANCE;
   }
 
-  private static Optional<DecodedJWT> getDecodedVerifiedJWT(
-      Map<String, String> headers, JwkProvider jwkProvider) {
-    final String jwtToken =
-        JWTAuthHandler.extractJWTFomHeader(headers)
-            .orElseThrow(() -> new RuntimeException("Cannot extract JWT from header!"));
+  private Optional<DecodedJWT> getDecodedVerifiedJWT(String jwtToken) {
     try {
-      return Optional.of(JWTAuthHandler.verifyJWT(jwtToken, jwkProvider));
+      return Optional.of(verifyJWT(jwtToken));
     } catch (JWTDecodeException ex) {
       LOGGER.warn("Failed to decode JWT token! Cause: " + ex.getCause());
       return Optional.empty();
@@ -124,34 +147,37 @@ final class JWTAuthHandler extends WebhookAuthorizationHandler<JwtAuth> {
         .map(authorizationHeader -> authorizationHeader.replace("Bearer", "").trim());
   }
 
-  private static DecodedJWT verifyJWT(String jwtToken, JwkProvider jwkProvider)
+  private DecodedJWT verifyJWT(String jwtToken)
       throws SignatureVerificationException, TokenExpiredException {
-    DecodedJWT verifiedJWT =
-        Optional.ofNullable(JWT.decode(jwtToken))
-            .map(
-                decodedJWT -> {
-                  try {
-                    return jwkProvider.get(decodedJWT.getKeyId());
-                  } catch (JwkException e) {
-                    LOGGER.warn("Cannot find JWK for the JWT token: " + e.getMessage());
-                    throw new RuntimeException(e);
-                  }
-                })
-            .map(
-                jwk -> {
-                  try {
-                    return JWT.require(getAlgorithm(jwk)).build();
-                  } catch (InvalidPublicKeyException e) {
-                    LOGGER.warn("Token verification failed: " + e.getMessage());
-                    throw new RuntimeException(e);
-                  }
-                })
-            .map(jwtVerifier -> jwtVerifier.verify(jwtToken))
-            .orElseThrow(() -> new RuntimeException("Cannot decode jwtToken!"));
+    DecodedJWT decodedJWT = JWT.decode(jwtToken);
+    Jwk jwk;
+    try {
+      jwk = jwkProvider.get(decodedJWT.getKeyId());
+    } catch (JwkException e) {
+      LOGGER.warn("Cannot find JWK for the JWT token: " + e.getMessage());
+      throw new RuntimeException(e);
+    }
+    DecodedJWT verifiedJWT = getVerifier(jwk).verify(decodedJWT);
     LOGGER.debug("Token verified successfully!");
     return verifiedJWT;
   }
 
+  private JWTVerifier getVerifier(Jwk jwk) {
+    var key = new VerifierKey(jwk.getId(), jwk.getAlgorithm());
+    var cached = verifiers.get(key);
+    // the key set may have been reloaded with a rotated key under the same key ID
+    if (cached == null || !cached.isFor(jwk)) {
+      try {
+        cached = new CachedVerifier(jwk, JWT.require(getAlgorithm(jwk)).build());
+      } catch (InvalidPublicKeyException e) {
+        LOGGER.warn("Token verification failed: " + e.getMessage());
+        throw new RuntimeException(e);
+      }
+      verifiers.put(key, cached);
+    }
+    return cached.verifier();
+  }
+
   private static Algorithm getAlgorithm(Jwk jwk) throws InvalidPublicKeyException {
     return switch (jwk.getAlgorithm()) {
       case "RS256" -> Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey());
@@ -164,6 +190,16 @@ final class JWTAuthHandler extends WebhookAuthorizationHandler<JwtAuth> {
     };
   }
 
+  private record VerifierKey(String keyId, String algorithm) {}
+
+  private record CachedVerifier(Jwk jwk, JWTVerifier verifier) {
+    boolean isFor(Jwk other) {
+      return jwk == other
+          || (Objects.equals(jwk.getType(), other.getType())
+              && Objects.equals(jwk.getAdditionalAttributes(), other.getAdditionalAttributes()));
+    }
+  }
+
   private static final AuthorizationResult JWT_AUTH_FAILED_RESULT =
       new InvalidCredentials("JWT auth failed");
   private static final AuthorizationResult JWT_AUTH_MISSING_PERMISSIONS_RESULT =
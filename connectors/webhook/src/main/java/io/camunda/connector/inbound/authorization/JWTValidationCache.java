@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.authorization;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers tokens that passed validation, so that a bearer token presented again is accepted with
+ * a hash lookup instead of a signature verification. An entry expires with the token, or after the
+ * configured duration if that is earlier. The number of entries is bounded; once full, expired
+ * entries are purged and new tokens are not cached until there is room again.
+ */
+final class JWTValidationCache {
+
+  static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+  private final Duration maxDuration;
+  private final int maxEntries;
+  private final Clock clock;
+  private final Map<String, Instant> validUntil = new ConcurrentHashMap<>();
+
+  JWTValidationCache(final Duration maxDuration, final int maxEntries, final Clock clock) {
+    this.maxDuration = maxDuration;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  boolean isValid(final String token) {
+    var until = validUntil.get(token);
+    if (until == null) {
+      return false;
+    }
+    if (!clock.instant().isBefore(until)) {
+      validUntil.remove(token, until);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param token the raw token that passed validation
+   * @param expiresAt the token's expiry, or null if it doesn't expire
+   */
+  void put(final String token, final Instant expiresAt) {
+    var now = clock.instant();
+    var until = now.plus(maxDuration);
+    if (expiresAt != null && expiresAt.isBefore(until)) {
+      until = expiresAt;
+    }
+    if (!now.isBefore(until)) {
+      return;
+    }
+    if (validUntil.size() >= maxEntries) {
+      validUntil.values().removeIf(entry -> !now.isBefore(entry));
+      if (validUntil.size() >= maxEntries) {
+        return;
+      }
+    }
+    validUntil.put(token, until);
+  }
+
+  int size() {
+    return validUntil.size();
+  }
+}
@@ -7,15 +7,28 @@
 package io.camunda.connector.inbound.model;
 
 import io.camunda.connector.feel.annotation.FEEL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+/**
+ * @param tokenCacheDuration how long a successfully validated token is accepted again without
+ *     verifying its signature, never beyond its expiry; null to verify every request
+ */
 public record JWTProperties(
     @FEEL List<String> requiredPermissions,
     Function<Object, List<String>> permissionsExpression,
-    @FEEL String jwkUrl) {
+    @FEEL String jwkUrl,
+    Duration tokenCacheDuration) {
   public JWTProperties {
     Objects.requireNonNull(jwkUrl);
   }
+
+  public JWTProperties(
+      List<String> requiredPermissions,
+      Function<Object, List<String>> permissionsExpression,
+      String jwkUrl) {
+    this(requiredPermissions, permissionsExpression, jwkUrl, null);
+  }
 }
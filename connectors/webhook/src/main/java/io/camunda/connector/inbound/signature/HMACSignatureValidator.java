@@ -8,22 +8,16 @@ package io.camunda.connector.inbound.signature;
 
 import io.camunda.connector.api.error.ConnectorException;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
-import java.util.TreeMap;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import javax.xml.bind.DatatypeConverter;
-import org.apache.commons.codec.binary.Hex;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Single-use variant of {@link HMACSignatureVerifier}, bound to one request. Prefer a shared {@link
+ * HMACSignatureVerifier} when validating many requests with the same secret.
+ */
 public class HMACSignatureValidator {
 
-  private static final Logger LOG = LoggerFactory.getLogger(HMACSignatureValidator.class);
-
   private final byte[] requestBody;
   private final Map<String, String> headers;
   private final String hmacHeader;
@@ -60,41 +54,7 @@ public class HMACSignatureValidator {
 
   public boolean isRequestValid()
       throws NoSuchAlgorithmException, InvalidKeyException, IOException {
-    var caseInsensitiveHeaders = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
-    caseInsensitiveHeaders.putAll(headers);
-
-    if (!caseInsensitiveHeaders.containsKey(hmacHeader)) {
-      throw new ConnectorException("Expected HMAC header " + hmacHeader + ", but was not present");
-    }
-    final String providedHmac = caseInsensitiveHeaders.get(hmacHeader);
-    LOG.debug("Given HMAC from webhook call: {}", providedHmac);
-
-    if (providedHmac == null || providedHmac.length() == 0) {
-      return false;
-    }
-
-    // Some webhooks produce longer version, like sha256=aabbcc...; hmac-sha1=aabbcc...; etc
-    var providedHmacWithoutTag = providedHmac;
-    var split = providedHmacWithoutTag.split("=");
-    if (split.length == 2) {
-      providedHmacWithoutTag = split[1];
-    }
-
-    Mac sha256_HMAC = Mac.getInstance(hmacAlgo.getAlgoReference());
-    SecretKeySpec secret_key =
-        new SecretKeySpec(
-            hmacSecretKey.getBytes(StandardCharsets.UTF_8), hmacAlgo.getAlgoReference());
-    sha256_HMAC.init(secret_key);
-    byte[] expectedHmac = sha256_HMAC.doFinal(requestBody);
-
-    // Some webhooks produce short HMAC message, e.g. aabbcc...
-    String expectedHmacString = Hex.encodeHexString(expectedHmac);
-
-    // The Twilio produce base64 version
-    String expectedBase64HmacString = DatatypeConverter.printBase64Binary(expectedHmac);
-    LOG.debug("Computed HMAC from webhook body: {}", expectedHmacString);
-    return providedHmac.equals(expectedHmacString)
-        || providedHmacWithoutTag.equals(expectedHmacString)
-        || providedHmac.equals(expectedBase64HmacString);
+    return new HMACSignatureVerifier(hmacHeader, hmacSecretKey, hmacAlgo)
+        .isRequestValid(requestBody, headers);
   }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.signature;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.inbound.signature.strategy.HMACEncodingStrategy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies HMAC signatures of webhook requests for one header, secret and algorithm. Instances are
+ * meant to be reused across requests: the {@link Mac} is initialized with the secret once and
+ * cloned for every verification, and the provided signature is decoded and compared with the
+ * computed one in constant time.
+ *
+ * <p>Accepted signature formats are hex (<code>aabbcc...</code>), hex with a tag (<code>
+ * sha256=aabbcc...</code>) and base64.
+ */
+public final class HMACSignatureVerifier {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HMACSignatureVerifier.class);
+
+  private final String hmacHeader;
+  private final SecretKeySpec secretKey;
+  // only cloned, never updated, so it can be shared by concurrent requests
+  private final Mac prototype;
+
+  public HMACSignatureVerifier(
+      final String hmacHeader, final String hmacSecretKey, final HMACAlgoCustomerChoice hmacAlgo)
+      throws NoSuchAlgorithmException, InvalidKeyException {
+    if (hmacHeader == null) {
+      throw new ConnectorException("HMAC header must not be null");
+    }
+    if (hmacSecretKey == null) {
+      throw new ConnectorException("HMAC secret key must not be null");
+    }
+    if (hmacAlgo == null) {
+      throw new ConnectorException("HMAC algorithm key must not be null");
+    }
+    this.hmacHeader = hmacHeader;
+    this.secretKey =
+        new SecretKeySpec(
+            hmacSecretKey.getBytes(StandardCharsets.UTF_8), hmacAlgo.getAlgoReference());
+    this.prototype = Mac.getInstance(hmacAlgo.getAlgoReference());
+    this.prototype.init(secretKey);
+  }
+
+  public boolean isRequestValid(final byte[] signatureData, final Map<String, String> headers) {
+    if (signatureData == null) {
+      throw new ConnectorException("Request body must not be null");
+    }
+    final String providedHmac = providedHmac(headers);
+    if (providedHmac.isEmpty()) {
+      return false;
+    }
+    return matches(providedHmac, newMac().doFinal(signatureData));
+  }
+
+  /**
+   * Verifies the signature of a request, feeding the signed data to the {@link Mac} as the given
+   * strategy produces it, so that the request body doesn't need to be held in memory.
+   */
+  public boolean isRequestValid(
+      final HMACEncodingStrategy strategy, final WebhookProcessingPayload payload)
+      throws IOException {
+    final String providedHmac = providedHmac(payload.headers());
+    if (providedHmac.isEmpty()) {
+      return false;
+    }
+    Mac instance = newMac();
+    strategy.updateMac(instance, payload);
+    return matches(providedHmac, instance.doFinal());
+  }
+
+  private String providedHmac(final Map<String, String> headers) {
+    if (headers == null) {
+      throw new ConnectorException("Headers must not be null");
+    }
+    final String providedHmac = findHeader(headers);
+    if (providedHmac == null) {
+      throw new ConnectorException("Expected HMAC header " + hmacHeader + ", but was not present");
+    }
+    LOG.debug("Given HMAC from webhook call: {}", providedHmac);
+    return providedHmac;
+  }
+
+  private static boolean matches(final String providedHmac, final byte[] expectedHmac) {
+    return matches(decodeHex(providedHmac, expectedHmac.length), expectedHmac)
+        // Some webhooks produce longer version, like sha256=aabbcc...; hmac-sha1=aabbcc...; etc
+        || matches(decodeHex(withoutTag(providedHmac), expectedHmac.length), expectedHmac)
+        // The Twilio produce base64 version
+        || matches(decodeBase64(providedHmac, expectedHmac.length), expectedHmac);
+  }
+
+  private String findHeader(final Map<String, String> headers) {
+    String value = headers.get(hmacHeader);
+    if (value != null) {
+      return value;
+    }
+    for (var header : headers.entrySet()) {
+      if (hmacHeader.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  /** Copies the initialized prototype, which is cheaper than initializing a new instance. */
+  private Mac newMac() {
+    try {
+      return (Mac) prototype.clone();
+    } catch (CloneNotSupportedException e) {
+      try {
+        Mac instance = Mac.getInstance(prototype.getAlgorithm());
+        instance.init(secretKey);
+        return instance;
+      } catch (GeneralSecurityException ex) {
+        throw new ConnectorException(ex);
+      }
+    }
+  }
+
+  private static boolean matches(final byte[] provided, final byte[] expected) {
+    return provided != null && MessageDigest.isEqual(provided, expected);
+  }
+
+  private static String withoutTag(final String signature) {
+    int separator = signature.indexOf('=');
+    return separator > 0 ? signature.substring(separator + 1) : null;
+  }
+
+  private static byte[] decodeHex(final String signature, final int length) {
+    if (signature == null || signature.length() != length * 2) {
+      return null;
+    }
+    try {
+      return HexFormat.of().parseHex(signature);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static byte[] decodeBase64(final String signature, final int length) {
+    if (signature.length() != (length + 2) / 3 * 4) {
+      return null;
+    }
+    try {
+      return Base64.getDecoder().decode(signature);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
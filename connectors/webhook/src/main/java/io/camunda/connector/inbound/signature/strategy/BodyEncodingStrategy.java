@@ -7,10 +7,22 @@
 package io.camunda.connector.inbound.signature.strategy;
 
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import java.io.IOException;
+import javax.crypto.Mac;
 
 public final class BodyEncodingStrategy implements HMACEncodingStrategy {
+
+  private static final int BUFFER_SIZE = 8192;
+
   @Override
-  public byte[] getBytesToSign(final WebhookProcessingPayload payload) {
-    return payload.rawBody();
+  public void updateMac(final Mac mac, final WebhookProcessingPayload payload) throws IOException {
+    // stream the body, so that a body spilled to disk isn't loaded into memory
+    try (var body = payload.rawBodyStream()) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        mac.update(buffer, 0, read);
+      }
+    }
   }
 }
@@ -8,8 +8,14 @@ package io.camunda.connector.inbound.signature.strategy;
 
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
 import java.io.IOException;
+import javax.crypto.Mac;
 
 public sealed interface HMACEncodingStrategy
     permits BodyEncodingStrategy, URLAndBodyEncodingStrategy, URLAndParametersEncodingStrategy {
-  byte[] getBytesToSign(WebhookProcessingPayload payload) throws IOException;
+
+  /**
+   * Feeds the signed data of the request to the given {@link Mac}, without computing the final
+   * signature.
+   */
+  void updateMac(Mac mac, WebhookProcessingPayload payload) throws IOException;
 }
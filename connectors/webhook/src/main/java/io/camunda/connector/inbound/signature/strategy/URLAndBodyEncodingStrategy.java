@@ -7,28 +7,26 @@
 package io.camunda.connector.inbound.signature.strategy;
 
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
-import io.camunda.connector.inbound.utils.HttpWebhookUtil;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import javax.crypto.Mac;
 
 public final class URLAndBodyEncodingStrategy implements HMACEncodingStrategy {
   @Override
-  public byte[] getBytesToSign(final WebhookProcessingPayload payload) throws IOException {
-    return (payload.requestURL() + extractSignatureData(payload)).getBytes();
+  public void updateMac(final Mac mac, final WebhookProcessingPayload payload) throws IOException {
+    mac.update((payload.requestURL() + extractSignatureData(payload)).getBytes());
   }
 
   private static String extractSignatureData(final WebhookProcessingPayload payload)
       throws IOException {
-    if (payload.rawBody() == null || payload.rawBody().length == 0) {
+    if (payload.rawBodySize() == 0) {
       throw new NullPointerException(
           "Can't extract signature data from body, because body is null");
     }
-    Map<String, String> signatureData =
-        HttpWebhookUtil.transformRawBodyToMap(
-            payload.rawBody(), HttpWebhookUtil.extractContentType(payload.headers()));
+    Map<String, Object> signatureData = payload.body();
 
     StringBuilder builder = new StringBuilder();
     List<String> sortedKeys = new ArrayList<>(signatureData.keySet());
@@ -36,7 +34,7 @@ public final class URLAndBodyEncodingStrategy implements HMACEncodingStrategy {
 
     for (String key : sortedKeys) {
       builder.append(key);
-      String value = signatureData.get(key);
+      Object value = signatureData.get(key);
       builder.append(value == null ? "" : value);
     }
     return builder.toString();
@@ -11,11 +11,12 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.crypto.Mac;
 
 public final class URLAndParametersEncodingStrategy implements HMACEncodingStrategy {
   @Override
-  public byte[] getBytesToSign(final WebhookProcessingPayload payload) {
-    return (payload.requestURL() + "?" + extractSignatureData(payload.params())).getBytes();
+  public void updateMac(final Mac mac, final WebhookProcessingPayload payload) {
+    mac.update((payload.requestURL() + "?" + extractSignatureData(payload.params())).getBytes());
   }
 
   private static String extractSignatureData(final Map<String, String> params) {
@@ -55,6 +55,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.triggerWebhook(payload);
@@ -80,6 +81,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.FORM_DATA.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("key1=value1&key2=value2".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.triggerWebhook(payload);
@@ -106,6 +108,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.GEO_JSON.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.triggerWebhook(payload);
@@ -131,6 +134,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_BINARY.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("Zm9sbG93IHRoZSB3aGl0ZSByYWJiaXQ=".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
 
@@ -155,6 +159,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
 
@@ -191,6 +196,8 @@ class HttpWebhookExecutableTest {
                 "fa431d91a69beb76186b3b082c5bb87bab0702769d65761af2361cbf3a17cc09"));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.rawBodyStream()).thenCallRealMethod();
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.triggerWebhook(payload);
@@ -225,6 +232,8 @@ class HttpWebhookExecutableTest {
                 "123132313214533154234132534123452")); // not correct HMAC
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.rawBodyStream()).thenCallRealMethod();
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
 
@@ -266,6 +275,7 @@ class HttpWebhookExecutableTest {
                 "notMyApiKey")); // not correct API key
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
 
@@ -302,6 +312,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"key\": \"value\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
 
@@ -337,6 +348,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"challenge\": \"12345\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.verify(payload);
@@ -372,6 +384,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"challenge\": \"12345\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.verify(payload);
@@ -409,6 +422,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(
             "{\"event_type\": \"verification\", \"event\": {\"challenge\": \"12345\"}}"
                 .getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.verify(payload);
@@ -444,6 +458,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"challenge\": \"12345\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.verify(payload);
@@ -479,6 +494,7 @@ class HttpWebhookExecutableTest {
         .thenReturn(Map.of(HttpHeaders.CONTENT_TYPE, MediaType.JSON_UTF_8.toString()));
     Mockito.when(payload.rawBody())
         .thenReturn("{\"challenge\": \"12345\"}".getBytes(StandardCharsets.UTF_8));
+    Mockito.when(payload.body()).thenCallRealMethod();
 
     testObject.activate(ctx);
     var result = testObject.verify(payload);
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound;
+
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookRequestBodyParser;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares parsing the webhook body once per processing stage (verification, authorization,
+ * variable mapping) with sharing a single parse through {@link WebhookProcessingPayload#body()}.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebhookPayloadParsingBenchmark {
+
+  private static final int STAGES = 3;
+  private static final Map<String, String> HEADERS = Map.of("Content-Type", "application/json");
+
+  @Param({"1024", "102400", "5242880"})
+  public int bodySize;
+
+  private byte[] rawBody;
+
+  @Setup
+  public void setUp() {
+    var json = new StringBuilder("{");
+    for (int i = 0; json.length() < bodySize - 32; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"key").append(i).append("\":\"value").append(i).append('"');
+    }
+    rawBody = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void parsePerStage(Blackhole blackhole) {
+    for (int stage = 0; stage < STAGES; stage++) {
+      blackhole.consume(WebhookRequestBodyParser.parse(rawBody, HEADERS));
+    }
+  }
+
+  @Benchmark
+  public void parseOnce(Blackhole blackhole) {
+    var payload = new MemoizingPayload(rawBody);
+    for (int stage = 0; stage < STAGES; stage++) {
+      blackhole.consume(payload.body());
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(WebhookPayloadParsingBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  private static final class MemoizingPayload implements WebhookProcessingPayload {
+
+    private final byte[] rawBody;
+    private Map<String, Object> body;
+
+    private MemoizingPayload(byte[] rawBody) {
+      this.rawBody = rawBody;
+    }
+
+    @Override
+    public String requestURL() {
+      return "http://localhost/inbound/benchmark";
+    }
+
+    @Override
+    public String method() {
+      return "POST";
+    }
+
+    @Override
+    public Map<String, String> headers() {
+      return HEADERS;
+    }
+
+    @Override
+    public Map<String, String> params() {
+      return Map.of();
+    }
+
+    @Override
+    public byte[] rawBody() {
+      return rawBody;
+    }
+
+    @Override
+    public Map<String, Object> body() {
+      if (body == null) {
+        body = WebhookRequestBodyParser.parse(rawBody, HEADERS);
+      }
+      return body;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.authorization;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.inbound.model.JWTProperties;
+import io.camunda.connector.inbound.model.WebhookAuthorization.JwtAuth;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares building a verifier for every request with reusing the verifier per key, and with
+ * accepting a token that was validated before from the token cache.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTAuthBenchmark {
+
+  private static final String KEY_ID = "benchmark-key";
+
+  private Jwk jwk;
+  private String token;
+  private TestWebhookProcessingPayload payload;
+  private JWTAuthHandler verifyingHandler;
+  private JWTAuthHandler cachingHandler;
+
+  @Setup
+  public void setUp() throws Exception {
+    var generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+    var publicKey = (RSAPublicKey) keyPair.getPublic();
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    jwk =
+        Jwk.fromValues(
+            Map.of(
+                "kid",
+                KEY_ID,
+                "kty",
+                "RSA",
+                "alg",
+                "RS256",
+                "n",
+                encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                "e",
+                encoder.encodeToString(publicKey.getPublicExponent().toByteArray())));
+    token =
+        JWT.create()
+            .withKeyId(KEY_ID)
+            .withExpiresAt(Instant.now().plus(Duration.ofDays(1)))
+            .sign(Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate()));
+    payload = new TestWebhookProcessingPayload(token, null);
+    verifyingHandler = handler(null);
+    cachingHandler = handler(Duration.ofHours(1));
+  }
+
+  @Benchmark
+  public Object verifierPerRequest() throws Exception {
+    var decoded = JWT.decode(token);
+    return JWT.require(Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null))
+        .build()
+        .verify(decoded);
+  }
+
+  @Benchmark
+  public AuthorizationResult reusedVerifier() {
+    return verifyingHandler.checkAuthorization(payload);
+  }
+
+  @Benchmark
+  public AuthorizationResult cachedToken() {
+    return cachingHandler.checkAuthorization(payload);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JWTAuthBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  private JWTAuthHandler handler(Duration tokenCacheDuration) {
+    var properties =
+        new JWTProperties(
+            List.of(), claims -> List.of(), "http://localhost/jwks", tokenCacheDuration);
+    return new JWTAuthHandler(
+        new JwtAuth(properties),
+        keyId -> jwk,
+        ConnectorsObjectMapperSupplier.getCopy(),
+        Clock.systemUTC());
+  }
+}
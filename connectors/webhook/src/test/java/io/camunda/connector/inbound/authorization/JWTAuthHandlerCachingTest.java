@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkProvider;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.camunda.connector.api.json.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.inbound.authorization.AuthorizationResult.Failure.Forbidden;
+import io.camunda.connector.inbound.authorization.AuthorizationResult.Failure.InvalidCredentials;
+import io.camunda.connector.inbound.authorization.AuthorizationResult.Success;
+import io.camunda.connector.inbound.model.JWTProperties;
+import io.camunda.connector.inbound.model.WebhookAuthorization.JwtAuth;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class JWTAuthHandlerCachingTest {
+
+  private static final String KEY_ID = "test-key";
+
+  private final MutableClock clock = new MutableClock(Instant.now());
+  private final AtomicInteger jwkLookups = new AtomicInteger();
+  private KeyPair keyPair = generateKeyPair();
+  private Jwk jwk = toJwk(keyPair);
+  private final JwkProvider jwkProvider =
+      keyId -> {
+        jwkLookups.incrementAndGet();
+        return jwk;
+      };
+
+  @Test
+  void cachedToken_isAcceptedWithoutVerification() {
+    // given
+    var handler = handler(Duration.ofMinutes(5), null);
+    var payload = payload(token(keyPair, Instant.now().plusSeconds(600)));
+
+    // when
+    var first = handler.checkAuthorization(payload);
+    var second = handler.checkAuthorization(payload);
+
+    // then
+    assertThat(first).isInstanceOf(Success.class);
+    assertThat(second).isInstanceOf(Success.class);
+    assertThat(jwkLookups).hasValue(1);
+  }
+
+  @Test
+  void noCacheDuration_everyRequestIsVerified() {
+    // given
+    var handler = handler(null, null);
+    var payload = payload(token(keyPair, Instant.now().plusSeconds(600)));
+
+    // when
+    handler.checkAuthorization(payload);
+    var result = handler.checkAuthorization(payload);
+
+    // then
+    assertThat(result).isInstanceOf(Success.class);
+    assertThat(jwkLookups).hasValue(2);
+  }
+
+  @Test
+  void cachedToken_isVerifiedAgainAfterCacheDuration() {
+    // given
+    var handler = handler(Duration.ofMinutes(5), null);
+    var payload = payload(token(keyPair, Instant.now().plusSeconds(600)));
+    handler.checkAuthorization(payload);
+
+    // when
+    clock.advance(Duration.ofMinutes(5));
+    var result = handler.checkAuthorization(payload);
+
+    // then
+    assertThat(result).isInstanceOf(Success.class);
+    assertThat(jwkLookups).hasValue(2);
+  }
+
+  @Test
+  void cachedToken_doesNotOutliveTokenExpiry() {
+    // given
+    var handler = handler(Duration.ofHours(1), null);
+    var payload = payload(token(keyPair, Instant.now().plusSeconds(60)));
+    handler.checkAuthorization(payload);
+
+    // when
+    clock.advance(Duration.ofSeconds(61));
+    handler.checkAuthorization(payload);
+
+    // then
+    assertThat(jwkLookups).hasValue(2);
+  }
+
+  @Test
+  void invalidToken_isNotCached() {
+    // given
+    var handler = handler(Duration.ofMinutes(5), null);
+    var payload = payload(token(generateKeyPair(), Instant.now().plusSeconds(600)));
+
+    // when
+    var first = handler.checkAuthorization(payload);
+    var second = handler.checkAuthorization(payload);
+
+    // then
+    assertThat(first).isInstanceOf(InvalidCredentials.class);
+    assertThat(second).isInstanceOf(InvalidCredentials.class);
+    assertThat(jwkLookups).hasValue(2);
+  }
+
+  @Test
+  void tokenWithMissingPermissions_isNotCached() {
+    // given
+    var handler = handler(Duration.ofMinutes(5), List.of("admin"));
+    var payload = payload(token(keyPair, Instant.now().plusSeconds(600)));
+
+    // when
+    var first = handler.checkAuthorization(payload);
+    var second = handler.checkAuthorization(payload);
+
+    // then
+    assertThat(first).isInstanceOf(Forbidden.class);
+    assertThat(second).isInstanceOf(Forbidden.class);
+    assertThat(jwkLookups).hasValue(2);
+  }
+
+  @Test
+  void rotatedKey_replacesCachedVerifier() {
+    // given
+    var handler = handler(null, null);
+    var oldToken = payload(token(keyPair, Instant.now().plusSeconds(600)));
+    assertThat(handler.checkAuthorization(oldToken)).isInstanceOf(Success.class);
+
+    // when
+    keyPair = generateKeyPair();
+    jwk = toJwk(keyPair);
+    var newToken = payload(token(keyPair, Instant.now().plusSeconds(600)));
+
+    // then
+    assertThat(handler.checkAuthorization(oldToken)).isInstanceOf(InvalidCredentials.class);
+    assertThat(handler.checkAuthorization(newToken)).isInstanceOf(Success.class);
+  }
+
+  private JWTAuthHandler handler(Duration tokenCacheDuration, List<String> requiredPermissions) {
+    var properties =
+        new JWTProperties(
+            requiredPermissions,
+            claims -> List.of(),
+            "http://localhost/.well-known/jwks.json",
+            tokenCacheDuration);
+    return new JWTAuthHandler(
+        new JwtAuth(properties), jwkProvider, ConnectorsObjectMapperSupplier.getCopy(), clock);
+  }
+
+  private static TestWebhookProcessingPayload payload(String token) {
+    return new TestWebhookProcessingPayload(token, null);
+  }
+
+  private static String token(KeyPair keyPair, Instant expiresAt) {
+    return JWT.create()
+        .withKeyId(KEY_ID)
+        .withExpiresAt(expiresAt)
+        .sign(
+            Algorithm.RSA256(
+                (RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()));
+  }
+
+  private static KeyPair generateKeyPair() {
+    try {
+      var generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Jwk toJwk(KeyPair keyPair) {
+    var publicKey = (RSAPublicKey) keyPair.getPublic();
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    return Jwk.fromValues(
+        Map.of(
+            "kid",
+            KEY_ID,
+            "kty",
+            "RSA",
+            "alg",
+            "RS256",
+            "use",
+            "sig",
+            "n",
+            encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray())),
+            "e",
+            encoder.encodeToString(publicKey.getPublicExponent().toByteArray())));
+  }
+
+  private static byte[] unsigned(byte[] bytes) {
+    return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
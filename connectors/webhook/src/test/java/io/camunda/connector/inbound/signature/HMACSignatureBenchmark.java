@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.signature;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the previous per-request signature check (new {@link Mac}, hex string comparison) with a
+ * shared {@link HMACSignatureVerifier}. Run with {@code -prof gc} to see the allocation rate.
+ *
+ * <p>Not executed by the test suite, run {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HMACSignatureBenchmark {
+
+  private static final String HEADER = "X-Signature";
+  private static final String SECRET = "mySecretKey";
+
+  @Param({"sha_1", "sha_256", "sha_512"})
+  public HMACAlgoCustomerChoice algorithm;
+
+  @Param({"1024"})
+  public int bodySize;
+
+  private byte[] body;
+  private Map<String, String> headers;
+  private HMACSignatureVerifier verifier;
+
+  @Setup
+  public void setUp() throws Exception {
+    body = new byte[bodySize];
+    Arrays.fill(body, (byte) 'a');
+    var mac = Mac.getInstance(algorithm.getAlgoReference());
+    mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), mac.getAlgorithm()));
+    headers =
+        Map.of(
+            HEADER,
+            algorithm.getTag() + "=" + HexFormat.of().formatHex(mac.doFinal(body)),
+            "Content-Type",
+            "application/json");
+    verifier = new HMACSignatureVerifier(HEADER, SECRET, algorithm);
+  }
+
+  @Benchmark
+  public boolean perRequestMac() throws Exception {
+    var caseInsensitiveHeaders = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+    caseInsensitiveHeaders.putAll(headers);
+    var provided = caseInsensitiveHeaders.get(HEADER);
+    var split = provided.split("=");
+    var providedWithoutTag = split.length == 2 ? split[1] : provided;
+    var mac = Mac.getInstance(algorithm.getAlgoReference());
+    mac.init(
+        new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), algorithm.getAlgoReference()));
+    var expected = Hex.encodeHexString(mac.doFinal(body));
+    return provided.equals(expected) || providedWithoutTag.equals(expected);
+  }
+
+  @Benchmark
+  public boolean sharedVerifier() {
+    return verifier.isRequestValid(body, headers);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(HMACSignatureBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+        .run();
+  }
+}
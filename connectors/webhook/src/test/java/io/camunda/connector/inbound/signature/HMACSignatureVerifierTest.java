@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound.signature;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.readString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.inbound.authorization.TestWebhookProcessingPayload;
+import io.camunda.connector.inbound.signature.strategy.BodyEncodingStrategy;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class HMACSignatureVerifierTest {
+
+  private static final String HEADER = "x-hub-signature-256";
+  private static final String SECRET_KEY = "mySecretKey";
+  private static final String SHA256_HEX =
+      "dd22cfb7ae96875d81bd1a695a0244f2b4c32c0938be0b445f520b0b3e0f43fd";
+
+  private final HMACSignatureVerifier verifier =
+      new HMACSignatureVerifier(HEADER, SECRET_KEY, HMACAlgoCustomerChoice.sha_256);
+
+  HMACSignatureVerifierTest() throws Exception {}
+
+  @Test
+  void acceptsHexTaggedAndBase64Signatures() throws Exception {
+    // given
+    var body = readBody();
+    var base64 = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(SHA256_HEX));
+
+    // when & then
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, SHA256_HEX))).isTrue();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, "sha256=" + SHA256_HEX))).isTrue();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, base64))).isTrue();
+  }
+
+  @Test
+  void findsHeaderCaseInsensitively() throws Exception {
+    // given
+    var body = readBody();
+
+    // when
+    var result = verifier.isRequestValid(body, Map.of("X-Hub-Signature-256", SHA256_HEX));
+
+    // then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void rejectsTamperedBodyAndMalformedSignatures() throws Exception {
+    // given
+    var body = readBody();
+    var tampered = new String(body, UTF_8).replace('a', 'b').getBytes(UTF_8);
+
+    // when & then
+    assertThat(verifier.isRequestValid(tampered, Map.of(HEADER, SHA256_HEX))).isFalse();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, SHA256_HEX.substring(2)))).isFalse();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, "zz" + SHA256_HEX.substring(2))))
+        .isFalse();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, "sha256="))).isFalse();
+    assertThat(verifier.isRequestValid(body, Map.of(HEADER, ""))).isFalse();
+  }
+
+  @Test
+  void missingHeader_throwsException() {
+    assertThatThrownBy(() -> verifier.isRequestValid(new byte[0], Map.of()))
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining(HEADER);
+  }
+
+  @Test
+  void streamsBodyOfPayload() throws Exception {
+    // given
+    var payload = payload(readBody());
+
+    // when
+    var result = verifier.isRequestValid(new BodyEncodingStrategy(), payload);
+
+    // then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void startsCleanAfterFailedRead() throws Exception {
+    // given
+    var body = readBody();
+    var failingPayload = mock(WebhookProcessingPayload.class);
+    when(failingPayload.headers()).thenReturn(Map.of(HEADER, SHA256_HEX));
+    when(failingPayload.rawBodyStream())
+        .thenReturn(
+            new SequenceInputStream(
+                new ByteArrayInputStream(body),
+                new InputStream() {
+                  @Override
+                  public int read() throws IOException {
+                    throw new IOException("connection reset");
+                  }
+                }));
+
+    // when
+    assertThatThrownBy(() -> verifier.isRequestValid(new BodyEncodingStrategy(), failingPayload))
+        .isInstanceOf(IOException.class);
+    var result = verifier.isRequestValid(new BodyEncodingStrategy(), payload(body));
+
+    // then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void reusedAcrossRequestsAndThreads() throws Exception {
+    // given
+    var body = readBody();
+    var executor = Executors.newFixedThreadPool(4);
+    Callable<Boolean> validRequest =
+        () -> verifier.isRequestValid(body, Map.of(HEADER, SHA256_HEX));
+    Callable<Boolean> invalidRequest =
+        () -> verifier.isRequestValid(new byte[] {1}, Map.of(HEADER, SHA256_HEX));
+
+    // when
+    List<Future<Boolean>> valid = new ArrayList<>();
+    List<Future<Boolean>> invalid = new ArrayList<>();
+    try {
+      for (int i = 0; i < 200; i++) {
+        valid.add(executor.submit(validRequest));
+        invalid.add(executor.submit(invalidRequest));
+      }
+
+      // then
+      for (int i = 0; i < valid.size(); i++) {
+        assertThat(valid.get(i).get()).isTrue();
+        assertThat(invalid.get(i).get()).isFalse();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static WebhookProcessingPayload payload(byte[] body) {
+    return new TestWebhookProcessingPayload(null, null, Map.of(HEADER, SHA256_HEX), null, body);
+  }
+
+  private static byte[] readBody() throws Exception {
+    return readString(new File("src/test/resources/hmac/gh-webhook-request.json").toPath(), UTF_8)
+        .getBytes(UTF_8);
+  }
+}